@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.benchmarks;
+
+import megamek.common.equipment.EquipmentType;
+import megamek.common.loaders.MekSummaryCache;
+import megamek.logging.MMLogger;
+import mekhq.service.StartupDataLoader;
+
+/**
+ * Loads the static data sets the benchmarks need, the same way the application does at startup.
+ *
+ * <p>The benchmarks run against the staged {@code data/} directory, so campaigns written by a benchmark can be read
+ * back with the real unit cache, and jump paths are calculated over the real star map.</p>
+ */
+public final class BenchmarkData {
+    private static final MMLogger LOGGER = MMLogger.create(BenchmarkData.class);
+
+    private static boolean initialized = false;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Loads the data sets once per JVM. Later calls return immediately.
+     */
+    public static synchronized void initialize() throws Exception {
+        if (initialized) {
+            return;
+        }
+
+        EquipmentType.initializeTypes();
+        MekSummaryCache.getInstance();
+
+        StartupDataLoader.forCampaignData().load(progress -> {
+        });
+
+        LOGGER.info("[Benchmark] Static data loaded");
+        initialized = true;
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.benchmarks;
+
+import mekhq.campaign.Campaign;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * A synthetic campaign shared by all invocations of a benchmark. Each dimension of the campaign can be changed from
+ * the JMH command line, for example {@code -p personnel=200,2000}.
+ */
+@State(Scope.Benchmark)
+public class CampaignState {
+    @Param("500")
+    public int personnel;
+
+    @Param("50")
+    public int units;
+
+    @Param("2500")
+    public int parts;
+
+    @Param("5")
+    public int transactionYears;
+
+    public Campaign campaign;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkData.initialize();
+        campaign = createBuilder().build();
+    }
+
+    public SyntheticCampaignBuilder createBuilder() {
+        return new SyntheticCampaignBuilder().personnel(personnel)
+                     .units(units)
+                     .parts(parts)
+                     .transactionYears(transactionYears);
+    }
+}
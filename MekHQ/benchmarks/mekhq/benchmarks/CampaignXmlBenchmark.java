@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import mekhq.MekHQ;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.io.CampaignXmlParser;
+import mekhq.campaign.io.StreamingCampaignXmlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures saving a campaign to XML and loading it back with both the DOM and the streaming loader.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CampaignXmlBenchmark {
+    @State(Scope.Benchmark)
+    public static class SavedCampaignState {
+        public byte[] campaignXml;
+        public MekHQ app;
+
+        @Setup
+        public void setUp(CampaignState campaignState) {
+            campaignXml = writeCampaign(campaignState.campaign);
+            // The loaders only ask the application for its (absent) GUI
+            app = mock(MekHQ.class);
+        }
+    }
+
+    private static byte[] writeCampaign(Campaign campaign) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (PrintWriter writer = new PrintWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+            campaign.writeToXML(writer, false);
+        }
+        return output.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] writeToXML(CampaignState state) {
+        return writeCampaign(state.campaign);
+    }
+
+    @Benchmark
+    public Campaign parse(SavedCampaignState state) throws Exception {
+        return new CampaignXmlParser(new ByteArrayInputStream(state.campaignXml), state.app).parse();
+    }
+
+    @Benchmark
+    public Campaign parseStreaming(SavedCampaignState state) throws Exception {
+        return new StreamingCampaignXmlParser(() -> new ByteArrayInputStream(state.campaignXml), state.app).parse();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.JumpPath;
+import mekhq.campaign.universe.PlanetarySystem;
+import mekhq.campaign.universe.Systems;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures calculating jump paths over the real star map between a fixed, seeded set of system pairs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JumpPathBenchmark {
+    private static final long PAIR_SEED = 3025L;
+
+    @State(Scope.Benchmark)
+    public static class JumpPathState {
+        @Param("32")
+        public int pairCount;
+
+        public Campaign campaign;
+        public PlanetarySystem[] starts;
+        public PlanetarySystem[] ends;
+        private int next;
+
+        @Setup
+        public void setUp() throws Exception {
+            BenchmarkData.initialize();
+            campaign = new SyntheticCampaignBuilder().personnel(0).units(0).parts(0).transactionYears(0).build();
+
+            // Sort by id so the same pairs are chosen on every run with the same data
+            List<PlanetarySystem> systems = new ArrayList<>(Systems.getInstance().getSystems().values());
+            systems.sort(Comparator.comparing(PlanetarySystem::getId));
+
+            Random random = new Random(PAIR_SEED);
+            starts = new PlanetarySystem[pairCount];
+            ends = new PlanetarySystem[pairCount];
+            for (int i = 0; i < pairCount; i++) {
+                starts[i] = systems.get(random.nextInt(systems.size()));
+                ends[i] = systems.get(random.nextInt(systems.size()));
+            }
+        }
+
+        int nextPair() {
+            int pair = next;
+            next = (next + 1) % pairCount;
+            return pair;
+        }
+    }
+
+    @Benchmark
+    public JumpPath calculateJumpPath(JumpPathState state) {
+        int pair = state.nextPair();
+        return state.campaign.calculateJumpPath(state.starts[pair], state.ends[pair]);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import megamek.common.units.Entity;
+import mekhq.MHQConstants;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.ForceHumanResources;
+import mekhq.campaign.finances.Finances;
+import mekhq.campaign.finances.Money;
+import mekhq.campaign.finances.enums.TransactionType;
+import mekhq.campaign.parts.Part;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.unit.Unit;
+import mekhq.campaign.universe.Systems;
+import testUtilities.MHQTestUtilities;
+
+/**
+ * Builds campaigns of a chosen size for the benchmarks, on top of the test campaign from {@link MHQTestUtilities}.
+ *
+ * <p>Units are loaded from the canon test unit files, spare parts are copies of the parts on those units, and the
+ * finances are filled with a few transactions a week for the requested number of years before the campaign start.
+ * Call {@link BenchmarkData#initialize()} first.</p>
+ */
+public class SyntheticCampaignBuilder {
+    private static final String[] UNIT_FILES = {
+          "Locust LCT-1V", "Wasp WSP-1", "Shadow Hawk SHD-2H", "Crusader CRD-7M", "Rifleman RFL-9T",
+          "Stalker STK-4N", "Victor VTR-9S", "Zeus ZEU-6A", "UrbanMech UM-R69", "Hatchetman HCT-6D"
+    };
+
+    private static final PersonnelRole[] ROLES = {
+          PersonnelRole.MEKWARRIOR, PersonnelRole.MEKWARRIOR, PersonnelRole.MEKWARRIOR, PersonnelRole.MEK_TECH,
+          PersonnelRole.ASTECH, PersonnelRole.DOCTOR, PersonnelRole.MEDIC, PersonnelRole.ADMINISTRATOR,
+          PersonnelRole.SOLDIER, PersonnelRole.DEPENDENT
+    };
+
+    private int personnel = 100;
+    private int units = 20;
+    private int parts = 500;
+    private int transactionYears = 1;
+
+    public SyntheticCampaignBuilder personnel(int personnel) {
+        this.personnel = personnel;
+        return this;
+    }
+
+    public SyntheticCampaignBuilder units(int units) {
+        this.units = units;
+        return this;
+    }
+
+    public SyntheticCampaignBuilder parts(int parts) {
+        this.parts = parts;
+        return this;
+    }
+
+    public SyntheticCampaignBuilder transactionYears(int transactionYears) {
+        this.transactionYears = transactionYears;
+        return this;
+    }
+
+    public Campaign build() {
+        Campaign campaign = new Campaign(MHQTestUtilities.buildTestConfigWithSystems(Systems.getInstance()));
+        campaign.setVersion(MHQConstants.VERSION);
+
+        addUnits(campaign);
+        addPersonnel(campaign);
+        addParts(campaign);
+        addTransactions(campaign);
+        return campaign;
+    }
+
+    private void addUnits(Campaign campaign) {
+        for (int i = 0; i < units; i++) {
+            Entity entity = MHQTestUtilities.getEntityForUnitTesting(UNIT_FILES[i % UNIT_FILES.length], false);
+            if (entity != null) {
+                campaign.addNewUnit(entity, false, 0);
+            }
+        }
+    }
+
+    private void addPersonnel(Campaign campaign) {
+        ForceHumanResources humanResources = campaign.getPlayerForce().getHumanResources();
+        for (int i = 0; i < personnel; i++) {
+            Person person = humanResources.newPerson(campaign, ROLES[i % ROLES.length]);
+            campaign.importPerson(person);
+        }
+    }
+
+    private void addParts(Campaign campaign) {
+        List<Part> templates = new ArrayList<>();
+        for (Unit unit : campaign.getUnits()) {
+            templates.addAll(unit.getParts());
+        }
+
+        if (templates.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < parts; i++) {
+            campaign.getQuartermaster().addPart(templates.get(i % templates.size()).clone(), 0, false);
+        }
+    }
+
+    private void addTransactions(Campaign campaign) {
+        Finances finances = campaign.getPlayerForce().getFinances();
+        LocalDate end = campaign.getLocalDate();
+        for (LocalDate date = end.minusYears(transactionYears); date.isBefore(end); date = date.plusWeeks(1)) {
+            finances.credit(TransactionType.CONTRACT_PAYMENT, date, Money.of(250000), "Benchmark payment");
+            finances.debit(TransactionType.SALARIES, date, Money.of(120000), "Benchmark salaries");
+            finances.debit(TransactionType.MAINTENANCE, date, Money.of(30000), "Benchmark maintenance");
+        }
+    }
+
+    /**
+     * Strips half the armor from every other unit, so there is work for the repair benchmarks.
+     */
+    public static void damageUnits(Campaign campaign) {
+        int index = 0;
+        for (Unit unit : campaign.getUnits()) {
+            if ((index++ % 2) != 0) {
+                continue;
+            }
+
+            Entity entity = unit.getEntity();
+            for (int location = 0; location < entity.locations(); location++) {
+                int armor = entity.getOArmor(location, false);
+                if (armor > 0) {
+                    entity.setArmor(armor / 2, location, false);
+                }
+            }
+            unit.runDiagnostic(false);
+        }
+    }
+}
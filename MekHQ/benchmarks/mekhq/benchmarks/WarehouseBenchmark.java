@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import mekhq.campaign.LocalWarehouse;
+import mekhq.campaign.parts.Part;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the warehouse lookups the acquisition and repair code make for every part they handle.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WarehouseBenchmark {
+    @State(Scope.Benchmark)
+    public static class WarehouseState {
+        public LocalWarehouse warehouse;
+        public List<Part> probes;
+
+        @Setup
+        public void setUp(CampaignState campaignState) {
+            warehouse = campaignState.campaign.getPlayerForce().getWarehouse();
+            // Look up copies rather than the stored parts, as the callers do
+            probes = warehouse.getSpareParts().stream().limit(64).map(Part::clone).toList();
+        }
+    }
+
+    @Benchmark
+    public void checkForExistingSparePart(WarehouseState state, Blackhole blackhole) {
+        for (Part probe : state.probes) {
+            blackhole.consume(state.warehouse.checkForExistingSparePart(probe));
+        }
+    }
+
+    @Benchmark
+    public void getSparePartsCount(WarehouseState state, Blackhole blackhole) {
+        for (Part probe : state.probes) {
+            blackhole.consume(state.warehouse.getSparePartsCount(probe));
+        }
+    }
+}
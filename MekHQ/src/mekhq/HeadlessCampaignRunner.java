@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter.Config;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import megamek.MegaMek;
+import megamek.common.annotations.Nullable;
+import megamek.common.loaders.MekSummaryCache;
+import megamek.common.net.marshalling.SanityInputFilter;
+import megamek.logging.MMLogger;
+import mekhq.campaign.BatchDayAdvancer;
+import mekhq.campaign.BatchDayAdvancer.DayTiming;
+import mekhq.campaign.BatchDayAdvancer.Policy;
+import mekhq.campaign.BatchDayAdvancer.Result;
+import mekhq.campaign.BatchDayAdvancer.StopReason;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignFactory;
+import mekhq.campaign.events.OptionsChangedEvent;
+import mekhq.service.StartupDataLoader;
+
+/**
+ * Loads a campaign, advances it by a number of days without a GUI, and optionally saves the result and the time each
+ * day took. Intended for profiling and soak testing new day processing on real campaigns.
+ *
+ * <p>Usage: {@code HeadlessCampaignRunner <campaign.cpnx[.gz]> <days> [output.cpnx[.gz]] [--timings timings.csv]}</p>
+ *
+ * <p>Days are advanced with the {@link Policy#UNATTENDED} policy, so no dialog is shown: decisions fall back to the
+ * dialog's default choice. AWT runs headless, so any dialog that slips through fails loudly instead of waiting for
+ * input nobody will give. The run stops early when a scenario is due, as a player would have to resolve it first.</p>
+ */
+public class HeadlessCampaignRunner {
+    private static final MMLogger LOGGER = MMLogger.create(HeadlessCampaignRunner.class);
+
+    private static final String TIMINGS_OPTION = "--timings";
+
+    public static void main(String... args) {
+        // Set before anything touches AWT, which reads it once
+        System.setProperty("java.awt.headless", "true");
+
+        File campaignFile = null;
+        int days = -1;
+        File outputFile = null;
+        File timingsFile = null;
+
+        final List<String> positional = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (TIMINGS_OPTION.equals(args[i]) && (i + 1 < args.length)) {
+                timingsFile = new File(args[++i]);
+            } else {
+                positional.add(args[i]);
+            }
+        }
+
+        if ((positional.size() == 2) || (positional.size() == 3)) {
+            campaignFile = new File(positional.get(0));
+            try {
+                days = Integer.parseInt(positional.get(1));
+            } catch (NumberFormatException ignored) {
+                days = -1;
+            }
+            outputFile = (positional.size() == 3) ? new File(positional.get(2)) : null;
+        }
+
+        if ((campaignFile == null) || (days < 0)) {
+            System.out.println("Usage: HeadlessCampaignRunner <campaign.cpnx> <days> [output.cpnx] " +
+                                     "[--timings timings.csv]");
+            System.exit(2);
+            return;
+        }
+
+        Config.setSerialFilter(new SanityInputFilter());
+        MegaMek.initializeLogging(MHQConstants.PROJECT_NAME);
+        MekHQ.initializeLogging();
+
+        try {
+            final Result result = run(campaignFile, days, outputFile, timingsFile);
+            System.exit((result.stopReason() == StopReason.FAILED) ? 1 : 0);
+        } catch (Exception ex) {
+            LOGGER.error(ex, "Unable to run {}", campaignFile);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loads the campaign, advances it, and writes the requested output.
+     *
+     * @param campaignFile the campaign to load
+     * @param days         the number of days to advance
+     * @param outputFile   where to save the advanced campaign, or {@code null} to not save it
+     * @param timingsFile  where to write the time each day took as CSV, or {@code null} to not write it
+     *
+     * @return the outcome of the batch
+     *
+     * @throws Exception if the data or the campaign could not be loaded, or the output could not be written
+     */
+    public static Result run(File campaignFile, int days, @Nullable File outputFile, @Nullable File timingsFile)
+          throws Exception {
+        // Start the unit cache loading now, so it loads alongside the other data
+        MekSummaryCache.getInstance();
+        StartupDataLoader.forCampaignData().load(progress -> {});
+
+        LOGGER.info("Loading campaign file from XML file {}", campaignFile);
+        final Campaign campaign;
+        try (FileInputStream fis = new FileInputStream(campaignFile)) {
+            campaign = CampaignFactory.newInstance(MekHQ.getInstance()).createCampaign(fis);
+            // Restores all transient attributes from serialized objects
+            campaign.restore();
+            campaign.cleanUp();
+        }
+        // Make sure campaign options event handlers get their data
+        MekHQ.triggerEvent(new OptionsChangedEvent(campaign));
+
+        try {
+            final Result result = new BatchDayAdvancer(campaign, Policy.UNATTENDED).advance(days,
+                  day -> System.out.printf(Locale.ROOT, "%s %.1fms%n", day.date(), day.wallMillis()));
+
+            final DayTiming slowest = result.slowestDay();
+            System.out.printf(Locale.ROOT, "Advanced %d of %d days in %.1fms (%s)%s%n",
+                  result.daysAdvanced(),
+                  result.daysRequested(),
+                  result.totalNanos() / 1_000_000.0,
+                  result.stopReason(),
+                  (slowest == null) ? "" : String.format(Locale.ROOT, ", slowest %s at %.1fms", slowest.date(),
+                        slowest.wallMillis()));
+
+            if (timingsFile != null) {
+                writeTimings(result, timingsFile);
+            }
+
+            if ((outputFile != null) && (result.stopReason() != StopReason.FAILED)) {
+                writeCampaign(campaign, outputFile);
+            }
+            return result;
+        } finally {
+            campaign.getDailyReportLog().close();
+        }
+    }
+
+    private static void writeTimings(Result result, File timingsFile) throws IOException {
+        try (PrintWriter pw = new PrintWriter(timingsFile, StandardCharsets.UTF_8)) {
+            pw.println("Date,WallMillis");
+            for (DayTiming day : result.days()) {
+                pw.printf(Locale.ROOT, "%s,%.3f%n", day.date(), day.wallMillis());
+            }
+        }
+        LOGGER.info("Day timings written to {}", timingsFile);
+    }
+
+    private static void writeCampaign(Campaign campaign, File outputFile) throws IOException {
+        try (FileOutputStream fos = new FileOutputStream(outputFile);
+              OutputStream os = outputFile.getName().endsWith(".gz") ? new GZIPOutputStream(fos) : fos;
+              BufferedOutputStream bos = new BufferedOutputStream(os);
+              OutputStreamWriter osw = new OutputStreamWriter(bos, StandardCharsets.UTF_8);
+              PrintWriter pw = new PrintWriter(osw)) {
+            campaign.writeToXML(pw, false);
+            pw.flush();
+        }
+        LOGGER.info("Campaign saved to {}", outputFile);
+    }
+}
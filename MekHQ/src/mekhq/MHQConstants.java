@@ -190,6 +190,7 @@ public final class MHQConstants extends SuiteConstants {
     public static final String SAVE_BEFORE_SCENARIOS_KEY = "saveBeforeScenarios";
     public static final String SAVE_BEFORE_MISSION_END = "saveBeforeMissionEnd";
     public static final String MAXIMUM_NUMBER_SAVES_KEY = "maximumNumberAutoSaves";
+    public static final String ASYNCHRONOUS_AUTOSAVE_KEY = "asynchronousAutosave";
     public static final int DEFAULT_NUMBER_SAVES = 5;
     // endregion Autosave
 
@@ -240,6 +241,7 @@ public final class MHQConstants extends SuiteConstants {
     public static final String WRITE_CUSTOMS_TO_XML = "writeCustomsToXML";
     public static final String WRITE_ALL_UNITS_TO_XML = "writeAllUnitsToXML";
     public static final String SAVE_MOTHBALL_STATE = "saveMothballState";
+    public static final String STREAMING_CAMPAIGN_LOAD = "streamingCampaignLoad";
     // endregion Campaign XML Save Options
 
     // region File Paths
@@ -357,6 +359,8 @@ public final class MHQConstants extends SuiteConstants {
     public static final String USER_CAMPAIGN_PRESET_DIRECTORY = "userdata/data/campaignPresets/";
     public static final String STRAT_CON_MUL_FILES_DIRECTORY = "data/scenariotemplates/fixedmuls/";
     public static final String PLANETARY_SYSTEM_DIRECTORY_PATH = "data/universe/planetary_systems";
+    public static final String PLANETARY_SYSTEM_CACHE_FILE_PATH = "data/universe/planetary_systems.cache";
+    public static final String UNIT_TECH_PROGRESSION_CACHE_DIRECTORY_PATH = "data/mekfiles/tech_progression";
     public static final String FORCE_ICON_PATH = "data/images/force";
     public static final String PERSONNEL_MARKET_DIRECTORY_PATH = "data/universe/markets/personnelMarket/";
     public static final String MAP_GEN_PATH = "data/mapgen";
@@ -1037,6 +1037,15 @@ public final class MHQOptions extends SuiteOptions {
     public void setMaximumNumberOfAutoSavesValue(int value) {
         userPreferences.node(MHQConstants.AUTOSAVE_NODE).putInt(MHQConstants.MAXIMUM_NUMBER_SAVES_KEY, value);
     }
+
+    public boolean getAsynchronousAutosave() {
+        return userPreferences.node(MHQConstants.AUTOSAVE_NODE)
+                     .getBoolean(MHQConstants.ASYNCHRONOUS_AUTOSAVE_KEY, true);
+    }
+
+    public void setAsynchronousAutosave(boolean value) {
+        userPreferences.node(MHQConstants.AUTOSAVE_NODE).putBoolean(MHQConstants.ASYNCHRONOUS_AUTOSAVE_KEY, value);
+    }
     // endregion Autosave
 
     // region New Day
@@ -1427,6 +1436,15 @@ public final class MHQOptions extends SuiteOptions {
     public void setSaveMothballState(boolean value) {
         userPreferences.node(MHQConstants.XML_SAVES_NODE).putBoolean(MHQConstants.SAVE_MOTHBALL_STATE, value);
     }
+
+    public boolean getStreamingCampaignLoad() {
+        return userPreferences.node(MHQConstants.XML_SAVES_NODE)
+                     .getBoolean(MHQConstants.STREAMING_CAMPAIGN_LOAD, false);
+    }
+
+    public void setStreamingCampaignLoad(boolean value) {
+        userPreferences.node(MHQConstants.XML_SAVES_NODE).putBoolean(MHQConstants.STREAMING_CAMPAIGN_LOAD, value);
+    }
     // endregion Campaign XML Save Options
 
     // region File Paths
@@ -171,6 +171,7 @@ public class MekHQ implements GameListener {
     // endregion Variable Declarations
     private static final SanityInputFilter sanityInputFilter = new SanityInputFilter();
     private static final String defaultTheme = "com.formdev.flatlaf.FlatDarculaLaf";
+    private static final long AUTOSAVE_EXIT_TIMEOUT_MILLIS = 30_000L;
 
     public static ResourceBundle getDefaultResourceBundle() {
         return ResourceBundle.getBundle("mekhq.resources.GUI", MekHQ.getMHQOptions().getLocale());
@@ -347,6 +348,12 @@ public class MekHQ implements GameListener {
         if (campaignGUI != null) {
             campaignGUI.getFrame().dispose();
         }
+        if (campaignController != null) {
+            campaignController.getLocalCampaign().getDailyReportLog().close();
+        }
+
+        // Let any autosave being written in the background finish, so it is not cut short
+        AutosaveService.awaitPendingAutosaves(AUTOSAVE_EXIT_TIMEOUT_MILLIS);
 
         MegaMek.getMMPreferences().saveToFile(SuiteConstants.MM_PREFERENCES_FILE);
         MegaMekLab.getMMLPreferences().saveToFile(SuiteConstants.MML_PREFERENCES_FILE);
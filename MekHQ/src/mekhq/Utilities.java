@@ -105,6 +105,7 @@ import mekhq.campaign.unit.Unit;
 import mekhq.campaign.unit.UnitTechProgression;
 import mekhq.campaign.universe.Faction;
 import mekhq.utilities.ReportingUtilities;
+import mekhq.utilities.VariantIndex;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.w3c.dom.Node;
@@ -269,26 +270,13 @@ public class Utilities {
     public static ArrayList<String> getAllVariants(Entity en, Campaign campaign) {
         ArrayList<String> variants = new ArrayList<>();
 
-        for (MekSummary summary : MekSummaryCache.getInstance().getAllMeks()) {
-            // If this isn't the same chassis, is our current unit, we continue
-            if (!en.getChassis().equalsIgnoreCase(summary.getChassis()) ||
-                      en.getModel().equalsIgnoreCase(summary.getModel()) ||
-                      !summary.getUnitType().equals(UnitType.getTypeName(en.getUnitType()))) {
+        // The index only holds units with the same chassis, unit type and weight (squad size for BA)
+        for (MekSummary summary : VariantIndex.getInstance().getVariants(en)) {
+            // If this is our current unit, we continue
+            if (en.getModel().equalsIgnoreCase(summary.getModel())) {
                 continue;
             }
 
-            // Weight of the two units must match, or we continue, but BA weight gets checked
-            // differently
-            if (en instanceof BattleArmor battleArmor) {
-                if (battleArmor.getSquadSize() != (int) summary.getTWWeight()) {
-                    continue;
-                }
-            } else {
-                if (summary.getTons() != en.getWeight()) {
-                    continue;
-                }
-            }
-
             // If the unit doesn't meet the tech filter criteria we continue
             ITechnology techProg = UnitTechProgression.getProgression(summary, campaign.getTechFaction(), true);
             if (techProg == null) {
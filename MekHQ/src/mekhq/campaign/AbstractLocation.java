@@ -258,6 +258,10 @@ public abstract class AbstractLocation implements IPlace {
     }
 
     public void checkForDiseaseOrBioweaponOutbreaks(Campaign campaign, LocalDate today) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         Set<InjuryType> availableCures = getAllSystemSpecificDiseasesWithCures(currentSystem.getId(), today, true);
 
         Set<InjuryType> activeBioweapons = getAllActiveBioweapons(currentSystem.getId(), today, true);
@@ -298,11 +302,16 @@ public abstract class AbstractLocation implements IPlace {
     /**
      * Tests for whether the campaign arrived at a contract location before it's due to start.
      *
-     * <p>The first matching contract in the system ends the loop after handling early arrival notifications.</p>
+     * <p>The first matching contract in the system ends the loop after handling early arrival notifications. Nothing
+     * is shown during an unattended run.</p>
      *
      * @param campaign The {@link Campaign} instance.
      */
     public void testForEarlyArrival(Campaign campaign) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         for (AbstractContract contract : campaign.getFutureContracts()) {
             if (ContractUtilities.hasArrivedAtContractLocation(this, contract)) {
                 // DAYS.between, not Period.getDays() - the latter yields only the day component, so a start two
@@ -0,0 +1,244 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+
+/**
+ * Advances a campaign by a number of days in one batch, recording how long each day took.
+ *
+ * <p>While a batch runs, the campaign reports its {@link Policy} through {@link Campaign#getBatchAdvancePolicy()}, so
+ * new day processing and the GUI can skip the dialogs and nags the policy rules out, and the GUI can hold back its
+ * per-day refreshes until the batch is over. The batch stops early when a scenario is due, when the day is blocked
+ * (for example by an unpaid loan), when the player interrupts it, or when a day fails with an exception.</p>
+ *
+ * <p>The advancer has no GUI dependencies and runs on the calling thread, so it can drive both the Advance Multiple
+ * Days dialog and unattended runs without a GUI.</p>
+ */
+public class BatchDayAdvancer {
+    private static final MMLogger LOGGER = MMLogger.create(BatchDayAdvancer.class);
+
+    /**
+     * Which interruptions a batch allows. Dialogs that are ruled out are skipped as though the player had dismissed
+     * them, or for the turnover prompt, as though they had chosen to advance regardless.
+     *
+     * @param showInformationalDialogs whether informational dialogs, such as celebrations, the Warrior's Almanac, and
+     *                                 rare personnel offers, are shown
+     * @param showDailyNags            whether the daily nag dialogs are shown, any of which can block the day
+     * @param promptForTurnover        whether the random retirement prompt is shown before a day is advanced
+     * @param showEventDialogs         whether the dialogs raised by the day's events, such as Batchalls, new cures, and
+     *                                 faction judgments, are shown; when they are not, each event goes ahead with its
+     *                                 default choice
+     */
+    public record Policy(boolean showInformationalDialogs, boolean showDailyNags, boolean promptForTurnover,
+          boolean showEventDialogs) {
+        /** Shows every dialog, as advancing day by day does. */
+        public static final Policy INTERACTIVE = new Policy(true, true, true, true);
+
+        /** Shows no dialog at all, for runs which nobody is watching and which may have no display. */
+        public static final Policy UNATTENDED = new Policy(false, false, false, false);
+    }
+
+    /**
+     * Why a batch stopped.
+     */
+    public enum StopReason {
+        /** Every requested day was advanced. */
+        COMPLETED,
+        /** A scenario is due, and must be resolved before the next day. */
+        SCENARIO_DUE,
+        /** The day could not begin, for example because of an unpaid loan or a nag the player acted on. */
+        BLOCKED,
+        /** The day was advanced, but the player asked to stop advancing further days. */
+        INTERRUPTED,
+        /** A day failed with an exception. */
+        FAILED
+    }
+
+    /**
+     * A single advanced day.
+     *
+     * @param date      the day advanced to
+     * @param wallNanos the wall time advancing to it took, in nanoseconds
+     */
+    public record DayTiming(LocalDate date, long wallNanos) {
+        public double wallMillis() {
+            return wallNanos / 1_000_000.0;
+        }
+    }
+
+    /**
+     * The outcome of a batch.
+     *
+     * @param daysRequested the number of days the batch was asked to advance
+     * @param days          the days which were advanced, in order
+     * @param stopReason    why the batch stopped
+     */
+    public record Result(int daysRequested, List<DayTiming> days, StopReason stopReason) {
+        public int daysAdvanced() {
+            return days.size();
+        }
+
+        public long totalNanos() {
+            long total = 0;
+            for (DayTiming day : days) {
+                total += day.wallNanos();
+            }
+            return total;
+        }
+
+        /**
+         * @return the day which took longest to advance to, or {@code null} if no day was advanced
+         */
+        public @Nullable DayTiming slowestDay() {
+            DayTiming slowest = null;
+            for (DayTiming day : days) {
+                if ((slowest == null) || (day.wallNanos() > slowest.wallNanos())) {
+                    slowest = day;
+                }
+            }
+            return slowest;
+        }
+    }
+
+    /**
+     * Receives each day as soon as it has been advanced, for example to collect its daily report before the next day
+     * clears it.
+     */
+    @FunctionalInterface
+    public interface DayListener {
+        void dayAdvanced(DayTiming day);
+    }
+
+    /**
+     * Advances a single day, normally through {@link Campaign#newDay()}.
+     */
+    @FunctionalInterface
+    interface DayAction {
+        boolean advance();
+    }
+
+    private final Campaign campaign;
+    private final Policy policy;
+    private final DayAction dayAction;
+
+    public BatchDayAdvancer(Campaign campaign, Policy policy) {
+        this(campaign, policy, campaign::newDay);
+    }
+
+    BatchDayAdvancer(Campaign campaign, Policy policy, DayAction dayAction) {
+        this.campaign = Objects.requireNonNull(campaign);
+        this.policy = Objects.requireNonNull(policy);
+        this.dayAction = Objects.requireNonNull(dayAction);
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Advances up to the given number of days.
+     *
+     * @param days     the number of days to advance
+     * @param listener notified after each advanced day
+     *
+     * @return the days advanced, and why the batch stopped
+     */
+    public Result advance(int days, DayListener listener) {
+        final List<DayTiming> advanced = new ArrayList<>(Math.max(0, days));
+        final Policy previousPolicy = campaign.getBatchAdvancePolicy();
+        campaign.setBatchAdvancePolicy(policy);
+
+        StopReason stopReason = StopReason.COMPLETED;
+        try {
+            for (int day = 0; day < days; day++) {
+                // The GUI blocks the day itself, and tells the player why; without it nothing else would
+                if ((campaign.getGUI() == null) && campaign.checkScenariosDue()) {
+                    stopReason = StopReason.SCENARIO_DUE;
+                    break;
+                }
+
+                final LocalDate yesterday = campaign.getLocalDate();
+                final long startNanos = System.nanoTime();
+                final boolean uninterrupted;
+                try {
+                    uninterrupted = dayAction.advance();
+                } catch (Exception ex) {
+                    LOGGER.error(ex, "Advancing from {} failed, stopping the batch", yesterday);
+                    stopReason = StopReason.FAILED;
+                    break;
+                }
+
+                if (campaign.getLocalDate().equals(yesterday)) {
+                    stopReason = StopReason.BLOCKED;
+                    break;
+                }
+
+                DayTiming timing = new DayTiming(campaign.getLocalDate(), System.nanoTime() - startNanos);
+                advanced.add(timing);
+                listener.dayAdvanced(timing);
+
+                if (!uninterrupted) {
+                    stopReason = StopReason.INTERRUPTED;
+                    break;
+                }
+            }
+        } finally {
+            campaign.setBatchAdvancePolicy(previousPolicy);
+        }
+
+        final Result result = new Result(days, List.copyOf(advanced), stopReason);
+        LOGGER.info("Advanced {} of {} days in {} ms ({})",
+              result.daysAdvanced(),
+              days,
+              result.totalNanos() / 1_000_000,
+              stopReason);
+        return result;
+    }
+
+    /**
+     * Advances up to the given number of days.
+     *
+     * @see #advance(int, DayListener)
+     */
+    public Result advance(int days) {
+        return advance(days, day -> {
+        });
+    }
+}
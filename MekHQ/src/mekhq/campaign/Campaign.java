@@ -67,7 +67,6 @@ import static mekhq.campaign.universe.Factions.getFactionLogo;
 import static mekhq.utilities.MHQInternationalization.getFormattedTextAt;
 import static mekhq.utilities.MHQInternationalization.getTextAt;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.text.MessageFormat;
@@ -107,7 +106,6 @@ import megamek.common.interfaces.ITechManager;
 import megamek.common.loaders.BLKFile;
 import megamek.common.loaders.EntityLoadingException;
 import megamek.common.loaders.EntitySavingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.options.GameOptions;
@@ -224,6 +222,7 @@ import mekhq.campaign.storyArc.StoryArc;
 import mekhq.campaign.unit.CargoStatistics;
 import mekhq.campaign.unit.CrewType;
 import mekhq.campaign.unit.HangarStatistics;
+import mekhq.campaign.unit.RepairWorkQueue;
 import mekhq.campaign.unit.TestUnit;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.unit.UnitAcquisitionType;
@@ -248,6 +247,7 @@ import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogSimple;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogWidth;
 import mekhq.gui.dialog.factionStanding.factionJudgment.FactionJudgmentDialog;
 import mekhq.service.IAutosaveService;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.MHQXMLUtility;
 import mekhq.utilities.ReportingUtilities;
 
@@ -306,6 +306,8 @@ public class Campaign implements ITechManager {
     private LocalDate campaignStartDate;
 
     private transient CampaignNewDayManager newDayManager = null;
+    private transient BatchDayAdvancer.Policy batchAdvancePolicy = null;
+    private final transient RepairWorkQueue repairWorkQueue = new RepairWorkQueue(() -> getPlayerForce().getHangar());
 
     private final DailyReportLog dailyReportLog = new DailyReportLog();
 
@@ -1816,12 +1818,19 @@ public class Campaign implements ITechManager {
     // endregion Personnel Selectors and Generators
     // endregion Personnel
 
+    /**
+     * @return The units with parts needing repair or salvage, as tracked by the campaign's {@link RepairWorkQueue}
+     */
+    public RepairWorkQueue getRepairWorkQueue() {
+        return repairWorkQueue;
+    }
+
     /**
      * List of all units that can show up in the repair bay.
      */
     public List<Unit> getServiceableUnits() {
         List<Unit> service = new ArrayList<>();
-        for (Unit u : getUnits()) {
+        for (Unit u : repairWorkQueue.getUnitsWithWork()) {
             if (u.isAvailable() && u.isServiceable() && !StratConRulesManager.isUnitDeployedToStratCon(u)) {
                 service.add(u);
             }
@@ -2942,6 +2951,11 @@ public class Campaign implements ITechManager {
             }
         }
 
+        // The part may have been fixed or salvaged by a subclass without going through the unit
+        if (partWork.getUnit() != null) {
+            partWork.getUnit().markRepairStateChanged();
+        }
+
         MekHQ.triggerEvent(new PartWorkEvent(tech, partWork));
         addReport(TECHNICAL, report);
         return report;
@@ -3010,6 +3024,36 @@ public class Campaign implements ITechManager {
         return newDayManager.newDay();
     }
 
+    /**
+     * @return the policy of the {@link BatchDayAdvancer} currently advancing this campaign, or {@code null} if days
+     *       are being advanced one at a time
+     */
+    public @Nullable BatchDayAdvancer.Policy getBatchAdvancePolicy() {
+        return batchAdvancePolicy;
+    }
+
+    void setBatchAdvancePolicy(@Nullable BatchDayAdvancer.Policy batchAdvancePolicy) {
+        this.batchAdvancePolicy = batchAdvancePolicy;
+    }
+
+    /**
+     * @return {@code true} while a {@link BatchDayAdvancer} is advancing this campaign
+     */
+    public boolean isBatchAdvancing() {
+        return batchAdvancePolicy != null;
+    }
+
+    /**
+     * Whether nobody is there to answer dialogs, as while a {@link BatchDayAdvancer} with the
+     * {@link BatchDayAdvancer.Policy#UNATTENDED} policy is advancing this campaign. New day processing must not open
+     * any dialog while this is {@code true}, and goes ahead with the choice the dialog would have defaulted to instead.
+     *
+     * @return {@code true} if no dialog may be shown
+     */
+    public boolean isUnattended() {
+        return (batchAdvancePolicy != null) && !batchAdvancePolicy.showEventDialogs();
+    }
+
     public CampaignNewDayManager getNewDayManager() {
         return newDayManager;
     }
@@ -3868,24 +3912,22 @@ public class Campaign implements ITechManager {
                 continue;
             }
 
-            MekFileParser mekFileParser = null;
-            try {
-                File sourceFile = mekSummary.getSourceFile();
-                if (sourceFile == null) {
-                    LOGGER.warn("sourceFile was null for {}", name);
-                    continue;
-                }
+            if (mekSummary.getSourceFile() == null) {
+                LOGGER.warn("sourceFile was null for {}", name);
+                continue;
+            }
 
-                mekFileParser = new MekFileParser(sourceFile, mekSummary.getEntryName());
+            Entity entity;
+            try {
+                entity = EntityFactory.getInstance().getEntity(mekSummary);
             } catch (EntityLoadingException ex) {
-                LOGGER.error("Failed to fetch MekFileParser for {} // {}",
+                LOGGER.error("Failed to load entity for {} // {}",
                       mekSummary.getSourceFile(), mekSummary.getEntryName(), ex);
                 continue;
             }
 
-            Entity entity = mekFileParser.getEntity();
             if (entity == null) {
-                LOGGER.warn("mekFileParser returned a null entity {}", name);
+                LOGGER.warn("EntityFactory returned a null entity {}", name);
                 continue;
             }
 
@@ -4052,12 +4094,14 @@ public class Campaign implements ITechManager {
         // Shortcuts to ensure we're not processing a lot of data when we're unable to reach the target system
         if (!skipEmptySystemCheck && getPlayerForce().isAvoidingEmptySystems()
                   && end.getPopulation(currentDay) == 0) {
-            new ImmersiveDialogSimple(this, getPlayerForce().getHumanResources()
-                                                  .getSeniorAdminPerson(getCampaignOptions(),
-                                                        getPlayerForce().isClanForce(),
-                                                        getLocalDate()), null,
-                  String.format(resources.getString("unableToEnterSystem.abandoned.ic"), getCommanderAddress()),
-                  null, resources.getString("unableToEnterSystem.abandoned.ooc"), null, false);
+            if (!isUnattended()) {
+                new ImmersiveDialogSimple(this, getPlayerForce().getHumanResources()
+                                                      .getSeniorAdminPerson(getCampaignOptions(),
+                                                            getPlayerForce().isClanForce(),
+                                                            getLocalDate()), null,
+                      String.format(resources.getString("unableToEnterSystem.abandoned.ic"), getCommanderAddress()),
+                      null, resources.getString("unableToEnterSystem.abandoned.ooc"), null, false);
+            }
 
             return new JumpPath();
         }
@@ -4070,40 +4114,31 @@ public class Campaign implements ITechManager {
                   getPlayerForce().getFactionStandings(),
                   start, end, currentDay, activeAtBContracts, factionHints);
             if (!canAccessSystem) {
-                new ImmersiveDialogSimple(this, getPlayerForce().getHumanResources()
-                                                      .getSeniorAdminPerson(getCampaignOptions(),
-                                                            getPlayerForce().isClanForce(),
-                                                            getLocalDate()), null,
-                      String.format(resources.getString("unableToEnterSystem.outlawed.ic"), getCommanderAddress()),
-                      null, resources.getString("unableToEnterSystem.outlawed.ooc"), null, false);
+                if (!isUnattended()) {
+                    new ImmersiveDialogSimple(this, getPlayerForce().getHumanResources()
+                                                          .getSeniorAdminPerson(getCampaignOptions(),
+                                                                getPlayerForce().isClanForce(),
+                                                                getLocalDate()), null,
+                          String.format(resources.getString("unableToEnterSystem.outlawed.ic"),
+                                getCommanderAddress()),
+                          null, resources.getString("unableToEnterSystem.outlawed.ooc"), null, false);
+                }
 
                 return new JumpPath();
             }
         }
 
-        // Initialize A* algorithm variables
-        String startKey = start.getId();
-        String endKey = end.getId();
-
-        Set<String> closed = new HashSet<>();
-        Set<String> open = new HashSet<>();
-
-        Map<String, String> parent = new HashMap<>();
-        Map<String, Double> scoreH = new HashMap<>(); // Heuristic scores (estimated cost to goal)
-        Map<String, Double> scoreG = new HashMap<>(); // Path costs from start
-
-        // Precompute heuristics
-        Map<String, PlanetarySystem> allSystems = this.systemsInstance.getSystems();
-
-        for (Entry<String, PlanetarySystem> entry : allSystems.entrySet()) {
-            scoreH.put(entry.getKey(), end.getDistanceTo(entry.getValue()));
+        JumpGraph jumpGraph = systemsInstance.getJumpGraph();
+        int startIndex = jumpGraph.indexOf(start.getId());
+        int endIndex = jumpGraph.indexOf(end.getId());
+        if ((startIndex < 0) || (endIndex < 0)) {
+            LOGGER.warn("Unable to calculate a jump path from {} to {} as they are not on the jump map",
+                  start.getId(), end.getId());
+            JumpPath jumpPath = new JumpPath();
+            jumpPath.addSystem(start);
+            return jumpPath;
         }
 
-        // Initialize starting node
-        String current = startKey;
-        scoreG.put(current, 0.0);
-        closed.add(current);
-
         // We need this additional check as later we're going to be comparing neighbors, rather than start point.
         // Which means that if we're passing through more than one Outlawed system en route to our escape our
         // progress will be blocked.
@@ -4111,134 +4146,38 @@ public class Campaign implements ITechManager {
               getPlayerForce().getFactionStandings(),
               null, start, currentDay, activeAtBContracts, factionHints);
 
-        // A* search
-        final int MAX_JUMPS = 10000;
-        for (int jumps = 0; jumps < MAX_JUMPS; jumps++) {
-            PlanetarySystem currentSystem = systemsInstance.getSystemById(current);
-
-            boolean isUseCommandCircuits =
-                  FactionStandingUtilities.isUseCommandCircuit(getPlayerForce().isOverridingCommandCircuitRequirements(),
-                        gmMode,
-                        campaignOptions.isUseFactionStandingCommandCircuitSafe(),
-                        getPlayerForce().getFactionStandings(), getFutureContracts());
-
-            // Get current node's information
-            double currentG = scoreG.get(current) + currentSystem.getRechargeTime(getLocalDate(), isUseCommandCircuits);
-            final String localCurrent = current;
-
-            // Explore neighbors
-            systemsInstance.visitNearbySystems(currentSystem, 30, neighborSystem -> {
-                String neighborId = neighborSystem.getId();
-
-                // Skip systems without population if avoiding empty systems
-                if (!skipEmptySystemCheck && getPlayerForce().isAvoidingEmptySystems()
-                          && neighborSystem.getPopulation(currentDay) == 0) {
-                    return;
-                }
-
-                // Skip systems where the campaign is outlawed
-                if (!skipAccessCheck &&
-                          !isEscapingOutlawing &&
-                          campaignOptions.isUseFactionStandingOutlawedSafe()) {
-                    boolean canAccessSystem = FactionStandingUtilities.canEnterTargetSystem(getPlayerForce().getFaction(),
-                          getPlayerForce().getFactionStandings(),
-                          currentSystem, neighborSystem, currentDay, activeAtBContracts, factionHints);
-                    if (!canAccessSystem) {
-                        return;
-                    }
-                }
-
-                if (closed.contains(neighborId)) {
-                    return; // Already evaluated
-                }
-
-                if (open.contains(neighborId)) {
-                    // Check if this path is better than the previously found one
-                    if (currentG < scoreG.get(neighborId)) {
-                        scoreG.put(neighborId, currentG);
-                        parent.put(neighborId, localCurrent);
-                    }
-                } else {
-                    // Discover a new node
-                    scoreG.put(neighborId, currentG);
-                    parent.put(neighborId, localCurrent);
-                    open.add(neighborId);
-                }
-            });
+        boolean isUseCommandCircuits =
+              FactionStandingUtilities.isUseCommandCircuit(getPlayerForce().isOverridingCommandCircuitRequirements(),
+                    gmMode,
+                    campaignOptions.isUseFactionStandingCommandCircuitSafe(),
+                    getPlayerForce().getFactionStandings(), getFutureContracts());
 
-            // Find the open node with the lowest f score
-            String bestMatch = findNodeWithLowestFScore(open, scoreG, scoreH);
-
-            if (bestMatch == null) {
-                break; // No path exists
-            }
-
-            // Move to the best node
-            current = bestMatch;
-            closed.add(current);
-            open.remove(current);
-
-            // Check if we've reached the destination
-            if (current.equals(endKey)) {
-                return reconstructPath(current, parent, systemsInstance);
-            }
-        }
-
-        // No path found or maximum jumps reached
-        return reconstructPath(current, parent, systemsInstance);
-    }
-
-    /**
-     * Finds the node in the open set with the lowest f-score (g + h).
-     *
-     * @param openSet The set of nodes to evaluate
-     * @param gScores Map of path costs from start
-     * @param hScores Map of heuristic distances to goal
-     *
-     * @return The node with the lowest f-score, or null if openSet is empty
-     */
-    private String findNodeWithLowestFScore(Set<String> openSet, Map<String, Double> gScores,
-          Map<String, Double> hScores) {
-        String bestMatch = null;
-        double bestF = Double.POSITIVE_INFINITY;
+        boolean isAvoidingEmptySystems = !skipEmptySystemCheck && getPlayerForce().isAvoidingEmptySystems();
+        boolean isAvoidingOutlawedSystems = !skipAccessCheck &&
+                                                  !isEscapingOutlawing &&
+                                                  campaignOptions.isUseFactionStandingOutlawedSafe();
 
-        for (String candidate : openSet) {
-            double f = gScores.get(candidate) + hScores.get(candidate);
-            if (f < bestF) {
-                bestMatch = candidate;
-                bestF = f;
+        // A* search
+        int[] path = jumpGraph.findPath(startIndex, endIndex, getLocalDate(), isUseCommandCircuits, (from, to) -> {
+            // Skip systems without population if avoiding empty systems
+            if (isAvoidingEmptySystems && jumpGraph.isEmpty(to, currentDay)) {
+                return false;
             }
-        }
-
-        return bestMatch;
-    }
-
-    /**
-     * Reconstructs the path from the parent map.
-     *
-     * @param current         The final node in the path
-     * @param parent          Map of parent nodes
-     * @param systemsInstance The systems registry
-     *
-     * @return A JumpPath containing the sequence of systems
-     */
-    private JumpPath reconstructPath(String current, Map<String, String> parent, Systems systemsInstance) {
-        // Reconstruct path
-        List<PlanetarySystem> path = new ArrayList<>();
-        String nextKey = current;
 
-        while (nextKey != null) {
-            path.add(systemsInstance.getSystemById(nextKey));
-            nextKey = parent.get(nextKey);
-        }
+            // Skip systems where the campaign is outlawed
+            return !isAvoidingOutlawedSystems ||
+                         FactionStandingUtilities.canEnterTargetSystem(getPlayerForce().getFaction(),
+                               getPlayerForce().getFactionStandings(),
+                               jumpGraph.getSystem(from), jumpGraph.getSystem(to), currentDay, activeAtBContracts,
+                               factionHints);
+        });
 
-        // Create the final path in the correct order (start to end)
-        JumpPath finalPath = new JumpPath();
-        for (int i = path.size() - 1; i >= 0; i--) {
-            finalPath.addSystem(path.get(i));
+        // If the destination could not be reached, this is the path to the last system searched
+        JumpPath jumpPath = new JumpPath();
+        for (int index : path) {
+            jumpPath.addSystem(jumpGraph.getSystem(index));
         }
-
-        return finalPath;
+        return jumpPath;
     }
 
     /**
@@ -5462,6 +5401,31 @@ public class Campaign implements ITechManager {
                      .getTransportsByType(transporterType, unitSize);
     }
 
+    /**
+     * Plans loading the given units into the campaign's transports of the given type, all in one pass. Only transports
+     * in the TO&amp;E are used, and only where the transport's entity reports it can load the unit. Nothing is
+     * assigned until the plan is applied.
+     *
+     * @param campaignTransportType type (Enum) of TransportedUnitSummary
+     * @param units                 units to load
+     *
+     * @return where each unit should go, and the units no transport had room for
+     *
+     * @see TransportAssignmentPlanner
+     */
+    public TransportAssignmentPlanner.Plan planTransportAssignments(CampaignTransportType campaignTransportType,
+          Collection<Unit> units) {
+        return TransportAssignmentPlanner.plan(campaignTransportType,
+              Objects.requireNonNull(getCampaignTransporterMap(campaignTransportType)),
+              units,
+              (transport, unit) -> (transport != null)
+                                         && !transport.equals(unit)
+                                         && (transport.getFormationId() != Formation.FORMATION_NONE)
+                                         && (transport.getEntity() != null)
+                                         && (unit.getEntity() != null)
+                                         && transport.getEntity().canLoad(unit.getEntity(), false));
+    }
+
     private boolean hasTacticalTransports() {
         return tacticalTransporters.hasTransporters();
     }
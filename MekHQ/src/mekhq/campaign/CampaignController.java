@@ -74,7 +74,8 @@ public class CampaignController {
     }
 
     /**
-     * Manually unregister campaign-related event bus listeners.
+     * Manually unregister campaign-related event bus listeners, and release the daily report archive of the
+     * campaign being unloaded.
      */
     public void deactivate() {
         if (localCampaign.getStoryArc() != null) {
@@ -90,6 +91,7 @@ public class CampaignController {
         if (newDayManager != null) {
             MekHQ.unregisterHandler(newDayManager);
         }
+        localCampaign.getDailyReportLog().close();
     }
 
     /**
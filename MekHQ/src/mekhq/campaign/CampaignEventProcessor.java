@@ -33,8 +33,12 @@
 package mekhq.campaign;
 
 import megamek.common.event.Subscribe;
+import mekhq.campaign.events.RepairStatusChangedEvent;
+import mekhq.campaign.events.parts.PartEvent;
+import mekhq.campaign.events.parts.PartWorkEvent;
 import mekhq.campaign.events.persons.PersonCrewAssignmentEvent;
 import mekhq.campaign.events.persons.PersonEvent;
+import mekhq.campaign.events.units.UnitEvent;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.enums.PersonnelRole;
 import mekhq.campaign.unit.Unit;
@@ -88,4 +92,71 @@ public record CampaignEventProcessor(Campaign campaign) {
             unit.setTempCrew(PersonnelRole.VESSEL_CREW, 0);
         }
     }
+
+    /**
+     * Handles changes to parts.
+     *
+     * <p>Marks the repair work of the part's unit as out of date, for changes made without going through the unit</p>
+     *
+     * <p><b>Important:</b> This method is not directly evoked, so IDEA will tell you it has no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param partEvent the event containing the changed part
+     */
+    @Subscribe
+    public void handlePartUpdate(PartEvent partEvent) {
+        Unit unit = partEvent.getPart().getUnit();
+        if (unit != null) {
+            unit.markRepairStateChanged();
+        }
+    }
+
+    /**
+     * Handles repairs, salvage, and other work done on parts.
+     *
+     * <p>Marks the repair work of the part's unit as out of date</p>
+     *
+     * <p><b>Important:</b> This method is not directly evoked, so IDEA will tell you it has no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param partWorkEvent the event containing the part worked on
+     */
+    @Subscribe
+    public void handlePartWork(PartWorkEvent partWorkEvent) {
+        Unit unit = partWorkEvent.getPartWork().getUnit();
+        if (unit != null) {
+            unit.markRepairStateChanged();
+        }
+    }
+
+    /**
+     * Handles changes to units.
+     *
+     * <p>Marks the unit's repair work as out of date</p>
+     *
+     * <p><b>Important:</b> This method is not directly evoked, so IDEA will tell you it has no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param unitEvent the event containing the changed unit
+     */
+    @Subscribe
+    public void handleUnitUpdate(UnitEvent unitEvent) {
+        unitEvent.getUnit().markRepairStateChanged();
+    }
+
+    /**
+     * Handles units being toggled between repair and salvage, or moved to a different repair site.
+     *
+     * <p><b>Important:</b> This method is not directly evoked, so IDEA will tell you it has no uses. IDEA is
+     * wrong.</p>
+     *
+     * @param repairStatusChangedEvent the event containing the unit
+     */
+    @Subscribe
+    public void handleRepairStatusChanged(RepairStatusChangedEvent repairStatusChangedEvent) {
+        Unit unit = repairStatusChangedEvent.getUnit();
+        if (unit != null) {
+            unit.markRepairStateChanged();
+        }
+    }
 }
@@ -35,6 +35,7 @@ package mekhq.campaign;
 import static mekhq.campaign.personnel.backgrounds.BackgroundsController.randomMercenaryCompanyNameGenerator;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDate;
@@ -57,7 +58,9 @@ import mekhq.campaign.finances.CurrencyManager;
 import mekhq.campaign.finances.Finances;
 import mekhq.campaign.force.Formation;
 import mekhq.campaign.io.CampaignXmlParseException;
+import mekhq.campaign.io.CampaignLoadMetrics;
 import mekhq.campaign.io.CampaignXmlParser;
+import mekhq.campaign.io.StreamingCampaignXmlParser;
 import mekhq.campaign.market.PartsStore;
 import mekhq.campaign.market.PersonnelMarket;
 import mekhq.campaign.market.personnelMarket.markets.NewPersonnelMarket;
@@ -85,6 +88,7 @@ import mekhq.service.AutosaveService;
  */
 public class CampaignFactory {
     private static final MMLogger LOGGER = MMLogger.create(CampaignFactory.class);
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
     private MekHQ app;
 
     public enum CampaignProblemType {
@@ -144,17 +148,38 @@ public class CampaignFactory {
         byte[] header = readHeader(is);
 
         // Check if the first two bytes are the GZIP magic bytes...
-        if ((header.length >= 2) && (header[0] == (byte) 0x1f) && (header[1] == (byte) 0x8b)) {
-            is = new GZIPInputStream(is);
-        }
+        final boolean isGzipped = (header.length >= 2) && (header[0] == (byte) 0x1f) && (header[1] == (byte) 0x8b);
         // ...otherwise, assume we're an XML file.
 
-        CampaignXmlParser parser = new CampaignXmlParser(is, this.app);
-        Campaign campaign = parser.parse();
+        Campaign campaign;
+        if (MekHQ.getMHQOptions().getStreamingCampaignLoad()) {
+            // The streaming parser reads the file once per pass, so keep the (usually compressed) bytes around
+            // rather than the uncompressed XML or its DOM.
+            final byte[] data = is.readAllBytes();
+            CampaignLoadMetrics metrics = CampaignLoadMetrics.start("Streaming");
+            StreamingCampaignXmlParser parser = new StreamingCampaignXmlParser(() -> openCampaignData(data,
+                  isGzipped), this.app);
+            campaign = parser.parse();
+            metrics.finish();
+        } else {
+            if (isGzipped) {
+                is = new GZIPInputStream(is);
+            }
+
+            CampaignLoadMetrics metrics = CampaignLoadMetrics.start("DOM");
+            CampaignXmlParser parser = new CampaignXmlParser(is, this.app);
+            campaign = parser.parse();
+            metrics.finish();
+        }
 
         return checkForLoadProblems(campaign);
     }
 
+    private static InputStream openCampaignData(byte[] data, boolean isGzipped) throws IOException {
+        InputStream is = new ByteArrayInputStream(data);
+        return isGzipped ? new BufferedInputStream(new GZIPInputStream(is, GZIP_BUFFER_SIZE), GZIP_BUFFER_SIZE) : is;
+    }
+
     /**
      * Creates a partially-configured CampaignConfiguration that is missing: 1. Systems (TestSystems for testing
      * purposes) 2. GameOptions (required for MegaMek, may be candidate for further test class development) 3. Player
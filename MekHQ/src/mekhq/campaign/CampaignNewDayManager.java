@@ -257,7 +257,8 @@ public class CampaignNewDayManager {
     }
 
     public static void showRarePersonnelDialog(Campaign campaign, boolean isCampaignStart) {
-        if (!campaign.getPlayerForce().getHumanResources().getNewPersonnelMarket().getHasRarePersonnel()) {
+        if (campaign.isUnattended()
+                  || !campaign.getPlayerForce().getHumanResources().getNewPersonnelMarket().getHasRarePersonnel()) {
             return;
         }
 
@@ -326,6 +327,8 @@ public class CampaignNewDayManager {
     public boolean newDay() {
         reset(); // refresh cached values
 
+        final NewDayProfiler.Recorder profiler = NewDayProfiler.getInstance().startDay(campaign);
+
         // clear previous retirement information
         campaign.getTurnoverRetirementInformation().clear();
 
@@ -460,6 +463,8 @@ public class CampaignNewDayManager {
                         PersonnelRole.VESSEL_CREW);
         }
 
+        profiler.mark("Pool Refills");
+
         // Ensure we don't have anything that would prevent the new day
         if (MekHQ.triggerEvent(new DayEndingEvent(campaign))) {
             return false;
@@ -467,6 +472,7 @@ public class CampaignNewDayManager {
 
         // Autosave based on the previous day's information
         campaign.getAutosaveService().requestDayAdvanceAutosave(campaign);
+        profiler.mark("Day Ending & Autosave");
 
         // Advance the day by one
         final LocalDate yesterday = campaign.getLocalDate();
@@ -477,7 +483,7 @@ public class CampaignNewDayManager {
         boolean isNewYear = today.getDayOfYear() == 1;
 
         // Check for important dates
-        if (campaignOptions.get(CampaignOption.SHOW_LIFE_EVENT_DIALOG_CELEBRATIONS)) {
+        if (campaignOptions.get(CampaignOption.SHOW_LIFE_EVENT_DIALOG_CELEBRATIONS) && isShowingInformationalDialogs()) {
             fetchCelebrationDialogs();
         }
 
@@ -494,9 +500,11 @@ public class CampaignNewDayManager {
         // tab would flash while showing only the date line.)
         campaign.getDailyReportLog().clear();
 
-        CommandCenterTab commandCenter = campaign.getGUI().getCommandCenterTab();
-        for (DailyReportType type : DailyReportType.values()) {
-            commandCenter.clearDailyReportNag(type.getTabIndex());
+        if (campaign.getGUI() != null) {
+            CommandCenterTab commandCenter = campaign.getGUI().getCommandCenterTab();
+            for (DailyReportType type : DailyReportType.values()) {
+                commandCenter.clearDailyReportNag(type.getTabIndex());
+            }
         }
 
         campaign.beginReport("<b>" + MekHQ.getMHQOptions().getLongDisplayFormattedDate(today) + "</b>");
@@ -514,7 +522,7 @@ public class CampaignNewDayManager {
                   String.valueOf(today.getYear()),
                   CLOSING_SPAN_TAG));
 
-            if (MekHQ.getMHQOptions().getShowWarriorsAlmanac()) {
+            if (MekHQ.getMHQOptions().getShowWarriorsAlmanac() && isShowingInformationalDialogs()) {
                 new WarriorsAlmanacDialog(campaign, true);
             }
 
@@ -531,6 +539,7 @@ public class CampaignNewDayManager {
         }
 
         campaign.readNews();
+        profiler.mark("Reports & News");
 
         // Dispatch travel queued during the previous day before transit advances, so departures resolve from where
         // the travelers actually were when the travel was queued.
@@ -540,15 +549,18 @@ public class CampaignNewDayManager {
             location.newDay(campaign, location != updatedLocation);
         }
         updatedLocation = campaign.getPlayerForce().getForceDetachment().getCurrentLocation();
-
+        profiler.mark("Locations");
 
         updateFacilities();
+        profiler.mark("Facilities");
 
         processNewDayPersonnel();
+        profiler.mark("Personnel");
 
         processAllArrivals();
 
         campaign.getCampaignLocationManager().pruneEmptyLocations();
+        profiler.mark("Arrivals");
 
         if (campaignOptions.get(CampaignOption.USE_RANDOM_DISEASES) && campaignOptions.get(CampaignOption.USE_ALTERNATIVE_ADVANCED_MEDICAL)) {
             PlanetarySystem currentSystem = updatedLocation.getCurrentSystem();
@@ -567,10 +579,11 @@ public class CampaignNewDayManager {
                 Inoculations.performDiseaseChecks(campaign);
             }
         }
+        profiler.mark("Diseases & Fatigue");
 
         // Manage the Markets
         campaign.getPlayerForce().getHumanResources().refreshApplicants(campaign, false);
-        if (isFirstOfMonth) {
+        if (isFirstOfMonth && isShowingInformationalDialogs()) {
             showRarePersonnelDialog(campaign, false);
         }
 
@@ -585,6 +598,7 @@ public class CampaignNewDayManager {
         if (campaignOptions.get(CampaignOption.ALLOW_MONTHLY_CONNECTIONS) && isFirstOfMonth) {
             checkForBurnedContacts();
         }
+        profiler.mark("Markets");
 
         // Needs to be before 'processNewDayATB' so that Dependents can't leave the
         // moment they arrive via AtB Bonus Events
@@ -597,16 +611,19 @@ public class CampaignNewDayManager {
         if (campaignOptions.isUseStratCon()) {
             processNewDayATB();
         }
+        profiler.mark("Dependents & StratCon");
 
         if (campaignOptions.get(CampaignOption.USE_CHAOS_REPUTATION)) {
             ChaosReputation.processChaosCampaignReputationChanges(campaignOptions, campaign.getPlayerForce(), today);
         } else {
             processCamOpsReputationChanges();
         }
+        profiler.mark("Reputation");
 
         if (campaignOptions.get(CampaignOption.USE_EDUCATION_MODULE)) {
             processEducationNewDay();
         }
+        profiler.mark("Education");
 
         if (campaignOptions.get(CampaignOption.ENABLE_AUTO_AWARDS) && isFirstOfMonth) {
             AutoAwardsController autoAwardsController = new AutoAwardsController();
@@ -618,6 +635,7 @@ public class CampaignNewDayManager {
         if (isMonday || isFirstOfMonth) {
             new PrisonerEventManager(campaign);
         }
+        profiler.mark("Awards & Prisoners");
 
         if (isFirstOfMonth) {
             payForRentedFacilities();
@@ -627,20 +645,25 @@ public class CampaignNewDayManager {
             // Bays are handled weekly, all other facilities are handled monthly
             FacilityRentals.payForAllRentedBays(campaign);
         }
+        profiler.mark("Rentals");
 
         campaign.getPlayerForce().getHumanResources().resetAsTechMinutes(campaign.getCampaignOptions());
 
         processNewDayUnits();
+        profiler.mark("Units");
 
         processNewDayFormations();
+        profiler.mark("Formations");
 
         if (campaign.isProcessProcurement()) {
             ForceShoppingList sl = campaign.goShopping(campaign.getPlayerForce().getShoppingList());
             campaign.getPlayerForce().setShoppingList(sl);
         }
+        profiler.mark("Procurement");
 
         // check for anything in finances
         finances.newDay(campaign, yesterday, today);
+        profiler.mark("Finances");
 
         // process removal of old personnel data on the first day of each month
         if (campaignOptions.get(CampaignOption.USE_PERSONNEL_REMOVAL) && isFirstOfMonth) {
@@ -652,6 +675,7 @@ public class CampaignNewDayManager {
         for (String entry : campaign.getTurnoverRetirementInformation()) {
             campaign.addReport(PERSONNEL, entry);
         }
+        profiler.mark("Personnel Cleanup & Turnover");
 
         if (campaign.getPlayerForce().getTopUpWeekly() && isMonday) {
             // Each location keeps its own stock levels, so top up the main force and every base independently.
@@ -670,6 +694,7 @@ public class CampaignNewDayManager {
             }
             campaign.addReport(ACQUISITIONS, String.format(resources.getString("weeklyStockCheck.text"), bought));
         }
+        profiler.mark("Weekly Stock Check");
 
         // Random Events
         if (today.isAfter(GRAY_MONDAY_EVENTS_BEGIN) && today.isBefore(GRAY_MONDAY_EVENTS_END)) {
@@ -680,15 +705,20 @@ public class CampaignNewDayManager {
         if (VoiceOfKerensky.shouldTrigger(today, campaign.getCurrentSystem())) {
             VoiceOfKerensky.trigger(campaign);
         }
+        profiler.mark("Random Events");
 
         // Faction Standing
         performFactionStandingChecks(isFirstOfMonth, isNewYear);
+        profiler.mark("Faction Standing");
 
         // War & Peace Notifications
         new WarAndPeaceProcessor(campaign, false);
+        profiler.mark("War & Peace");
 
         // Clean up
         MekHQ.triggerEvent(new NewDayEvent(campaign));
+        profiler.mark("New Day Event");
+        profiler.finish(today);
 
         // This conditional should always be the last thing in the method to ensure we're only logging a 'manual
         // cancellation' in the event advance day was manually canceled and not when a bug occurred. Failure to
@@ -700,9 +730,18 @@ public class CampaignNewDayManager {
         return startDayWithNoInterruptions;
     }
 
+    /**
+     * @return {@code false} while a {@link BatchDayAdvancer} which rules out informational dialogs is advancing the
+     *       campaign
+     */
+    private boolean isShowingInformationalDialogs() {
+        final BatchDayAdvancer.Policy batchPolicy = campaign.getBatchAdvancePolicy();
+        return (batchPolicy == null) || batchPolicy.showInformationalDialogs();
+    }
+
     private void checkForBioweaponAttacksOrNewVaccines(String systemName, String systemId) {
         InjuryType newBioweaponAttack = getNewBioweaponAttack(systemId, today, false);
-        if (newBioweaponAttack != null) {
+        if ((newBioweaponAttack != null) && !campaign.isUnattended()) {
             new ImmersiveDialogSimple(campaign,
                   campaign.getPlayerForce().getHumanResources()
                         .getSeniorMedicalPerson(campaign.getCampaignOptions(),
@@ -721,6 +760,10 @@ public class CampaignNewDayManager {
     }
 
     private void checkForNewVaccines(String systemId) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         Set<InjuryType> newCures = getAllNewCures(systemId, today);
         for (InjuryType injuryType : newCures) {
             new ImmersiveDialogNotification(campaign, getFormattedTextAt(RESOURCE_BUNDLE, "disease.newCure",
@@ -729,6 +772,10 @@ public class CampaignNewDayManager {
     }
 
     private void checkForDiseaseOutbreaks(String systemName, String systemId) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         Set<InjuryType> newOutbreaks = getNewDiseaseOutbreaks(systemId, today, false);
         Set<InjuryType> availableCures = getAllSystemSpecificDiseasesWithCures(systemId, today, false);
         for (InjuryType disease : newOutbreaks) {
@@ -1103,7 +1150,8 @@ public class CampaignNewDayManager {
         }
 
         // Commander's Day!
-        if (isCommandersDay && (peopleWhoCelebrateCommandersDay >= commanderDayTargetNumber)) {
+        if (isCommandersDay && (peopleWhoCelebrateCommandersDay >= commanderDayTargetNumber)
+                  && !campaign.isUnattended()) {
             new CommandersDayAnnouncement(campaign);
         }
 
@@ -1228,7 +1276,7 @@ public class CampaignNewDayManager {
             for (AbstractContract contract : campaign.getActiveContracts()) {
                 ContractMoraleLevel oldMorale = contract.getMoraleLevel();
 
-                MHQMorale.checkMorale(campaign, contract, true);
+                MHQMorale.checkMorale(campaign, contract, !campaign.isUnattended());
                 ContractMoraleLevel newMorale = contract.getMoraleLevel();
 
                 String report = "";
@@ -1286,38 +1334,7 @@ public class CampaignNewDayManager {
             if (campaignOptions.get(CampaignOption.USE_GENERIC_BATTLE_VALUE) &&
                       !contract.getObjectiveType().isGarrisonType() &&
                       today.equals(contract.getStartDate())) {
-                // Batchalls
-                Faction enemyFaction = contract.getEnemyFaction();
-                String enemyFactionCode = contract.getEnemyFactionCode();
-
-                boolean allowBatchalls = true;
-                if (campaignOptions.isUseFactionStandingBatchallRestrictionsSafe()) {
-                    double regard = campaign.getPlayerForce()
-                                          .getFactionStandings()
-                                          .getRegardForFaction(enemyFactionCode, true);
-                    allowBatchalls = FactionStandingUtilities.isBatchallAllowed(regard);
-                }
-
-                if (enemyFaction.performsBatchalls() && allowBatchalls) {
-                    PerformBatchall batchallDialog = new PerformBatchall(campaign,
-                          contract.getEnemyData().opposingCommander(),
-                          contract.getEnemyFactionCode());
-
-                    boolean batchallAccepted = batchallDialog.isBatchallAccepted();
-                    contract.setEnemyData(new EnemyData(contract.getEnemyData(), batchallAccepted));
-
-                    if (!batchallAccepted && campaignOptions.get(CampaignOption.TRACK_FACTION_STANDING)) {
-                        List<String> reports = campaign.getPlayerForce().getFactionStandings()
-                                                     .processRefusedBatchall(faction.getShortName(),
-                                                           enemyFactionCode,
-                                                           today.getYear(),
-                                                           campaignOptions.get(CampaignOption.REGARD_MULTIPLIER));
-
-                        for (String report : reports) {
-                            campaign.addReport(GENERAL, report);
-                        }
-                    }
-                }
+                processBatchall(contract);
             }
 
             if (isMonday && contract.getObjectiveType().isRiotDuty() && contract.getStratConCampaignState() != null) {
@@ -1343,9 +1360,11 @@ public class CampaignNewDayManager {
                     int requiredVictoryPoints = contract.getRequiredVictoryPoints();
 
                     if (campaignState.canEndContractEarly() && victoryPoints >= requiredVictoryPoints) {
-                        new ImmersiveDialogNotification(campaign,
-                              String.format(resources.getString("stratCon.earlyContractEnd.objectives"),
-                                    contract.getHyperlinkedName()), true);
+                        if (!campaign.isUnattended()) {
+                            new ImmersiveDialogNotification(campaign,
+                                  String.format(resources.getString("stratCon.earlyContractEnd.objectives"),
+                                        contract.getHyperlinkedName()), true);
+                        }
 
                         // This ensures any outstanding payout is paid out before the contract ends
                         LocalDate adjustedDate = today.plusDays(1);
@@ -1358,6 +1377,47 @@ public class CampaignNewDayManager {
         }
     }
 
+    /**
+     * Lets a Clan enemy issue its Batchall on the first day of a contract, if it performs them and the player's
+     * standing allows it. The player's answer is recorded on the contract, and a refusal costs regard. While the
+     * campaign is unattended, the Batchall is accepted without asking.
+     *
+     * @param contract the contract starting today
+     */
+    void processBatchall(AbstractContract contract) {
+        Faction enemyFaction = contract.getEnemyFaction();
+        String enemyFactionCode = contract.getEnemyFactionCode();
+
+        boolean allowBatchalls = true;
+        if (campaignOptions.isUseFactionStandingBatchallRestrictionsSafe()) {
+            double regard = campaign.getPlayerForce()
+                                  .getFactionStandings()
+                                  .getRegardForFaction(enemyFactionCode, true);
+            allowBatchalls = FactionStandingUtilities.isBatchallAllowed(regard);
+        }
+
+        if (enemyFaction.performsBatchalls() && allowBatchalls) {
+            PerformBatchall batchallDialog = new PerformBatchall(campaign,
+                  contract.getEnemyData().opposingCommander(),
+                  contract.getEnemyFactionCode());
+
+            boolean batchallAccepted = batchallDialog.isBatchallAccepted();
+            contract.setEnemyData(new EnemyData(contract.getEnemyData(), batchallAccepted));
+
+            if (!batchallAccepted && campaignOptions.get(CampaignOption.TRACK_FACTION_STANDING)) {
+                List<String> reports = campaign.getPlayerForce().getFactionStandings()
+                                             .processRefusedBatchall(faction.getShortName(),
+                                                   enemyFactionCode,
+                                                   today.getYear(),
+                                                   campaignOptions.get(CampaignOption.REGARD_MULTIPLIER));
+
+                for (String report : reports) {
+                    campaign.addReport(GENERAL, report);
+                }
+            }
+        }
+    }
+
     /**
      * Processes reputation changes based on various conditions.
      */
@@ -1714,7 +1774,7 @@ public class CampaignNewDayManager {
             // updating in the gui before the player has a chance to jump to them
             MekHQ.triggerEvent(new PersonChangedEvent(person));
 
-            if (campaignOptions.get(CampaignOption.SHOW_LIFE_EVENT_DIALOG_COMING_OF_AGE)) {
+            if (campaignOptions.get(CampaignOption.SHOW_LIFE_EVENT_DIALOG_COMING_OF_AGE) && !campaign.isUnattended()) {
                 new ComingOfAgeAnnouncement(campaign, person);
             }
         }
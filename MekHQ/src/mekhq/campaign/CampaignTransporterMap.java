@@ -32,14 +32,14 @@
  */
 package mekhq.campaign;
 
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
 
+import megamek.common.annotations.Nullable;
 import mekhq.campaign.enums.CampaignTransportType;
 import mekhq.campaign.unit.AbstractTransportedUnitsSummary;
 import mekhq.campaign.unit.Unit;
@@ -50,11 +50,13 @@ import mekhq.campaign.unit.enums.TransporterType;
  * for keeping just enough information that we can quickly determine which transporters can fit a unit.
  *
  * @see CampaignTransportType
+ * @see TransportCapacityIndex
  */
 public class CampaignTransporterMap {
 
     private final Campaign campaign;
-    private final Map<TransporterType, Map<Double, Set<UUID>>> transportersMap = new HashMap<>();
+    private final Map<UUID, Unit> transports = new HashMap<>();
+    private final TransportCapacityIndex capacityIndex = new TransportCapacityIndex();
     private final CampaignTransportType campaignTransportType;
 
     public CampaignTransporterMap(Campaign campaign, CampaignTransportType campaignTransportType) {
@@ -68,20 +70,15 @@ public class CampaignTransporterMap {
      * @param transport - The unit we want to add to this Map
      */
     public void addTransporter(Unit transport) {
-        for (TransporterType transporterType : transport.getTransportedUnitsSummary(campaignTransportType)
-                                                     .getTransportCapabilities()) {
-            addTransporterToCapacityMap(transport, transporterType);
+        AbstractTransportedUnitsSummary transportedUnitsSummary = transport.getTransportedUnitsSummary(
+              campaignTransportType);
+        for (TransporterType transporterType : transportedUnitsSummary.getTransportCapabilities()) {
+            capacityIndex.setCapacity(transport.getId(), transporterType,
+                  transportedUnitsSummary.getCurrentTransportCapacity(transporterType));
+        }
+        if (capacityIndex.contains(transport.getId())) {
+            transports.put(transport.getId(), transport);
         }
-    }
-
-    private void addTransporterToCapacityMap(Unit transport, TransporterType transporterType) {
-        double capacity = transport.getTransportedUnitsSummary(campaignTransportType)
-                                .getCurrentTransportCapacity(transporterType);
-        Map<Double, Set<UUID>> capacityMap = transportersMap.getOrDefault(transporterType, new HashMap<>());
-        Set<UUID> unitIds = capacityMap.getOrDefault(capacity, new HashSet<>());
-        unitIds.add(transport.getId());
-        capacityMap.put(capacity, unitIds);
-        transportersMap.put(transporterType, capacityMap);
     }
 
     /**
@@ -95,46 +92,23 @@ public class CampaignTransporterMap {
             removeTransport(transport);
             return;
         }
-        AbstractTransportedUnitsSummary transportedUnitsSummary = transport.getTransportedUnitsSummary(
-              campaignTransportType);
+        Set<TransporterType> transportCapabilities = transport.getTransportedUnitsSummary(campaignTransportType)
+                                                           .getTransportCapabilities();
 
-        // Let's make a list of all the transportTypes in the map, and all the transportTypes the unit has
-        Set<TransporterType> transporterTypes = new HashSet<>();
-        transporterTypes.addAll(transportedUnitsSummary.getTransportCapabilities());
-        transporterTypes.addAll(transportersMap.keySet());
-
-        // Now let's update the current transporterTypes
-        for (TransporterType transporterType : transporterTypes) {
-            if (transportersMap.containsKey(transporterType)) {
-                Set<Double> oldCapacities = transportersMap.get(transporterType).keySet();
-                Double newCapacity = transportedUnitsSummary.getCurrentTransportCapacity(transporterType);
-                // First, if this is a new capacity for the map, let's manually add it
-                if (!oldCapacities.contains(newCapacity)) {
-                    addTransporterToCapacityMap(transport, transporterType);
-                }
-                //Then we iterate through the existing capacities in the map, and either remove or add this transport as needed
-                for (Double capacity : oldCapacities) {
-                    if (transportersMap.get(transporterType).get(capacity).contains(transport.getId())) {
-                        if (!Objects.equals(capacity, newCapacity)) { // If it's correct, we don't need to change it
-                            transportersMap.get(transporterType).get(capacity).remove(transport.getId());
-                        }
-                    } else if (Objects.equals(capacity, newCapacity)) {
-                        addTransporterToCapacityMap(transport, transporterType);
-                    }
-                }
-
-                // Finally, let's remove this from the map & get out if the transport doesn't have this transporterType
-                if (!transportedUnitsSummary.getTransportCapabilities().contains(transporterType)) {
-                    removeTransportFromCapacityMap(transport, transporterType, 0);
-                }
-            } else {
-                addTransporterToCapacityMap(transport, transporterType);
+        // Drop the transporter types the unit no longer has, then record the current capacity of the rest
+        for (TransporterType transporterType : Set.copyOf(capacityIndex.getTransporterTypes(transport.getId()))) {
+            if (!transportCapabilities.contains(transporterType)) {
+                capacityIndex.removeCapacity(transport.getId(), transporterType);
             }
         }
+        addTransporter(transport);
+        if (!capacityIndex.contains(transport.getId())) {
+            transports.remove(transport.getId());
+        }
     }
 
     public boolean hasTransporters() {
-        return !transportersMap.isEmpty();
+        return !capacityIndex.isEmpty();
     }
 
     /**
@@ -146,14 +120,7 @@ public class CampaignTransporterMap {
      */
     @Deprecated(since = "0.51.0", forRemoval = true)
     public boolean hasTransport(Unit unit) {
-        for (TransporterType transporterType : transportersMap.keySet()) {
-            for (Double capacity : transportersMap.get(transporterType).keySet()) {
-                if (transportersMap.get(transporterType).get(capacity).contains(unit.getId())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return capacityIndex.contains(unit.getId());
     }
 
     /**
@@ -162,7 +129,7 @@ public class CampaignTransporterMap {
      * @return units that have space for that transport type
      */
     public Map<TransporterType, Map<Double, Set<UUID>>> getTransporters() {
-        return Collections.unmodifiableMap(transportersMap);
+        return capacityIndex.asMap();
     }
 
     /**
@@ -176,17 +143,29 @@ public class CampaignTransporterMap {
      */
     public Set<Unit> getTransportsByType(TransporterType transporterType, double unitSize) {
         Set<Unit> units = new HashSet<>();
-        Map<Double, Set<UUID>> capacityMap = getTransporters().get(transporterType);
-        for (Double capacity : capacityMap.keySet()) {
-            if (Double.compare(capacity, unitSize) >= 0) {
-                for (UUID uuid : capacityMap.get(capacity)) {
-                    units.add(campaign.getUnit(uuid));
-                }
-            }
+        for (UUID transportId : capacityIndex.getTransportsWithCapacity(transporterType, unitSize)) {
+            units.add(getTransport(transportId));
         }
         return units;
     }
 
+    /**
+     * Returns the transport with the least space left that can still take a unit of the given size. Use this rather
+     * than {@link #getTransportsByType(TransporterType, double)} when any one suitable transport will do.
+     *
+     * @param transporterType class of Transporter
+     * @param unitSize        the size of the unit (usually 1)
+     * @param filter          accepts the transports that may be used
+     *
+     * @return the transport, or {@code null} if no accepted transport has the space
+     */
+    public @Nullable Unit getBestFitTransport(TransporterType transporterType, double unitSize,
+          Predicate<Unit> filter) {
+        UUID transportId = capacityIndex.getBestFit(transporterType, unitSize,
+              id -> filter.test(getTransport(id)));
+        return (transportId == null) ? null : getTransport(transportId);
+    }
+
     /**
      * Deletes an entry from the list of transit-capable transport ships. This gets updated when the unit is removed
      * from the campaign for one reason or another
@@ -194,30 +173,24 @@ public class CampaignTransporterMap {
      * @param transport - The unit we want to remove from this Set
      */
     public void removeTransport(Unit transport) {
-        Map<TransporterType, Double> toRemoveMap = new HashMap<>();
-        for (TransporterType transporterType : transportersMap.keySet()) {
-            for (Double capacity : transportersMap.get(transporterType).keySet()) {
-                if (transportersMap.get(transporterType).get(capacity).contains(transport.getId())) {
-                    toRemoveMap.put(transporterType, capacity);
-                }
-            }
-        }
-
-        for (TransporterType transporterTypeToRemove : toRemoveMap.keySet()) {
-            double capacity = toRemoveMap.get(transporterTypeToRemove);
-            removeTransportFromCapacityMap(transport, transporterTypeToRemove, capacity);
-        }
+        capacityIndex.remove(transport.getId());
+        transports.remove(transport.getId());
     }
 
-    private void removeTransportFromCapacityMap(Unit transport, TransporterType transporterTypeToRemove,
-          double capacity) {
+    /**
+     * @return a copy of the capacity index, for planning several assignments before any is made
+     */
+    TransportCapacityIndex copyCapacityIndex() {
+        return capacityIndex.copy();
+    }
 
-        transportersMap.get(transporterTypeToRemove).get(capacity).remove(transport.getId());
-        if (transportersMap.get(transporterTypeToRemove).get(capacity).isEmpty()) {
-            transportersMap.get(transporterTypeToRemove).remove(capacity);
-        }
-        if (transportersMap.get(transporterTypeToRemove).isEmpty()) {
-            transportersMap.remove(transporterTypeToRemove);
-        }
+    /**
+     * @param transportId the transport's id
+     *
+     * @return the transport, as recorded when it was last added or updated
+     */
+    Unit getTransport(UUID transportId) {
+        Unit transport = transports.get(transportId);
+        return (transport == null) ? campaign.getUnit(transportId) : transport;
     }
 }
@@ -87,6 +87,7 @@ import mekhq.campaign.market.personnelMarket.markets.NewPersonnelMarket;
 import mekhq.campaign.personnel.Bloodname;
 import mekhq.campaign.personnel.InjuryType;
 import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.PersonnelIndex;
 import mekhq.campaign.personnel.PersonnelOptions;
 import mekhq.campaign.personnel.divorce.AbstractDivorce;
 import mekhq.campaign.personnel.enums.PersonnelRole;
@@ -135,6 +136,12 @@ public class ForceHumanResources {
 
     private final LocalPersonnel personnel = new LocalPersonnel();
 
+    /**
+     * Index of {@link #personnel} by role, status, prisoner status, and assigned doctor. Kept up to date by the
+     * {@link Person} setters for those fields.
+     */
+    private final PersonnelIndex personnelIndex = new PersonnelIndex();
+
     /**
      * Transient cache of active personnel lists, keyed by filter options string. Can be null; rebuilt lazily.
      */
@@ -170,10 +177,18 @@ public class ForceHumanResources {
      * @param person A {@link Person} to import into the campaign.
      */
     public void importPerson(Person person) {
-        personnel.put(person.getId(), person);
+        addToRoster(person);
         MekHQ.triggerEvent(new PersonNewEvent(person));
     }
 
+    private void addToRoster(Person person) {
+        Person replaced = personnel.put(person.getId(), person);
+        if ((replaced != null) && (replaced != person)) {
+            personnelIndex.remove(replaced);
+        }
+        personnelIndex.add(person);
+    }
+
     public @Nullable Person getPerson(final UUID id) {
         return personnel.get(id);
     }
@@ -226,25 +241,9 @@ public class ForceHumanResources {
         List<Person> activePersonnel = new ArrayList<>();
 
         for (Person person : getPersonnel()) {
-            PersonnelStatus status = person.getStatus();
-            PrisonerStatus prisonerStatus = person.getPrisonerStatus();
-            boolean isActive = status.isActiveFlexible();
-            boolean isCampFollower = prisonerStatus.isFreeOrBondsman() && status.isCampFollower();
-            boolean isActivePrisoner = person.getPrisonerStatus().isCurrentPrisoner() && isActive;
-
-            if (!isActive) {
-                continue;
-            }
-
-            if (!includeCampFollowers && isCampFollower) {
-                continue;
-            }
-
-            if (!includePrisoners && isActivePrisoner) {
-                continue;
+            if (isActive(person, includePrisoners, includeCampFollowers)) {
+                activePersonnel.add(person);
             }
-
-            activePersonnel.add(person);
         }
 
         if (activePersonnelCache == null) {
@@ -254,6 +253,23 @@ public class ForceHumanResources {
         return activePersonnel;
     }
 
+    /**
+     * Checks whether a person would be included by {@link #getActivePersonnel(boolean, boolean)}.
+     */
+    private static boolean isActive(Person person, boolean includePrisoners, boolean includeCampFollowers) {
+        PersonnelStatus status = person.getStatus();
+        PrisonerStatus prisonerStatus = person.getPrisonerStatus();
+        if (!status.isActiveFlexible()) {
+            return false;
+        }
+
+        if (!includeCampFollowers && prisonerStatus.isFreeOrBondsman() && status.isCampFollower()) {
+            return false;
+        }
+
+        return includePrisoners || !prisonerStatus.isCurrentPrisoner();
+    }
+
     /**
      * Clears the {@code activePersonnelCache} so it's recalculated next time we getActivePersonnel.
      */
@@ -271,7 +287,10 @@ public class ForceHumanResources {
     }
 
     public List<Person> getSalaryEligiblePersonnel() {
-        return getSalaryEligiblePersonnel(getActivePersonnel(false, false));
+        return personnelIndex.getByStatus(PersonnelStatus::isSalaryEligible)
+                     .stream()
+                     .filter(person -> isActive(person, false, false))
+                     .collect(Collectors.toList());
     }
 
     /**
@@ -299,7 +318,11 @@ public class ForceHumanResources {
     }
 
     public List<Person> getActiveDependents() {
-        return getActiveDependents(personnel.values());
+        return personnelIndex.getByRole(PersonnelRole::isDependent)
+                     .stream()
+                     .filter(person -> person.getPrimaryRole().isDependent())
+                     .filter(person -> person.getStatus().isActiveFlexible())
+                     .collect(Collectors.toList());
     }
 
     /**
@@ -314,7 +337,10 @@ public class ForceHumanResources {
     }
 
     public List<Person> getCurrentPrisoners() {
-        return getCurrentPrisoners(getActivePersonnel(true, false));
+        return personnelIndex.getByPrisonerStatus(PrisonerStatus::isCurrentPrisoner)
+                     .stream()
+                     .filter(person -> isActive(person, true, false))
+                     .collect(Collectors.toList());
     }
 
     /**
@@ -323,8 +349,9 @@ public class ForceHumanResources {
      * @return a {@link Person} {@code List} containing prisoner defectors
      */
     public List<Person> getPrisonerDefectors() {
-        return getActivePersonnel(true, false).stream()
-                     .filter(person -> person.getPrisonerStatus().isPrisonerDefector())
+        return personnelIndex.getByPrisonerStatus(PrisonerStatus::isPrisonerDefector)
+                     .stream()
+                     .filter(person -> isActive(person, true, false))
                      .collect(Collectors.toList());
     }
 
@@ -334,7 +361,7 @@ public class ForceHumanResources {
      * @return a {@link Person} {@code List} containing friendly prisoners
      */
     public List<Person> getFriendlyPrisoners() {
-        return getPersonnel().stream().filter(p -> p.getStatus().isPoW()).collect(Collectors.toList());
+        return personnelIndex.getByStatus(PersonnelStatus::isPoW);
     }
 
     /**
@@ -343,7 +370,7 @@ public class ForceHumanResources {
      * @return a {@link Person} {@code List} containing students
      */
     public List<Person> getStudents() {
-        return getPersonnel().stream().filter(p -> p.getStatus().isStudent()).collect(Collectors.toList());
+        return personnelIndex.getByStatus(PersonnelStatus::isStudent);
     }
 
     public static List<Person> getDoctors(Collection<Person> people) {
@@ -351,7 +378,11 @@ public class ForceHumanResources {
     }
 
     public List<Person> getDoctors() {
-        return getDoctors(getActivePersonnel(false, false));
+        return personnelIndex.getByRole(PersonnelRole::isDoctor)
+                     .stream()
+                     .filter(person -> isActive(person, false, false))
+                     .filter(Person::isDoctor)
+                     .collect(Collectors.toList());
     }
 
     public static List<Person> getPatients(Collection<Person> people) {
@@ -378,9 +409,8 @@ public class ForceHumanResources {
 
     public int getPatientsFor(Person doctor) {
         int patients = 0;
-        UUID doctorId = doctor.getId();
-        for (Person person : getActivePersonnel(true, true)) {
-            if ((null != person.getDoctorId()) && person.getDoctorId().equals(doctorId)) {
+        for (Person person : personnelIndex.getPatientsOf(doctor.getId())) {
+            if (isActive(person, true, true)) {
                 patients++;
             }
         }
@@ -388,10 +418,8 @@ public class ForceHumanResources {
     }
 
     public void removeAllPatientsFor(Person doctor, CampaignOptions campaignOptions) {
-        for (Person person : getPersonnel()) {
-            if (null != person.getDoctorId() && person.getDoctorId().equals(doctor.getId())) {
-                person.setDoctorId(null, campaignOptions.get(CampaignOption.NATURAL_HEALING_WAITING_PERIOD));
-            }
+        for (Person person : personnelIndex.getPatientsOf(doctor.getId())) {
+            person.setDoctorId(null, campaignOptions.get(CampaignOption.NATURAL_HEALING_WAITING_PERIOD));
         }
     }
 
@@ -400,7 +428,10 @@ public class ForceHumanResources {
     }
 
     public List<Person> getAdmins() {
-        return getAdmins(getActivePersonnel(false, false));
+        return personnelIndex.getByRole(PersonnelRole::isAdministrator)
+                     .stream()
+                     .filter(person -> isActive(person, false, false))
+                     .collect(Collectors.toList());
     }
 
 
@@ -1515,42 +1546,55 @@ public class ForceHumanResources {
                 continue;
             }
 
-            String nodeName = childNode.getNodeName();
-            try {
-                if (nodeName.equalsIgnoreCase("asTechPool") || nodeName.equalsIgnoreCase("astechPool")) {
-                    hr.asTechPool = MathUtility.parseInt(childNode.getTextContent().trim());
-                } else if (nodeName.equalsIgnoreCase("asTechPoolMinutes") ||
-                                 nodeName.equalsIgnoreCase("astechPoolMinutes")) {
-                    hr.asTechPoolMinutes = MathUtility.parseInt(
-                          childNode.getTextContent().trim());
-                } else if (nodeName.equalsIgnoreCase("asTechPoolOvertime") ||
-                                 nodeName.equalsIgnoreCase("astechPoolOvertime")) {
-                    hr.asTechPoolOvertime = MathUtility.parseInt(
-                          childNode.getTextContent().trim());
-                } else if (nodeName.equalsIgnoreCase("medicPool")) {
-                    hr.medicPool = MathUtility.parseInt(childNode.getTextContent().trim());
-                } else if (nodeName.equalsIgnoreCase("tempCrewPools")) {
-                    parseTempCrewPools(hr, childNode);
-                } else if (nodeName.equalsIgnoreCase("personnelWhoAdvancedInXP")) {
-                    hr.personnelWhoAdvancedInXP = parsePersonnelWhoAdvancedInXP(childNode, campaign);
-                } else if (nodeName.equalsIgnoreCase("personnel")) {
-                    InjuryTypes.registerAll();
-                    LocalPersonnel.loadFromXML(childNode, campaign, version);
-                } else if (nodeName.equalsIgnoreCase("personnelMarket")) {
-                    hr.personnelMarket = PersonnelMarket.generateInstanceFromXML(childNode, campaign, version);
-                } else if (nodeName.equalsIgnoreCase("retirementDefectionTracker")) {
-                    hr.retirementDefectionTracker = RetirementDefectionTracker.generateInstanceFromXML(childNode,
-                          campaign);
-                }
-            } catch (Exception e) {
-                LOGGER.error("Error loading humanResources child node '{}'", nodeName, e);
-            }
+            loadChildFromXML(hr, childNode, campaign, version);
         }
 
         LOGGER.info("Load HumanResources from XML complete.");
         return hr;
     }
 
+    /**
+     * Parses a single child element of a {@code <humanResources>} node into {@code hr}. Errors are logged rather than
+     * thrown so one bad child does not prevent the rest of the node from loading.
+     *
+     * @param hr        the {@link ForceHumanResources} being loaded
+     * @param childNode the child element
+     * @param campaign  the campaign (for context during personnel parsing)
+     * @param version   the save file version
+     */
+    public static void loadChildFromXML(ForceHumanResources hr, Node childNode, Campaign campaign, Version version) {
+        String nodeName = childNode.getNodeName();
+        try {
+            if (nodeName.equalsIgnoreCase("asTechPool") || nodeName.equalsIgnoreCase("astechPool")) {
+                hr.asTechPool = MathUtility.parseInt(childNode.getTextContent().trim());
+            } else if (nodeName.equalsIgnoreCase("asTechPoolMinutes") ||
+                             nodeName.equalsIgnoreCase("astechPoolMinutes")) {
+                hr.asTechPoolMinutes = MathUtility.parseInt(
+                      childNode.getTextContent().trim());
+            } else if (nodeName.equalsIgnoreCase("asTechPoolOvertime") ||
+                             nodeName.equalsIgnoreCase("astechPoolOvertime")) {
+                hr.asTechPoolOvertime = MathUtility.parseInt(
+                      childNode.getTextContent().trim());
+            } else if (nodeName.equalsIgnoreCase("medicPool")) {
+                hr.medicPool = MathUtility.parseInt(childNode.getTextContent().trim());
+            } else if (nodeName.equalsIgnoreCase("tempCrewPools")) {
+                parseTempCrewPools(hr, childNode);
+            } else if (nodeName.equalsIgnoreCase("personnelWhoAdvancedInXP")) {
+                hr.personnelWhoAdvancedInXP = parsePersonnelWhoAdvancedInXP(childNode, campaign);
+            } else if (nodeName.equalsIgnoreCase("personnel")) {
+                InjuryTypes.registerAll();
+                LocalPersonnel.loadFromXML(childNode, campaign, version);
+            } else if (nodeName.equalsIgnoreCase("personnelMarket")) {
+                hr.personnelMarket = PersonnelMarket.generateInstanceFromXML(childNode, campaign, version);
+            } else if (nodeName.equalsIgnoreCase("retirementDefectionTracker")) {
+                hr.retirementDefectionTracker = RetirementDefectionTracker.generateInstanceFromXML(childNode,
+                      campaign);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Error loading humanResources child node '{}'", nodeName, e);
+        }
+    }
+
 
     /**
      * Returns the best procurement character from {@code people} given the campaign's acquisition settings.
@@ -2296,7 +2340,7 @@ public class ForceHumanResources {
 
         if (!personnel.containsKey(person.getId())) {
             person.setJoinedCampaign(currentDay);
-            personnel.put(person.getId(), person);
+            addToRoster(person);
             person.setParent(campaign.getPlayerForce().getPersonnel());
 
             if (!bypassSimulateRelationships && campaign.getCampaignOptions().get(CampaignOption.USE_SIMULATED_RELATIONSHIPS)) {
@@ -2423,7 +2467,10 @@ public class ForceHumanResources {
                   person.getFullTitle() + " has been removed from the personnel roster.");
         }
 
-        personnel.remove(person.getId());
+        Person removed = personnel.remove(person.getId());
+        if (removed != null) {
+            personnelIndex.remove(removed);
+        }
         person.setParent(null);
 
         if (person.isAstech()) {
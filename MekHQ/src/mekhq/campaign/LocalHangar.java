@@ -58,6 +58,7 @@ import mekhq.utilities.MHQXMLUtility;
 public class LocalHangar implements ILocation {
     private final Map<UUID, Unit> units = new LinkedHashMap<>();
     private final LocationNode locationNode = new LocationNode(this);
+    private int modificationCount = 0;
 
     @Override
     public @Nonnull LocationNode getLocationNode() {
@@ -86,6 +87,15 @@ public class LocalHangar implements ILocation {
 
         units.put(unit.getId(), unit);
         unit.setParent(this);
+        modificationCount++;
+    }
+
+    /**
+     * @return A count which changes whenever a unit is added to or removed from the hangar, so indexes over its units
+     *       can tell when they need to be brought up to date.
+     */
+    public int getModificationCount() {
+        return modificationCount;
     }
 
     /**
@@ -189,6 +199,7 @@ public class LocalHangar implements ILocation {
         Unit unit = units.remove(id);
         if (unit != null) {
             unit.setParent(null);
+            modificationCount++;
         }
         return unit != null;
     }
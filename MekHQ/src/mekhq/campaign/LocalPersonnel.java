@@ -89,14 +89,22 @@ public class LocalPersonnel extends LinkedHashMap<UUID, Person> implements ILoca
             if (wn2.getNodeType() != Node.ELEMENT_NODE) {
                 continue;
             }
-            if (!wn2.getNodeName().equalsIgnoreCase("person")) {
-                logger.warn("Unknown node type not loaded in Personnel nodes: {}", wn2.getNodeName());
-                continue;
-            }
-            Person p = Person.generateInstanceFromXML(wn2, campaign, version);
-            if (p != null) {
-                campaign.importPerson(p);
-            }
+            loadPersonFromXML(wn2, campaign, version);
+        }
+    }
+
+    /**
+     * Parses a single {@code <person>} XML node and imports it into {@code campaign} via
+     * {@link Campaign#importPerson(Person)}.
+     */
+    public static void loadPersonFromXML(Node wn, Campaign campaign, Version version) {
+        if (!wn.getNodeName().equalsIgnoreCase("person")) {
+            logger.warn("Unknown node type not loaded in Personnel nodes: {}", wn.getNodeName());
+            return;
+        }
+        Person p = Person.generateInstanceFromXML(wn, campaign, version);
+        if (p != null) {
+            campaign.importPerson(p);
         }
     }
 }
@@ -35,7 +35,9 @@ package mekhq.campaign;
 import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 import java.util.function.Consumer;
@@ -66,6 +68,17 @@ public class LocalWarehouse implements ILocation {
     private final LocationNode locationNode = new LocationNode(this);
     private final TreeMap<Integer, Part> parts = new TreeMap<>();
 
+    /**
+     * Secondary index of the parts in the warehouse, bucketed by {@link Part#getPartTypeKey()}. Each bucket is ordered
+     * by part ID so lookups return the same part a full scan of {@link #parts} would.
+     */
+    private final Map<Object, TreeMap<Integer, Part>> partsByTypeKey = new HashMap<>();
+
+    /**
+     * The type key each part was indexed under, so it can be unindexed by ID.
+     */
+    private final Map<Integer, Object> partTypeKeys = new HashMap<>();
+
     @Override
     public @Nonnull LocationNode getLocationNode() {
         return locationNode;
@@ -123,7 +136,11 @@ public class LocalWarehouse implements ILocation {
         // Is this a part we've never tracked before?
         boolean isNewPart = !parts.containsKey(part.getId());
 
-        parts.put(part.getId(), part);
+        Part previousPart = parts.put(part.getId(), part);
+        if (previousPart != null) {
+            unindexPart(part.getId());
+        }
+        indexPart(part);
         part.setParent(this);
 
         if (isNewPart) {
@@ -178,6 +195,7 @@ public class LocalWarehouse implements ILocation {
         boolean didRemove = (parts.remove(part.getId()) != null);
 
         if (didRemove) {
+            unindexPart(part.getId());
             part.setParent(null);
             MekHQ.triggerEvent(new PartRemovedEvent(part));
         }
@@ -298,9 +316,9 @@ public class LocalWarehouse implements ILocation {
             return null;
         }
 
-        return findSparePart(spare ->
-                                   (spare.getId() != part.getId())
-                                         && part.isSamePartTypeAndStatus(spare));
+        return findSparePartOfType(part, spare ->
+                                               (spare.getId() != part.getId())
+                                                     && part.isSamePartTypeAndStatus(spare));
     }
 
     /**
@@ -335,9 +353,9 @@ public class LocalWarehouse implements ILocation {
             return checkForExistingSparePart(part);
         }
 
-        return findSparePart(spare -> (spare.getId() != part.getId()) &&
-                                            part.isSamePartTypeAndStatus(spare) &&
-                                            (part.isBrandNew() == spare.isBrandNew()));
+        return findSparePartOfType(part, spare -> (spare.getId() != part.getId()) &&
+                                                        part.isSamePartTypeAndStatus(spare) &&
+                                                        (part.isBrandNew() == spare.isBrandNew()));
     }
 
     /**
@@ -356,8 +374,13 @@ public class LocalWarehouse implements ILocation {
     }
 
     public int getSparePartsCount(Part targetPart) {
+        TreeMap<Integer, Part> bucket = partsByTypeKey.get(getIndexKey(targetPart));
+        if (bucket == null) {
+            return 0;
+        }
+
         int count = 0;
-        for (Part warehousePart : getParts()) {
+        for (Part warehousePart : bucket.values()) {
             if (warehousePart.isSamePartType(targetPart)) {
                 count += getPartQuantity(warehousePart, true);
             }
@@ -424,6 +447,66 @@ public class LocalWarehouse implements ILocation {
         return null;
     }
 
+    /**
+     * Finds the first spare part matching a predicate, only considering parts which share a part type key with the
+     * given part. The predicate must not match any part which is not the same part type as {@code part}.
+     *
+     * @param part      The part whose type key selects the parts to search.
+     * @param predicate The predicate to use when searching for a suitable spare part.
+     *
+     * @return A matching spare {@link Part} or {@code null} if no suitable match was found.
+     */
+    private @Nullable Part findSparePartOfType(Part part, Predicate<Part> predicate) {
+        TreeMap<Integer, Part> bucket = partsByTypeKey.get(getIndexKey(part));
+        if (bucket == null) {
+            return null;
+        }
+
+        for (Part spare : bucket.values()) {
+            if (spare.isSpare() && predicate.test(spare)) {
+                return spare;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a part to the part type index. The part must already have its ID assigned.
+     *
+     * @param part The part to index.
+     */
+    private void indexPart(Part part) {
+        Object key = getIndexKey(part);
+        partTypeKeys.put(part.getId(), key);
+        partsByTypeKey.computeIfAbsent(key, k -> new TreeMap<>()).put(part.getId(), part);
+    }
+
+    /**
+     * Removes a part from the part type index.
+     *
+     * @param id The ID the part was indexed under.
+     */
+    private void unindexPart(int id) {
+        Object key = partTypeKeys.remove(id);
+        if (key == null) {
+            return;
+        }
+
+        TreeMap<Integer, Part> bucket = partsByTypeKey.get(key);
+        if (bucket != null) {
+            bucket.remove(id);
+            if (bucket.isEmpty()) {
+                partsByTypeKey.remove(key);
+            }
+        }
+    }
+
+    private static Object getIndexKey(Part part) {
+        // Fall back to the class for parts which do not provide a key
+        Object key = part.getPartTypeKey();
+        return (key != null) ? key : part.getClass();
+    }
+
     /**
      * Streams the spare parts in the campaign.
      *
@@ -0,0 +1,322 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import megamek.common.annotations.Nullable;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+/**
+ * Records how long each phase of {@link CampaignNewDayManager#newDay()} takes, so slow days can be traced back to the
+ * phase responsible.
+ *
+ * <p>{@code newDay()} asks for a {@link Recorder} at the start of every day and marks the end of each named phase on
+ * it. For every phase the recorder stores the wall time, the bytes allocated by the advancing thread (where the JVM
+ * supports it), and the size of the roster, hangar and warehouse once the phase finished. The last
+ * {@link #DEFAULT_HISTORY_DAYS} completed days are kept for the Developer Tools summary and the CSV export.</p>
+ *
+ * <p>Profiling is off unless enabled from the Developer Tools dialog or by starting MekHQ with
+ * {@code -Dmekhq.profileNewDay=true}. While it is off, {@link #startDay(Campaign)} hands out a shared recorder whose
+ * methods do nothing, so the instrumentation in {@code newDay()} costs a field read per day.</p>
+ */
+public final class NewDayProfiler {
+    public static final int DEFAULT_HISTORY_DAYS = 60;
+
+    private static final NewDayProfiler INSTANCE = new NewDayProfiler(DEFAULT_HISTORY_DAYS,
+          Boolean.getBoolean("mekhq.profileNewDay"));
+
+    private static final @Nullable com.sun.management.ThreadMXBean ALLOCATION_BEAN = findAllocationBean();
+
+    private final int historyDays;
+    private final Deque<DayProfile> history = new ArrayDeque<>();
+    private volatile boolean enabled;
+
+    /**
+     * A single phase of one day.
+     *
+     * @param phase          the phase name
+     * @param wallNanos      the wall time the phase took, in nanoseconds
+     * @param allocatedBytes the bytes the advancing thread allocated during the phase, or -1 if the JVM cannot
+     *                       measure it
+     * @param counts         the campaign's entity counts once the phase finished
+     */
+    public record PhaseSample(String phase, long wallNanos, long allocatedBytes, EntityCounts counts) {
+    }
+
+    /**
+     * All the phases of one completed day, in the order they ran.
+     */
+    public record DayProfile(LocalDate date, List<PhaseSample> phases) {
+        public long totalNanos() {
+            long total = 0;
+            for (PhaseSample phase : phases) {
+                total += phase.wallNanos();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * The number of people, units and parts with the player force.
+     */
+    public record EntityCounts(int personnel, int units, int parts) {
+        public static EntityCounts of(Campaign campaign) {
+            return new EntityCounts(campaign.getPlayerForce().getHumanResources().getPersonnel().size(),
+                  campaign.getPlayerForce().getHangar().getUnits().size(),
+                  campaign.getPlayerForce().getWarehouse().getParts().size());
+        }
+    }
+
+    /**
+     * One phase aggregated over every day in the history.
+     *
+     * @param phase                  the phase name
+     * @param samples                the number of days the phase ran on
+     * @param meanMillis             the mean wall time, in milliseconds
+     * @param maxMillis              the longest wall time, in milliseconds
+     * @param lastMillis             the wall time on the most recent day the phase ran, in milliseconds
+     * @param meanAllocatedMegabytes the mean allocation, in megabytes, or -1 if it could not be measured
+     */
+    public record PhaseSummary(String phase, int samples, double meanMillis, double maxMillis, double lastMillis,
+          double meanAllocatedMegabytes) {
+    }
+
+    /**
+     * Marks the phase boundaries of a single day. Recorders are used by the thread advancing the day only.
+     */
+    public static class Recorder {
+        private static final Recorder DISABLED = new Recorder();
+
+        private Recorder() {
+        }
+
+        /**
+         * Ends the current phase, which started at the previous mark or when the recorder was created.
+         *
+         * @param phase the name of the phase that just finished
+         */
+        public void mark(String phase) {
+        }
+
+        /**
+         * Completes the day and adds it to the profiler's history. Days which are never finished, such as those
+         * cancelled by a {@code DayEndingEvent}, are not recorded.
+         *
+         * @param date the day that was advanced to
+         */
+        public void finish(LocalDate date) {
+        }
+    }
+
+    private static final class ActiveRecorder extends Recorder {
+        private final NewDayProfiler profiler;
+        private final Supplier<EntityCounts> countSource;
+        private final List<PhaseSample> phases = new ArrayList<>();
+        private long phaseStartNanos;
+        private long phaseStartAllocatedBytes;
+
+        private ActiveRecorder(NewDayProfiler profiler, Supplier<EntityCounts> countSource) {
+            this.profiler = profiler;
+            this.countSource = countSource;
+            phaseStartAllocatedBytes = currentThreadAllocatedBytes();
+            phaseStartNanos = System.nanoTime();
+        }
+
+        @Override
+        public void mark(String phase) {
+            long now = System.nanoTime();
+            long allocatedBytes = currentThreadAllocatedBytes();
+            long allocated = (allocatedBytes < 0) ? -1 : (allocatedBytes - phaseStartAllocatedBytes);
+            phases.add(new PhaseSample(phase, now - phaseStartNanos, allocated, countSource.get()));
+
+            // The entity counts are not part of the next phase
+            phaseStartAllocatedBytes = currentThreadAllocatedBytes();
+            phaseStartNanos = System.nanoTime();
+        }
+
+        @Override
+        public void finish(LocalDate date) {
+            profiler.record(new DayProfile(date, List.copyOf(phases)));
+        }
+    }
+
+    NewDayProfiler(int historyDays, boolean enabled) {
+        this.historyDays = Math.max(1, historyDays);
+        this.enabled = enabled;
+    }
+
+    public static NewDayProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return a recorder for the day about to be advanced, which does nothing if profiling is disabled
+     */
+    public Recorder startDay(Campaign campaign) {
+        return startDay(() -> EntityCounts.of(campaign));
+    }
+
+    Recorder startDay(Supplier<EntityCounts> countSource) {
+        return enabled ? new ActiveRecorder(this, countSource) : Recorder.DISABLED;
+    }
+
+    private synchronized void record(DayProfile day) {
+        history.addLast(day);
+        while (history.size() > historyDays) {
+            history.removeFirst();
+        }
+    }
+
+    /**
+     * @return the recorded days, oldest first
+     */
+    public synchronized List<DayProfile> getHistory() {
+        return List.copyOf(history);
+    }
+
+    public synchronized void clear() {
+        history.clear();
+    }
+
+    /**
+     * Aggregates every phase over the recorded days, in the order the phases first ran.
+     */
+    public synchronized List<PhaseSummary> getSummary() {
+        Map<String, List<PhaseSample>> samplesByPhase = new LinkedHashMap<>();
+        for (DayProfile day : history) {
+            for (PhaseSample sample : day.phases()) {
+                samplesByPhase.computeIfAbsent(sample.phase(), phase -> new ArrayList<>()).add(sample);
+            }
+        }
+
+        List<PhaseSummary> summaries = new ArrayList<>(samplesByPhase.size());
+        for (Map.Entry<String, List<PhaseSample>> entry : samplesByPhase.entrySet()) {
+            List<PhaseSample> samples = entry.getValue();
+            long totalNanos = 0;
+            long maxNanos = 0;
+            long totalAllocated = 0;
+            boolean allocationMeasured = true;
+            for (PhaseSample sample : samples) {
+                totalNanos += sample.wallNanos();
+                maxNanos = Math.max(maxNanos, sample.wallNanos());
+                if (sample.allocatedBytes() < 0) {
+                    allocationMeasured = false;
+                } else {
+                    totalAllocated += sample.allocatedBytes();
+                }
+            }
+
+            summaries.add(new PhaseSummary(entry.getKey(),
+                  samples.size(),
+                  toMillis(totalNanos) / samples.size(),
+                  toMillis(maxNanos),
+                  toMillis(samples.get(samples.size() - 1).wallNanos()),
+                  allocationMeasured ? (totalAllocated / (1024.0 * 1024.0)) / samples.size() : -1));
+        }
+        return summaries;
+    }
+
+    /**
+     * Writes every recorded phase of every recorded day to a CSV file, one row per phase.
+     *
+     * @param path the file to write
+     *
+     * @return the number of days written
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public int exportToCSV(Path path) throws IOException {
+        List<DayProfile> days = getHistory();
+        try (BufferedWriter writer = Files.newBufferedWriter(path);
+              CSVPrinter csvPrinter = new CSVPrinter(writer,
+                    CSVFormat.DEFAULT.builder()
+                          .setHeader("Date", "Phase", "WallMillis", "AllocatedBytes", "Personnel", "Units", "Parts")
+                          .get())) {
+            for (DayProfile day : days) {
+                for (PhaseSample sample : day.phases()) {
+                    csvPrinter.printRecord(day.date(),
+                          sample.phase(),
+                          String.format(Locale.ROOT, "%.3f", toMillis(sample.wallNanos())),
+                          sample.allocatedBytes(),
+                          sample.counts().personnel(),
+                          sample.counts().units(),
+                          sample.counts().parts());
+                }
+            }
+            csvPrinter.flush();
+        }
+        return days.size();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        return (ALLOCATION_BEAN == null) ? -1 : ALLOCATION_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    private static @Nullable com.sun.management.ThreadMXBean findAllocationBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if ((threadBean instanceof com.sun.management.ThreadMXBean allocationBean)
+                  && allocationBean.isThreadAllocatedMemorySupported()
+                  && allocationBean.isThreadAllocatedMemoryEnabled()) {
+            return allocationBean;
+        }
+        return null;
+    }
+}
@@ -60,7 +60,6 @@ import megamek.common.event.PostGameResolution;
 import megamek.common.interfaces.IEntityRemovalConditions;
 import megamek.common.loaders.EntityLoadingException;
 import megamek.common.loaders.MULParser;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.options.OptionsConstants;
@@ -100,6 +99,7 @@ import mekhq.campaign.universe.Faction;
 import mekhq.gui.FileDialogs;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogNotification;
 import mekhq.gui.dialog.camOpsSalvage.SalvagePostScenarioPicker;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.ReportingUtilities;
 
 /**
@@ -2367,9 +2367,9 @@ public class ResolveScenarioTracker {
             if (null != summary) {
                 try {
                     entity = unit.getEntity() == null ?
-                                   new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity() :
+                                   EntityFactory.getInstance().getEntity(summary) :
                                    unit.getEntity();
-                    baseEntity = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+                    baseEntity = EntityFactory.getInstance().getEntity(summary);
                 } catch (EntityLoadingException e) {
                     logger.error("", e);
                 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+
+import megamek.common.units.Entity;
+import mekhq.campaign.enums.CampaignTransportType;
+import mekhq.campaign.unit.Unit;
+import mekhq.campaign.unit.enums.TransporterType;
+import mekhq.campaign.utilities.CampaignTransportUtilities;
+
+/**
+ * Plans transport assignments for many units at once, so a whole regiment can be loaded in one pass rather than one
+ * menu selection per unit.
+ *
+ * <p>Loading units into transports is a bin packing problem, which this solves with the best fit decreasing
+ * heuristic: the units needing the most space are placed first, each into the transport with the least room left that
+ * still fits it. This keeps the large gaps free for the large units that need them. The plan is worked out against a
+ * copy of the transports' remaining capacities, so nothing is assigned until it is applied.</p>
+ *
+ * @see CampaignTransporterMap
+ */
+public final class TransportAssignmentPlanner {
+
+    /**
+     * Units to load into one transporter type of one transport.
+     *
+     * @param transport       the transport
+     * @param transporterType the type of transporter to load them into
+     * @param units           the units, in the order they were placed
+     */
+    public record Assignment(Unit transport, TransporterType transporterType, Set<Unit> units) {
+    }
+
+    /**
+     * The result of planning.
+     *
+     * @param assignments   the assignments to make, grouped by transport and transporter type
+     * @param unplacedUnits the units no transport had room for
+     */
+    public record Plan(List<Assignment> assignments, List<Unit> unplacedUnits) {
+        /**
+         * @return the number of units the plan places
+         */
+        public int getPlacedUnitCount() {
+            return assignments.stream().mapToInt(assignment -> assignment.units().size()).sum();
+        }
+    }
+
+    /**
+     * A unit to place, with the space it needs in each transporter type that could carry it.
+     */
+    private record Candidate(Unit unit, Map<TransporterType, Double> capacityUsage, double largestUsage) {
+    }
+
+    private record AssignmentKey(UUID transportId, TransporterType transporterType) {
+    }
+
+    private TransportAssignmentPlanner() {
+    }
+
+    /**
+     * Plans where to load the given units.
+     *
+     * @param campaignTransportType the type of transport to plan
+     * @param transporters          the campaign's transports of that type
+     * @param units                 the units to load
+     * @param canLoad               accepts a transport and a unit when the unit may be loaded into that transport
+     *
+     * @return the plan
+     */
+    static Plan plan(CampaignTransportType campaignTransportType, CampaignTransporterMap transporters,
+          Collection<Unit> units, BiPredicate<Unit, Unit> canLoad) {
+        TransportCapacityIndex remainingCapacity = transporters.copyCapacityIndex();
+        Set<TransporterType> availableTypes = transporters.getTransporters().keySet();
+
+        List<Candidate> candidates = new ArrayList<>();
+        List<Unit> unplacedUnits = new ArrayList<>();
+        for (Unit unit : units) {
+            Entity entity = unit.getEntity();
+            Map<TransporterType, Double> capacityUsage = new EnumMap<>(TransporterType.class);
+            if (entity != null) {
+                for (TransporterType transporterType :
+                      CampaignTransportUtilities.mapICarryableToTransporters(campaignTransportType, entity)) {
+                    if (availableTypes.contains(transporterType)) {
+                        capacityUsage.put(transporterType,
+                              CampaignTransportUtilities.transportCapacityUsage(transporterType, entity));
+                    }
+                }
+            }
+
+            if (capacityUsage.isEmpty()) {
+                unplacedUnits.add(unit);
+            } else {
+                double largestUsage = capacityUsage.values().stream().mapToDouble(Double::doubleValue).max()
+                                            .orElse(0.0);
+                candidates.add(new Candidate(unit, capacityUsage, largestUsage));
+            }
+        }
+
+        // Largest first; the sort is stable, so equally sized units keep the order they were given in
+        candidates.sort(Comparator.comparingDouble(Candidate::largestUsage).reversed());
+
+        Map<AssignmentKey, Set<Unit>> placements = new LinkedHashMap<>();
+        for (Candidate candidate : candidates) {
+            boolean isPlaced = false;
+            for (Map.Entry<TransporterType, Double> usage : candidate.capacityUsage().entrySet()) {
+                TransporterType transporterType = usage.getKey();
+                double required = usage.getValue();
+                UUID transportId = remainingCapacity.getBestFit(transporterType, required,
+                      id -> canLoad.test(transporters.getTransport(id), candidate.unit()));
+                if (transportId != null) {
+                    remainingCapacity.setCapacity(transportId, transporterType,
+                          remainingCapacity.getCapacity(transportId, transporterType) - required);
+                    placements.computeIfAbsent(new AssignmentKey(transportId, transporterType),
+                          key -> new LinkedHashSet<>()).add(candidate.unit());
+                    isPlaced = true;
+                    break;
+                }
+            }
+            if (!isPlaced) {
+                unplacedUnits.add(candidate.unit());
+            }
+        }
+
+        List<Assignment> assignments = new ArrayList<>();
+        placements.forEach((key, placedUnits) -> assignments.add(
+              new Assignment(transporters.getTransport(key.transportId()), key.transporterType(), placedUnits)));
+        return new Plan(assignments, unplacedUnits);
+    }
+}
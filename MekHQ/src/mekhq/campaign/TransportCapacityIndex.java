@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.unit.enums.TransporterType;
+
+/**
+ * The remaining capacity of a set of transports, per transporter type, ordered by capacity so that finding the
+ * transports with at least some amount of space free takes one tree lookup rather than a scan of every capacity.
+ *
+ * <p>A reverse index from each transport to its capacities means moving or removing a transport touches only the
+ * buckets it is actually in.</p>
+ *
+ * @see CampaignTransporterMap
+ */
+final class TransportCapacityIndex {
+    private final Map<TransporterType, NavigableMap<Double, Set<UUID>>> transportsByCapacity =
+          new EnumMap<>(TransporterType.class);
+    private final Map<UUID, Map<TransporterType, Double>> capacitiesByTransport = new HashMap<>();
+
+    /**
+     * Creates a copy of this index, which can be changed without affecting this one.
+     *
+     * @return the copy
+     */
+    TransportCapacityIndex copy() {
+        TransportCapacityIndex copy = new TransportCapacityIndex();
+        capacitiesByTransport.forEach((transportId, capacities) -> capacities.forEach(
+              (transporterType, capacity) -> copy.setCapacity(transportId, transporterType, capacity)));
+        return copy;
+    }
+
+    /**
+     * Records the remaining capacity of one of a transport's transporter types, moving it out of the bucket for its
+     * previous capacity.
+     *
+     * @param transportId     the transport
+     * @param transporterType the type of transporter
+     * @param capacity        its remaining capacity
+     */
+    void setCapacity(UUID transportId, TransporterType transporterType, double capacity) {
+        Map<TransporterType, Double> capacities = capacitiesByTransport.computeIfAbsent(transportId,
+              id -> new EnumMap<>(TransporterType.class));
+        Double oldCapacity = capacities.put(transporterType, capacity);
+        if (oldCapacity != null) {
+            if (oldCapacity.equals(capacity)) {
+                return;
+            }
+            removeFromBucket(transportId, transporterType, oldCapacity);
+        }
+        transportsByCapacity.computeIfAbsent(transporterType, type -> new TreeMap<>())
+              .computeIfAbsent(capacity, bucketCapacity -> new LinkedHashSet<>())
+              .add(transportId);
+    }
+
+    /**
+     * Drops one transporter type of a transport from the index.
+     *
+     * @param transportId     the transport
+     * @param transporterType the type of transporter it no longer has
+     */
+    void removeCapacity(UUID transportId, TransporterType transporterType) {
+        Map<TransporterType, Double> capacities = capacitiesByTransport.get(transportId);
+        if (capacities == null) {
+            return;
+        }
+        Double capacity = capacities.remove(transporterType);
+        if (capacity != null) {
+            removeFromBucket(transportId, transporterType, capacity);
+        }
+        if (capacities.isEmpty()) {
+            capacitiesByTransport.remove(transportId);
+        }
+    }
+
+    /**
+     * Drops a transport from the index.
+     *
+     * @param transportId the transport
+     */
+    void remove(UUID transportId) {
+        Map<TransporterType, Double> capacities = capacitiesByTransport.remove(transportId);
+        if (capacities != null) {
+            capacities.forEach((transporterType, capacity) -> removeFromBucket(transportId, transporterType,
+                  capacity));
+        }
+    }
+
+    private void removeFromBucket(UUID transportId, TransporterType transporterType, Double capacity) {
+        NavigableMap<Double, Set<UUID>> buckets = transportsByCapacity.get(transporterType);
+        Set<UUID> bucket = buckets.get(capacity);
+        bucket.remove(transportId);
+        if (bucket.isEmpty()) {
+            buckets.remove(capacity);
+            if (buckets.isEmpty()) {
+                transportsByCapacity.remove(transporterType);
+            }
+        }
+    }
+
+    boolean contains(UUID transportId) {
+        return capacitiesByTransport.containsKey(transportId);
+    }
+
+    boolean isEmpty() {
+        return capacitiesByTransport.isEmpty();
+    }
+
+    /**
+     * @param transportId the transport
+     *
+     * @return the transporter types recorded for the transport
+     */
+    Set<TransporterType> getTransporterTypes(UUID transportId) {
+        Map<TransporterType, Double> capacities = capacitiesByTransport.get(transportId);
+        return (capacities == null) ? Set.of() : Collections.unmodifiableSet(capacities.keySet());
+    }
+
+    /**
+     * @param transportId     the transport
+     * @param transporterType the type of transporter
+     *
+     * @return the recorded remaining capacity, or {@code null} if the transport doesn't have that transporter type
+     */
+    @Nullable Double getCapacity(UUID transportId, TransporterType transporterType) {
+        Map<TransporterType, Double> capacities = capacitiesByTransport.get(transportId);
+        return (capacities == null) ? null : capacities.get(transporterType);
+    }
+
+    /**
+     * @return a read-only view mapping each transporter type to its transports, keyed by remaining capacity
+     */
+    Map<TransporterType, Map<Double, Set<UUID>>> asMap() {
+        return Collections.unmodifiableMap(transportsByCapacity);
+    }
+
+    /**
+     * Lists the transports with at least the given capacity free in a type of transporter.
+     *
+     * @param transporterType the type of transporter
+     * @param minimumCapacity the capacity needed
+     *
+     * @return the transports, least remaining capacity first
+     */
+    List<UUID> getTransportsWithCapacity(TransporterType transporterType, double minimumCapacity) {
+        List<UUID> transportIds = new ArrayList<>();
+        NavigableMap<Double, Set<UUID>> buckets = transportsByCapacity.get(transporterType);
+        if (buckets != null) {
+            for (Set<UUID> bucket : buckets.tailMap(minimumCapacity, true).values()) {
+                transportIds.addAll(bucket);
+            }
+        }
+        return transportIds;
+    }
+
+    /**
+     * Finds the transport that is the tightest fit for the given capacity: the accepted transport with the least
+     * remaining capacity that is still at least {@code minimumCapacity}. Transports with the same capacity are tried in
+     * the order they were given that capacity.
+     *
+     * @param transporterType the type of transporter
+     * @param minimumCapacity the capacity needed
+     * @param filter          accepts the transports that may be used
+     *
+     * @return the transport, or {@code null} if none has the room
+     */
+    @Nullable UUID getBestFit(TransporterType transporterType, double minimumCapacity, Predicate<UUID> filter) {
+        NavigableMap<Double, Set<UUID>> buckets = transportsByCapacity.get(transporterType);
+        if (buckets == null) {
+            return null;
+        }
+        for (Map.Entry<Double, Set<UUID>> entry = buckets.ceilingEntry(minimumCapacity);
+              entry != null;
+              entry = buckets.higherEntry(entry.getKey())) {
+            for (UUID transportId : entry.getValue()) {
+                if (filter.test(transportId)) {
+                    return transportId;
+                }
+            }
+        }
+        return null;
+    }
+}
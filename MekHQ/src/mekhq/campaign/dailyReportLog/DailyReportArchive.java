@@ -0,0 +1,202 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.dailyReportLog;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import megamek.logging.MMLogger;
+import mekhq.campaign.enums.DailyReportType;
+
+/**
+ * Holds the finished days of a {@link DailyReportLog} for the rest of the session, so that they can be shown again
+ * without keeping every one of them in memory.
+ *
+ * <p>Each day is stored as one compressed segment per {@link DailyReportType}, appended to a temporary sidecar file.
+ * Only the position of each segment is kept in memory, and a segment is read back and decompressed when it is asked
+ * for. If the sidecar file cannot be used, segments are kept in memory, still compressed.</p>
+ *
+ * <p>The archive is not part of the save: the campaign file only holds the current day, as it always has. The
+ * sidecar file is deleted by {@link #close()} once the campaign is unloaded, or when the JVM exits if that never
+ * happens.</p>
+ */
+public class DailyReportArchive {
+    private static final MMLogger LOGGER = MMLogger.create(DailyReportArchive.class);
+
+    /**
+     * A compressed channel for one day. {@code data} is only set when the segment could not be written to the
+     * sidecar file.
+     */
+    private record Segment(long offset, int length, byte[] data) {
+    }
+
+    private final List<Map<DailyReportType, Segment>> days = new ArrayList<>();
+    private Path sidecarPath;
+    private RandomAccessFile sidecar;
+    private boolean sidecarUnavailable;
+
+    /**
+     * Adds a finished day to the end of the archive. Empty channels take no space.
+     *
+     * @param htmlByType the rendered HTML of the day for each channel
+     */
+    public synchronized void archiveDay(Map<DailyReportType, String> htmlByType) {
+        Map<DailyReportType, Segment> day = new EnumMap<>(DailyReportType.class);
+        for (Map.Entry<DailyReportType, String> entry : htmlByType.entrySet()) {
+            if ((entry.getValue() != null) && !entry.getValue().isEmpty()) {
+                day.put(entry.getKey(), write(compress(entry.getValue())));
+            }
+        }
+        days.add(day);
+    }
+
+    /**
+     * @return the number of days in the archive
+     */
+    public synchronized int getDayCount() {
+        return days.size();
+    }
+
+    /**
+     * Reads a day back from the archive.
+     *
+     * @param day  the index of the day, where {@code 0} is the earliest day archived
+     * @param type the channel
+     *
+     * @return the rendered HTML of the channel on that day, or an empty string if nothing was reported
+     *
+     * @throws IndexOutOfBoundsException if there is no such day
+     */
+    public synchronized String getHtml(int day, DailyReportType type) {
+        Segment segment = days.get(day).get(type);
+        if (segment == null) {
+            return "";
+        }
+
+        try {
+            return decompress(read(segment));
+        } catch (IOException ex) {
+            LOGGER.error(ex, "Unable to read day {} of the {} daily report from the archive", day, type);
+            return "";
+        }
+    }
+
+    /**
+     * Empties the archive and deletes its sidecar file.
+     */
+    public synchronized void close() {
+        days.clear();
+        if (sidecar != null) {
+            try {
+                sidecar.close();
+                Files.deleteIfExists(sidecarPath);
+            } catch (IOException ex) {
+                LOGGER.warn(ex, "Unable to delete the daily report archive {}", sidecarPath);
+            }
+            sidecar = null;
+            sidecarPath = null;
+        }
+    }
+
+    private Segment write(byte[] data) {
+        RandomAccessFile file = getSidecar();
+        if (file != null) {
+            try {
+                long offset = file.length();
+                file.seek(offset);
+                file.write(data);
+                return new Segment(offset, data.length, null);
+            } catch (IOException ex) {
+                LOGGER.error(ex, "Unable to write to the daily report archive {}, keeping the day in memory",
+                      sidecarPath);
+            }
+        }
+        return new Segment(0, data.length, data);
+    }
+
+    private byte[] read(Segment segment) throws IOException {
+        if (segment.data() != null) {
+            return segment.data();
+        }
+
+        byte[] data = new byte[segment.length()];
+        sidecar.seek(segment.offset());
+        sidecar.readFully(data);
+        return data;
+    }
+
+    private RandomAccessFile getSidecar() {
+        if ((sidecar == null) && !sidecarUnavailable) {
+            try {
+                sidecarPath = Files.createTempFile("mekhq-daily-report-", ".archive");
+                // close() deletes it as soon as the campaign is unloaded; this covers a run cut short before then
+                sidecarPath.toFile().deleteOnExit();
+                sidecar = new RandomAccessFile(sidecarPath.toFile(), "rw");
+            } catch (IOException | SecurityException ex) {
+                LOGGER.warn(ex, "Unable to create the daily report archive, finished days will be kept in memory");
+                sidecarUnavailable = true;
+                sidecarPath = null;
+            }
+        }
+        return sidecar;
+    }
+
+    private static byte[] compress(String html) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(bytes)) {
+            deflater.write(html.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            // A ByteArrayOutputStream does not throw
+            throw new IllegalStateException(ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String decompress(byte[] data) throws IOException {
+        try (InputStream inflater = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return new String(inflater.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import java.io.PrintWriter;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import megamek.logging.MMLogger;
 import mekhq.campaign.enums.DailyReportType;
@@ -55,6 +56,9 @@ import org.w3c.dom.NodeList;
  * it is repopulated as a session runs and is deliberately <em>not</em> persisted (it cannot be reconstructed from the
  * other channels after a load because those do not retain global ordering).</p>
  *
+ * <p>When the log is cleared for a new day, the finished day is moved into a {@link DailyReportArchive}, from which
+ * the GUI can show earlier days on request without holding them all in memory.</p>
+ *
  * @author Illiani
  * @since 0.51.01
  */
@@ -69,28 +73,50 @@ public class DailyReportLog {
     private static final String XML_LINE = "reportLine";
 
     /**
-     * A single report channel: the full list of lines, the rendered HTML cache, and the delta of lines added since the
-     * GUI last drained it.
+     * A single report channel: the full list of lines, the rendered HTML, and the delta of lines added since the GUI
+     * last drained it. The HTML is appended to in place and only turned into a {@link String} when it is asked for, so
+     * a busy day costs time in proportion to its length rather than its square.
      */
     private static final class Channel {
         private final List<String> lines = new ArrayList<>();
-        private String html = "";
+        private final StringBuilder html = new StringBuilder();
+        private String renderedHtml = "";
+        private boolean renderedHtmlStale;
         private List<String> newLines = new ArrayList<>();
 
         void add(String report) {
             lines.add(report);
             if (!html.isEmpty()) {
-                html = html + REPORT_LINEBREAK + report;
+                html.append(REPORT_LINEBREAK);
                 newLines.add(REPORT_LINEBREAK);
-            } else {
-                html = report;
             }
+            html.append(report);
+            renderedHtmlStale = true;
             newLines.add(report);
         }
 
+        String getHtml() {
+            if (renderedHtmlStale) {
+                renderedHtml = html.toString();
+                renderedHtmlStale = false;
+            }
+            return renderedHtml;
+        }
+
+        void setHtml(String newHtml) {
+            html.setLength(0);
+            html.append(newHtml);
+            renderedHtml = newHtml;
+            renderedHtmlStale = false;
+        }
+
+        boolean isEmpty() {
+            return lines.isEmpty();
+        }
+
         void clear() {
             lines.clear();
-            html = "";
+            setHtml("");
             newLines.clear();
         }
 
@@ -106,25 +132,26 @@ public class DailyReportLog {
          * behavior of the XML parser.
          */
         void rebuildFromLines() {
-            StringBuilder rebuiltHtml = new StringBuilder();
+            html.setLength(0);
             List<String> rebuiltNew = new ArrayList<>(lines.size() * 2);
             boolean first = true;
             for (String report : lines) {
                 if (first) {
                     first = false;
                 } else {
-                    rebuiltHtml.append(REPORT_LINEBREAK);
+                    html.append(REPORT_LINEBREAK);
                     rebuiltNew.add(REPORT_LINEBREAK);
                 }
-                rebuiltHtml.append(report);
+                html.append(report);
                 rebuiltNew.add(report);
             }
-            html = rebuiltHtml.toString();
+            renderedHtmlStale = true;
             newLines = rebuiltNew;
         }
     }
 
     private final EnumMap<DailyReportType, Channel> channels = new EnumMap<>(DailyReportType.class);
+    private final DailyReportArchive archive = new DailyReportArchive();
 
     public DailyReportLog() {
         for (DailyReportType type : DailyReportType.values()) {
@@ -154,14 +181,41 @@ public class DailyReportLog {
     }
 
     /**
-     * Clears every channel. Used when a new day resets the daily log.
+     * Clears every channel. Used when a new day resets the daily log. The finished day, if anything was reported, is
+     * moved into the {@link #getArchive() archive} first.
      */
     public void clear() {
+        if (channels.values().stream().anyMatch(channel -> !channel.isEmpty())) {
+            Map<DailyReportType, String> finishedDay = new EnumMap<>(DailyReportType.class);
+            for (Map.Entry<DailyReportType, Channel> entry : channels.entrySet()) {
+                finishedDay.put(entry.getKey(), entry.getValue().getHtml());
+            }
+            archive.archiveDay(finishedDay);
+        }
+        clearChannels();
+    }
+
+    private void clearChannels() {
         for (Channel channel : channels.values()) {
             channel.clear();
         }
     }
 
+    /**
+     * Releases the {@link #getArchive() archive} and deletes its sidecar file. Called when the campaign is unloaded;
+     * the current day is kept.
+     */
+    public void close() {
+        archive.close();
+    }
+
+    /**
+     * @return the finished days of this session, earliest first
+     */
+    public DailyReportArchive getArchive() {
+        return archive;
+    }
+
     /**
      * @param type the channel
      *
@@ -177,11 +231,11 @@ public class DailyReportLog {
      * @return the rendered HTML cache for the channel
      */
     public String getHtml(DailyReportType type) {
-        return channels.get(type).html;
+        return channels.get(type).getHtml();
     }
 
     public void setHtml(DailyReportType type, String html) {
-        channels.get(type).html = html;
+        channels.get(type).setHtml(html);
     }
 
     /**
@@ -228,7 +282,7 @@ public class DailyReportLog {
      * @param rootNode the {@value #XML_ROOT} element
      */
     public void readFromXML(Node rootNode) {
-        clear();
+        clearChannels();
 
         NodeList reportNodes = rootNode.getChildNodes();
         for (int i = 0; i < reportNodes.getLength(); i++) {
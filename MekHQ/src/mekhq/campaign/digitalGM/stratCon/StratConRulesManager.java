@@ -643,7 +643,7 @@ public class StratConRulesManager {
         // First determine if the scenario is a Turning Point (that win/lose will affect CVP)
         boolean isCombatChallenge = scenario.getBackingScenario().getStratConScenarioType().isOfficialChallenge();
         boolean showNag = !MekHQ.getMHQOptions().getNagDialogIgnore(MHQConstants.NAG_COMBAT_CHALLENGE);
-        if (isCombatChallenge && showNag) {
+        if (isCombatChallenge && showNag && !campaign.isUnattended()) {
             new CombatChallengeNagDialog(campaign);
         }
 
@@ -1330,7 +1330,9 @@ public class StratConRulesManager {
                     scenario.getBackingScenario().setIsCrisis(true);
                     scenario.setTurningPoint(false);
 
-                    new StratConAmbushedDialog(campaign, forceID, isBungledPatrol);
+                    if (!campaign.isUnattended()) {
+                        new StratConAmbushedDialog(campaign, forceID, isBungledPatrol);
+                    }
                 }
             }
 
@@ -93,8 +93,8 @@ public class Finances {
 
     private List<WeeklyNetWorth> netWorthOverTime;
 
-    private Money balance;
-    private int transactionSize = -1;
+    private final FinancialLedger ledger = new FinancialLedger();
+    private boolean ledgerStale = true;
 
     public Finances() {
         transactions = new ArrayList<>();
@@ -112,6 +112,7 @@ public class Finances {
 
     public void setTransactions(final List<Transaction> transactions) {
         this.transactions = transactions;
+        clearCachedBalance();
     }
 
     public List<Loan> getLoans() {
@@ -170,41 +171,39 @@ public class Finances {
     }
 
     /**
-     * Current campaign balance. Will calculate the current campaign balance based on the campaign's transactions.
-     * Cached using the current transaction count.
+     * Current campaign balance, read from the running totals kept by the campaign's {@link FinancialLedger}.
      *
      * @return current balance (Money)
      *
      * @see #clearCachedBalance()
      */
     public Money getBalance() {
-        Money newBalance = Money.zero();
+        return getLedger().getBalance();
+    }
 
-        // If our # of transactions matches what we expect, and the balance isn't null, we should return the cached balance:
-        if (transactions.size() == transactionSize && balance != null) {
-            return newBalance.plus(balance);
+    /**
+     * The running totals of the current transactions. The ledger is updated as transactions are added, and rebuilt
+     * from the transaction list after {@link #clearCachedBalance()} or when the list has been changed directly.
+     *
+     * @return the up-to-date ledger for the current transactions
+     */
+    public FinancialLedger getLedger() {
+        if (ledgerStale || (ledger.getTransactionCount() != transactions.size())) {
+            ledger.rebuild(transactions);
+            ledgerStale = false;
         }
-
-        // Recalculate the current balance
-        newBalance = newBalance.plus(transactions.stream().map(Transaction::getAmount).collect(Collectors.toList()));
-
-        // Update our cached balance & note the transactions size.
-        balance = Money.zero();
-        balance = balance.plus(newBalance);
-        transactionSize = transactions.size();
-
-        return newBalance;
+        return ledger;
     }
 
     /**
-     * Next time getBalance() is called force it to recalculate the current balance Should be called if transactions are
-     * modified or deleted. Should not be needed when adding new transactions - the balance should automatically
-     * recalculate.
+     * Next time the balance or ledger is read force it to be rebuilt from the transactions. Should be called if
+     * transactions are modified or deleted. Should not be needed when adding new transactions through
+     * {@link #credit} or {@link #debit} - the ledger is updated as they are added.
      *
-     * @see #getBalance()
+     * @see #getLedger()
      */
     public void clearCachedBalance() {
-        transactionSize = -1;
+        ledgerStale = true;
     }
 
     public Money getLoanBalance() {
@@ -256,7 +255,7 @@ public class Finances {
             return false;
         }
         Transaction t = new Transaction(type, date, amount.multipliedBy(-1), reason);
-        transactions.add(t);
+        addTransaction(t);
         if ((wentIntoDebt != null) && !hasActiveLoans()) {
             wentIntoDebt = null;
         }
@@ -303,13 +302,20 @@ public class Finances {
 
     public void credit(final TransactionType type, final LocalDate date, final Money amount, final String reason) {
         Transaction t = new Transaction(type, date, amount, reason);
-        transactions.add(t);
+        addTransaction(t);
         if ((wentIntoDebt == null) && hasActiveLoans()) {
             wentIntoDebt = date;
         }
         MekHQ.triggerEvent(new TransactionCreditEvent(t));
     }
 
+    private void addTransaction(final Transaction transaction) {
+        // Bring the ledger up to date first, so it never counts the new transaction twice
+        final FinancialLedger currentLedger = getLedger();
+        transactions.add(transaction);
+        currentLedger.add(transaction);
+    }
+
     /**
      * This function will update the starting amount to the current balance and clear transactions. This will be called
      * at the beginning of each new financial term
@@ -561,14 +567,10 @@ public class Finances {
      * @return The profits made by the campaign, or zero if no profits were made.
      */
     public Money getProfits() {
-        List<Money> startingCapital = getTransactions().stream()
-                                            .filter(transaction -> (transaction.getType().isStartingCapital()) ||
-                                                                         (transaction.getType()
-                                                                                .isFinancialTermEndCarryover()))
-                                            .map(Transaction::getAmount)
-                                            .collect(Collectors.toList());
-
-        Money profits = getBalance().minus(startingCapital);
+        final FinancialLedger currentLedger = getLedger();
+        Money profits = currentLedger.getBalance()
+                              .minus(currentLedger.getTotal(TransactionType.STARTING_CAPITAL))
+                              .minus(currentLedger.getTotal(TransactionType.FINANCIAL_TERM_END_CARRYOVER));
 
         if (profits.isPositive()) {
             return profits;
@@ -773,41 +775,49 @@ public class Finances {
         Finances retVal = new Finances();
         NodeList nl = wn.getChildNodes();
         for (int x = 0; x < nl.getLength(); x++) {
-            Node wn2 = nl.item(x);
-            try {
-                switch (wn2.getNodeName()) {
-                    case "transactions":
-                        retVal.setTransactions(parseTransactionsFromXML(wn2));
-                        break;
-                    case "loans":
-                        retVal.setLoans(parseLoansFromXML(wn2));
-                        break;
-                    case "assets":
-                        retVal.setAssets(parseAssetsFromXML(wn2));
-                        break;
-                    case "loanDefaults":
-                        retVal.setLoanDefaults(Integer.parseInt(wn2.getTextContent().trim()));
-                        break;
-                    case "failedCollateral":
-                        retVal.setFailedCollateral(Integer.parseInt(wn2.getTextContent().trim()));
-                        break;
-                    case "wentIntoDebt":
-                        retVal.setWentIntoDebt(MHQXMLUtility.parseDate(wn2.getTextContent().trim()));
-                        break;
-                    case "netWorthOverTime":
-                        retVal.setNetWorthOverTime(parseWeeklyNetWorthFromXML(wn2));
-                        break;
-                    default:
-                        break;
-                }
-            } catch (Exception ex) {
-                LOGGER.error("", ex);
-            }
+            retVal.loadFieldFromXML(nl.item(x));
         }
 
         return retVal;
     }
 
+    /**
+     * Loads a single child node of a {@code <finances>} node into this instance.
+     *
+     * @param wn2 the child node
+     */
+    public void loadFieldFromXML(final Node wn2) {
+        try {
+            switch (wn2.getNodeName()) {
+                case "transactions":
+                    setTransactions(parseTransactionsFromXML(wn2));
+                    break;
+                case "loans":
+                    setLoans(parseLoansFromXML(wn2));
+                    break;
+                case "assets":
+                    setAssets(parseAssetsFromXML(wn2));
+                    break;
+                case "loanDefaults":
+                    setLoanDefaults(Integer.parseInt(wn2.getTextContent().trim()));
+                    break;
+                case "failedCollateral":
+                    setFailedCollateral(Integer.parseInt(wn2.getTextContent().trim()));
+                    break;
+                case "wentIntoDebt":
+                    setWentIntoDebt(MHQXMLUtility.parseDate(wn2.getTextContent().trim()));
+                    break;
+                case "netWorthOverTime":
+                    setNetWorthOverTime(parseWeeklyNetWorthFromXML(wn2));
+                    break;
+                default:
+                    break;
+            }
+        } catch (Exception ex) {
+            LOGGER.error("", ex);
+        }
+    }
+
     private static List<Transaction> parseTransactionsFromXML(final Node wn) {
         if (!wn.hasChildNodes()) {
             return new ArrayList<>();
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.finances.enums.TransactionType;
+import org.joda.money.BigMoney;
+import org.joda.money.CurrencyUnit;
+
+/**
+ * Keeps the running totals of a campaign's transactions, so the balance, the per-type totals and the per-month and
+ * per-day totals used by the finance charts are available without summing the whole transaction list again.
+ *
+ * <p>Totals are kept as a count of {@link #MINOR_UNIT_SCALE millionths} of the currency unit in a {@code long}, so
+ * adding a transaction is plain integer arithmetic. Amounts with more decimal places than that, or which would overflow
+ * the count, are added exactly to a {@link BigDecimal} remainder instead, so no precision is ever lost.</p>
+ *
+ * <p>The ledger only sees transactions as they are added. Whenever transactions are edited, voided or replaced it
+ * has to be {@link #rebuild(List) rebuilt} from the transaction list.</p>
+ */
+public class FinancialLedger {
+    /** The number of decimal places tracked by the integer part of each total. */
+    static final int MINOR_UNIT_SCALE = 6;
+
+    /**
+     * The revenue and expenditures for a single month.
+     *
+     * @param revenue      The sum of all positive transactions.
+     * @param expenditures The sum of all other transactions, as a positive amount.
+     */
+    public record MonthlyTotals(Money revenue, Money expenditures) {
+    }
+
+    private final Total balance = new Total();
+    private final Map<TransactionType, Total> typeTotals = new EnumMap<>(TransactionType.class);
+    private final NavigableMap<YearMonth, Total> monthlyRevenue = new TreeMap<>();
+    private final NavigableMap<YearMonth, Total> monthlyExpenditures = new TreeMap<>();
+    private final NavigableMap<LocalDate, Total> dailyChanges = new TreeMap<>();
+    private int transactionCount;
+
+    /**
+     * @return The number of transactions recorded since the ledger was last cleared or rebuilt.
+     */
+    public int getTransactionCount() {
+        return transactionCount;
+    }
+
+    /**
+     * Records a new transaction.
+     *
+     * @param transaction The transaction to add to the totals.
+     */
+    public void add(final Transaction transaction) {
+        transactionCount++;
+
+        final Money amount = transaction.getAmount();
+        if (amount == null) {
+            return;
+        }
+        final BigDecimal value = amount.getAmount();
+        balance.add(value);
+
+        final TransactionType type = transaction.getType();
+        if (type != null) {
+            typeTotals.computeIfAbsent(type, ignored -> new Total()).add(value);
+        }
+
+        final LocalDate date = transaction.getDate();
+        if (date != null) {
+            dailyChanges.computeIfAbsent(date, ignored -> new Total()).add(value);
+            final YearMonth month = YearMonth.from(date);
+            if (value.signum() > 0) {
+                monthlyRevenue.computeIfAbsent(month, ignored -> new Total()).add(value);
+                monthlyExpenditures.computeIfAbsent(month, ignored -> new Total());
+            } else {
+                monthlyRevenue.computeIfAbsent(month, ignored -> new Total());
+                monthlyExpenditures.computeIfAbsent(month, ignored -> new Total()).add(value.negate());
+            }
+        }
+    }
+
+    /**
+     * Removes every recorded transaction.
+     */
+    public void clear() {
+        balance.clear();
+        typeTotals.clear();
+        monthlyRevenue.clear();
+        monthlyExpenditures.clear();
+        dailyChanges.clear();
+        transactionCount = 0;
+    }
+
+    /**
+     * Clears the ledger and records every transaction in the given list.
+     *
+     * @param transactions The campaign's current transactions.
+     */
+    public void rebuild(final List<Transaction> transactions) {
+        clear();
+        for (Transaction transaction : transactions) {
+            add(transaction);
+        }
+    }
+
+    /**
+     * @return The sum of all recorded transactions.
+     */
+    public Money getBalance() {
+        return balance.toMoney();
+    }
+
+    /**
+     * @param type The transaction type to total.
+     *
+     * @return The sum of all recorded transactions of the given type.
+     */
+    public Money getTotal(final TransactionType type) {
+        final Total total = typeTotals.get(type);
+        return (total == null) ? Money.zero() : total.toMoney();
+    }
+
+    /**
+     * @return The revenue and expenditures of each month with at least one transaction, in date order.
+     */
+    public NavigableMap<YearMonth, MonthlyTotals> getMonthlyTotals() {
+        final NavigableMap<YearMonth, MonthlyTotals> totals = new TreeMap<>();
+        for (Map.Entry<YearMonth, Total> entry : monthlyRevenue.entrySet()) {
+            totals.put(entry.getKey(),
+                  new MonthlyTotals(entry.getValue().toMoney(), monthlyExpenditures.get(entry.getKey()).toMoney()));
+        }
+        return Collections.unmodifiableNavigableMap(totals);
+    }
+
+    /**
+     * @return The balance at the end of each day with at least one transaction, in date order.
+     */
+    public NavigableMap<LocalDate, Money> getDailyBalances() {
+        final NavigableMap<LocalDate, Money> balances = new TreeMap<>();
+        final Total runningBalance = new Total();
+        for (Map.Entry<LocalDate, Total> entry : dailyChanges.entrySet()) {
+            runningBalance.add(entry.getValue());
+            balances.put(entry.getKey(), runningBalance.toMoney());
+        }
+        return Collections.unmodifiableNavigableMap(balances);
+    }
+
+    /**
+     * An exact sum of currency amounts, held as a count of minor units with a {@link BigDecimal} remainder for
+     * anything that does not fit.
+     */
+    static final class Total {
+        private long minorUnits;
+        private @Nullable BigDecimal remainder;
+
+        void add(final BigDecimal amount) {
+            if (amount.scale() <= MINOR_UNIT_SCALE) {
+                try {
+                    minorUnits = Math.addExact(minorUnits, amount.movePointRight(MINOR_UNIT_SCALE).longValueExact());
+                    return;
+                } catch (ArithmeticException ignored) {
+                    // Too large for the minor unit count, so fall through to the remainder
+                }
+            }
+            remainder = (remainder == null) ? amount : remainder.add(amount);
+        }
+
+        void add(final Total other) {
+            try {
+                minorUnits = Math.addExact(minorUnits, other.minorUnits);
+            } catch (ArithmeticException ignored) {
+                add(BigDecimal.valueOf(other.minorUnits, MINOR_UNIT_SCALE));
+            }
+            if (other.remainder != null) {
+                add(other.remainder);
+            }
+        }
+
+        void clear() {
+            minorUnits = 0;
+            remainder = null;
+        }
+
+        BigDecimal toBigDecimal() {
+            final BigDecimal value = BigDecimal.valueOf(minorUnits, MINOR_UNIT_SCALE);
+            return (remainder == null) ? value : value.add(remainder);
+        }
+
+        Money toMoney() {
+            final CurrencyUnit currencyUnit = CurrencyManager.getInstance().getDefaultCurrency().getCurrencyUnit();
+            BigDecimal value = toBigDecimal().stripTrailingZeros();
+            if (value.scale() < currencyUnit.getDecimalPlaces()) {
+                value = value.setScale(currencyUnit.getDecimalPlaces());
+            }
+            return new Money(BigMoney.of(currencyUnit, value));
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import megamek.logging.MMLogger;
+
+/**
+ * Measures the wall time and peak heap use of loading a campaign, so the DOM and streaming loaders can be compared on
+ * the same save.
+ *
+ * <p>The peak heap is the sum of the peak usage of each heap memory pool since the load started. The pools do not all
+ * peak at the same moment, so this is an upper bound, but it is measured the same way for both loaders.</p>
+ */
+public final class CampaignLoadMetrics {
+    private static final MMLogger LOGGER = MMLogger.create(CampaignLoadMetrics.class);
+
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+    private final String loaderName;
+    private final long startNanos;
+    private long elapsedMillis = -1;
+    private long peakHeapBytes = -1;
+
+    private CampaignLoadMetrics(String loaderName) {
+        this.loaderName = loaderName;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Starts measuring a campaign load.
+     *
+     * @param loaderName The name of the loader used, for the log.
+     *
+     * @return The metrics for this load.
+     */
+    public static CampaignLoadMetrics start(String loaderName) {
+        for (MemoryPoolMXBean pool : getHeapPools()) {
+            pool.resetPeakUsage();
+        }
+        return new CampaignLoadMetrics(loaderName);
+    }
+
+    /**
+     * Stops measuring the load and writes the results to the log.
+     */
+    public void finish() {
+        elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+        long peak = 0;
+        for (MemoryPoolMXBean pool : getHeapPools()) {
+            peak += pool.getPeakUsage().getUsed();
+        }
+        peakHeapBytes = peak;
+
+        LOGGER.info("[Campaign Load] {} loader finished in {}ms with a peak heap of {} MB",
+              loaderName, elapsedMillis, peakHeapBytes / BYTES_PER_MEGABYTE);
+    }
+
+    public String getLoaderName() {
+        return loaderName;
+    }
+
+    /**
+     * @return The wall time of the load in milliseconds, or -1 if it has not finished.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * @return The peak heap use during the load in bytes, or -1 if it has not finished.
+     */
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    private static List<MemoryPoolMXBean> getHeapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans()
+                     .stream()
+                     .filter(pool -> pool.getType() == MemoryType.HEAP)
+                     .filter(MemoryPoolMXBean::isValid)
+                     .toList();
+    }
+}
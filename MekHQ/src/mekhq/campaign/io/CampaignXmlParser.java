@@ -390,6 +390,18 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
 
         LocalPersonnel.loadFromXML(wn, campaign, version);
 
+        postProcessPersonnelNodes(campaign);
+
+        LOGGER.info("Load Personnel Nodes Complete!");
+    }
+
+    /**
+     * Runs the compatibility handlers and checks for personnel loaded from a legacy top-level {@code <personnel>}
+     * element.
+     *
+     * @param campaign The campaign being loaded.
+     */
+    static void postProcessPersonnelNodes(Campaign campaign) {
         // <50.10 compatibility handler (moves old SPA-based Edge to current Attribute-based)
         for (Person person : campaign.getPlayerForce().getHumanResources().getPersonnel()) {
             performEdgeConversion(campaign, person);
@@ -413,8 +425,6 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         if (!missingList.isEmpty()) {
             throw new NullPointerException(missingList.toString());
         }
-
-        LOGGER.info("Load Personnel Nodes Complete!");
     }
 
     /**
@@ -1902,31 +1912,50 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
                 continue;
             }
 
-            if (!wn2.getNodeName().equalsIgnoreCase("unit")) {
-                continue;
-            }
+            checkUnit(wn2, unitList);
+        }
+        LOGGER.info("Finished checking for missing entities!");
 
-            NodeList nl = wn2.getChildNodes();
+        return describeMissingUnits(unitList);
+    }
 
-            for (int y = 0; y < nl.getLength(); y++) {
-                Node wn3 = nl.item(y);
-                if (wn3.getNodeName().equalsIgnoreCase("entity")) {
-                    try {
-                        final Entity entity = MHQXMLUtility.parseSingleEntityMul((Element) wn3, null);
-                        if (entity == null) {
-                            String name = MHQXMLUtility.getEntityNameFromXmlString(wn3);
-                            if (!unitList.contains(name)) {
-                                unitList.add(name);
-                            }
+    /**
+     * Checks whether the entity of a single {@code <unit>} element can be loaded, recording its name if not.
+     *
+     * @param wn       The {@code <unit>} element.
+     * @param unitList The names of the units which could not be loaded so far.
+     */
+    static void checkUnit(final Node wn, final List<String> unitList) {
+        if (!wn.getNodeName().equalsIgnoreCase("unit")) {
+            return;
+        }
+
+        NodeList nl = wn.getChildNodes();
+
+        for (int y = 0; y < nl.getLength(); y++) {
+            Node wn3 = nl.item(y);
+            if (wn3.getNodeName().equalsIgnoreCase("entity")) {
+                try {
+                    final Entity entity = MHQXMLUtility.parseSingleEntityMul((Element) wn3, null);
+                    if (entity == null) {
+                        String name = MHQXMLUtility.getEntityNameFromXmlString(wn3);
+                        if (!unitList.contains(name)) {
+                            unitList.add(name);
                         }
-                    } catch (Exception ex) {
-                        LOGGER.error("Could not read entity from XML", ex);
                     }
+                } catch (Exception ex) {
+                    LOGGER.error("Could not read entity from XML", ex);
                 }
             }
         }
-        LOGGER.info("Finished checking for missing entities!");
+    }
 
+    /**
+     * @param unitList The names of the units which could not be loaded.
+     *
+     * @return The list of missing units for a {@link NullEntityException}, or {@code null} if none are missing.
+     */
+    static @Nullable String describeMissingUnits(final List<String> unitList) {
         if (unitList.isEmpty()) {
             return null;
         } else {
@@ -1953,19 +1982,30 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
                 continue;
             }
 
-            if (!wn2.getNodeName().equalsIgnoreCase("unit")) {
-                LOGGER.error("Unknown node type not loaded in Unit nodes: {}", wn2.getNodeName());
-                continue;
-            }
+            processUnitNode(retVal, wn2, version);
+        }
 
-            Unit u = Unit.generateInstanceFromXML(wn2, version, retVal);
+        LOGGER.info("Load Unit Nodes Complete!");
+    }
 
-            if (u != null) {
-                retVal.importUnit(u);
-            }
+    /**
+     * Loads a single {@code <unit>} element and imports it into the campaign.
+     *
+     * @param retVal  The campaign being loaded.
+     * @param wn      The {@code <unit>} element.
+     * @param version The version of the campaign file.
+     */
+    static void processUnitNode(Campaign retVal, Node wn, Version version) {
+        if (!wn.getNodeName().equalsIgnoreCase("unit")) {
+            LOGGER.error("Unknown node type not loaded in Unit nodes: {}", wn.getNodeName());
+            return;
         }
 
-        LOGGER.info("Load Unit Nodes Complete!");
+        Unit u = Unit.generateInstanceFromXML(wn, version, retVal);
+
+        if (u != null) {
+            retVal.importUnit(u);
+        }
     }
 
     private static void processPartNodes(Campaign retVal, Node wn, Version version) {
@@ -1983,12 +2023,7 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
                 continue;
             }
 
-            if (!wn2.getNodeName().equalsIgnoreCase("part")) {
-                LOGGER.error("Unknown node type not loaded in Part nodes: {} ", wn2.getNodeName());
-                continue;
-            }
-
-            Part p = Part.generateInstanceFromXML(wn2, version);
+            Part p = parsePartNode(wn2, version);
 
             if (p != null) {
                 parts.add(p);
@@ -2000,6 +2035,23 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         LOGGER.info("Load Part Nodes Complete!");
     }
 
+    /**
+     * Loads a single {@code <part>} element.
+     *
+     * @param wn      The {@code <part>} element.
+     * @param version The version of the campaign file.
+     *
+     * @return The loaded part, or {@code null} if it could not be loaded.
+     */
+    static @Nullable Part parsePartNode(Node wn, Version version) {
+        if (!wn.getNodeName().equalsIgnoreCase("part")) {
+            LOGGER.error("Unknown node type not loaded in Part nodes: {} ", wn.getNodeName());
+            return null;
+        }
+
+        return Part.generateInstanceFromXML(wn, version);
+    }
+
     private static void postProcessParts(Campaign retVal, Version version) {
         List<Part> removeParts = new ArrayList<>();
         postProcessWarehouse(retVal.getPlayerForce().getWarehouse(), retVal, removeParts);
@@ -2126,11 +2178,7 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         Campaign campaign = CampaignFactory.createCampaign();
         campaign.setGUI(app.getCampaigngui());
 
-        // Legacy-save compatibility: maps a converted contract's old integer mission id to its new UUID, and collects
-        // the objects (kills, combat teams) that referenced a mission by that old id, so they can be re-hooked once
-        // everything is parsed.
-        final Map<Integer, UUID> legacyMissionIdMap = new HashMap<>();
-        final List<LegacyMissionRelink> pendingMissionRelinks = new ArrayList<>();
+        final CampaignParseState state = new CampaignParseState();
 
         Document xmlDoc;
 
@@ -2148,11 +2196,7 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         // Stupid weird parsing of XML. At least this cleans it up.
         campaignEle.normalize();
 
-        final Version version = new Version(campaignEle.getAttribute("version"));
-        if (version.is("0.0.0")) {
-            throw new CampaignXmlParseException(String.format("Illegal version of %s failed to parse",
-                  campaignEle.getAttribute("version")));
-        }
+        final Version version = parseCampaignVersion(campaignEle.getAttribute("version"));
         // Confirm the campaign version is compatible with the current MekHQ version. This function lives here so that
         // we don't attempt to load incompatible campaigns and risk running into errors that might prevent the player
         // from viewing this dialog
@@ -2175,37 +2219,12 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
                 continue;
             }
 
-            int xc = wn.getNodeType();
-
-            if (xc == Node.ELEMENT_NODE) {
-                // This is what we really care about.
-                // All the meat of our document is in this node type, at this
-                // level.
-                // Okay, so what element is it?
-                String xn = wn.getNodeName();
-
-                if (xn.equalsIgnoreCase("info")) { // This is needed so that the campaign name gets set in campaign
-                    try {
-                        processInfoNode(campaign, wn, version);
-                    } catch (DOMException e) {
-                        throw new CampaignXmlParseException(e);
-                    }
-                } else if (xn.equalsIgnoreCase("custom")) {
-                    reloadUnitData |= processCustom(campaign, wn);
-                } else if (xn.equalsIgnoreCase("campaignOptions")) {
-                    CampaignOptions campaignOptions = CampaignOptionsUnmarshaller.generateCampaignOptionsFromXml(wn,
-                          version);
-                    preserveLegacyReputationForExistingCampaigns(wn, campaignOptions);
-                    campaign.setCampaignOptions(campaignOptions);
-                } else if (xn.equalsIgnoreCase("gameOptions")) {
-                    campaign.getGameOptions().fillFromXML(wn.getChildNodes());
-                } else if (xn.equalsIgnoreCase(PlanetarySystemCampaignXmlIO.XML_TAG)) {
-                    processPlanetarySystemOverrides(campaign, wn);
-                }
-            }
             // If it's a text node or attribute or whatever at this level,
             // it's probably white-space.
             // We can safely ignore it even if it isn't, for now.
+            if (wn.getNodeType() == Node.ELEMENT_NODE) {
+                reloadUnitData |= processPrerequisiteNode(campaign, wn, version);
+            }
         }
 
         // Only reload unit data if we updated files on disk
@@ -2221,36 +2240,14 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
                 continue;
             }
 
-            int xc = wn.getNodeType();
-
-            if (xc == Node.ELEMENT_NODE) {
-                // This is what we really care about.
-                // All the meat of our document is in this node type, at this
-                // level.
-                // Okay, so what element is it?
-                String xn = wn.getNodeName();
-
-                if (xn.equalsIgnoreCase("units")) {
-                    String missingList = checkUnits(wn);
-                    if (null != missingList) {
-                        throw new NullEntityException(missingList);
-                    }
+            if ((wn.getNodeType() == Node.ELEMENT_NODE) && wn.getNodeName().equalsIgnoreCase("units")) {
+                String missingList = checkUnits(wn);
+                if (null != missingList) {
+                    throw new NullEntityException(missingList);
                 }
             }
-            // If it's a text node or attribute or whatever at this level,
-            // it's probably white-space.
-            // We can safely ignore it even if it isn't, for now.
         }
 
-        boolean foundPersonnelMarket = false;
-        boolean foundUnitMarket = false;
-
-        // Saves made in 0.51.00 do not have a <location> but will have a <locations> with a single item.
-        boolean foundMainForceLocation = false;
-
-        // Pending travel references persons, units, parts, and bases, so it is resolved after those are all loaded.
-        Node pendingTravelNode = null;
-
         // Okay, lets iterate through the children, eh?
         for (int x = 0; x < nl.getLength(); x++) {
             Node workingNode = nl.item(x);
@@ -2259,115 +2256,238 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
                 continue;
             }
 
-            int xc = workingNode.getNodeType();
+            if (workingNode.getNodeType() == Node.ELEMENT_NODE) {
+                processCampaignNode(campaign, workingNode, version, state);
+            }
+        }
 
-            if (xc == Node.ELEMENT_NODE) {
-                // This is what we really care about.
-                // All the meat of our document is in this node type, at this level.
-                // Okay, so what element is it?
-                String nodeName = workingNode.getNodeName();
+        return finishParse(campaign, version, state);
+    }
 
-                if (nodeName.equalsIgnoreCase("pastVersions")) {
-                    processPastVersionNodes(campaign, workingNode);
-                } else if (nodeName.equalsIgnoreCase("randomSkillPreferences")) {
-                    campaign.setRandomSkillPreferences(RandomSkillPreferences.generateRandomSkillPreferencesFromXml(
-                          workingNode,
-                          version));
-                } else if (nodeName.equalsIgnoreCase("humanResources")) {
-                    ForceHumanResources humanResources = ForceHumanResources.loadFromXML(workingNode,
-                          campaign,
-                          version);
-                    campaign.getPlayerForce().setHumanResources(humanResources);
-                } else if (nodeName.equalsIgnoreCase("parts")) {
-                    processPartNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("personnel")) {
-                    // backward compat: old save without <humanResources> wrapper
-                    // TODO: Make this depending on campaign options
-                    // TODO: hoist registerAll out of this
-                    InjuryTypes.registerAll();
-                    processPersonnelNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("units")) {
-                    processUnitNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("missions")) {
-                    processLegacyMissionNodes(campaign, workingNode, version, legacyMissionIdMap);
-                } else if (nodeName.equalsIgnoreCase("forces")) {
-                    processForces(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("formations")) {
-                    processFormations(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("finances")) {
-                    processFinances(campaign, workingNode);
-                } else if (nodeName.equalsIgnoreCase("locations")) {
-                    processLocations(campaign, workingNode);
-                } else if (nodeName.equalsIgnoreCase("playerBases")) {
-                    processPlayerBaseNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("pendingTravel")) {
-                    pendingTravelNode = workingNode;
-                } else if (nodeName.equalsIgnoreCase("location")) {
-                    // Campaign's current location — written as a top-level tag in new saves;
-                    // same tag was used as the only location entry in pre-<locations>-list saves.
-                    campaign.setLocation(CurrentLocation.generateInstanceFromXML(workingNode, campaign));
-                    foundMainForceLocation = true;
-                } else if (nodeName.equalsIgnoreCase("locationNodeChildren")) {
-                    LocationNode.reconnectChildren(workingNode, campaign);
-                } else if (nodeName.equalsIgnoreCase("isAvoidingEmptySystems")) {
-                    campaign.getPlayerForce()
-                          .setIsAvoidingEmptySystems(Boolean.parseBoolean(workingNode.getTextContent().trim()));
-                } else if (nodeName.equalsIgnoreCase("skillTypes")) {
-                    processSkillTypeNodes(workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("specialAbilities")) {
-                    processSpecialAbilityNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("storyArc")) {
-                    processStoryArcNodes(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("kills")) {
-                    processKillNodes(campaign, workingNode, version, pendingMissionRelinks);
-                } else if (nodeName.equalsIgnoreCase("shoppingList")) {
-                    ForceShoppingList sl = ForceShoppingList.generateInstanceFromXML(workingNode, campaign, version);
-                    campaign.getPlayerForce().setShoppingList(sl);
-                } else if (nodeName.equalsIgnoreCase("personnelMarket")) {
-                    final PersonnelMarket personnelMarket = PersonnelMarket.generateInstanceFromXML(workingNode,
-                          campaign,
-                          version);
-                    campaign.getPlayerForce().getHumanResources().setPersonnelMarket(personnelMarket);
-                    foundPersonnelMarket = true;
-                } else if (nodeName.equalsIgnoreCase("unitMarket")) {
-                    // Windchild: implicit DEPENDS ON to the <campaignOptions> nodes
-                    campaign.setUnitMarket(campaign.getCampaignOptions().get(CampaignOption.UNIT_MARKET_METHOD).getUnitMarket());
-                    campaign.getUnitMarket().fillFromXML(workingNode, campaign, version);
-                    foundUnitMarket = true;
-                } else if (nodeName.equalsIgnoreCase("lances") || nodeName.equalsIgnoreCase("combatTeams")) {
-                    processCombatTeamNodes(campaign, workingNode, pendingMissionRelinks);
-                } else if (nodeName.equalsIgnoreCase("retirementDefectionTracker")) {
-                    RetirementDefectionTracker rdt = RetirementDefectionTracker.generateInstanceFromXML(
-                          workingNode,
-                          campaign);
-                    campaign.getPlayerForce().getHumanResources().setRetirementDefectionTracker(rdt);
-                } else if (nodeName.equalsIgnoreCase("personnelWhoAdvancedInXP")) {
-                    List<Person> personnelWhoAdvancedInXP = processPersonnelWhoAdvancedInXP(workingNode, campaign);
-                    campaign.getPlayerForce().getHumanResources().setPersonnelWhoAdvancedInXP(personnelWhoAdvancedInXP);
-                } else if (nodeName.equalsIgnoreCase("automatedMothballUnits")) {
-                    List<UUID> automatedMothballUnits = processAutomatedMothballNodes(workingNode);
-                    campaign.getPlayerForce().setAutomatedMothballUnits(automatedMothballUnits);
-                } else if (nodeName.equalsIgnoreCase("autoResolveBehaviorSettings")) {
-                    campaign.setAutoResolveBehaviorSettings(firstNonNull(BehaviorSettingsFactory.getInstance()
-                                                                               .getBehavior(workingNode.getTextContent()),
-                          BehaviorSettingsFactory.getInstance().DEFAULT_BEHAVIOR));
-                } else if (nodeName.equalsIgnoreCase("customPlanetaryEvents")) {
-                    //TODO: deal with this
-                    updatePlanetaryEventsFromXML(workingNode);
-                } else if (nodeName.equalsIgnoreCase("partsInUse")) {
-                    processPartsInUse(campaign, workingNode, version);
-                } else if (nodeName.equalsIgnoreCase("temporaryPrisonerCapacity")) {
-                    int temporaryPrisonerCapacity = parseInt(workingNode.getTextContent().trim());
-                    campaign.getPlayerForce().setTemporaryPrisonerCapacity(temporaryPrisonerCapacity);
-                } else if (nodeName.equalsIgnoreCase("processProcurement")) {
-                    campaign.setProcessProcurement(Boolean.parseBoolean(workingNode.getTextContent().trim()));
-                }
-            }
-            // If it's a text node or attribute or whatever at this level,
-            // it's probably white-space.
-            // We can safely ignore it even if it isn't, for now.
+    /**
+     * Parses the version attribute of the root {@code <campaign>} element.
+     *
+     * @param versionText The text of the version attribute.
+     *
+     * @return The parsed campaign version.
+     *
+     * @throws CampaignXmlParseException if the version is not valid
+     */
+    static Version parseCampaignVersion(String versionText) throws CampaignXmlParseException {
+        final Version version = new Version(versionText);
+        if (version.is("0.0.0")) {
+            throw new CampaignXmlParseException(String.format("Illegal version of %s failed to parse", versionText));
         }
+        return version;
+    }
 
+    /**
+     * Checks whether a top-level element must be processed before any units are checked or loaded.
+     *
+     * @param nodeName The name of the top-level element.
+     *
+     * @return {@code true} if the element is handled by {@link #processPrerequisiteNode}.
+     */
+    static boolean isPrerequisiteNode(String nodeName) {
+        return nodeName.equalsIgnoreCase("info")
+                     || nodeName.equalsIgnoreCase("custom")
+                     || nodeName.equalsIgnoreCase("campaignOptions")
+                     || nodeName.equalsIgnoreCase("gameOptions")
+                     || nodeName.equalsIgnoreCase(PlanetarySystemCampaignXmlIO.XML_TAG);
+    }
+
+    /**
+     * Processes a top-level element that everything else depends on: the campaign info, custom unit definitions,
+     * campaign and game options, and planetary system overrides. Any other element is ignored.
+     *
+     * @param campaign The campaign being loaded.
+     * @param wn       The top-level element.
+     * @param version  The version of the campaign file.
+     *
+     * @return {@code true} if a custom unit was written to disk and the unit data must be reloaded.
+     *
+     * @throws CampaignXmlParseException if the info element could not be parsed
+     */
+    static boolean processPrerequisiteNode(Campaign campaign, Node wn, Version version)
+          throws CampaignXmlParseException {
+        // This is what we really care about.
+        // All the meat of our document is in this node type, at this
+        // level.
+        // Okay, so what element is it?
+        String xn = wn.getNodeName();
+
+        if (xn.equalsIgnoreCase("info")) { // This is needed so that the campaign name gets set in campaign
+            try {
+                processInfoNode(campaign, wn, version);
+            } catch (DOMException e) {
+                throw new CampaignXmlParseException(e);
+            }
+        } else if (xn.equalsIgnoreCase("custom")) {
+            return processCustom(campaign, wn);
+        } else if (xn.equalsIgnoreCase("campaignOptions")) {
+            CampaignOptions campaignOptions = CampaignOptionsUnmarshaller.generateCampaignOptionsFromXml(wn,
+                  version);
+            preserveLegacyReputationForExistingCampaigns(wn, campaignOptions);
+            campaign.setCampaignOptions(campaignOptions);
+        } else if (xn.equalsIgnoreCase("gameOptions")) {
+            campaign.getGameOptions().fillFromXML(wn.getChildNodes());
+        } else if (xn.equalsIgnoreCase(PlanetarySystemCampaignXmlIO.XML_TAG)) {
+            processPlanetarySystemOverrides(campaign, wn);
+        }
+        return false;
+    }
+
+    /**
+     * State collected while walking the top-level campaign elements which is only resolved once every element has
+     * been processed.
+     */
+    static final class CampaignParseState {
+        /**
+         * Legacy-save compatibility: maps a converted contract's old integer mission id to its new UUID, and collects
+         * the objects (kills, combat teams) that referenced a mission by that old id, so they can be re-hooked once
+         * everything is parsed.
+         */
+        final Map<Integer, UUID> legacyMissionIdMap = new HashMap<>();
+        final List<LegacyMissionRelink> pendingMissionRelinks = new ArrayList<>();
+
+        boolean foundPersonnelMarket = false;
+        boolean foundUnitMarket = false;
+
+        /**
+         * Saves made in 0.51.00 do not have a {@code <location>} but will have a {@code <locations>} with a single
+         * item.
+         */
+        boolean foundMainForceLocation = false;
+
+        /**
+         * Pending travel references persons, units, parts, and bases, so it is resolved after those are all loaded.
+         */
+        Node pendingTravelNode = null;
+    }
+
+    /**
+     * Processes a top-level campaign element once the prerequisite elements have been processed and the units have
+     * been checked.
+     *
+     * @param campaign    The campaign being loaded.
+     * @param workingNode The top-level element.
+     * @param version     The version of the campaign file.
+     * @param state       The deferred state of this load.
+     */
+    static void processCampaignNode(Campaign campaign, Node workingNode, Version version,
+          CampaignParseState state) {
+        // This is what we really care about.
+        // All the meat of our document is in this node type, at this level.
+        // Okay, so what element is it?
+        String nodeName = workingNode.getNodeName();
+
+        if (nodeName.equalsIgnoreCase("pastVersions")) {
+            processPastVersionNodes(campaign, workingNode);
+        } else if (nodeName.equalsIgnoreCase("randomSkillPreferences")) {
+            campaign.setRandomSkillPreferences(RandomSkillPreferences.generateRandomSkillPreferencesFromXml(
+                  workingNode,
+                  version));
+        } else if (nodeName.equalsIgnoreCase("humanResources")) {
+            ForceHumanResources humanResources = ForceHumanResources.loadFromXML(workingNode,
+                  campaign,
+                  version);
+            campaign.getPlayerForce().setHumanResources(humanResources);
+        } else if (nodeName.equalsIgnoreCase("parts")) {
+            processPartNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("personnel")) {
+            // backward compat: old save without <humanResources> wrapper
+            // TODO: Make this depending on campaign options
+            // TODO: hoist registerAll out of this
+            InjuryTypes.registerAll();
+            processPersonnelNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("units")) {
+            processUnitNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("missions")) {
+            processLegacyMissionNodes(campaign, workingNode, version, state.legacyMissionIdMap);
+        } else if (nodeName.equalsIgnoreCase("forces")) {
+            processForces(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("formations")) {
+            processFormations(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("finances")) {
+            processFinances(campaign, workingNode);
+        } else if (nodeName.equalsIgnoreCase("locations")) {
+            processLocations(campaign, workingNode);
+        } else if (nodeName.equalsIgnoreCase("playerBases")) {
+            processPlayerBaseNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("pendingTravel")) {
+            state.pendingTravelNode = workingNode;
+        } else if (nodeName.equalsIgnoreCase("location")) {
+            // Campaign's current location — written as a top-level tag in new saves;
+            // same tag was used as the only location entry in pre-<locations>-list saves.
+            campaign.setLocation(CurrentLocation.generateInstanceFromXML(workingNode, campaign));
+            state.foundMainForceLocation = true;
+        } else if (nodeName.equalsIgnoreCase("locationNodeChildren")) {
+            LocationNode.reconnectChildren(workingNode, campaign);
+        } else if (nodeName.equalsIgnoreCase("isAvoidingEmptySystems")) {
+            campaign.getPlayerForce()
+                  .setIsAvoidingEmptySystems(Boolean.parseBoolean(workingNode.getTextContent().trim()));
+        } else if (nodeName.equalsIgnoreCase("skillTypes")) {
+            processSkillTypeNodes(workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("specialAbilities")) {
+            processSpecialAbilityNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("storyArc")) {
+            processStoryArcNodes(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("kills")) {
+            processKillNodes(campaign, workingNode, version, state.pendingMissionRelinks);
+        } else if (nodeName.equalsIgnoreCase("shoppingList")) {
+            ForceShoppingList sl = ForceShoppingList.generateInstanceFromXML(workingNode, campaign, version);
+            campaign.getPlayerForce().setShoppingList(sl);
+        } else if (nodeName.equalsIgnoreCase("personnelMarket")) {
+            final PersonnelMarket personnelMarket = PersonnelMarket.generateInstanceFromXML(workingNode,
+                  campaign,
+                  version);
+            campaign.getPlayerForce().getHumanResources().setPersonnelMarket(personnelMarket);
+            state.foundPersonnelMarket = true;
+        } else if (nodeName.equalsIgnoreCase("unitMarket")) {
+            // Windchild: implicit DEPENDS ON to the <campaignOptions> nodes
+            campaign.setUnitMarket(campaign.getCampaignOptions().get(CampaignOption.UNIT_MARKET_METHOD).getUnitMarket());
+            campaign.getUnitMarket().fillFromXML(workingNode, campaign, version);
+            state.foundUnitMarket = true;
+        } else if (nodeName.equalsIgnoreCase("lances") || nodeName.equalsIgnoreCase("combatTeams")) {
+            processCombatTeamNodes(campaign, workingNode, state.pendingMissionRelinks);
+        } else if (nodeName.equalsIgnoreCase("retirementDefectionTracker")) {
+            RetirementDefectionTracker rdt = RetirementDefectionTracker.generateInstanceFromXML(
+                  workingNode,
+                  campaign);
+            campaign.getPlayerForce().getHumanResources().setRetirementDefectionTracker(rdt);
+        } else if (nodeName.equalsIgnoreCase("personnelWhoAdvancedInXP")) {
+            List<Person> personnelWhoAdvancedInXP = processPersonnelWhoAdvancedInXP(workingNode, campaign);
+            campaign.getPlayerForce().getHumanResources().setPersonnelWhoAdvancedInXP(personnelWhoAdvancedInXP);
+        } else if (nodeName.equalsIgnoreCase("automatedMothballUnits")) {
+            List<UUID> automatedMothballUnits = processAutomatedMothballNodes(workingNode);
+            campaign.getPlayerForce().setAutomatedMothballUnits(automatedMothballUnits);
+        } else if (nodeName.equalsIgnoreCase("autoResolveBehaviorSettings")) {
+            campaign.setAutoResolveBehaviorSettings(firstNonNull(BehaviorSettingsFactory.getInstance()
+                                                                       .getBehavior(workingNode.getTextContent()),
+                  BehaviorSettingsFactory.getInstance().DEFAULT_BEHAVIOR));
+        } else if (nodeName.equalsIgnoreCase("customPlanetaryEvents")) {
+            //TODO: deal with this
+            updatePlanetaryEventsFromXML(workingNode);
+        } else if (nodeName.equalsIgnoreCase("partsInUse")) {
+            processPartsInUse(campaign, workingNode, version);
+        } else if (nodeName.equalsIgnoreCase("temporaryPrisonerCapacity")) {
+            int temporaryPrisonerCapacity = parseInt(workingNode.getTextContent().trim());
+            campaign.getPlayerForce().setTemporaryPrisonerCapacity(temporaryPrisonerCapacity);
+        } else if (nodeName.equalsIgnoreCase("processProcurement")) {
+            campaign.setProcessProcurement(Boolean.parseBoolean(workingNode.getTextContent().trim()));
+        }
+    }
+
+    /**
+     * Runs the post-processing passes which restore references between the loaded objects.
+     *
+     * @param campaign The campaign being loaded.
+     * @param version  The version of the campaign file.
+     * @param state    The deferred state of this load.
+     *
+     * @return The loaded campaign.
+     */
+    static Campaign finishParse(Campaign campaign, Version version, CampaignParseState state) {
         // Okay, after we've gone through all the nodes and constructed the
         // Campaign object...
         final CampaignOptions options = campaign.getCampaignOptions();
@@ -2635,12 +2755,12 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         timestamp = System.currentTimeMillis();
 
         // If we don't have a personnel market, create one.
-        if (!foundPersonnelMarket) {
+        if (!state.foundPersonnelMarket) {
             final PersonnelMarket personnelMarket = new PersonnelMarket(campaign);
             campaign.getPlayerForce().getHumanResources().setPersonnelMarket(personnelMarket);
         }
 
-        if (!foundUnitMarket) {
+        if (!state.foundUnitMarket) {
             campaign.setUnitMarket(campaign.getCampaignOptions().get(CampaignOption.UNIT_MARKET_METHOD).getUnitMarket());
         }
 
@@ -2755,7 +2875,7 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
         // one item. If we didn't find an explicit main force location, use that one. To check for this, if we didn't
         // find a main force location, check if we have more than one location in our list (by default,
         // will set and add a location to Campaign during the constructor.
-        if ((!foundMainForceLocation) && (campaign.getCampaignLocationManager().getLocations().size() > 1)) {
+        if ((!state.foundMainForceLocation) && (campaign.getCampaignLocationManager().getLocations().size() > 1)) {
             // Remove the location that was set by default, then use a valid location out of our locations list.
             campaign.getCampaignLocationManager().removeLocation(campaign.getPlayerForce()
                                                                        .getForceDetachment()
@@ -2766,13 +2886,13 @@ public record CampaignXmlParser(InputStream is, MekHQ app) {
                   .ifPresent(campaign::setLocation);
         }
 
-        if (pendingTravelNode != null) {
-            processPendingTravel(campaign, pendingTravelNode);
+        if (state.pendingTravelNode != null) {
+            processPendingTravel(campaign, state.pendingTravelNode);
         }
 
         migrateLegacyEducationTravel(campaign);
         reconnectPersonsToTravelLocations(campaign);
-        relinkLegacyMissions(campaign, legacyMissionIdMap, pendingMissionRelinks);
+        relinkLegacyMissions(campaign, state.legacyMissionIdMap, state.pendingMissionRelinks);
         resolvePlayerNegotiators(campaign);
         // Settle the remaining balance of any legacy contracts closed out on load; deferred to here so the force is
         // populated and the campaign's contract base can be computed.
@@ -0,0 +1,212 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import java.io.InputStream;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+import mekhq.utilities.MHQXMLUtility;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * A forward-only reader over a campaign XML file which only materializes the elements it is asked for.
+ *
+ * <p>The reader walks the document with a StAX pull parser. Callers iterate the children of the current element with
+ * {@link #nextChildElement()} and then either turn the child into a small, detached DOM {@link Element} with
+ * {@link #readElement()}, skip it with {@link #skipElement()}, or descend into it by calling
+ * {@link #nextChildElement()} again. This lets the existing node-based loaders be reused one element at a time
+ * without ever holding the DOM of the whole file.</p>
+ *
+ * <p>The produced elements keep their whitespace text nodes, matching what the DOM parser produces after
+ * {@link Node#normalize()}.</p>
+ */
+final class CampaignXmlStreamReader implements AutoCloseable {
+    private static final MMLogger LOGGER = MMLogger.create(CampaignXmlStreamReader.class);
+
+    private static final String JAXP_MAX_GENERAL_ENTITY_SIZE = "jdk.xml.maxGeneralEntitySizeLimit";
+    private static final String JAXP_TOTAL_ENTITY_SIZE = "jdk.xml.totalEntitySizeLimit";
+
+    private final XMLStreamReader reader;
+    private final Document document;
+
+    /**
+     * Creates a reader positioned on the start of the root element.
+     *
+     * @param is The stream to read the campaign XML from. It is not closed by this reader.
+     *
+     * @throws XMLStreamException           if the XML could not be read or has no root element
+     * @throws ParserConfigurationException if the owner document for the produced elements could not be created
+     */
+    CampaignXmlStreamReader(InputStream is) throws XMLStreamException, ParserConfigurationException {
+        reader = createInputFactory().createXMLStreamReader(is);
+        document = MHQXMLUtility.newSafeDocumentBuilder().newDocument();
+
+        while (reader.hasNext() && (reader.next() != XMLStreamConstants.START_ELEMENT)) {
+            // Skip the prolog
+        }
+
+        if (!reader.isStartElement()) {
+            throw new XMLStreamException("The campaign file has no root element");
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // Campaign files never declare a DTD, so refusing them keeps us safe from XXE and entity expansion attacks
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+
+        // Large campaign files trip the JAXP size limits (see MHQXMLUtility.parseDocument). Without a DTD there are
+        // no entities to expand, so lifting them is safe here.
+        for (String limit : new String[] { JAXP_MAX_GENERAL_ENTITY_SIZE, JAXP_TOTAL_ENTITY_SIZE }) {
+            try {
+                factory.setProperty(limit, "0");
+            } catch (IllegalArgumentException ex) {
+                LOGGER.debug("XML input factory does not support {}", limit);
+            }
+        }
+        return factory;
+    }
+
+    /**
+     * @return The name of the element the reader is positioned on.
+     */
+    String getElementName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * @param name The name of the attribute.
+     *
+     * @return The value of the attribute on the element the reader is positioned on, or {@code null} if it is not
+     *       present.
+     */
+    @Nullable String getAttribute(String name) {
+        return reader.getAttributeValue(null, name);
+    }
+
+    /**
+     * Advances to the next child element of the element the reader is currently inside.
+     *
+     * @return {@code true} if the reader is now positioned on the start of a child element, or {@code false} if the
+     *       end of the enclosing element was reached.
+     *
+     * @throws XMLStreamException if the XML could not be read
+     */
+    boolean nextChildElement() throws XMLStreamException {
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Skips the element the reader is positioned on, including all of its children.
+     *
+     * @throws XMLStreamException if the XML could not be read
+     */
+    void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while ((depth > 0) && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads the element the reader is positioned on, including all of its children, into a detached DOM element.
+     *
+     * @return The element.
+     *
+     * @throws XMLStreamException if the XML could not be read
+     */
+    Element readElement() throws XMLStreamException {
+        Element root = createElement();
+        Node current = root;
+        while ((current != null) && reader.hasNext()) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    Element child = createElement();
+                    current.appendChild(child);
+                    current = child;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    current = (current == root) ? null : current.getParentNode();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    current.appendChild(document.createTextNode(reader.getText()));
+                    break;
+                case XMLStreamConstants.CDATA:
+                    current.appendChild(document.createCDATASection(reader.getText()));
+                    break;
+                default:
+                    // Comments and processing instructions are not used by the loaders
+                    break;
+            }
+        }
+        return root;
+    }
+
+    private Element createElement() {
+        Element element = document.createElement(reader.getLocalName());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.setAttribute(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+        }
+        return element;
+    }
+
+    @Override
+    public void close() throws XMLStreamException {
+        reader.close();
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
+
+import megamek.Version;
+import megamek.common.loaders.MekSummaryCache;
+import megamek.logging.MMLogger;
+import mekhq.MekHQ;
+import mekhq.NullEntityException;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.CampaignFactory;
+import mekhq.campaign.ForceHumanResources;
+import mekhq.campaign.LocalPersonnel;
+import mekhq.campaign.finances.Finances;
+import mekhq.campaign.finances.Transaction;
+import mekhq.campaign.io.CampaignXmlParser.CampaignParseState;
+import mekhq.campaign.parts.Part;
+import mekhq.campaign.personnel.medical.advancedMedical.InjuryTypes;
+import mekhq.gui.dialog.MilestoneUpgradePathDialog;
+import org.w3c.dom.Element;
+
+/**
+ * Loads a campaign from XML without building the DOM of the whole file.
+ *
+ * <p>This follows the same three passes as {@link CampaignXmlParser#parse()}, but each pass streams over the file
+ * with a {@link CampaignXmlStreamReader}. Top-level elements are handed to the same loaders as the DOM parser one at
+ * a time, and the large collections (units, parts, personnel, and transactions) are loaded one child element at a
+ * time, so only a single unit, part, person, or transaction is ever held as DOM.</p>
+ *
+ * <p>Because custom unit definitions are written at the end of the file, but must be loaded before the units are
+ * checked, the source is read once per pass. Cross-references are resolved afterwards by
+ * {@link CampaignXmlParser#finishParse} exactly as they are for the DOM parser.</p>
+ */
+public class StreamingCampaignXmlParser {
+    private static final MMLogger LOGGER = MMLogger.create(StreamingCampaignXmlParser.class);
+
+    /**
+     * Opens a fresh stream over the uncompressed campaign XML. The caller closes the stream.
+     */
+    @FunctionalInterface
+    public interface CampaignXmlSource {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * Handles a single top-level element. The handler must consume the element it is positioned on.
+     */
+    @FunctionalInterface
+    private interface TopLevelElementHandler {
+        void handle(CampaignXmlStreamReader reader) throws XMLStreamException, CampaignXmlParseException;
+    }
+
+    private final CampaignXmlSource source;
+    private final MekHQ app;
+
+    public StreamingCampaignXmlParser(CampaignXmlSource source, MekHQ app) {
+        this.source = Objects.requireNonNull(source);
+        this.app = app;
+    }
+
+    /**
+     * Creates a campaign object from the campaign XML source.
+     *
+     * @return The created Campaign object.
+     *
+     * @throws CampaignXmlParseException Thrown when there was a problem parsing the CPNX file
+     * @throws NullEntityException       Thrown when an entity is referenced but cannot be loaded or found
+     */
+    public Campaign parse() throws CampaignXmlParseException, NullEntityException {
+        LOGGER.info("Starting streaming load of campaign file from XML...");
+        final Campaign campaign = CampaignFactory.createCampaign();
+        campaign.setGUI(app.getCampaigngui());
+
+        final CampaignParseState state = new CampaignParseState();
+
+        // The first pass reads the campaign info, custom units, and options everything else depends on
+        final Version version;
+        boolean reloadUnitData = false;
+        try (InputStream is = source.open(); CampaignXmlStreamReader reader = new CampaignXmlStreamReader(is)) {
+            version = CampaignXmlParser.parseCampaignVersion(Objects.requireNonNullElse(reader.getAttribute(
+                  "version"), ""));
+            // Confirm the campaign version is compatible with the current MekHQ version before loading anything else
+            new MilestoneUpgradePathDialog(app, campaign, version);
+            campaign.setVersion(version);
+
+            while (reader.nextChildElement()) {
+                if (CampaignXmlParser.isPrerequisiteNode(reader.getElementName())) {
+                    reloadUnitData |= CampaignXmlParser.processPrerequisiteNode(campaign,
+                          reader.readElement(),
+                          version);
+                } else {
+                    reader.skipElement();
+                }
+            }
+        } catch (IOException | XMLStreamException | ParserConfigurationException ex) {
+            LOGGER.error("", ex);
+            throw new CampaignXmlParseException(ex);
+        }
+
+        // Only reload unit data if we updated files on disk
+        if (reloadUnitData) {
+            MekSummaryCache.getInstance().loadMekData();
+        }
+
+        // The second pass checks for any null entities
+        final List<String> missingUnits = new ArrayList<>();
+        readTopLevelElements(reader -> {
+            if (!reader.getElementName().equalsIgnoreCase("units")) {
+                reader.skipElement();
+                return;
+            }
+
+            LOGGER.info("Checking for missing entities...");
+            while (reader.nextChildElement()) {
+                CampaignXmlParser.checkUnit(reader.readElement(), missingUnits);
+            }
+            LOGGER.info("Finished checking for missing entities!");
+        });
+
+        String missingList = CampaignXmlParser.describeMissingUnits(missingUnits);
+        if (null != missingList) {
+            throw new NullEntityException(missingList);
+        }
+
+        // The third pass loads everything else
+        readTopLevelElements(reader -> {
+            String nodeName = reader.getElementName();
+            if (nodeName.equalsIgnoreCase("units")) {
+                readUnits(reader, campaign, version);
+            } else if (nodeName.equalsIgnoreCase("parts")) {
+                readParts(reader, campaign, version);
+            } else if (nodeName.equalsIgnoreCase("personnel")) {
+                // backward compat: old save without <humanResources> wrapper
+                LOGGER.info("Loading Personnel Nodes from XML...");
+                InjuryTypes.registerAll();
+                readPersonnel(reader, campaign, version);
+                CampaignXmlParser.postProcessPersonnelNodes(campaign);
+                LOGGER.info("Load Personnel Nodes Complete!");
+            } else if (nodeName.equalsIgnoreCase("humanResources")) {
+                readHumanResources(reader, campaign, version);
+            } else if (nodeName.equalsIgnoreCase("finances")) {
+                readFinances(reader, campaign);
+            } else {
+                CampaignXmlParser.processCampaignNode(campaign, reader.readElement(), version, state);
+            }
+        });
+
+        return CampaignXmlParser.finishParse(campaign, version, state);
+    }
+
+    /**
+     * Opens a new pass over the source and calls the handler for each top-level element.
+     */
+    private void readTopLevelElements(TopLevelElementHandler handler) throws CampaignXmlParseException {
+        try (InputStream is = source.open(); CampaignXmlStreamReader reader = new CampaignXmlStreamReader(is)) {
+            while (reader.nextChildElement()) {
+                handler.handle(reader);
+            }
+        } catch (IOException | XMLStreamException | ParserConfigurationException ex) {
+            LOGGER.error("", ex);
+            throw new CampaignXmlParseException(ex);
+        }
+    }
+
+    private static void readUnits(CampaignXmlStreamReader reader, Campaign campaign, Version version)
+          throws XMLStreamException {
+        LOGGER.info("Loading Unit Nodes from XML...");
+        while (reader.nextChildElement()) {
+            CampaignXmlParser.processUnitNode(campaign, reader.readElement(), version);
+        }
+        LOGGER.info("Load Unit Nodes Complete!");
+    }
+
+    private static void readParts(CampaignXmlStreamReader reader, Campaign campaign, Version version)
+          throws XMLStreamException {
+        LOGGER.info("Loading Part Nodes from XML...");
+        List<Part> parts = new ArrayList<>();
+        while (reader.nextChildElement()) {
+            Part part = CampaignXmlParser.parsePartNode(reader.readElement(), version);
+            if (part != null) {
+                parts.add(part);
+            }
+        }
+
+        campaign.importParts(parts);
+        LOGGER.info("Load Part Nodes Complete!");
+    }
+
+    private static void readPersonnel(CampaignXmlStreamReader reader, Campaign campaign, Version version)
+          throws XMLStreamException {
+        while (reader.nextChildElement()) {
+            Element personElement = reader.readElement();
+            try {
+                LocalPersonnel.loadPersonFromXML(personElement, campaign, version);
+            } catch (RuntimeException ex) {
+                // The element has been read in full, so the rest of the personnel can still be loaded
+                LOGGER.error(ex, "Unable to load a person from the personnel node, skipping them");
+            }
+        }
+    }
+
+    private static void readHumanResources(CampaignXmlStreamReader reader, Campaign campaign, Version version)
+          throws XMLStreamException {
+        LOGGER.info("Loading HumanResources from XML...");
+        ForceHumanResources humanResources = campaign.getPlayerForce().getHumanResources();
+        while (reader.nextChildElement()) {
+            if (reader.getElementName().equalsIgnoreCase("personnel")) {
+                InjuryTypes.registerAll();
+                readPersonnel(reader, campaign, version);
+            } else {
+                ForceHumanResources.loadChildFromXML(humanResources, reader.readElement(), campaign, version);
+            }
+        }
+
+        campaign.getPlayerForce().setHumanResources(humanResources);
+        LOGGER.info("Load HumanResources from XML complete.");
+    }
+
+    private static void readFinances(CampaignXmlStreamReader reader, Campaign campaign) throws XMLStreamException {
+        LOGGER.info("Loading Finances from XML...");
+        Finances finances = new Finances();
+        while (reader.nextChildElement()) {
+            if (reader.getElementName().equals("transactions")) {
+                List<Transaction> transactions = new ArrayList<>();
+                while (reader.nextChildElement()) {
+                    Element transactionElement = reader.readElement();
+                    if ("transaction".equals(transactionElement.getNodeName())) {
+                        try {
+                            transactions.add(Transaction.generateInstanceFromXML(transactionElement));
+                        } catch (Exception ex) {
+                            LOGGER.error("", ex);
+                        }
+                    }
+                }
+                finances.setTransactions(transactions);
+            } else {
+                finances.loadFieldFromXML(reader.readElement());
+            }
+        }
+
+        campaign.getPlayerForce().setFinances(finances);
+        LOGGER.info("Load of Finances complete!");
+    }
+}
@@ -182,11 +182,13 @@ public final class LocationNewDayUtil {
                         part.cancelAssignment(false);
                     }
                 } else {
-                    JOptionPane.showMessageDialog(null,
-                          getFormattedTextAt(RESOURCE_BUNDLE, "LocationNewDayUtil.noTechForPart.message",
-                                part.getName(), part.getUnit().getHyperlinkedName()),
-                          getTextAt(RESOURCE_BUNDLE, "LocationNewDayUtil.noTechForPart.title"),
-                          JOptionPane.ERROR_MESSAGE);
+                    if (!campaign.isUnattended()) {
+                        JOptionPane.showMessageDialog(null,
+                              getFormattedTextAt(RESOURCE_BUNDLE, "LocationNewDayUtil.noTechForPart.message",
+                                    part.getName(), part.getUnit().getHyperlinkedName()),
+                              getTextAt(RESOURCE_BUNDLE, "LocationNewDayUtil.noTechForPart.title"),
+                              JOptionPane.ERROR_MESSAGE);
+                    }
                     continue;
                 }
 
@@ -49,7 +49,6 @@ import java.util.UUID;
 import megamek.Version;
 import megamek.common.event.Subscribe;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.rolls.TargetRoll;
@@ -69,6 +68,7 @@ import mekhq.campaign.unit.HangarStatistics;
 import mekhq.campaign.universe.PlanetarySystem;
 import mekhq.module.PersonnelMarketServiceManager;
 import mekhq.module.api.PersonnelMarketMethod;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.MHQXMLUtility;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -397,7 +397,7 @@ public class PersonnelMarket {
                     MekSummary ms = MekSummaryCache.getInstance().getMek(wn2.getTextContent());
                     Entity en = null;
                     try {
-                        en = new MekFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
+                        en = EntityFactory.getInstance().getEntity(ms);
                     } catch (EntityLoadingException ex) {
                         logger.error(ex, "Unable to load entity: {}: {}: {}",
                               ms.getSourceFile(),
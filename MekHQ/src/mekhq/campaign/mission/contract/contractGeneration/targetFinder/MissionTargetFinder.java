@@ -52,6 +52,8 @@ import mekhq.campaign.universe.FactionBorders;
 import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.PlanetarySystem;
 import mekhq.campaign.universe.RandomFactionGenerator;
+import mekhq.campaign.universe.SystemSpatialIndex;
+import mekhq.campaign.universe.SystemSpatialIndex.SystemPair;
 import mekhq.campaign.universe.factionHints.FactionHints;
 
 /**
@@ -320,18 +322,10 @@ public class MissionTargetFinder {
             return null;
         }
 
-        PlanetarySystem closestSystem = null;
-        double closestDistance = Double.MAX_VALUE;
-        for (PlanetarySystem defenderSystem : defenderBorders.getSystems()) {
-            for (PlanetarySystem attackerSystem : attackerBorders.getSystems()) {
-                double distance = defenderSystem.getDistanceTo(attackerSystem);
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    closestSystem = defenderSystem;
-                }
-            }
-        }
-        return closestSystem;
+        // The attacker's systems are limited to the search radius, so index those and look up each defender system
+        SystemPair closestPair = SystemSpatialIndex.of(attackerBorders.getSystems())
+                                       .closestPair(defenderBorders.getSystems());
+        return (closestPair == null) ? null : closestPair.from();
     }
 
     /**
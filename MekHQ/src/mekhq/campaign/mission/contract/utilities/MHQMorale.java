@@ -629,8 +629,10 @@ public class MHQMorale {
 
                 campaign.getPlayerForce().setTemporaryPrisonerCapacity(DEFAULT_TEMPORARY_CAPACITY);
             } else {
-                new ImmersiveDialogNotification(campaign, getFormattedTextAt(RESOURCE_BUNDLE,
-                      "stratCon.earlyContractEnd.objectives", contract.getName()), true);
+                if (!campaign.isUnattended()) {
+                    new ImmersiveDialogNotification(campaign, getFormattedTextAt(RESOURCE_BUNDLE,
+                          "stratCon.earlyContractEnd.objectives", contract.getName()), true);
+                }
                 int remainingMonths = (int) contract.getMonthsLeft(campaign.getLocalDate().plusDays(1));
                 contract.changeMorale(today.plusDays(1), contract.getMonthlyPayOut().multipliedBy(remainingMonths));
             }
@@ -821,15 +823,17 @@ public class MHQMorale {
                 contract.setContractTerms(
                       contract.getContractTerms().withSalvageRights(ChaosContractStepsTable.STEP_FIVE));
 
-                String message = getTextAt(RESOURCE_BUNDLE, "emergencySalvageClause.message");
-                new ImmersiveDialogSimple(campaign,
-                      contract.getEmployerLiaison(),
-                      null,
-                      message,
-                      null,
-                      null,
-                      null,
-                      false);
+                if (!campaign.isUnattended()) {
+                    String message = getTextAt(RESOURCE_BUNDLE, "emergencySalvageClause.message");
+                    new ImmersiveDialogSimple(campaign,
+                          contract.getEmployerLiaison(),
+                          null,
+                          message,
+                          null,
+                          null,
+                          null,
+                          false);
+                }
             }
         }
     }
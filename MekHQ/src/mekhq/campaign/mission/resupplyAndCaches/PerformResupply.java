@@ -141,6 +141,9 @@ public class PerformResupply {
      *     <li>Dialog-based confirmation for resupply delivery and associated costs.</li>
      * </ul>
      *
+     * <p>During an unattended run each prompt takes its default: loot is received, while any resupply that would
+     * have the player pick a convoy or confirm a delivery is cancelled.</p>
+     *
      * @param resupply  the {@link Resupply} instance that defines the campaign's resupply operation, including cargo,
      *                  player and NPC convoys, and mission-related data.
      * @param contract  the {@link AbstractContract} representing the context of the current contract, determining
@@ -165,9 +168,14 @@ public class PerformResupply {
         final boolean isGuerrilla = contract.getObjectiveType().isGuerrillaType();
         final boolean isPirate = PIRATE_FACTION_CODE.equals(contract.getEmployerFactionCode());
         final ResupplyType resupplyType = resupply.getResupplyType();
+        final boolean isUnattended = resupply.getCampaign().isUnattended();
 
         // If appropriate, prompt the player to use their own convoys
         if (!resupplyType.equals(RESUPPLY_LOOT) && !resupplyType.equals(RESUPPLY_CONTRACT_END)) {
+            if (isUnattended) {
+                return;
+            }
+
             // If we're on a pirate or guerrilla contract, the player may be approached by smugglers, instead, which
             // won't use player convoys.
             if (!isGuerrilla && !isPirate) {
@@ -224,6 +232,13 @@ public class PerformResupply {
             return;
         }
 
+        if (isUnattended) {
+            if (resupplyType.equals(RESUPPLY_LOOT)) {
+                makeDelivery(resupply, null);
+            }
+            return;
+        }
+
         // Everything prepared, we present the player with a dialog allowing them to confirm
         // whether they are willing to pay for the delivery (if appropriate), or for them to
         // confirm delivery.
@@ -478,7 +493,10 @@ public class PerformResupply {
 
             Person speaker = campaign.getPlayerForce().getHumanResources().getPerson(convoy.getFormationCommanderID());
             String outOfCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE, "outOfCharacter.roleplay");
-            new ImmersiveDialogSimple(campaign, speaker, null, eventText, null, outOfCharacterMessage, null, false);
+            if (!campaign.isUnattended()) {
+                new ImmersiveDialogSimple(campaign, speaker, null, eventText, null, outOfCharacterMessage, null,
+                      false);
+            }
 
             completeSuccessfulDelivery(resupply, convoyContents);
         }
@@ -643,6 +661,10 @@ public class PerformResupply {
     }
 
     private static void displayDialog(Formation targetConvoy, Campaign campaign, AbstractContract contract) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         Person speaker;
         String inCharacterMessage = "";
         String commanderAddress = campaign.getCommanderAddress();
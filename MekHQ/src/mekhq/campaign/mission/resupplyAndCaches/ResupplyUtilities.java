@@ -114,14 +114,16 @@ public class ResupplyUtilities {
                       commanderAddress);
                 String outOfCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE, "outOfCharacter.abandoned");
 
-                new ImmersiveDialogSimple(campaign,
-                      speaker,
-                      null,
-                      inCharacterMessage,
-                      null,
-                      outOfCharacterMessage,
-                      null,
-                      false);
+                if (!campaign.isUnattended()) {
+                    new ImmersiveDialogSimple(campaign,
+                          speaker,
+                          null,
+                          inCharacterMessage,
+                          null,
+                          outOfCharacterMessage,
+                          null,
+                          false);
+                }
 
                 for (UUID unitID : formation.getAllUnits(false)) {
                     Unit unit = campaign.getUnit(unitID);
@@ -98,7 +98,6 @@ import megamek.common.eras.EraFlag;
 import megamek.common.game.Game;
 import megamek.common.icons.Camouflage;
 import megamek.common.loaders.MULParser;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.planetaryConditions.Atmosphere;
@@ -148,6 +147,7 @@ import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.IUnitGenerator;
 import mekhq.campaign.universe.Planet;
 import mekhq.campaign.universe.UnitGeneratorParameters;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.EntityUtilities;
 
 /**
@@ -2883,7 +2883,7 @@ public class AtBDynamicScenarioFactory {
           MekSummary unitData, boolean isTest) {
         Entity entity;
         try {
-            entity = new MekFileParser(unitData.getSourceFile(), unitData.getEntryName()).getEntity();
+            entity = EntityFactory.getInstance().getEntity(unitData);
         } catch (Exception ex) {
             LOGGER.error("Unable to load entity: {}: {}", unitData.getSourceFile(), unitData.getEntryName(), ex);
             return null;
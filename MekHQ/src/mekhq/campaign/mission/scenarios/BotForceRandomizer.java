@@ -50,7 +50,6 @@ import megamek.common.annotations.Nullable;
 import megamek.common.compute.Compute;
 import megamek.common.enums.Gender;
 import megamek.common.enums.SkillLevel;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.units.Crew;
 import megamek.common.units.Entity;
@@ -67,6 +66,7 @@ import mekhq.campaign.universe.Faction;
 import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.IUnitGenerator;
 import mekhq.campaign.universe.UnitGeneratorParameters;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.MHQXMLUtility;
 import org.apache.commons.math3.distribution.GammaDistribution;
 import org.w3c.dom.Node;
@@ -449,7 +449,7 @@ public class BotForceRandomizer {
     public @Nullable Entity createEntityWithCrew(MekSummary ms, Campaign campaign) {
         Entity en;
         try {
-            en = new MekFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
+            en = EntityFactory.getInstance().getEntity(ms);
         } catch (Exception ex) {
             LOGGER.error("Unable to load entity: {}: {}", ms.getSourceFile(), ms.getEntryName(), ex);
             return null;
@@ -52,7 +52,6 @@ import java.util.UUID;
 
 import megamek.Version;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Entity;
@@ -71,6 +70,7 @@ import mekhq.campaign.parts.enums.PartQuality;
 import mekhq.campaign.parts.equipment.AmmoBin;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.unit.UnitAcquisitionType;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.MHQXMLUtility;
 import mekhq.utilities.ReportingUtilities;
 import org.w3c.dom.Node;
@@ -399,7 +399,7 @@ public class Loot {
                     if (null == summary) {
                         throw (new EntityLoadingException());
                     }
-                    Entity e = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+                    Entity e = EntityFactory.getInstance().getEntity(summary);
                     if (null == e) {
                         continue;
                     }
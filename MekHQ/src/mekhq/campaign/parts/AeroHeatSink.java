@@ -92,6 +92,7 @@ public class AeroHeatSink extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit && unit.getEntity() instanceof Aero && hits == 0) {
             // ok this is hideous, but we don't track individual heat sinks, so I have no idea of
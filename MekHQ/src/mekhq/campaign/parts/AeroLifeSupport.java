@@ -97,6 +97,7 @@ public class AeroLifeSupport extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit && unit.getEntity() instanceof Aero) {
             if (((Aero) unit.getEntity()).hasLifeSupport()) {
@@ -93,6 +93,7 @@ public class AeroSensor extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit && unit.getEntity() instanceof Aero) {
             hits = ((Aero) unit.getEntity()).getSensorHits();
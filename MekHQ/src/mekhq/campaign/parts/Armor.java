@@ -273,6 +273,7 @@ public class Armor extends Part implements IAcquisitionWork {
 
     public void setAmountNeeded(int needed) {
         this.amountNeeded = needed;
+        markUnitRepairStateChanged();
     }
 
     public boolean isSameType(Armor armor) {
@@ -455,6 +456,7 @@ public class Armor extends Part implements IAcquisitionWork {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (isReservedForRefit()) {
             return;
         }
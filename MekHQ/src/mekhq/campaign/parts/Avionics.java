@@ -77,6 +77,7 @@ public class Avionics extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit &&
                   (unit.getEntity().getEntityType() & (Entity.ETYPE_AEROSPACE_FIGHTER | Entity.ETYPE_LAND_AIR_MEK)) !=
@@ -42,7 +42,6 @@ import megamek.common.battleArmor.BattleArmor;
 import megamek.common.compute.Compute;
 import megamek.common.equipment.EquipmentType;
 import megamek.common.equipment.IArmorState;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.rolls.TargetRoll;
@@ -60,6 +59,7 @@ import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.campaign.unit.TestUnit;
 import mekhq.campaign.unit.Unit;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.MHQXMLUtility;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -502,6 +502,7 @@ public class BattleArmorSuit extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             if (trooper < 0) {
                 LOGGER.error("Trooper location -1 found on BattleArmorSuit attached to unit");
@@ -625,7 +626,7 @@ public class BattleArmorSuit extends Part {
         }
         Entity newEntity = null;
         try {
-            newEntity = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            newEntity = EntityFactory.getInstance().getEntity(summary);
         } catch (Exception ex) {
             LOGGER.error("", ex);
         }
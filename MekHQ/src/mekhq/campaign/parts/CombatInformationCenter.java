@@ -76,6 +76,7 @@ public class CombatInformationCenter extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit && unit.getEntity() instanceof Aero) {
             hits = ((Aero) unit.getEntity()).getCICHits();
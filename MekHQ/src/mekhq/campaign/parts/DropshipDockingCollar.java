@@ -114,6 +114,7 @@ public class DropshipDockingCollar extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit && unit.getEntity() instanceof Dropship) {
             if (((Dropship) unit.getEntity()).isDockCollarDamaged()) {
@@ -277,6 +277,7 @@ public class EnginePart extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int engineHits = 0;
             int engineCrits = 0;
@@ -112,6 +112,7 @@ public class GravDeck extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit && unit.getEntity() instanceof Jumpship) {
             hits = ((Jumpship) unit.getEntity()).getGravDeckDamageFlag(deckNumber);
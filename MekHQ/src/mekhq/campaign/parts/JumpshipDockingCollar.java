@@ -118,6 +118,7 @@ public class JumpshipDockingCollar extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit && unit.getEntity() instanceof Jumpship) {
             DockingCollar collar = unit.getEntity().getCollarById(collarNumber);
@@ -108,6 +108,7 @@ public class LFBattery extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit) {
             if (unit.getEntity() instanceof Jumpship) {
@@ -76,6 +76,7 @@ public class LandingGear extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit) {
             if (unit.getEntity() instanceof Aero) {
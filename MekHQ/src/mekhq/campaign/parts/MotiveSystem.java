@@ -167,6 +167,7 @@ public class MotiveSystem extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         // motive systems don't have to check for destruction since they
         // cannot be removed
         if (null != unit && unit.getEntity() instanceof Tank tank) {
@@ -130,6 +130,26 @@ public abstract class Part implements IPartWork, ITechnology, ILocatable {
                                                                     AvailabilityValue.C)
                                                               .setStaticTechLevel(SimpleTechLevel.STANDARD);
 
+    /**
+     * Caches the topmost class below {@link Part} which declares {@link #isSamePartType(Part)} for each part class.
+     */
+    private static final ClassValue<Class<?>> PART_TYPE_FAMILY = new ClassValue<>() {
+        @Override
+        protected Class<?> computeValue(Class<?> type) {
+            Class<?> family = type;
+            for (Class<?> current = type; (current != null) && (current != Part.class);
+                  current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod("isSamePartType", Part.class);
+                    family = current;
+                } catch (NoSuchMethodException ignored) {
+                    // This class inherits isSamePartType, keep walking up the hierarchy
+                }
+            }
+            return family;
+        }
+    };
+
     private final LocationNode locationNode = new LocationNode(this);
 
     protected String name;
@@ -439,10 +459,26 @@ public abstract class Part implements IPartWork, ITechnology, ILocatable {
     }
 
     public void setUnit(@Nullable Unit u) {
+        if ((unit != null) && (unit != u)) {
+            unit.markRepairStateChanged();
+        }
         unit = u;
         if (null != unit) {
             unitTonnage = (int) unit.getEntity().getWeight();
         }
+        markUnitRepairStateChanged();
+    }
+
+    /**
+     * Tells the unit this part is on, if any, that the part may now need repair or salvage, or no longer does.
+     * <p>
+     * Every method that can change {@link #needsFixing()} or {@link #isSalvaging()} calls this itself, so that callers
+     * never have to remember to; subclasses adding such a method should do the same.
+     */
+    protected void markUnitRepairStateChanged() {
+        if (unit != null) {
+            unit.markRepairStateChanged();
+        }
     }
 
     public String getStatus() {
@@ -486,6 +522,7 @@ public abstract class Part implements IPartWork, ITechnology, ILocatable {
      */
     public void setHits(int hits) {
         this.hits = Math.max(hits, 0);
+        markUnitRepairStateChanged();
     }
 
     @Override
@@ -663,6 +700,24 @@ public abstract class Part implements IPartWork, ITechnology, ILocatable {
 
     public abstract boolean isSamePartType(Part part);
 
+    /**
+     * Gets a key describing the "type" of this part, used by {@link LocalWarehouse} to bucket parts so that spare part
+     * lookups do not have to compare against every part in stock.
+     *
+     * <p>The key must be consistent with {@link #isSamePartType(Part)}: whenever two parts are the same part type,
+     * they must return equal keys. Parts with equal keys are not necessarily the same part type; the key only narrows
+     * the search. It must also not change while the part is stored in a warehouse.</p>
+     *
+     * <p>By default this is the topmost class in the part's hierarchy that declares {@code isSamePartType}, which
+     * keeps subclasses that are matched by an {@code instanceof} check in the same bucket as their parent. Subclasses
+     * may return a more specific key.</p>
+     *
+     * @return the part type key for this part
+     */
+    public Object getPartTypeKey() {
+        return PART_TYPE_FAMILY.get(getClass());
+    }
+
     public boolean isSameStatus(Part otherPart) {
         // parts that are reserved for refit or being worked on are never the same
         // status
@@ -1214,6 +1269,8 @@ public abstract class Part implements IPartWork, ITechnology, ILocatable {
             this.isTeamSalvaging = isSalvaging();
         }
         this.tech = tech;
+        // Missing parts on a unit being salvaged only need fixing while a tech is assigned
+        markUnitRepairStateChanged();
     }
 
     public boolean isTeamSalvaging() {
@@ -111,6 +111,7 @@ public class PodSpace implements IPartWork {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        getUnit().markRepairStateChanged();
         childPartIds.clear();
         for (Part part : getUnit().getParts()) {
             if (part.isOmniPodded() && part.getLocation() == location) {
@@ -392,6 +393,9 @@ public class PodSpace implements IPartWork {
     @Override
     public void setTech(Person tech) {
         this.tech = tech;
+        if (unit != null) {
+            unit.markRepairStateChanged();
+        }
     }
 
     @Override
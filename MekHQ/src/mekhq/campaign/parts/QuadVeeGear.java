@@ -91,6 +91,7 @@ public class QuadVeeGear extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             hits = unit.getHitCriticalSlots(CriticalSlot.TYPE_SYSTEM,
                   QuadVee.SYSTEM_CONVERSION_GEAR);
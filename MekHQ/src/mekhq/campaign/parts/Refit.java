@@ -68,7 +68,6 @@ import megamek.common.equipment.WeaponType;
 import megamek.common.interfaces.ITechnology;
 import megamek.common.loaders.BLKFile;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.rolls.TargetRoll;
@@ -105,6 +104,7 @@ import mekhq.campaign.unit.Unit;
 import mekhq.campaign.unit.cleanup.EquipmentUnscrambler;
 import mekhq.campaign.unit.cleanup.EquipmentUnscramblerResult;
 import mekhq.campaign.work.IAcquisitionWork;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.MHQXMLUtility;
 import mekhq.utilities.ReportingUtilities;
 import org.w3c.dom.Element;
@@ -1853,7 +1853,7 @@ public class Refit extends Part implements IAcquisitionWork {
         try {
             MekSummary summary = Utilities.retrieveUnit(newEntity.getShortNameRaw());
 
-            newEntity = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            newEntity = EntityFactory.getInstance().getEntity(summary);
             LOGGER.info("Saved {} to {}", unitName, summary.getSourceFile());
         } catch (EntityLoadingException ex) {
             LOGGER.error(ex, "Could not read back refit entity {}", unitName);
@@ -249,6 +249,7 @@ public class SVEnginePart extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int engineHits = 0;
             int engineCrits = 0;
@@ -224,6 +224,7 @@ public class SpacecraftEngine extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int engineHits = 0;
             int engineCrits = 0;
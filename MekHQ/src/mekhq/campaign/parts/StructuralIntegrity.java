@@ -220,6 +220,7 @@ public class StructuralIntegrity extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if ((unit != null) && (unit.getEntity() instanceof Aero)) {
             pointsNeeded = ((Aero) unit.getEntity()).getOSI() - ((Aero) unit.getEntity()).getSI();
         }
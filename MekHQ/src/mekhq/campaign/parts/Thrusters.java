@@ -81,6 +81,7 @@ public class Thrusters extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit && unit.getEntity() instanceof Aero) {
             int priorHits = hits;
             if (isLeftThrusters) {
@@ -97,6 +97,7 @@ public class TransportBayPart extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         Bay bay = getBay();
         if (null != bay) {
             int prevHits = hits;
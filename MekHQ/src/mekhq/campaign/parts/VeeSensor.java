@@ -121,6 +121,7 @@ public class VeeSensor extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if ((null != unit) && (unit.getEntity() instanceof Tank)) {
             int priorHits = hits;
             hits = ((Tank) unit.getEntity()).getSensorHits();
@@ -146,6 +146,7 @@ public class VeeStabilizer extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit && unit.getEntity() instanceof Tank) {
             int priorHits = hits;
             if (((Tank) unit.getEntity()).isStabiliserHit(loc)) {
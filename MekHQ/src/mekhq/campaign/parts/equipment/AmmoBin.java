@@ -414,6 +414,7 @@ public class AmmoBin extends EquipmentPart implements IAcquisitionWork, IFabrica
     }
 
     public void loadBin() {
+        markUnitRepairStateChanged();
         AmmoMounted mounted = (AmmoMounted) getMounted();
         if (mounted == null) {
             return;
@@ -492,6 +493,7 @@ public class AmmoBin extends EquipmentPart implements IAcquisitionWork, IFabrica
      */
     public void setShotsNeeded(int shots) {
         this.shotsNeeded = Math.max(0, shots);
+        markUnitRepairStateChanged();
     }
 
     @Override
@@ -509,6 +511,7 @@ public class AmmoBin extends EquipmentPart implements IAcquisitionWork, IFabrica
     }
 
     public void unload() {
+        markUnitRepairStateChanged();
         // FIXME: the following won't work for proto and Dropper bins if they
         // are not attached to a unit. Currently the only place AmmoBins are loaded
         // off of units is for refits, which neither of those units can do, but we
@@ -580,6 +583,7 @@ public class AmmoBin extends EquipmentPart implements IAcquisitionWork, IFabrica
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         Mounted<?> mounted = getMounted();
         if (mounted != null) {
             if (mounted.isMissing() || mounted.isDestroyed()) {
@@ -639,6 +643,14 @@ public class AmmoBin extends EquipmentPart implements IAcquisitionWork, IFabrica
         }
     }
 
+    /**
+     * AmmoBins match on compatible ammo types rather than equal ones, so only the class can be used as the key.
+     */
+    @Override
+    public Object getPartTypeKey() {
+        return getClass();
+    }
+
     @Override
     public boolean isSamePartType(Part part) {
         // AmmoBins are the same type of part if they can hold the same
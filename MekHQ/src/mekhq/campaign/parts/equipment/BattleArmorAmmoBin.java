@@ -112,6 +112,7 @@ public class BattleArmorAmmoBin extends AmmoBin {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         Mounted<?> mounted = getMounted();
         if ((mounted != null) && !ammoTypeChanged()) {
             // Same ammo type, just a reload
@@ -153,6 +154,7 @@ public class BattleArmorAmmoBin extends AmmoBin {
      */
     @Override
     public void loadBin() {
+        markUnitRepairStateChanged();
         AmmoMounted mounted = (AmmoMounted) getMounted();
         if (mounted != null) {
 
@@ -187,6 +189,7 @@ public class BattleArmorAmmoBin extends AmmoBin {
 
     @Override
     public void unload() {
+        markUnitRepairStateChanged();
         int shots = 0;
 
         AmmoType curType = getType();
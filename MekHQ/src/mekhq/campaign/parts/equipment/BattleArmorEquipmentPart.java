@@ -155,6 +155,7 @@ public class BattleArmorEquipmentPart extends EquipmentPart {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit && isModular()) {
             Mounted<?> mounted = unit.getEntity().getEquipment(equipmentNum);
             if (null != mounted) {
@@ -34,6 +34,7 @@
 package mekhq.campaign.parts.equipment;
 
 import java.io.PrintWriter;
+import java.util.List;
 
 import jakarta.annotation.Nonnull;
 import megamek.common.CriticalSlot;
@@ -182,6 +183,17 @@ public class EquipmentPart extends Part {
                      && (!isUnitTonnageMatters() || getUnitTonnage() == part.getUnitTonnage());
     }
 
+    /**
+     * Equipment parts are only the same part type if they share a class and an equipment type, so both go into the key.
+     */
+    @Override
+    public Object getPartTypeKey() {
+        if (type == null) {
+            return super.getPartTypeKey();
+        }
+        return List.of(getClass(), type.getInternalName());
+    }
+
     @Override
     public void writeToXML(final PrintWriter pw, int indent) {
         indent = writeToXMLBegin(pw, indent);
@@ -285,6 +297,7 @@ public class EquipmentPart extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         final Unit unit = getUnit();
         final Mounted<?> mounted = getMounted();
         if ((unit == null) || (mounted == null)) {
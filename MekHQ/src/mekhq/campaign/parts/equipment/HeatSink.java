@@ -83,6 +83,7 @@ public class HeatSink extends EquipmentPart {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int priorHits = hits;
             Mounted<?> mounted = unit.getEntity().getEquipment(equipmentNum);
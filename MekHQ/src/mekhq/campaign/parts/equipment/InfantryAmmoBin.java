@@ -153,6 +153,7 @@ public class InfantryAmmoBin extends AmmoBin {
      * @param clips The new capacity in number of clips
      */
     public void changeCapacity(int clips) {
+        markUnitRepairStateChanged();
         int current = getCurrentShots();
         size = clips;
         shotsNeeded = getFullShots() - current;
@@ -170,10 +171,12 @@ public class InfantryAmmoBin extends AmmoBin {
     @Override
     public void setShotsNeeded(int shots) {
         this.shotsNeeded = shots;
+        markUnitRepairStateChanged();
     }
 
     @Override
     public void loadBin() {
+        markUnitRepairStateChanged();
         Mounted<?> mounted = getMounted();
 
         // Check if we have too much ammo in the bin ...
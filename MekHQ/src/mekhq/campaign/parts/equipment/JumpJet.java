@@ -125,6 +125,7 @@ public class JumpJet extends EquipmentPart {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int priorHits = hits;
             Mounted<?> mounted = unit.getEntity().getEquipment(equipmentNum);
@@ -241,6 +241,7 @@ public class LargeCraftAmmoBin extends AmmoBin {
      * Load a single ton of ammo into the bay.
      */
     public void loadBinSingleTon() {
+        markUnitRepairStateChanged();
         Mounted<?> mounted = getMounted();
         if (mounted != null) {
             // Inside a paid-for fabrication attempt the ton of shots is manufactured on the spot rather than drawn
@@ -273,6 +274,7 @@ public class LargeCraftAmmoBin extends AmmoBin {
      * Unload a single ton of ammo from the bay.
      */
     public void unloadSingleTon() {
+        markUnitRepairStateChanged();
         int shots = Math.min(getCurrentShots(), getType().getShots());
         AmmoType curType = getType();
 
@@ -313,6 +315,7 @@ public class LargeCraftAmmoBin extends AmmoBin {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         Mounted<?> mounted = getMounted();
         if (mounted != null) {
             size = mounted.getSize();
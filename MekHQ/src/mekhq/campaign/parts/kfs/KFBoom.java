@@ -112,6 +112,7 @@ public class KFBoom extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit && unit.getEntity() instanceof Dropship) {
             if (((Dropship) unit.getEntity()).isKFBoomDamaged()) {
@@ -109,6 +109,7 @@ public class KFDriveCoil extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit) {
             if (unit.getEntity() instanceof Jumpship) {
@@ -194,6 +194,7 @@ public class MekCockpit extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         int priorHits = hits;
         if (null != unit) {
             Entity entity = unit.getEntity();
@@ -204,6 +204,7 @@ public class MekGyro extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int priorHits = hits;
             hits = unit.getEntity()
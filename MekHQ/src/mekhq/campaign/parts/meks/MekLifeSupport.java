@@ -134,6 +134,7 @@ public class MekLifeSupport extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int priorHits = hits;
             Entity entity = unit.getEntity();
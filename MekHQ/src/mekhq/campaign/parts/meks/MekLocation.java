@@ -328,6 +328,7 @@ public class MekLocation extends Part {
      */
     public void setPercent(double percent) {
         this.percent = Math.clamp(percent, 0.0, 1.0);
+        markUnitRepairStateChanged();
     }
 
     @Override
@@ -470,6 +471,7 @@ public class MekLocation extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (getUnit() != null) {
             setBlownOff(getUnit().getEntity().isLocationBlownOff(getLoc()));
             setBreached(getUnit().isLocationBreached(getLoc()));
@@ -605,6 +607,7 @@ public class MekLocation extends Part {
      */
     public void setBreached(boolean breached) {
         this.breached = breached;
+        markUnitRepairStateChanged();
     }
 
     /**
@@ -621,6 +624,7 @@ public class MekLocation extends Part {
      */
     public void setBlownOff(boolean blownOff) {
         this.blownOff = blownOff;
+        markUnitRepairStateChanged();
     }
 
     @Override
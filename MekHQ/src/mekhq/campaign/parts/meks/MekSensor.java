@@ -143,6 +143,7 @@ public class MekSensor extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int priorHits = hits;
             Entity entity = unit.getEntity();
@@ -184,6 +184,7 @@ public class ProtoMekArmActuator extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int priorHits = hits;
             hits = unit.getEntity()
@@ -177,6 +177,7 @@ public class ProtoMekJumpJet extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         //FIXME: implement check for destruction
         if (null != unit) {
             hits = unit.getEntity()
@@ -145,6 +145,7 @@ public class ProtoMekLegActuator extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int priorHits = hits;
             hits = unit.getEntity()
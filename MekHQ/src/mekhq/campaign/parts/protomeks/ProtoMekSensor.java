@@ -144,6 +144,7 @@ public class ProtoMekSensor extends Part {
 
     @Override
     public void updateConditionFromEntity(boolean checkForDestruction) {
+        markUnitRepairStateChanged();
         if (null != unit) {
             int priorHits = hits;
             hits = unit.getEntity()
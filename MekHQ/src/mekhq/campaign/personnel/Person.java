@@ -79,6 +79,7 @@ import static mekhq.utilities.ReportingUtilities.getPositiveColor;
 import static mekhq.utilities.ReportingUtilities.getWarningColor;
 import static mekhq.utilities.ReportingUtilities.spanOpeningWithCustomColor;
 
+import java.awt.Image;
 import java.io.PrintWriter;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -178,6 +179,7 @@ import mekhq.campaign.universe.Planet;
 import mekhq.campaign.universe.PlanetarySystem;
 import mekhq.campaign.work.IPartWork;
 import mekhq.utilities.MHQXMLUtility;
+import mekhq.utilities.ScaledImageCache;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -337,6 +339,9 @@ public class Person implements ILocatable {
     private UUID doctorId;
     private List<Unit> techUnits;
 
+    // The roster index this person is filed in, kept up to date when indexed fields change
+    private PersonnelIndex personnelIndex;
+
     private int vocationalXPTimer;
 
     // days of rest
@@ -822,6 +827,7 @@ public class Person implements ILocatable {
      */
     public void setPrisonerStatusDirect(final PrisonerStatus prisonerStatus) {
         this.prisonerStatus = prisonerStatus;
+        updatePersonnelIndex();
     }
 
     // region Text Getters
@@ -1151,6 +1157,29 @@ public class Person implements ILocatable {
                      portrait.getImageIcon(targetPixelWidth);
     }
 
+    /**
+     * Retrieves the full-size portrait image, falling back to the origin faction's logo if the portrait is absent or
+     * set to a default/placeholder.
+     *
+     * <p>The image is decoded once and shared through the {@link ScaledImageCache}, so it is the same instance from
+     * call to call and can be passed straight to {@link ScaledImageCache#getScaledIcon(Image, int, int)}.</p>
+     *
+     * @return the decoded portrait or faction logo, or {@code null} if it could not be loaded
+     */
+    public @Nullable Image getPortraitImageWithFallback() {
+        final boolean isDefaultPortrait = portrait == null ||
+                                                portrait.getFilename().equalsIgnoreCase(DEFAULT_PORTRAIT_FILENAME) ||
+                                                portrait.getFilename().equalsIgnoreCase(NO_PORTRAIT_NAME);
+
+        if (isDefaultPortrait) {
+            return getFallbackPortrait().getImage();
+        }
+
+        final Portrait source = portrait;
+        return ScaledImageCache.getSourceImage(List.of(Portrait.class, source.getCategory(), source.getFilename()),
+              source::getBaseImage);
+    }
+
     /**
      * Retrieves a fallback portrait image when no specific portrait is available.
      *
@@ -1244,6 +1273,7 @@ public class Person implements ILocatable {
 
     public void setPrimaryRoleDirect(final PersonnelRole primaryRole) {
         this.primaryRole = primaryRole;
+        updatePersonnelIndex();
     }
 
     public PersonnelRole getSecondaryRole() {
@@ -1261,6 +1291,7 @@ public class Person implements ILocatable {
 
     public void setSecondaryRoleDirect(final PersonnelRole secondaryRole) {
         this.secondaryRole = secondaryRole;
+        updatePersonnelIndex();
     }
 
     /**
@@ -1858,7 +1889,7 @@ public class Person implements ILocatable {
             campaign.addReport(PERSONNEL, injuryHealingReport);
 
             if (injuries.isEmpty()) {
-                doctorId = null;
+                clearDoctorId();
             }
         }
     }
@@ -2018,6 +2049,7 @@ public class Person implements ILocatable {
      */
     public void setStatus(final PersonnelStatus status) {
         this.status = status;
+        updatePersonnelIndex();
     }
 
     public int getVocationalXPTimer() {
@@ -2159,7 +2191,7 @@ public class Person implements ILocatable {
      */
     public void setRecruitment(final @Nullable LocalDate recruitment) {
         if (recruitment == null) {
-            status = PersonnelStatus.CAMP_FOLLOWER;
+            setStatus(PersonnelStatus.CAMP_FOLLOWER);
         }
 
         this.recruitment = recruitment;
@@ -2813,6 +2845,25 @@ public class Person implements ILocatable {
     public void setDoctorId(final @Nullable UUID doctorId, final int daysToWaitForHealing) {
         this.doctorId = doctorId;
         this.daysToWaitForHealing = daysToWaitForHealing;
+        updatePersonnelIndex();
+    }
+
+    private void clearDoctorId() {
+        doctorId = null;
+        updatePersonnelIndex();
+    }
+
+    /**
+     * Sets the roster index this person is filed in. This is managed by {@link PersonnelIndex}.
+     */
+    void setPersonnelIndex(final @Nullable PersonnelIndex personnelIndex) {
+        this.personnelIndex = personnelIndex;
+    }
+
+    private void updatePersonnelIndex() {
+        if (personnelIndex != null) {
+            personnelIndex.update(this);
+        }
     }
 
     public void decrementDaysToWaitForHealing() {
@@ -6166,7 +6217,7 @@ public class Person implements ILocatable {
     public void heal() {
         hits = max(hits - 1, 0);
         if (!needsFixing()) {
-            doctorId = null;
+            clearDoctorId();
         }
     }
 
@@ -8098,7 +8149,7 @@ public class Person implements ILocatable {
         }
 
         if (injuries.isEmpty()) {
-            doctorId = null;
+            clearDoctorId();
         }
 
         MekHQ.triggerEvent(new PersonChangedEvent(this));
@@ -8133,7 +8184,7 @@ public class Person implements ILocatable {
         }
 
         if (injuries.isEmpty()) {
-            doctorId = null;
+            clearDoctorId();
         }
 
         MekHQ.triggerEvent(new PersonChangedEvent(this));
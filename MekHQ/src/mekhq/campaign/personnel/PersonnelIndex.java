@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.personnel.enums.PersonnelStatus;
+import mekhq.campaign.randomEvents.prisoners.PrisonerStatus;
+
+/**
+ * Indexes a roster of personnel by primary and secondary role, status, prisoner status, and assigned doctor, so
+ * lookups on those fields do not need to scan the whole roster.
+ *
+ * <p>A person added to the index keeps a reference to it, and the {@link Person} setters for the indexed fields call
+ * {@link #update(Person)} whenever they change. Every bucket is ordered by the order people were added to the index,
+ * so the results come back in the same order as the roster they were built from.</p>
+ */
+public class PersonnelIndex {
+    /**
+     * The values a person is currently filed under, so they can be found again when those values change.
+     */
+    private record IndexEntry(long sequence, @Nullable PersonnelRole primaryRole, @Nullable PersonnelRole secondaryRole,
+          @Nullable PersonnelStatus status, @Nullable PrisonerStatus prisonerStatus, @Nullable UUID doctorId) {
+        static IndexEntry of(long sequence, Person person) {
+            return new IndexEntry(sequence,
+                  person.getPrimaryRole(),
+                  person.getSecondaryRole(),
+                  person.getStatus(),
+                  person.getPrisonerStatus(),
+                  person.getDoctorId());
+        }
+
+        boolean matches(Person person) {
+            return (primaryRole == person.getPrimaryRole()) &&
+                         (secondaryRole == person.getSecondaryRole()) &&
+                         (status == person.getStatus()) &&
+                         (prisonerStatus == person.getPrisonerStatus()) &&
+                         Objects.equals(doctorId, person.getDoctorId());
+        }
+    }
+
+    private final Map<Person, IndexEntry> entries = new IdentityHashMap<>();
+    private final Map<PersonnelRole, NavigableMap<Long, Person>> byRole = new EnumMap<>(PersonnelRole.class);
+    private final Map<PersonnelStatus, NavigableMap<Long, Person>> byStatus = new EnumMap<>(PersonnelStatus.class);
+    private final Map<PrisonerStatus, NavigableMap<Long, Person>> byPrisonerStatus =
+          new EnumMap<>(PrisonerStatus.class);
+    private final Map<UUID, NavigableMap<Long, Person>> byDoctor = new HashMap<>();
+    private long nextSequence;
+
+    /**
+     * Adds a person to the index. Adding a person who is already indexed only refreshes their entry.
+     */
+    public synchronized void add(Person person) {
+        IndexEntry entry = entries.get(person);
+        if (entry != null) {
+            refresh(person, entry);
+            return;
+        }
+
+        entry = IndexEntry.of(nextSequence++, person);
+        entries.put(person, entry);
+        file(person, entry);
+        person.setPersonnelIndex(this);
+    }
+
+    /**
+     * Removes a person from the index.
+     */
+    public synchronized void remove(Person person) {
+        IndexEntry entry = entries.remove(person);
+        if (entry != null) {
+            unfile(entry);
+            person.setPersonnelIndex(null);
+        }
+    }
+
+    /**
+     * Refiles a person after one of their indexed fields has changed. People who are not in this index are ignored.
+     */
+    public synchronized void update(Person person) {
+        IndexEntry entry = entries.get(person);
+        if (entry != null) {
+            refresh(person, entry);
+        }
+    }
+
+    /**
+     * @return Everyone with a primary or secondary role matching the filter.
+     */
+    public synchronized List<Person> getByRole(Predicate<PersonnelRole> filter) {
+        return collect(byRole, filter);
+    }
+
+    /**
+     * @return Everyone with a status matching the filter.
+     */
+    public synchronized List<Person> getByStatus(Predicate<PersonnelStatus> filter) {
+        return collect(byStatus, filter);
+    }
+
+    /**
+     * @return Everyone with a prisoner status matching the filter.
+     */
+    public synchronized List<Person> getByPrisonerStatus(Predicate<PrisonerStatus> filter) {
+        return collect(byPrisonerStatus, filter);
+    }
+
+    /**
+     * @return The patients assigned to the doctor with the given id.
+     */
+    public synchronized List<Person> getPatientsOf(UUID doctorId) {
+        NavigableMap<Long, Person> patients = byDoctor.get(doctorId);
+        return (patients == null) ? new ArrayList<>() : new ArrayList<>(patients.values());
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private void refresh(Person person, IndexEntry entry) {
+        if (entry.matches(person)) {
+            return;
+        }
+
+        unfile(entry);
+        IndexEntry updated = IndexEntry.of(entry.sequence(), person);
+        entries.put(person, updated);
+        file(person, updated);
+    }
+
+    private void file(Person person, IndexEntry entry) {
+        Long key = entry.sequence();
+        if (entry.primaryRole() != null) {
+            byRole.computeIfAbsent(entry.primaryRole(), k -> new TreeMap<>()).put(key, person);
+        }
+        if (entry.secondaryRole() != null) {
+            byRole.computeIfAbsent(entry.secondaryRole(), k -> new TreeMap<>()).put(key, person);
+        }
+        if (entry.status() != null) {
+            byStatus.computeIfAbsent(entry.status(), k -> new TreeMap<>()).put(key, person);
+        }
+        if (entry.prisonerStatus() != null) {
+            byPrisonerStatus.computeIfAbsent(entry.prisonerStatus(), k -> new TreeMap<>()).put(key, person);
+        }
+        if (entry.doctorId() != null) {
+            byDoctor.computeIfAbsent(entry.doctorId(), k -> new TreeMap<>()).put(key, person);
+        }
+    }
+
+    private void unfile(IndexEntry entry) {
+        Long key = entry.sequence();
+        removeFrom(byRole, entry.primaryRole(), key);
+        removeFrom(byRole, entry.secondaryRole(), key);
+        removeFrom(byStatus, entry.status(), key);
+        removeFrom(byPrisonerStatus, entry.prisonerStatus(), key);
+        removeFrom(byDoctor, entry.doctorId(), key);
+    }
+
+    private static <K> void removeFrom(Map<K, NavigableMap<Long, Person>> buckets, @Nullable K bucketKey, Long key) {
+        if (bucketKey == null) {
+            return;
+        }
+
+        NavigableMap<Long, Person> bucket = buckets.get(bucketKey);
+        if (bucket != null) {
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                buckets.remove(bucketKey);
+            }
+        }
+    }
+
+    private static <K> List<Person> collect(Map<K, NavigableMap<Long, Person>> buckets, Predicate<K> filter) {
+        NavigableMap<Long, Person> matches = null;
+        boolean shared = true;
+        for (Map.Entry<K, NavigableMap<Long, Person>> bucket : buckets.entrySet()) {
+            if (!filter.test(bucket.getKey())) {
+                continue;
+            }
+
+            if (matches == null) {
+                matches = bucket.getValue();
+            } else {
+                // Merge through a new map so people filed under two matching roles only appear once, in roster order
+                if (shared) {
+                    matches = new TreeMap<>(matches);
+                    shared = false;
+                }
+                matches.putAll(bucket.getValue());
+            }
+        }
+        return (matches == null) ? new ArrayList<>() : new ArrayList<>(matches.values());
+    }
+}
@@ -221,10 +221,7 @@ public class AutoAwardsController {
         }
 
         if (!allAwardData.isEmpty()) {
-            AutoAwardsDialog autoAwardsDialog = new AutoAwardsDialog(this.campaign, allAwardData, 0);
-            autoAwardsDialog.setModalityType(ModalityType.APPLICATION_MODAL);
-            autoAwardsDialog.setLocation(autoAwardsDialog.getLocation().x, 0);
-            autoAwardsDialog.setVisible(true);
+            presentAwards(allAwardData);
         } else {
             logger.info("Zero personnel were found eligible for Awards");
         }
@@ -655,6 +652,67 @@ public class AutoAwardsController {
         }
     }
 
+    /**
+     * Presents the award ceremony for the eligible personnel.
+     *
+     * <p>During an unattended run there is nobody to review the ceremony, so every award the dialog would have
+     * pre-selected is granted directly.</p>
+     *
+     * @param allAwardData the ceremony pages, each mapping a row index to the person, award and selection state
+     */
+    private void presentAwards(Map<Integer, Map<Integer, List<Object>>> allAwardData) {
+        if (campaign.isUnattended()) {
+            for (Map<Integer, List<Object>> page : allAwardData.values()) {
+                for (List<Object> row : page.values()) {
+                    if ((boolean) row.get(2)) {
+                        UUID personId = (UUID) row.getFirst();
+                        Person person = campaign.getPlayerForce().getHumanResources().getPerson(personId);
+                        grantAward(campaign, person, (Award) row.get(1));
+                    }
+                }
+            }
+            return;
+        }
+
+        AutoAwardsDialog autoAwardsDialog = new AutoAwardsDialog(campaign, allAwardData, 0);
+        autoAwardsDialog.setModalityType(ModalityType.APPLICATION_MODAL);
+        autoAwardsDialog.setLocation(autoAwardsDialog.getLocation().x, 0);
+        autoAwardsDialog.setVisible(true);
+    }
+
+    /**
+     * Grants an award to a person. A promotion rank award replaces any promotion rank awards the person already holds.
+     *
+     * @param campaign the campaign the person belongs to
+     * @param person   the person receiving the award
+     * @param award    the award to grant
+     */
+    public static void grantAward(Campaign campaign, Person person, Award award) {
+        List<Award> awardsForRemoval = new ArrayList<>();
+
+        if ((award.canBeAwarded(person))
+                  && (award.getItem().equalsIgnoreCase("rank"))
+                  && (award.getRange().equalsIgnoreCase("Promotion"))) {
+            for (Award existingAward : person.getAwardController().getAwards()) {
+                if ((!existingAward.getItem().equalsIgnoreCase("rank"))
+                          || (!existingAward.getRange().equalsIgnoreCase("promotion"))) {
+                    continue;
+                }
+
+                awardsForRemoval.add(existingAward);
+            }
+        }
+
+        for (Award awardPendingRemoval : awardsForRemoval) {
+            person.getAwardController().removeAwardSilent(
+                  awardPendingRemoval.getSet(),
+                  awardPendingRemoval.getName(),
+                  null);
+        }
+
+        person.getAwardController().addAndLogAward(campaign, award.getSet(), award.getName(), campaign.getLocalDate());
+    }
+
     /**
      * Process the awards for the given personnel.
      *
@@ -784,10 +842,7 @@ public class AutoAwardsController {
         }
 
         if (!allAwardData.isEmpty()) {
-            AutoAwardsDialog autoAwardsDialog = new AutoAwardsDialog(campaign, allAwardData, 0);
-            autoAwardsDialog.setModalityType(ModalityType.APPLICATION_MODAL);
-            autoAwardsDialog.setLocation(autoAwardsDialog.getLocation().x, 0);
-            autoAwardsDialog.setVisible(true);
+            presentAwards(allAwardData);
         } else {
             logger.info("Zero personnel were found eligible for Awards");
 
@@ -701,7 +701,7 @@ public class RandomDeath {
 
             // Announce death if applicable, needs to be before we change the status
             String deathAnnouncementNagConstant = RandomDeathAnnouncement.getRandomDeathAnnouncementNagConstant(person);
-            if (RandomDeathAnnouncement.checkNag(deathAnnouncementNagConstant)) {
+            if (!campaign.isUnattended() && RandomDeathAnnouncement.checkNag(deathAnnouncementNagConstant)) {
                 new RandomDeathAnnouncement(campaign, person, causeOfDeath, deathAnnouncementNagConstant);
             }
 
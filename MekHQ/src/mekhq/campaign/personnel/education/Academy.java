@@ -34,6 +34,7 @@ package mekhq.campaign.personnel.education;
 
 import static java.lang.Math.min;
 
+import java.awt.GraphicsEnvironment;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
@@ -1329,13 +1330,17 @@ public class Academy implements Comparable<Academy> {
             default -> null;
         };
 
+        // This has no campaign to ask whether anybody is watching, so a headless run only gets the log entry
         if (result == null) {
-            JOptionPane.showMessageDialog(
-                  null,
-                  "Unrecognized skill: " + skill + ". If you are using a custom academy, please remove this skill.",
-                  "Unknown Skill",
-                  JOptionPane.WARNING_MESSAGE
-            );
+            LOGGER.warn("Unrecognized academy skill: {}", skill);
+            if (!GraphicsEnvironment.isHeadless()) {
+                JOptionPane.showMessageDialog(
+                      null,
+                      "Unrecognized skill: " + skill + ". If you are using a custom academy, please remove this skill.",
+                      "Unknown Skill",
+                      JOptionPane.WARNING_MESSAGE
+                );
+            }
         }
 
         return result;
@@ -303,6 +303,44 @@ public class Genealogy {
         }
     }
 
+    /**
+     * @param depth the number of generations to collect
+     *
+     * @return this person and their ancestors, collected the way {@link #checkMutualAncestors(Person, int)} collects
+     *       them for this person
+     */
+    public Set<Person> getAncestors(final int depth) {
+        final Set<Person> ancestors = new HashSet<>();
+        collectAncestors(getOrigin(), depth, ancestors);
+        return ancestors;
+    }
+
+    /**
+     * @param depth the number of generations to search
+     *
+     * @return this person and every ancestor reachable within {@code depth} generations by any line of descent, which
+     *       are the people {@link #checkMutualAncestors(Person, int)} searches for the other person
+     */
+    public Set<Person> getReachableAncestors(final int depth) {
+        final Map<Person, Integer> remainingDepths = new HashMap<>();
+        collectReachableAncestors(getOrigin(), depth, remainingDepths);
+        return remainingDepths.keySet();
+    }
+
+    private static void collectReachableAncestors(Person person, int depth, Map<Person, Integer> remainingDepths) {
+        final Integer remainingDepth = remainingDepths.get(person);
+        if ((remainingDepth != null) && (remainingDepth >= depth)) {
+            // Already searched from here with at least as many generations left
+            return;
+        }
+        remainingDepths.put(person, depth);
+        if (depth > 0) {
+            for (Person parent : person.getGenealogy().getParents()) {
+                collectReachableAncestors(parent, depth - 1, remainingDepths);
+            }
+        }
+    }
+
     /**
      * Accumulates ancestors of {@code person} up to {@code depth} generations into {@code accumulator}. Passing the set
      * down avoids the per-level allocation and repeated {@code addAll} merges that the original recursive pattern
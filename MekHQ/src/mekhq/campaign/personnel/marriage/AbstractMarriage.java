@@ -38,12 +38,14 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.function.BooleanSupplier;
 
 import megamek.common.annotations.Nullable;
 import megamek.common.compute.Compute;
 import megamek.common.enums.Gender;
 import mekhq.MekHQ;
 import mekhq.campaign.Campaign;
+import mekhq.campaign.ForceHumanResources;
 import mekhq.campaign.campaignOptions.CampaignOptions;
 import mekhq.campaign.campaignOptions.CampaignOption;
 import mekhq.campaign.events.persons.PersonChangedEvent;
@@ -64,6 +66,7 @@ public abstract class AbstractMarriage {
     private boolean usePrisonerMarriages;
     private boolean useRandomClanPersonnelMarriages;
     private boolean useRandomPrisonerMarriages;
+    private RandomSpousePool randomSpousePool;
 
     private static final ResourceBundle resources = ResourceBundle.getBundle("mekhq.resources.Personnel",
           MekHQ.getMHQOptions().getLocale());
@@ -179,6 +182,14 @@ public abstract class AbstractMarriage {
      */
     public boolean safeSpouse(final Campaign campaign, final LocalDate today, final Person person,
           final Person potentialSpouse, final boolean randomMarriage) {
+        return safeSpouse(today, person, potentialSpouse, randomMarriage,
+              () -> person.getGenealogy()
+                          .checkMutualAncestors(potentialSpouse,
+                                campaign.getCampaignOptions().get(CampaignOption.CHECK_MUTUAL_ANCESTORS_DEPTH)));
+    }
+
+    private boolean safeSpouse(final LocalDate today, final Person person, final Person potentialSpouse,
+          final boolean randomMarriage, final BooleanSupplier hasMutualAncestors) {
         // Can't marry yourself
         // Can't marry someone who can't currently marry
         // Can't marry a close relative
@@ -190,9 +201,7 @@ public abstract class AbstractMarriage {
 
         if (person.equals(potentialSpouse) ||
                   (canMarry(today, potentialSpouse, randomMarriage) != null) ||
-                  person.getGenealogy()
-                        .checkMutualAncestors(potentialSpouse,
-                              campaign.getCampaignOptions().get(CampaignOption.CHECK_MUTUAL_ANCESTORS_DEPTH))) {
+                  hasMutualAncestors.getAsBoolean()) {
             return false;
         } else if (randomMarriage) {
             return person.getPrisonerStatus().isCurrentPrisoner() ==
@@ -355,12 +364,15 @@ public abstract class AbstractMarriage {
         Person spouse = null;
 
         if (isInterUnit) {
-            List<Person> activePersonnel = campaign.getPlayerForce().getHumanResources().getActivePersonnel(true, true);
+            RandomSpousePool spousePool = getRandomSpousePool(campaign, today);
             potentialSpouses = new ArrayList<>();
 
-            for (Person potentialSpouse : activePersonnel) {
-                if (isPotentialRandomSpouse(campaign, today, person, potentialSpouse)) {
-                    potentialSpouses.add(potentialSpouse);
+            if (!spousePool.isEmpty()) {
+                int ageRange = campaign.getCampaignOptions().get(CampaignOption.RANDOM_MARRIAGE_AGE_RANGE);
+                for (Person potentialSpouse : spousePool.getCandidates(person, ageRange)) {
+                    if (isPotentialRandomSpouse(campaign, today, person, potentialSpouse, spousePool)) {
+                        potentialSpouses.add(potentialSpouse);
+                    }
                 }
             }
 
@@ -389,6 +401,21 @@ public abstract class AbstractMarriage {
         marry(campaign, today, person, spouse, MergingSurnameStyle.WEIGHTED, isBackground);
     }
 
+    /**
+     * Returns the pool of possible random spouses for the day, building it on the first search of the day and again
+     * whenever someone joins or leaves the campaign.
+     */
+    private RandomSpousePool getRandomSpousePool(final Campaign campaign, final LocalDate today) {
+        final ForceHumanResources humanResources = campaign.getPlayerForce().getHumanResources();
+        final int personnelCount = humanResources.getPersonnel().size();
+        final int ancestryDepth = campaign.getCampaignOptions().get(CampaignOption.CHECK_MUTUAL_ANCESTORS_DEPTH);
+        if ((randomSpousePool == null) || !randomSpousePool.isFor(today, personnelCount, ancestryDepth)) {
+            randomSpousePool = new RandomSpousePool(today, personnelCount, ancestryDepth,
+                  humanResources.getActivePersonnel(true, true));
+        }
+        return randomSpousePool;
+    }
+
     private static List<Gender> getPossibleGenders(Person person) {
         List<Gender> possibleGenders = new ArrayList<>();
         if (person.isPrefersMen()) {
@@ -464,6 +491,16 @@ public abstract class AbstractMarriage {
      */
     protected boolean isPotentialRandomSpouse(final Campaign campaign, final LocalDate today, final Person person,
           final Person potentialSpouse) {
+        return isPotentialRandomSpouse(campaign, today, person, potentialSpouse, null);
+    }
+
+    /**
+     * @param spousePool the pool to take collected ancestors from, or {@code null} to walk the family tree
+     *
+     * @see #isPotentialRandomSpouse(Campaign, LocalDate, Person, Person)
+     */
+    private boolean isPotentialRandomSpouse(final Campaign campaign, final LocalDate today, final Person person,
+          final Person potentialSpouse, final @Nullable RandomSpousePool spousePool) {
         // A Potential Spouse must:
         // 1. Be a compatible gender
         if (!isGenderCompatible(person, potentialSpouse)) {
@@ -471,7 +508,12 @@ public abstract class AbstractMarriage {
         }
 
         // 2. Be a safe spouse for the current person
-        if (!safeSpouse(campaign, today, person, potentialSpouse, true)) {
+        if (spousePool == null) {
+            if (!safeSpouse(campaign, today, person, potentialSpouse, true)) {
+                return false;
+            }
+        } else if (!safeSpouse(today, person, potentialSpouse, true,
+              () -> spousePool.hasMutualAncestors(person, potentialSpouse))) {
             return false;
         }
 
@@ -0,0 +1,180 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel.marriage;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import megamek.common.enums.Gender;
+import mekhq.campaign.personnel.Person;
+
+/**
+ * The people who could be chosen as a random spouse on a given day, so that each search for a spouse only looks at
+ * people of a gender the searcher prefers and within the age range, rather than at the whole campaign.
+ *
+ * <p>Only the attributes that do not change while a day is processed are used to narrow the search: gender and age.
+ * Everything else, such as marital and prisoner status, is still checked against each candidate, so the candidates
+ * found are exactly those the full search would find, in the same order.</p>
+ *
+ * <p>The ancestors of each person are collected once and kept for the life of the pool, rather than being walked
+ * again for every pair of people checked.</p>
+ */
+final class RandomSpousePool {
+    private record Candidate(int index, Person person) {
+    }
+
+    private final LocalDate date;
+    private final int personnelCount;
+    private final int ancestryDepth;
+    private final int size;
+    private final NavigableMap<Integer, List<Candidate>> menByAge = new TreeMap<>();
+    private final NavigableMap<Integer, List<Candidate>> womenByAge = new TreeMap<>();
+    private final Map<Person, Set<Person>> collectedAncestors = new HashMap<>();
+    private final Map<Person, Set<Person>> reachableAncestors = new HashMap<>();
+
+    /**
+     * @param date            the day the pool is for
+     * @param personnelCount  the number of personnel in the campaign, used to notice people joining or leaving
+     * @param ancestryDepth   the number of generations to check for mutual ancestors
+     * @param activePersonnel the people who could be chosen, in the order the full search would check them
+     */
+    RandomSpousePool(final LocalDate date, final int personnelCount, final int ancestryDepth,
+          final List<Person> activePersonnel) {
+        this.date = date;
+        this.personnelCount = personnelCount;
+        this.ancestryDepth = ancestryDepth;
+        this.size = activePersonnel.size();
+
+        for (int index = 0; index < activePersonnel.size(); index++) {
+            final Person person = activePersonnel.get(index);
+            final Gender gender = person.getGender();
+            final NavigableMap<Integer, List<Candidate>> bucket = gender.isMale() ? menByAge
+                                                                        : (gender.isFemale() ? womenByAge : null);
+            // Nobody can prefer a gender that is neither
+            if (bucket != null) {
+                bucket.computeIfAbsent(person.getAge(date), age -> new ArrayList<>())
+                      .add(new Candidate(index, person));
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the pool was built for the given day, campaign size, and ancestry depth
+     */
+    boolean isFor(final LocalDate date, final int personnelCount, final int ancestryDepth) {
+        return this.date.equals(date) && (this.personnelCount == personnelCount) &&
+                     (this.ancestryDepth == ancestryDepth);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Finds the people of a gender the person prefers whose age is within the given range of theirs. These still need
+     * to be checked as potential spouses.
+     *
+     * @param person   the person looking for a spouse
+     * @param ageRange the largest age difference allowed
+     *
+     * @return the candidates, in the order the full search would check them
+     */
+    List<Person> getCandidates(final Person person, final int ageRange) {
+        if (ageRange < 0) {
+            return List.of();
+        }
+
+        final int age = person.getAge(date);
+        final List<Candidate> candidates = new ArrayList<>();
+        if (person.isPrefersMen()) {
+            addCandidates(menByAge, age, ageRange, candidates);
+        }
+
+        if (person.isPrefersWomen()) {
+            addCandidates(womenByAge, age, ageRange, candidates);
+        }
+
+        candidates.sort(Comparator.comparingInt(Candidate::index));
+        return candidates.stream().map(Candidate::person).toList();
+    }
+
+    private static void addCandidates(final NavigableMap<Integer, List<Candidate>> bucket, final int age,
+          final int ageRange, final List<Candidate> candidates) {
+        for (List<Candidate> sameAge : bucket.subMap(age - ageRange, true, age + ageRange, true).values()) {
+            candidates.addAll(sameAge);
+        }
+    }
+
+    /**
+     * Gives the same answer as {@code person.getGenealogy().checkMutualAncestors(potentialSpouse, ancestryDepth)},
+     * using the ancestors collected for each of them.
+     *
+     * @param person          the person looking for a spouse
+     * @param potentialSpouse the person being checked
+     *
+     * @return {@code true} if the two share an ancestor, or are the same person
+     */
+    boolean hasMutualAncestors(final Person person, final Person potentialSpouse) {
+        if (person.equals(potentialSpouse)) {
+            return true;
+        } else if (ancestryDepth == 0) {
+            return false;
+        }
+
+        // The two sides are collected the same way the genealogy check collects them
+        final Set<Person> personAncestors = collectedAncestors.computeIfAbsent(person,
+              origin -> origin.getGenealogy().getAncestors(ancestryDepth));
+        final Set<Person> spouseAncestors = reachableAncestors.computeIfAbsent(potentialSpouse,
+              spouse -> spouse.getGenealogy().getReachableAncestors(ancestryDepth));
+        return containsAny(personAncestors, spouseAncestors);
+    }
+
+    private static boolean containsAny(final Set<Person> first, final Set<Person> second) {
+        final Collection<Person> smaller = (first.size() <= second.size()) ? first : second;
+        final Set<Person> larger = (smaller == first) ? second : first;
+        for (Person person : smaller) {
+            if (larger.contains(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -109,7 +109,7 @@ public class Inoculations {
      *
      * <p>This method determines which personnel need inoculations for the current planet, calculates the costs, and
      * presents dialog options to the player. Handles cases where the campaign is in transit or all personnel are
-     * already vaccinated.</p>
+     * already vaccinated. Automatic prompts raised during an unattended run inoculate everybody without asking.</p>
      *
      * @param campaign the current campaign
      * @param isAdHoc  {@code true} if this is an adhoc request (player-initiated), {@code false} if automatic
@@ -119,6 +119,12 @@ public class Inoculations {
      */
     public static void triggerInoculationPrompt(Campaign campaign, boolean isAdHoc) {
         AbstractLocation location = campaign.getPlayerForce().getForceDetachment().getCurrentLocation();
+        if (!isAdHoc && campaign.isUnattended()) {
+            // Nobody is there to answer the prompt, so fall back to the blanket inoculation silent arrivals use
+            autoInoculateAll(campaign, location);
+            return;
+        }
+
         if (!location.isOnPlanet()) {
             new ImmersiveDialogNotification(campaign, getTextAt(RESOURCE_BUNDLE, "Inoculations.inTransit"), true);
             return;
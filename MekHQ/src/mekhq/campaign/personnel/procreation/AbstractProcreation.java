@@ -530,7 +530,8 @@ public abstract class AbstractProcreation {
             }
 
             // Alert the player, but only show this dialog for the first child with twins/triplets/etc
-            if (campaignOptions.get(CampaignOption.SHOW_LIFE_EVENT_DIALOG_BIRTHS) && (i == 0)) {
+            if (campaignOptions.get(CampaignOption.SHOW_LIFE_EVENT_DIALOG_BIRTHS) && (i == 0)
+                      && !campaign.isUnattended()) {
                 new BirthAnnouncement(campaign, mother, baby.getGender(), size);
             }
         }
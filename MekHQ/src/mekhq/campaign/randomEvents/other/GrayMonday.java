@@ -146,6 +146,10 @@ public class GrayMonday {
         String inCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE, resourceKey, commanderAddress);
         String outOfCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE, "dialog.ooc");
 
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         new ImmersiveDialogSimple(campaign,
               speaker,
               null,
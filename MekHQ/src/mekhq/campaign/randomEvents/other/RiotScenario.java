@@ -261,6 +261,10 @@ public class RiotScenario {
             }
         }
 
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         // Trigger a dialog to inform the user that an interception has taken place
         String commanderAddress = campaign.getCommanderAddress();
         String key;
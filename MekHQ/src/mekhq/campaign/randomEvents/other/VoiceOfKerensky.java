@@ -170,6 +170,10 @@ public class VoiceOfKerensky {
         List<String> buttons = List.of(
               getFormattedTextAt(RESOURCE_BUNDLE, "button.acknowledge"));
 
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         new ImmersiveDialogSimple(campaign,
               speaker,
               null,
@@ -174,7 +174,8 @@ public class PrisonerEventManager {
             int prisonerCapacityUsage = calculatePrisonerCapacityUsage(campaign);
             int prisonerCapacity = calculatePrisonerCapacity(campaign);
 
-            checkForPrisonerEvents(false, totalPrisoners, prisonerCapacityUsage, prisonerCapacity);
+            checkForPrisonerEvents(campaign.isUnattended(), totalPrisoners, prisonerCapacityUsage,
+                  prisonerCapacity);
         }
     }
 
@@ -544,7 +545,9 @@ public class PrisonerEventManager {
             ContractMoraleLevel oldMorale = relevantContract.getMoraleLevel();
             ContractMoraleLevel newMorale = relevantContract.changeMorale(1);
 
-            new PrisonerIntelBreachDialog(campaign, relevantContract, oldMorale, newMorale);
+            if (!campaign.isUnattended()) {
+                new PrisonerIntelBreachDialog(campaign, relevantContract, oldMorale, newMorale);
+            }
         }
     }
 
@@ -628,10 +631,16 @@ public class PrisonerEventManager {
      * <p>This method exists to assist testing. As it allows us to suppress the dialog without
      * launching an actual popup.</p>
      *
+     * <p>Nobody is there to negotiate during an unattended run, so the offer is declined.</p>
+     *
      * @param isFriendlyPOWs {@code true} if the ransom event is for friendly POWs, {@code false} if it's for enemy
      *                       prisoners.
      */
     protected void triggerRansomEvent(boolean isFriendlyPOWs) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         new PrisonerRansomEvent(campaign, isFriendlyPOWs);
     }
 
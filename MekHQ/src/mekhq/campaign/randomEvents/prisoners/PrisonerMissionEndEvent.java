@@ -167,19 +167,24 @@ public class PrisonerMissionEndEvent {
             outOfCharacterMessage = getFormattedTextAt(RESOURCE_BUNDLE, "prisoners.ransom.ooc");
         }
 
-        ImmersiveDialogSimple dialog = new ImmersiveDialogSimple(campaign,
-              campaign.getPlayerForce().getHumanResources()
-                    .getSeniorAdminPerson(campaign.getCampaignOptions(),
-                          campaign.getPlayerForce().isClanForce(),
-                          campaign.getLocalDate()),
-              null,
-              inCharacterMessage,
-              getEndOfContractDialogButtons(isAllied, isSuccess, isGoodEvent),
-              outOfCharacterMessage,
-              null,
-              false);
+        // During an unattended run the first, default, response is taken without showing the dialog
+        int dialogChoice = CHOICE_ACCEPTED;
+        if (!campaign.isUnattended()) {
+            ImmersiveDialogSimple dialog = new ImmersiveDialogSimple(campaign,
+                  campaign.getPlayerForce().getHumanResources()
+                        .getSeniorAdminPerson(campaign.getCampaignOptions(),
+                              campaign.getPlayerForce().isClanForce(),
+                              campaign.getLocalDate()),
+                  null,
+                  inCharacterMessage,
+                  getEndOfContractDialogButtons(isAllied, isSuccess, isGoodEvent),
+                  outOfCharacterMessage,
+                  null,
+                  false);
+            dialogChoice = dialog.getDialogChoice();
+        }
 
-        processPlayerResponse(ransom, isGoodEvent, dialog.getDialogChoice(), prisoners, campaign);
+        processPlayerResponse(ransom, isGoodEvent, dialogChoice, prisoners, campaign);
     }
 
     /**
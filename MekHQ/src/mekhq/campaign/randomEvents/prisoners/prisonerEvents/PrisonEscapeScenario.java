@@ -51,7 +51,6 @@ import java.util.Set;
 
 import megamek.codeUtilities.ObjectUtility;
 import megamek.common.annotations.Nullable;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Crew;
@@ -69,6 +68,7 @@ import mekhq.campaign.mission.scenarios.ScenarioTemplate;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.unit.Unit;
 import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogSimple;
+import mekhq.utilities.EntityFactory;
 
 /**
  * Handles the generation and setup of a scenario involving escaped prisoners attempting to flee.
@@ -210,16 +210,12 @@ public class PrisonEscapeScenario {
             return null;
         }
 
-        MekFileParser mekFileParser;
-
         try {
-            mekFileParser = new MekFileParser(mekSummary.getSourceFile(), mekSummary.getEntryName());
+            return EntityFactory.getInstance().getEntity(mekSummary);
         } catch (Exception ex) {
             logger.error("Unable to load unit: {}", mekSummary.getEntryName(), ex);
             return null;
         }
-
-        return mekFileParser.getEntity();
     }
 
     /**
@@ -760,6 +760,10 @@ public class ChaosReputation {
               booty.toAmountString(),
               addendum);
 
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         new ImmersiveDialogSimple(campaign,
               seniorAdmin,
               inCharacterMessage,
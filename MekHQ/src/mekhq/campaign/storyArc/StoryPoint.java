@@ -163,7 +163,9 @@ public abstract class StoryPoint {
         processTriggers();
         proceedToNextStoryPoint();
         // refresh the GUI in case things have changed or been added
-        getCampaign().getGUI().refreshAllTabs();
+        if (getCampaign().getGUI() != null) {
+            getCampaign().getGUI().refreshAllTabs();
+        }
 
     }
 
@@ -81,9 +81,14 @@ public class ChoiceStoryPoint extends DialogStoryPoint {
     @Override
     public void start() {
         super.start();
-        final StoryChoiceDialog choiceDialog = new StoryChoiceDialog(null, this);
-        choiceDialog.setVisible(true);
-        chosen = choiceDialog.getChoice();
+        if (getCampaign().isUnattended()) {
+            // the dialog preselects the first choice, so an unattended run takes that one
+            chosen = choices.keySet().stream().findFirst().orElse(null);
+        } else {
+            final StoryChoiceDialog choiceDialog = new StoryChoiceDialog(null, this);
+            choiceDialog.setVisible(true);
+            chosen = choiceDialog.getChoice();
+        }
         complete();
     }
 
@@ -224,19 +224,24 @@ public class CreateCharacterStoryPoint extends StoryPoint {
     public void start() {
         super.start();
         Person person = createPerson();
-        final CreateCharacterDialog personDialog = new CreateCharacterDialog(null,
-              true,
-              person,
-              getCampaign(),
-              xpPool,
-              instructions,
-              editOrigin,
-              editBirthday,
-              editGender,
-              nameRestrictions,
-              limitFaction);
-        getCampaign().importPerson(person);
-        personDialog.setVisible(true);
+        if (getCampaign().isUnattended()) {
+            // the generated character is kept as-is when nobody is there to customize it
+            getCampaign().importPerson(person);
+        } else {
+            final CreateCharacterDialog personDialog = new CreateCharacterDialog(null,
+                  true,
+                  person,
+                  getCampaign(),
+                  xpPool,
+                  instructions,
+                  editOrigin,
+                  editBirthday,
+                  editGender,
+                  nameRestrictions,
+                  limitFaction);
+            getCampaign().importPerson(person);
+            personDialog.setVisible(true);
+        }
         if (null != assignedUnitId) {
             Unit u = getCampaign().getUnit(assignedUnitId);
             if (null != u && u.isUnmanned()) {
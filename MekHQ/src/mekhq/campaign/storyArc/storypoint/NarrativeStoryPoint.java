@@ -68,8 +68,10 @@ public class NarrativeStoryPoint extends DialogStoryPoint {
     @Override
     public void start() {
         super.start();
-        final StoryNarrativeDialog narrativeDialog = new StoryNarrativeDialog(null, this);
-        narrativeDialog.setVisible(true);
+        if (!getCampaign().isUnattended()) {
+            final StoryNarrativeDialog narrativeDialog = new StoryNarrativeDialog(null, this);
+            narrativeDialog.setVisible(true);
+        }
         complete();
     }
 
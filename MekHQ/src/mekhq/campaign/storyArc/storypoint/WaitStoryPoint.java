@@ -81,7 +81,9 @@ public class WaitStoryPoint extends StoryPoint {
         // convert number of days to an actual date that we can check
         date = getCampaign().getLocalDate().plusDays(days);
         // refresh for objectives
-        getCampaign().getGUI().refreshAllTabs();
+        if (getCampaign().getGUI() != null) {
+            getCampaign().getGUI().refreshAllTabs();
+        }
     }
 
     public LocalDate getDate() {
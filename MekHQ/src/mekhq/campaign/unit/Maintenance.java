@@ -197,18 +197,8 @@ public class Maintenance {
                 }
             }
 
-            int nDamage = 0;
-            int nDestroy = 0;
-            for (Map.Entry<Part, Integer> p : partsToDamage.entrySet()) {
-                int damage = p.getValue();
-                if (damage > 3) {
-                    nDestroy++;
-                    p.getKey().remove(false);
-                } else {
-                    p.getKey().doMaintenanceDamage(damage);
-                    nDamage++;
-                }
-            }
+            int nDestroy = applyMaintenanceDamage(unit, partsToDamage);
+            int nDamage = partsToDamage.size() - nDestroy;
 
             unit.setLastMaintenanceReport(maintenanceReport.toString());
 
@@ -259,6 +249,34 @@ public class Maintenance {
         }
     }
 
+    /**
+     * Damages or destroys the parts that failed their maintenance checks.
+     *
+     * @param unit          the unit that was maintained
+     * @param partsToDamage the damage for each part that failed its check; more than 3 points destroys the part
+     *
+     * @return the number of parts destroyed
+     */
+    static int applyMaintenanceDamage(Unit unit, Map<Part, Integer> partsToDamage) {
+        int nDestroy = 0;
+        for (Map.Entry<Part, Integer> p : partsToDamage.entrySet()) {
+            int damage = p.getValue();
+            if (damage > 3) {
+                nDestroy++;
+                p.getKey().remove(false);
+            } else {
+                p.getKey().doMaintenanceDamage(damage);
+            }
+        }
+
+        // Armor, locations and structural integrity apply maintenance damage without going through the setters that
+        // flag the unit, and no event follows, so make sure the repair index picks up the damage
+        if (!partsToDamage.isEmpty()) {
+            unit.markRepairStateChanged();
+        }
+        return nDestroy;
+    }
+
     private static String getDamageString(Unit unit, int nDamage, int nDestroy) {
         String damageString = "";
         if (nDamage > 0) {
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import mekhq.campaign.LocalHangar;
+
+/**
+ * Keeps track of which units in the player's hangar have parts needing repair or salvage, so the units with work can
+ * be found without checking the parts of every unit in the hangar.
+ *
+ * <p>Units tell the queue when their repair state may have changed through {@link Unit#markRepairStateChanged()},
+ * and only those units are checked again. Units added to or removed from the hangar are picked up through its
+ * {@link LocalHangar#getModificationCount() modification count}. As a part can be fixed without its unit being told,
+ * every unit is checked once more as it is handed out, which only looks at the parts its own index already found.</p>
+ */
+public class RepairWorkQueue {
+    private final Supplier<LocalHangar> hangarSupplier;
+
+    private final Set<Unit> indexedUnits = new HashSet<>();
+    private final Set<Unit> changedUnits = new LinkedHashSet<>();
+    private final Set<Unit> unitsWithWork = new LinkedHashSet<>();
+    private LocalHangar indexedHangar = null;
+    private int indexedModificationCount;
+
+    /**
+     * @param hangarSupplier Supplies the hangar whose units are queued. If it supplies a different hangar, the queue
+     *                       is rebuilt from scratch.
+     */
+    public RepairWorkQueue(Supplier<LocalHangar> hangarSupplier) {
+        this.hangarSupplier = Objects.requireNonNull(hangarSupplier);
+    }
+
+    /**
+     * Marks a unit to be checked again the next time the queue is read.
+     *
+     * @param unit The unit whose parts may have started or stopped needing repair or salvage.
+     */
+    public synchronized void markChanged(Unit unit) {
+        // Nothing to track until the queue has been built for the first time
+        if (indexedHangar != null) {
+            changedUnits.add(unit);
+        }
+    }
+
+    /**
+     * Drops everything queued, so the queue is rebuilt from the whole hangar the next time it is read.
+     */
+    public synchronized void clear() {
+        indexedHangar = null;
+        indexedUnits.clear();
+        changedUnits.clear();
+        unitsWithWork.clear();
+    }
+
+    /**
+     * @return Every unit in the hangar with parts needing repair or salvage, in the order their work was found. This
+     *       does not consider whether the units are available to be worked on.
+     */
+    public synchronized List<Unit> getUnitsWithWork() {
+        final LocalHangar hangar = hangarSupplier.get();
+        if (hangar != indexedHangar) {
+            rebuild(hangar);
+        } else {
+            if (hangar.getModificationCount() != indexedModificationCount) {
+                updateMembership(hangar);
+            }
+
+            for (Unit unit : changedUnits) {
+                if ((hangar.getUnit(unit.getId()) == unit) && unit.isServiceable()) {
+                    unitsWithWork.add(unit);
+                } else {
+                    unitsWithWork.remove(unit);
+                }
+            }
+            changedUnits.clear();
+        }
+
+        final List<Unit> units = new ArrayList<>(unitsWithWork.size());
+        for (Iterator<Unit> iterator = unitsWithWork.iterator(); iterator.hasNext(); ) {
+            Unit unit = iterator.next();
+            if (unit.isServiceable()) {
+                units.add(unit);
+            } else {
+                iterator.remove();
+            }
+        }
+        return units;
+    }
+
+    private void rebuild(LocalHangar hangar) {
+        indexedUnits.clear();
+        changedUnits.clear();
+        unitsWithWork.clear();
+        hangar.forEachUnit(unit -> {
+            indexedUnits.add(unit);
+            if (unit.isServiceable()) {
+                unitsWithWork.add(unit);
+            }
+        });
+        indexedHangar = hangar;
+        indexedModificationCount = hangar.getModificationCount();
+    }
+
+    private void updateMembership(LocalHangar hangar) {
+        for (Iterator<Unit> iterator = indexedUnits.iterator(); iterator.hasNext(); ) {
+            Unit unit = iterator.next();
+            if (hangar.getUnit(unit.getId()) != unit) {
+                iterator.remove();
+                changedUnits.remove(unit);
+                unitsWithWork.remove(unit);
+            }
+        }
+
+        hangar.forEachUnit(unit -> {
+            if (indexedUnits.add(unit)) {
+                changedUnits.add(unit);
+            }
+        });
+        indexedModificationCount = hangar.getModificationCount();
+    }
+}
@@ -244,6 +244,10 @@ public class Unit implements ITechnology, ILocatable {
     private String lastMaintenanceReport;
     private final ArrayList<PodSpace> podSpace;
 
+    // The parts and pod spaces which needed repair or salvage when last checked, rebuilt once the repair state changes
+    private transient List<IPartWork> partsNeedingFixingIndex = null;
+    private transient List<IPartWork> salvageablePartsIndex = null;
+
     private Refit refit;
 
     // a made-up person to handle repairs on Large Craft
@@ -559,6 +563,7 @@ public class Unit implements ITechnology, ILocatable {
             }
         }
         this.entity = en;
+        markRepairStateChanged();
     }
 
     public @Nullable Entity getEntity() {
@@ -810,6 +815,7 @@ public class Unit implements ITechnology, ILocatable {
 
     public void setSalvage(boolean b) {
         this.salvaged = b;
+        markRepairStateChanged();
     }
 
     public String getHistory() {
@@ -1084,12 +1090,83 @@ public class Unit implements ITechnology, ILocatable {
         for (Part part : tempParts) {
             part.updateConditionFromEntity(checkForDestruction);
         }
+        markRepairStateChanged();
     }
 
     private boolean isPartAvailableForRepairs(IPartWork partWork, boolean onlyNotBeingWorkedOn) {
         return !onlyNotBeingWorkedOn || !partWork.isBeingWorkedOn();
     }
 
+    /**
+     * Marks the parts needing repair or salvage as out of date, so they are looked for again the next time they are
+     * needed, and tells the campaign's {@link RepairWorkQueue} to check this unit again.
+     * <p>
+     * This is called when parts are added or removed and when the unit is toggled between repair and salvage. Parts
+     * call it themselves from every method that can change whether they need repair or salvage, such as taking hits,
+     * being assigned a tech, or having their condition updated from the entity.
+     */
+    public void markRepairStateChanged() {
+        partsNeedingFixingIndex = null;
+        salvageablePartsIndex = null;
+        RepairWorkQueue repairWorkQueue = (campaign == null) ? null : campaign.getRepairWorkQueue();
+        if (repairWorkQueue != null) {
+            repairWorkQueue.markChanged(this);
+        }
+    }
+
+    /**
+     * @return Every part and pod space which needed fixing when last checked. These are only candidates, and each
+     *       must be checked again when read, as parts can be fixed without the unit being told.
+     */
+    private List<IPartWork> getPartsNeedingFixingIndex() {
+        List<IPartWork> index = partsNeedingFixingIndex;
+        if (index == null) {
+            index = new ArrayList<>();
+            for (Part part : parts) {
+                if (part.needsFixing()) {
+                    index.add(part);
+                }
+            }
+            for (PodSpace pod : podSpace) {
+                if (pod.needsFixing()) {
+                    index.add(pod);
+                }
+            }
+            partsNeedingFixingIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * @return Every part and pod space which could be salvaged when last checked. Like
+     *       {@link #getPartsNeedingFixingIndex()}, each must be checked again when read.
+     */
+    private List<IPartWork> getSalvageablePartsIndex() {
+        List<IPartWork> index = salvageablePartsIndex;
+        if (index == null) {
+            index = new ArrayList<>();
+            for (Part part : parts) {
+                if (part.isSalvaging()) {
+                    index.add(part);
+                }
+            }
+            for (PodSpace pod : podSpace) {
+                if (pod.hasSalvageableParts()) {
+                    index.add(pod);
+                }
+            }
+            salvageablePartsIndex = index;
+        }
+        return index;
+    }
+
+    /**
+     * @return {@code true} if the indexed part or pod space is still on this unit
+     */
+    private boolean isStillOnUnit(IPartWork partWork) {
+        return (partWork instanceof PodSpace) || (partWork.getUnit() == this);
+    }
+
     /**
      * Gets a list of every part on a unit which need service (either repair or salvage), including parts currently
      * being worked on.
@@ -1122,16 +1199,8 @@ public class Unit implements ITechnology, ILocatable {
      * @return <code>true</code> if the unit has parts that are in need of repair.
      */
     public boolean hasPartsNeedingFixing() {
-        boolean onlyNotBeingWorkedOn = false;
-        for (Part part : parts) {
-            if (part.needsFixing()) {
-                isPartAvailableForRepairs(part, onlyNotBeingWorkedOn);
-                return true;
-            }
-        }
-        for (PodSpace pod : podSpace) {
-            if (pod.needsFixing()) {
-                isPartAvailableForRepairs(pod, onlyNotBeingWorkedOn);
+        for (IPartWork partWork : getPartsNeedingFixingIndex()) {
+            if (partWork.needsFixing() && isStillOnUnit(partWork)) {
                 return true;
             }
         }
@@ -1140,14 +1209,11 @@ public class Unit implements ITechnology, ILocatable {
 
     public ArrayList<IPartWork> getPartsNeedingFixing(boolean onlyNotBeingWorkedOn) {
         ArrayList<IPartWork> brokenParts = new ArrayList<>();
-        for (Part part : parts) {
-            if (part.needsFixing() && isPartAvailableForRepairs(part, onlyNotBeingWorkedOn)) {
-                brokenParts.add(part);
-            }
-        }
-        for (PodSpace pod : podSpace) {
-            if (pod.needsFixing() && isPartAvailableForRepairs(pod, onlyNotBeingWorkedOn)) {
-                brokenParts.add(pod);
+        for (IPartWork partWork : getPartsNeedingFixingIndex()) {
+            if (partWork.needsFixing() &&
+                      isStillOnUnit(partWork) &&
+                      isPartAvailableForRepairs(partWork, onlyNotBeingWorkedOn)) {
+                brokenParts.add(partWork);
             }
         }
         return brokenParts;
@@ -1163,16 +1229,8 @@ public class Unit implements ITechnology, ILocatable {
      * @return <code>true</code> if the unit has parts that are salvageable.
      */
     public boolean hasSalvageableParts() {
-        boolean onlyNotBeingWorkedOn = false;
-        for (Part part : parts) {
-            if (part.isSalvaging()) {
-                isPartAvailableForRepairs(part, onlyNotBeingWorkedOn);
-                return true;
-            }
-        }
-        for (PodSpace pod : podSpace) {
-            if (pod.hasSalvageableParts()) {
-                isPartAvailableForRepairs(pod, onlyNotBeingWorkedOn);
+        for (IPartWork partWork : getSalvageablePartsIndex()) {
+            if (isSalvageable(partWork)) {
                 return true;
             }
         }
@@ -1181,19 +1239,21 @@ public class Unit implements ITechnology, ILocatable {
 
     public ArrayList<IPartWork> getSalvageableParts(boolean onlyNotBeingWorkedOn) {
         ArrayList<IPartWork> salvageParts = new ArrayList<>();
-        for (Part part : parts) {
-            if (part.isSalvaging() && isPartAvailableForRepairs(part, onlyNotBeingWorkedOn)) {
-                salvageParts.add(part);
-            }
-        }
-        for (PodSpace pod : podSpace) {
-            if (pod.hasSalvageableParts() && isPartAvailableForRepairs(pod, onlyNotBeingWorkedOn)) {
-                salvageParts.add(pod);
+        for (IPartWork partWork : getSalvageablePartsIndex()) {
+            if (isSalvageable(partWork) && isPartAvailableForRepairs(partWork, onlyNotBeingWorkedOn)) {
+                salvageParts.add(partWork);
             }
         }
         return salvageParts;
     }
 
+    private boolean isSalvageable(IPartWork partWork) {
+        if (partWork instanceof PodSpace pod) {
+            return pod.hasSalvageableParts();
+        }
+        return partWork.isSalvaging() && isStillOnUnit(partWork);
+    }
+
     public ArrayList<IAcquisitionWork> getPartsNeeded() {
         ArrayList<IAcquisitionWork> missingParts = new ArrayList<>();
         if (isSalvage() || !isRepairable()) {
@@ -1282,6 +1342,7 @@ public class Unit implements ITechnology, ILocatable {
 
     public void removePart(Part part) {
         parts.remove(part);
+        markRepairStateChanged();
     }
 
     public boolean hasPilot() {
@@ -3458,6 +3519,7 @@ public class Unit implements ITechnology, ILocatable {
     public void addPart(Part part) {
         part.setUnit(this);
         parts.add(part);
+        markRepairStateChanged();
     }
 
     /**
@@ -4876,6 +4938,7 @@ public class Unit implements ITechnology, ILocatable {
             }
             podSpace.forEach(ps -> ps.updateConditionFromEntity(false));
         }
+        markRepairStateChanged();
     }
 
     public List<Part> getParts() {
@@ -4901,6 +4964,7 @@ public class Unit implements ITechnology, ILocatable {
 
     public void setParts(ArrayList<Part> newParts) {
         parts = newParts;
+        markRepairStateChanged();
     }
 
     public List<PodSpace> getPodSpace() {
@@ -4909,6 +4973,7 @@ public class Unit implements ITechnology, ILocatable {
 
     public void refreshPodSpace() {
         podSpace.forEach(ps -> ps.updateConditionFromEntity(false));
+        markRepairStateChanged();
     }
 
     public List<AmmoBin> getWorkingAmmoBins() {
@@ -7522,6 +7587,7 @@ public class Unit implements ITechnology, ILocatable {
         }
 
         parts.clear();
+        markRepairStateChanged();
     }
 
     /**
@@ -39,7 +39,6 @@ import megamek.common.battleArmor.BattleArmor;
 import megamek.common.enums.AvailabilityValue;
 import megamek.common.enums.Faction;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.rolls.TargetRoll;
@@ -50,6 +49,7 @@ import mekhq.campaign.parts.Availability;
 import mekhq.campaign.parts.Part;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.work.IAcquisitionWork;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.MHQXMLUtility;
 import mekhq.utilities.ReportingUtilities;
 import org.w3c.dom.Element;
@@ -147,7 +147,7 @@ public class UnitOrder extends Unit implements IAcquisitionWork {
             return null;
         }
         try {
-            return new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            return EntityFactory.getInstance().getEntity(summary);
         } catch (EntityLoadingException e) {
             LOGGER.error("Could not load {}", summary.getEntryName());
             return null;
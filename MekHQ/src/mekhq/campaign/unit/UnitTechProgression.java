@@ -32,29 +32,40 @@
  */
 package mekhq.campaign.unit;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.FutureTask;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import megamek.common.enums.Faction;
 import megamek.common.interfaces.ITechnology;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Entity;
 import megamek.logging.MMLogger;
+import mekhq.MHQConstants;
+import mekhq.utilities.EntityFactory;
 
 /**
  * Provides an ITechnology interface for every MekSummary, optionally customized for a particular faction. This requires
  * loading each Entity and calculating the CompositeTechLevel. It usually runs once when the campaign is loaded after
  * the faction is set but also needs to run if date from another faction is needed. This is usually a result of changing
  * the faction or changing the option to use faction-specific tech, but the data can be calculated for multiple factions
- * and used, for example, for a tracked OpFor. The calculation is performed on a separate thread and only blocks if the
+ * and used, for example, for a tracked OpFor. The calculation is performed in the background and only blocks if the
  * data is needed before the task completes. There is also a non-blocking call.
  *
+ * <p>The units are loaded in parallel on a work-stealing pool, and the result for each faction is saved to a
+ * {@link UnitTechProgressionCache}, so later sessions only need to load the units again if the unit data
+ * changed.</p>
+ *
  * @author Neoancient
  */
 public class UnitTechProgression {
@@ -62,7 +73,11 @@ public class UnitTechProgression {
 
     private static final UnitTechProgression instance = new UnitTechProgression();
 
-    private final Map<Faction, FutureTask<Map<MekSummary, ITechnology>>> techMap = new HashMap<>();
+    // Leave a core free for the UI while the units are loaded
+    private static final ForkJoinPool BUILD_POOL = new ForkJoinPool(Math.max(1,
+          Runtime.getRuntime().availableProcessors() - 1));
+
+    private final Map<Faction, Future<Map<MekSummary, ITechnology>>> techMap = new ConcurrentHashMap<>();
 
     /**
      * Initializes the data for a particular faction
@@ -72,21 +87,16 @@ public class UnitTechProgression {
     }
 
     /**
-     * Find the FutureTask associated with a particular faction. If no data has been generated for the faction, start a
-     * thread to do so.
+     * Find the task associated with a particular faction. If no data has been generated for the faction, start
+     * generating it.
      *
      * @param techFaction The faction for which to calculate progression data.
      *
      * @return The task responsible for calculating the data for the faction.
      */
-    private FutureTask<Map<MekSummary, ITechnology>> getTask(Faction techFaction) {
-        FutureTask<Map<MekSummary, ITechnology>> task = instance.techMap.get(techFaction);
-        if (null == task) {
-            task = new FutureTask<>(new BuildMapTask(techFaction));
-            new Thread(task).start();
-            instance.techMap.put(techFaction, task);
-        }
-        return task;
+    private Future<Map<MekSummary, ITechnology>> getTask(Faction techFaction) {
+        return techMap.computeIfAbsent(techFaction, faction -> BUILD_POOL.submit(new BuildMapTask(faction,
+              Path.of(MHQConstants.UNIT_TECH_PROGRESSION_CACHE_DIRECTORY_PATH))));
     }
 
     /**
@@ -127,27 +137,37 @@ public class UnitTechProgression {
      */
     public static ITechnology getProgression(final MekSummary ms, final Faction techFaction,
           final boolean block) {
-        FutureTask<Map<MekSummary, ITechnology>> task = instance.getTask(techFaction);
+        Future<Map<MekSummary, ITechnology>> task = instance.getTask(techFaction);
         if (!block && !task.isDone()) {
             return null;
         }
         try {
             Map<MekSummary, ITechnology> map = task.get();
-            if (!map.containsKey(ms)) {
-                map.put(ms, calcTechProgression(ms, techFaction));
+            ITechnology progression = map.get(ms);
+            if (null == progression) {
+                // Units added after the task ran, or which could not be loaded
+                progression = calcTechProgression(ms, techFaction, false);
+                if (null != progression) {
+                    map.putIfAbsent(ms, progression);
+                }
             }
-            return map.get(ms);
+            return progression;
         } catch (InterruptedException e) {
-            task.cancel(true);
+            Thread.currentThread().interrupt();
         } catch (ExecutionException e) {
             LOGGER.error("", e);
         }
         return null;
     }
 
-    private static ITechnology calcTechProgression(MekSummary ms, Faction techFaction) {
+    /**
+     * @param bulk {@code true} when called for every unit, in which case the entity bypasses the
+     *             {@link EntityFactory} cache
+     */
+    private static ITechnology calcTechProgression(MekSummary ms, Faction techFaction, boolean bulk) {
         try {
-            Entity en = new MekFileParser(ms.getSourceFile(), ms.getEntryName()).getEntity();
+            Entity en = bulk ? EntityFactory.getInstance().getEntityUncached(ms)
+                               : EntityFactory.getInstance().getEntity(ms);
             if (null == en) {
                 LOGGER.error("Entity was null: {}", ms.getName());
                 return null;
@@ -161,18 +181,54 @@ public class UnitTechProgression {
 
     /**
      * Goes through all the entries in MekSummaryCache, loads them, and calculates the composite tech level of all the
-     * equipment and construction options for a specific faction.
+     * equipment and construction options for a specific faction. Units with a cached progression for the current unit
+     * data are not loaded again, and the cache is rewritten if any unit had to be loaded.
      */
-    private record BuildMapTask(Faction techFaction) implements Callable<Map<MekSummary, ITechnology>> {
+    private record BuildMapTask(Faction techFaction, Path cacheDirectory)
+          implements Callable<Map<MekSummary, ITechnology>> {
 
         // Load all the Entities in the MekSummaryCache and calculate the tech level for
         // the given faction.
         @Override
         public Map<MekSummary, ITechnology> call() {
-            Map<MekSummary, ITechnology> map = new HashMap<>();
-            for (MekSummary mekSummary : MekSummaryCache.getInstance().getAllMeks()) {
-                map.put(mekSummary, calcTechProgression(mekSummary, techFaction));
+            long start = System.nanoTime();
+            MekSummary[] summaries = MekSummaryCache.getInstance().getAllMeks();
+            Path cacheFile = UnitTechProgressionCache.getCacheFile(cacheDirectory, techFaction);
+            String unitDataHash = UnitTechProgressionCache.hashUnitData(Arrays.asList(summaries));
+            Map<String, ITechnology> cached = (unitDataHash == null) ? null
+                                                    : UnitTechProgressionCache.read(cacheFile, unitDataHash,
+                                                          techFaction);
+
+            Map<MekSummary, ITechnology> map = new ConcurrentHashMap<>();
+            List<MekSummary> uncached = new ArrayList<>();
+            for (MekSummary mekSummary : summaries) {
+                ITechnology progression = (cached == null) ? null : cached.get(mekSummary.getName());
+                if (null == progression) {
+                    uncached.add(mekSummary);
+                } else {
+                    map.put(mekSummary, progression);
+                }
             }
+            int cachedCount = map.size();
+
+            // This task runs on the build pool, so the parallel stream is split across the same pool
+            uncached.parallelStream().forEach(mekSummary -> {
+                ITechnology progression = calcTechProgression(mekSummary, techFaction, true);
+                if (null != progression) {
+                    map.put(mekSummary, progression);
+                }
+            });
+
+            if ((unitDataHash != null) && (map.size() > cachedCount)) {
+                Map<String, ITechnology> byName = new HashMap<>();
+                for (Map.Entry<MekSummary, ITechnology> entry : map.entrySet()) {
+                    byName.put(entry.getKey().getName(), entry.getValue());
+                }
+                UnitTechProgressionCache.write(cacheFile, unitDataHash, techFaction, byName);
+            }
+
+            LOGGER.info("Calculated the {} tech progression of {} units ({} from the cache) in {} ms", techFaction,
+                  map.size(), cachedCount, (System.nanoTime() - start) / 1_000_000);
             return map;
         }
     }
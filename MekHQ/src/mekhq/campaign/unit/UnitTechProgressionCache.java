@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.enums.Faction;
+import megamek.common.interfaces.ITechnology;
+import megamek.common.loaders.MekSummary;
+import megamek.logging.MMLogger;
+import mekhq.MHQConstants;
+
+/**
+ * A per-faction on-disk snapshot of the tech progression calculated by {@link UnitTechProgression}, so the unit files
+ * do not need to be parsed again on every start.
+ *
+ * <p>Each cache file holds the progression of every unit for one tech faction, keyed by unit name. It records a hash
+ * of the unit data it was calculated from, built from the name, source file, entry name, size and modification time
+ * of every unit, and is only used if that hash, the MekHQ version and the cache format all still match. Hashing the
+ * file metadata rather than the content keeps the check cheap enough to run on every start, and matches how
+ * {@link mekhq.utilities.EntityFactory} detects changed unit files.</p>
+ *
+ * <p>The progression objects are stored with Java serialization. Units whose progression is not serializable are
+ * left out and calculated again when needed.</p>
+ */
+final class UnitTechProgressionCache {
+    private static final MMLogger LOGGER = MMLogger.create(UnitTechProgressionCache.class);
+
+    private static final int MAGIC = 0x4D485154; // "MHQT"
+    private static final int FORMAT_VERSION = 1;
+
+    private UnitTechProgressionCache() {
+    }
+
+    /**
+     * @return The cache file for a tech faction within the cache directory.
+     */
+    static Path getCacheFile(Path directory, Faction techFaction) {
+        return directory.resolve(techFaction.name() + ".cache");
+    }
+
+    /**
+     * Hashes the metadata of every unit.
+     *
+     * @param summaries The units.
+     *
+     * @return The hex encoded hash, or {@code null} if it could not be calculated.
+     */
+    static @Nullable String hashUnitData(Collection<MekSummary> summaries) {
+        List<MekSummary> sortedSummaries = summaries.stream()
+                                                 .sorted(Comparator.comparing(MekSummary::getName))
+                                                 .toList();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (MekSummary summary : sortedSummaries) {
+                File sourceFile = summary.getSourceFile();
+                String entry = String.join("\0",
+                      summary.getName(),
+                      (sourceFile == null) ? "" : sourceFile.getPath().replace('\\', '/'),
+                      Objects.toString(summary.getEntryName(), ""),
+                      (sourceFile == null) ? "" : Long.toString(sourceFile.length()),
+                      (sourceFile == null) ? "" : Long.toString(sourceFile.lastModified()));
+                digest.update(entry.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException ex) {
+            LOGGER.error(ex, "Unable to hash the unit data");
+            return null;
+        }
+    }
+
+    /**
+     * Reads the tech progression for a faction from the cache.
+     *
+     * @param cacheFile    The cache file.
+     * @param unitDataHash The hash of the current unit data.
+     * @param techFaction  The tech faction the progression was calculated for.
+     *
+     * @return The cached progression by unit name, or {@code null} if there is no usable cache for the unit data.
+     */
+    static @Nullable Map<String, ITechnology> read(Path cacheFile, String unitDataHash, Faction techFaction) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+
+        try (ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(
+              Files.newInputStream(cacheFile)))) {
+            if ((input.readInt() != MAGIC) || (input.readInt() != FORMAT_VERSION)
+                      || !MHQConstants.VERSION.toString().equals(input.readUTF())
+                      || !unitDataHash.equals(input.readUTF())
+                      || !techFaction.name().equals(input.readUTF())) {
+                LOGGER.info("The {} tech progression cache is out of date and will be rebuilt", techFaction);
+                return null;
+            }
+
+            int count = input.readInt();
+            Map<String, ITechnology> progressions = new HashMap<>(count * 4 / 3 + 1);
+            for (int i = 0; i < count; i++) {
+                String name = input.readUTF();
+                progressions.put(name, (ITechnology) input.readObject());
+            }
+            return progressions;
+        } catch (IOException | ClassNotFoundException | RuntimeException ex) {
+            // A damaged or incompatible cache is simply rebuilt
+            LOGGER.warn("Unable to read the tech progression cache {}: {}", cacheFile, ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the tech progression for a faction to the cache. The cache is written to a temporary file first and
+     * moved into place, so a partially written cache is never read. Failing to write the cache is logged and otherwise
+     * ignored.
+     *
+     * @param cacheFile    The cache file.
+     * @param unitDataHash The hash of the unit data the progression was calculated from.
+     * @param techFaction  The tech faction the progression was calculated for.
+     * @param progressions The progression by unit name.
+     */
+    static void write(Path cacheFile, String unitDataHash, Faction techFaction,
+          Map<String, ITechnology> progressions) {
+        Map<String, ITechnology> serializable = new HashMap<>();
+        for (Map.Entry<String, ITechnology> entry : progressions.entrySet()) {
+            if (entry.getValue() instanceof Serializable) {
+                serializable.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        Path temporaryFile = null;
+        try {
+            Path directory = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, techFaction.name(), ".tmp");
+
+            try (ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(
+                  Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(MHQConstants.VERSION.toString());
+                output.writeUTF(unitDataHash);
+                output.writeUTF(techFaction.name());
+                output.writeInt(serializable.size());
+                for (Map.Entry<String, ITechnology> entry : serializable.entrySet()) {
+                    output.writeUTF(entry.getKey());
+                    output.writeObject(entry.getValue());
+                    // Progressions do not share state, so there is no point in tracking them for back references
+                    output.reset();
+                }
+            }
+
+            try {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.ATOMIC_MOVE,
+                      StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOGGER.info("Wrote the {} tech progression of {} units to the cache {}", techFaction,
+                  serializable.size(), cacheFile);
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn("Unable to write the tech progression cache {}: {}", cacheFile, ex.getMessage());
+        } finally {
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException ex) {
+                    LOGGER.warn("Unable to delete {}: {}", temporaryFile, ex.getMessage());
+                }
+            }
+        }
+    }
+}
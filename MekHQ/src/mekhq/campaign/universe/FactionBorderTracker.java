@@ -90,6 +90,7 @@ public class FactionBorderTracker {
     private volatile boolean cancelTask = false;
 
     private final Map<SystemsNearKey, List<PlanetarySystem>> systemsNearCache = new HashMap<>();
+    private SystemSpatialIndex spatialIndex;
 
     /**
      * Constructs a FactionBorderTracker with the default region of a 1000 ly radius around Terra.
@@ -445,20 +446,29 @@ public class FactionBorderTracker {
      *       double)} calls within one {@code MissionTargetFinder.find()}, or {@code RandomFactionGenerator} selecting
      *       an employer then an enemy for the same location) &mdash; since the result depends only on the (stable,
      *       session-lifetime) system list's geometry and never on campaign date, each distinct (origin, radius) result
-     *       is cached to skip re-scanning the whole system list each time.</p>
+     *       is cached. A new query is answered from a {@link SystemSpatialIndex} rather than by scanning the whole
+     *       system list; results keep the order of {@link #getSystemList()}.</p>
      */
     public synchronized List<PlanetarySystem> systemsNear(PlanetarySystem origin, double radius) {
         return systemsNearCache.computeIfAbsent(new SystemsNearKey(origin, radius), key -> {
-            List<PlanetarySystem> nearby = new ArrayList<>();
-            for (PlanetarySystem system : getSystemList()) {
-                if ((radius < 0) || (system.getDistanceTo(origin) <= radius)) {
-                    nearby.add(system);
-                }
+            if (radius < 0) {
+                return new ArrayList<>(getSystemList());
             }
-            return nearby;
+            return getSpatialIndex().withinRadius(origin.getX(), origin.getY(), radius);
         });
     }
 
+    /**
+     * @return the spatial index over {@link #getSystemList()}, built on first use. Like the {@link #systemsNear}
+     *       cache, it relies on the system list's geometry staying stable for the tracker's lifetime.
+     */
+    private synchronized SystemSpatialIndex getSpatialIndex() {
+        if (spatialIndex == null) {
+            spatialIndex = SystemSpatialIndex.of(getSystemList());
+        }
+        return spatialIndex;
+    }
+
     /**
      * @return the tracker's current campaign date, kept up to date by {@link #setDate(LocalDate)} independently of the
      *       background recalculation thread
@@ -36,7 +36,7 @@ import static java.awt.Color.BLACK;
 import static megamek.utilities.ImageUtilities.addTintToImageIcon;
 
 import java.awt.Image;
-import java.awt.image.ImageObserver;
+import java.awt.image.BufferedImage;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -54,10 +54,15 @@ import megamek.common.universe.Faction2;
 import megamek.common.universe.Factions2;
 import megamek.logging.MMLogger;
 import mekhq.campaign.Campaign;
+import mekhq.utilities.ScaledImageCache;
 
 public class Factions {
     private static final MMLogger LOGGER = MMLogger.create(Factions.class);
 
+    /** Identifies a tinted faction logo in the {@link ScaledImageCache}, apart from the untinted image file. */
+    private record FactionLogoKey(String address) {
+    }
+
     // region Variable Declarations
     private static Factions instance;
 
@@ -84,8 +89,15 @@ public class Factions {
         return instance;
     }
 
+    /**
+     * Replaces the loaded factions. The logos already tinted and scaled for the previous factions are dropped, so they
+     * are loaded again when next shown.
+     *
+     * @param instance the factions to use, or {@code null} to load the defaults when next asked for
+     */
     public static void setInstance(@Nullable Factions instance) {
         Factions.instance = instance;
+        ScaledImageCache.clear();
     }
 
     public Faction getDefaultFaction() {
@@ -274,6 +286,8 @@ public class Factions {
      * depending on {@code gameYear} to reflect historical changes. Unknown or unsupported faction codes fall back to a
      * generic clan logo or the mercenary logo.</p>
      *
+     * <p>Each logo is decoded and tinted once and then shared through the {@link ScaledImageCache}.</p>
+     *
      * @param gameYear    the in-game year, used to resolve era-appropriate logos for applicable factions
      * @param factionCode the faction identifier (e.g., {@code "FS"} for Federated Suns)
      *
@@ -284,18 +298,18 @@ public class Factions {
      */
     public static ImageIcon getFactionLogo(int gameYear, String factionCode) {
         String address = getFactionLogoAddress(gameYear, factionCode);
-        ImageIcon icon = new ImageIcon(address);
-        icon = addTintToImageIcon(icon.getImage(), BLACK);
+        BufferedImage logo = ScaledImageCache.getSourceImage(new FactionLogoKey(address),
+              () -> addTintToImageIcon(new ImageIcon(address).getImage(), BLACK).getImage());
 
-        return icon;
+        return (logo == null) ? new ImageIcon() : new ImageIcon(logo);
     }
 
     /**
      * Returns a faction logo as a scaled, black-tinted {@link ImageIcon}, resolved for the given game year.
      *
-     * <p>Scaling is performed on the original base image using {@link Image#SCALE_SMOOTH} to preserve
-     * quality. The target height is derived proportionally from the base image's aspect ratio and the requested
-     * {@code targetPixelWidth}, with a minimum width of {@code 1} pixel enforced.</p>
+     * <p>Scaling is performed on the original base image by the {@link ScaledImageCache} to preserve quality, and
+     * each size is only scaled once. The target height is derived proportionally from the base image's aspect ratio
+     * and the requested {@code targetPixelWidth}, with a minimum width of {@code 1} pixel enforced.</p>
      *
      * @param gameYear         the in-game year, used to resolve era-appropriate logos for applicable factions
      * @param factionCode      the faction identifier (e.g., {@code "FS"} for Federated Suns)
@@ -307,20 +321,9 @@ public class Factions {
      * @since 0.51.0
      */
     public static ImageIcon getFactionLogoWithScaling(int gameYear, String factionCode, int targetPixelWidth) {
-        ImageIcon icon = getFactionLogo(gameYear, factionCode);
-
-        Image baseImage = icon.getImage();
-
-        // The following sorcery is due to the compressed manner in which image icons scale. We need to manipulate the
-        // original base image, otherwise it looks grainy and terrible.
-        ImageObserver observer = (img, infoFlags, x, y, width, height) -> true;
-        int baseImageHeight = baseImage.getHeight(observer);
-        int baseImageWidth = baseImage.getWidth(observer);
-        int targetWidth = Math.max(1, targetPixelWidth);
-
-        int height = (int) Math.ceil((double) targetWidth * baseImageHeight / baseImageWidth);
-
-        return new ImageIcon(baseImage.getScaledInstance(targetWidth, height, Image.SCALE_SMOOTH));
+        // Scale the original base image rather than the icon, otherwise it looks grainy and terrible
+        Image baseImage = getFactionLogo(gameYear, factionCode).getImage();
+        return ScaledImageCache.getScaledIconToWidth(baseImage, targetPixelWidth);
     }
 
     /**
@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import mekhq.campaign.universe.JumpGraph.NearbySystemFinder;
+import mekhq.campaign.universe.enums.HPGRating;
+
+/**
+ * The network of HPG links between a set of systems over time.
+ *
+ * <p>A system's HPG rating only changes on the date of a planetary event setting it, so the network is the same on
+ * every day between two such dates. The network is computed once for each of these intervals and kept for the most
+ * recently used intervals, so advancing the campaign day by day only rebuilds it when a station actually changes.</p>
+ *
+ * <p>Each A station links to every system within {@value #HPG_RADIUS_A_STATION} light years and each B station to
+ * every system within {@value #HPG_RADIUS_B_STATION} light years, with the rating of the system linked to.</p>
+ */
+public class HPGNetwork {
+    public static final int HPG_RADIUS_A_STATION = 50;
+    public static final int HPG_RADIUS_B_STATION = 30;
+
+    /** The number of intervals to keep the network of */
+    private static final int MAX_CACHED_INTERVALS = 4;
+
+    /**
+     * The links in force during one interval, with each system's links indexed for adjacency lookups.
+     */
+    private record Snapshot(Set<HPGLink> links, Map<PlanetarySystem, List<HPGLink>> adjacency) {
+        private static final Snapshot EMPTY = new Snapshot(Set.of(), Map.of());
+    }
+
+    private final Collection<PlanetarySystem> systems;
+    private final NearbySystemFinder nearbySystemFinder;
+    private NavigableSet<LocalDate> changeDates;
+    private final Map<LocalDate, Snapshot> snapshots = new LinkedHashMap<>(MAX_CACHED_INTERVALS, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LocalDate, Snapshot> eldest) {
+            return size() > MAX_CACHED_INTERVALS;
+        }
+    };
+
+    /**
+     * @param systems            The systems which may take part in the network. They must not change while the
+     *                           network is in use.
+     * @param nearbySystemFinder Finds the systems in range of a station.
+     */
+    HPGNetwork(Collection<PlanetarySystem> systems, NearbySystemFinder nearbySystemFinder) {
+        this.systems = List.copyOf(systems);
+        this.nearbySystemFinder = nearbySystemFinder;
+    }
+
+    /**
+     * @param when The date to get the network for.
+     *
+     * @return Every HPG link in force on the given date.
+     */
+    public Set<HPGLink> getLinks(LocalDate when) {
+        return getSnapshot(when).links();
+    }
+
+    /**
+     * @param system The system to get the links of.
+     * @param when   The date to get the links for.
+     *
+     * @return The HPG links in force on the given date which start or end at the system.
+     */
+    public List<HPGLink> getLinks(PlanetarySystem system, LocalDate when) {
+        return getSnapshot(when).adjacency().getOrDefault(system, List.of());
+    }
+
+    /**
+     * @param system The system to get the neighbours of.
+     * @param when   The date to get the neighbours for.
+     *
+     * @return The other systems linked to the given one on the given date.
+     */
+    public Set<PlanetarySystem> getLinkedSystems(PlanetarySystem system, LocalDate when) {
+        Set<PlanetarySystem> linkedSystems = new HashSet<>();
+        for (HPGLink link : getLinks(system, when)) {
+            linkedSystems.add(system.equals(link.primary()) ? link.secondary() : link.primary());
+        }
+        linkedSystems.remove(system);
+        return linkedSystems;
+    }
+
+    /**
+     * @return The dates on which any system's HPG rating changes, in date order.
+     */
+    public synchronized NavigableSet<LocalDate> getChangeDates() {
+        if (changeDates == null) {
+            NavigableSet<LocalDate> dates = new TreeSet<>();
+            for (PlanetarySystem system : systems) {
+                for (Planet planet : system.getPlanets()) {
+                    dates.addAll(planet.getHPGChangeDates());
+                }
+            }
+            changeDates = Collections.unmodifiableNavigableSet(dates);
+        }
+        return changeDates;
+    }
+
+    private synchronized Snapshot getSnapshot(LocalDate when) {
+        if (when == null) {
+            return Snapshot.EMPTY;
+        }
+
+        // Every date in the same interval shares the network of its first day
+        LocalDate intervalStart = getChangeDates().floor(when);
+        LocalDate key = (intervalStart == null) ? LocalDate.MIN : intervalStart;
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot == null) {
+            snapshot = buildSnapshot(when);
+            snapshots.put(key, snapshot);
+        }
+        return snapshot;
+    }
+
+    private Snapshot buildSnapshot(LocalDate when) {
+        Map<PlanetarySystem, HPGRating> ratings = new HashMap<>();
+        for (PlanetarySystem system : systems) {
+            ratings.put(system, system.getHPG(when));
+        }
+
+        Set<HPGLink> links = new HashSet<>();
+        Map<PlanetarySystem, List<HPGLink>> adjacency = new HashMap<>();
+        for (PlanetarySystem system : systems) {
+            int distance = switch (ratings.get(system)) {
+                case A -> HPG_RADIUS_A_STATION;
+                case B -> HPG_RADIUS_B_STATION;
+                default -> 0;
+            };
+            if (distance == 0) {
+                continue;
+            }
+
+            nearbySystemFinder.visitNearbySystems(system, distance, neighbor -> {
+                HPGRating neighborRating = ratings.get(neighbor);
+                if (neighborRating == null) {
+                    neighborRating = neighbor.getHPG(when);
+                }
+                HPGLink link = new HPGLink(system, neighbor, neighborRating);
+                if (links.add(link)) {
+                    adjacency.computeIfAbsent(system, ignored -> new ArrayList<>()).add(link);
+                    if (!system.equals(neighbor)) {
+                        adjacency.computeIfAbsent(neighbor, ignored -> new ArrayList<>()).add(link);
+                    }
+                }
+            });
+        }
+
+        Map<PlanetarySystem, List<HPGLink>> frozenAdjacency = new HashMap<>();
+        adjacency.forEach((system, systemLinks) -> frozenAdjacency.put(system, List.copyOf(systemLinks)));
+        return new Snapshot(Collections.unmodifiableSet(links), Collections.unmodifiableMap(frozenAdjacency));
+    }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import megamek.logging.MMLogger;
+
+/**
+ * The graph of possible jumps between planetary systems, used to find jump paths.
+ *
+ * <p>Each system is given an integer index, and the systems within a single jump ({@value #JUMP_RADIUS} light years)
+ * of it are stored as a flat array of indices. The graph is built once from the system grid of {@link Systems} and
+ * reused by every path query against it.</p>
+ *
+ * <p>The population and recharge time of a system change over time, so they are looked up lazily and cached for a
+ * single date at a time. Repeated path queries on the same day, such as while generating contracts, share them.</p>
+ */
+public final class JumpGraph {
+    private static final MMLogger LOGGER = MMLogger.create(JumpGraph.class);
+
+    /** The maximum distance of a single jump in light years. */
+    public static final int JUMP_RADIUS = 30;
+
+    /** The maximum number of systems the search will expand before giving up. */
+    private static final int MAX_EXPANSIONS = 10000;
+
+    private final PlanetarySystem[] systems;
+    private final double[] xs;
+    private final double[] ys;
+    private final Map<String, Integer> indices;
+    // The neighbors of system i are neighbors[neighborOffsets[i]] to neighbors[neighborOffsets[i + 1] - 1]
+    private final int[] neighborOffsets;
+    private final int[] neighbors;
+
+    private DateBucket dateBucket;
+
+    /**
+     * Decides whether a jump between two neighboring systems is allowed.
+     */
+    @FunctionalInterface
+    public interface JumpFilter {
+        /**
+         * @param from The index of the system being jumped from.
+         * @param to   The index of the system being jumped to.
+         *
+         * @return {@code true} if the jump is allowed.
+         */
+        boolean canJump(int from, int to);
+    }
+
+    /**
+     * Visits the systems within a distance of a system, as {@link Systems#visitNearbySystems(PlanetarySystem, int,
+     * Consumer)} does.
+     */
+    @FunctionalInterface
+    interface NearbySystemFinder {
+        void visitNearbySystems(PlanetarySystem system, int distance, Consumer<PlanetarySystem> visitor);
+    }
+
+    /**
+     * The date-dependent data of each system, computed on first use for a single date.
+     */
+    private static final class DateBucket {
+        private static final byte UNKNOWN = 0;
+        private static final byte EMPTY = 1;
+        private static final byte POPULATED = 2;
+
+        private final LocalDate date;
+        private final byte[] populated;
+        private final double[] rechargeTimes;
+        private final double[] commandCircuitRechargeTimes;
+
+        private DateBucket(LocalDate date, int size) {
+            this.date = date;
+            populated = new byte[size];
+            rechargeTimes = new double[size];
+            commandCircuitRechargeTimes = new double[size];
+            Arrays.fill(rechargeTimes, Double.NaN);
+            Arrays.fill(commandCircuitRechargeTimes, Double.NaN);
+        }
+    }
+
+    /**
+     * Builds the jump graph of the given systems.
+     *
+     * @param systems The systems to include, which must all have coordinates.
+     * @param finder  Visits the systems within a given distance of a system.
+     */
+    JumpGraph(Collection<PlanetarySystem> systems, NearbySystemFinder finder) {
+        int size = systems.size();
+        this.systems = systems.toArray(new PlanetarySystem[0]);
+        xs = new double[size];
+        ys = new double[size];
+        indices = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            xs[i] = this.systems[i].getX();
+            ys[i] = this.systems[i].getY();
+            indices.put(this.systems[i].getId(), i);
+        }
+
+        neighborOffsets = new int[size + 1];
+        List<Integer> neighborList = new ArrayList<>(size * 16);
+        for (int i = 0; i < size; i++) {
+            neighborOffsets[i] = neighborList.size();
+            final int systemIndex = i;
+            finder.visitNearbySystems(this.systems[i], JUMP_RADIUS, neighbor -> {
+                Integer neighborIndex = indices.get(neighbor.getId());
+                if ((neighborIndex != null) && (neighborIndex != systemIndex)) {
+                    neighborList.add(neighborIndex);
+                }
+            });
+        }
+        neighborOffsets[size] = neighborList.size();
+        neighbors = neighborList.stream().mapToInt(Integer::intValue).toArray();
+
+        LOGGER.debug("Built jump graph of {} systems with {} jumps", size, neighbors.length);
+    }
+
+    /**
+     * @return The number of systems in the graph.
+     */
+    public int size() {
+        return systems.length;
+    }
+
+    /**
+     * @param systemId The id of the system.
+     *
+     * @return The index of the system, or -1 if it is not part of the graph.
+     */
+    public int indexOf(String systemId) {
+        Integer index = (systemId == null) ? null : indices.get(systemId);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * @param index The index of the system.
+     *
+     * @return The system.
+     */
+    public PlanetarySystem getSystem(int index) {
+        return systems[index];
+    }
+
+    /**
+     * @param index The index of the system.
+     *
+     * @return The number of systems within a single jump of the system.
+     */
+    public int getNeighborCount(int index) {
+        return neighborOffsets[index + 1] - neighborOffsets[index];
+    }
+
+    /**
+     * @param index The index of the system.
+     * @param when  The date to check.
+     *
+     * @return {@code true} if nobody lives in the system on the given date.
+     */
+    public boolean isEmpty(int index, LocalDate when) {
+        DateBucket bucket = getDateBucket(when);
+        synchronized (bucket) {
+            if (bucket.populated[index] == DateBucket.UNKNOWN) {
+                bucket.populated[index] = (systems[index].getPopulation(when) == 0) ?
+                                                DateBucket.EMPTY : DateBucket.POPULATED;
+            }
+            return bucket.populated[index] == DateBucket.EMPTY;
+        }
+    }
+
+    /**
+     * @param index                The index of the system.
+     * @param when                 The date to check.
+     * @param isUseCommandCircuits {@code true} if command circuits are used.
+     *
+     * @return The recharge time of the system in hours, as {@link PlanetarySystem#getRechargeTime(LocalDate, boolean)}.
+     */
+    public double getRechargeTime(int index, LocalDate when, boolean isUseCommandCircuits) {
+        DateBucket bucket = getDateBucket(when);
+        synchronized (bucket) {
+            double[] rechargeTimes = isUseCommandCircuits ? bucket.commandCircuitRechargeTimes : bucket.rechargeTimes;
+            if (Double.isNaN(rechargeTimes[index])) {
+                rechargeTimes[index] = systems[index].getRechargeTime(when, isUseCommandCircuits);
+            }
+            return rechargeTimes[index];
+        }
+    }
+
+    private synchronized DateBucket getDateBucket(LocalDate when) {
+        if ((dateBucket == null) || !dateBucket.date.equals(when)) {
+            dateBucket = new DateBucket(when, systems.length);
+        }
+        return dateBucket;
+    }
+
+    /**
+     * Finds the jump path between two systems with the A* algorithm, minimizing the total recharge time spent on the
+     * way. The straight-line distance to the destination is used as the heuristic.
+     *
+     * <p>If the destination cannot be reached, the path to the last system the search expanded is returned, as the
+     * search always has.</p>
+     *
+     * @param start                The index of the starting system.
+     * @param end                  The index of the destination system.
+     * @param when                 The date of the jumps.
+     * @param isUseCommandCircuits {@code true} if command circuits are used to recharge.
+     * @param filter               Decides which jumps are allowed.
+     *
+     * @return The indices of the systems on the path, starting with {@code start}.
+     */
+    public int[] findPath(int start, int end, LocalDate when, boolean isUseCommandCircuits, JumpFilter filter) {
+        int size = systems.length;
+        double[] scoreG = new double[size];
+        double[] scoreH = new double[size];
+        int[] parent = new int[size];
+        boolean[] closed = new boolean[size];
+        Arrays.fill(parent, -1);
+        Arrays.fill(scoreH, Double.NaN);
+
+        OpenSet open = new OpenSet(size);
+
+        int current = start;
+        scoreG[current] = 0.0;
+        closed[current] = true;
+
+        for (int expansions = 0; expansions < MAX_EXPANSIONS; expansions++) {
+            double currentG = scoreG[current] + getRechargeTime(current, when, isUseCommandCircuits);
+
+            for (int n = neighborOffsets[current]; n < neighborOffsets[current + 1]; n++) {
+                int neighbor = neighbors[n];
+                if (closed[neighbor] || !filter.canJump(current, neighbor)) {
+                    continue;
+                }
+
+                if (open.contains(neighbor)) {
+                    // Check if this path is better than the previously found one
+                    if (currentG < scoreG[neighbor]) {
+                        scoreG[neighbor] = currentG;
+                        parent[neighbor] = current;
+                        open.decreaseKey(neighbor, currentG + scoreH[neighbor]);
+                    }
+                } else {
+                    // Discover a new node
+                    if (Double.isNaN(scoreH[neighbor])) {
+                        scoreH[neighbor] = getDistance(end, neighbor);
+                    }
+                    scoreG[neighbor] = currentG;
+                    parent[neighbor] = current;
+                    open.add(neighbor, currentG + scoreH[neighbor]);
+                }
+            }
+
+            if (open.isEmpty()) {
+                break; // No path exists
+            }
+
+            // Move to the open node with the lowest f score
+            current = open.poll();
+            closed[current] = true;
+
+            if (current == end) {
+                break;
+            }
+        }
+
+        return reconstructPath(current, parent);
+    }
+
+    private double getDistance(int from, int to) {
+        return Math.sqrt(Math.pow(xs[from] - xs[to], 2) + Math.pow(ys[from] - ys[to], 2));
+    }
+
+    private static int[] reconstructPath(int current, int[] parent) {
+        int length = 0;
+        for (int index = current; index != -1; index = parent[index]) {
+            length++;
+        }
+
+        int[] path = new int[length];
+        for (int index = current; index != -1; index = parent[index]) {
+            path[--length] = index;
+        }
+        return path;
+    }
+
+    /**
+     * A binary min-heap of system indices ordered by their f score, which tracks the position of each system so its
+     * score can be lowered in place.
+     */
+    private static final class OpenSet {
+        private final int[] heap;
+        private final double[] scores;
+        private final int[] positions;
+        private int size;
+
+        private OpenSet(int capacity) {
+            heap = new int[capacity];
+            scores = new double[capacity];
+            positions = new int[capacity];
+            Arrays.fill(positions, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean contains(int index) {
+            return positions[index] >= 0;
+        }
+
+        void add(int index, double score) {
+            scores[index] = score;
+            heap[size] = index;
+            positions[index] = size;
+            siftUp(size++);
+        }
+
+        void decreaseKey(int index, double score) {
+            scores[index] = score;
+            siftUp(positions[index]);
+        }
+
+        int poll() {
+            int top = heap[0];
+            positions[top] = -1;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                positions[heap[0]] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+
+        private void siftUp(int position) {
+            int index = heap[position];
+            while (position > 0) {
+                int parentPosition = (position - 1) >>> 1;
+                int parentIndex = heap[parentPosition];
+                if (scores[parentIndex] <= scores[index]) {
+                    break;
+                }
+                heap[position] = parentIndex;
+                positions[parentIndex] = position;
+                position = parentPosition;
+            }
+            heap[position] = index;
+            positions[index] = position;
+        }
+
+        private void siftDown(int position) {
+            int index = heap[position];
+            int half = size >>> 1;
+            while (position < half) {
+                int child = (position << 1) + 1;
+                int right = child + 1;
+                if ((right < size) && (scores[heap[right]] < scores[heap[child]])) {
+                    child = right;
+                }
+                if (scores[index] <= scores[heap[child]]) {
+                    break;
+                }
+                heap[position] = heap[child];
+                positions[heap[child]] = position;
+                position = child;
+            }
+            heap[position] = index;
+            positions[index] = position;
+        }
+    }
+}
@@ -158,9 +158,10 @@ public class Planet {
     private TreeMap<LocalDate, PlanetaryEvent> events;
 
     /**
-     * This is a cache of the current event data based on the latest date given.
+     * The event history compiled for lookups by date, built on first use and discarded whenever the events change.
      */
-    CurrentEvents currentEvents;
+    @JsonIgnore
+    private volatile PlanetaryEventTimeline eventTimeline;
 
     // For import only; lists are easier than maps in YAML.
     private List<Planet.PlanetaryEvent> eventList;
@@ -252,7 +253,7 @@ public class Planet {
 
     public @Nullable SourceableValue<Double> getSourcedDayLength(LocalDate when) {
         // yes day length can change because Venus
-        return getEventData(when, dayLength, e -> e.dayLength);
+        return getEventData(when, dayLength, EventField.DAY_LENGTH);
     }
 
     public @Nullable SourceableValue<Double> getSourcedYearLength() {
@@ -415,7 +416,7 @@ public class Planet {
         this.eventList = eventList;
     }
 
-    public void putEvent(PlanetaryEvent event) {
+    public synchronized void putEvent(PlanetaryEvent event) {
         if ((event == null) || (event.date == null)) {
             throw new IllegalArgumentException("Planetary events must have a date");
         }
@@ -423,10 +424,10 @@ public class Planet {
             events = new TreeMap<>();
         }
         events.put(event.date, event);
-        currentEvents = null;
+        eventTimeline = null;
     }
 
-    public boolean removeEvent(LocalDate when) {
+    public synchronized boolean removeEvent(LocalDate when) {
         if ((when == null) || (events == null)) {
             return false;
         }
@@ -435,12 +436,12 @@ public class Planet {
             if (events.isEmpty()) {
                 events = null;
             }
-            currentEvents = null;
+            eventTimeline = null;
         }
         return removed;
     }
 
-    public void replaceEvents(Collection<PlanetaryEvent> updatedEvents) {
+    public synchronized void replaceEvents(Collection<PlanetaryEvent> updatedEvents) {
         events = new TreeMap<>();
         if (updatedEvents != null) {
             for (PlanetaryEvent event : updatedEvents) {
@@ -452,91 +453,37 @@ public class Planet {
         if (events.isEmpty()) {
             events = null;
         }
-        currentEvents = null;
+        eventTimeline = null;
     }
 
-    protected <T> T getEventData(LocalDate when, T defaultValue, EventGetter<T> getter) {
-        if ((null == when) || (null == events) || (null == getter)) {
+    @SuppressWarnings("unchecked")
+    private <T> T getEventData(LocalDate when, T defaultValue, EventField field) {
+        if ((null == when) || (null == events)) {
             return defaultValue;
         }
 
-        PlanetaryEvent event = getCurrentEvent(when);
-
-        T result = getter.get(event);
+        T result = (T) getEventTimeline().valueAt(field.ordinal(), when);
 
         return ObjectUtility.nonNull(result, defaultValue);
     }
 
-    private synchronized PlanetaryEvent getCurrentEvent(LocalDate now) {
-        if (currentEvents == null) {
-            currentEvents = new CurrentEvents();
-        }
-
-        return currentEvents.getCurrentEvent(now);
-    }
-
     /**
-     * This class tracks the current {@link PlanetaryEvent}.
+     * @return The compiled timeline of this planet's events. Lookups against it need no lock; only compiling it after
+     *       the events have changed synchronizes with the methods changing them.
      */
-    class CurrentEvents {
-        private LocalDate lastUpdated;
-        private PlanetaryEvent planetaryEvent;
-        private Map.Entry<LocalDate, PlanetaryEvent> nextEvent;
-        private Iterator<Map.Entry<LocalDate, PlanetaryEvent>> eventStream;
-
-        private void initialize(LocalDate now) {
-            planetaryEvent = new PlanetaryEvent();
-            lastUpdated = now;
-            if (events != null) {
-                eventStream = events.entrySet().iterator();
-                if (eventStream.hasNext()) {
-                    nextEvent = eventStream.next();
+    private PlanetaryEventTimeline getEventTimeline() {
+        PlanetaryEventTimeline timeline = eventTimeline;
+        if (timeline == null) {
+            synchronized (this) {
+                timeline = eventTimeline;
+                if (timeline == null) {
+                    timeline = PlanetaryEventTimeline.compile((events == null) ? List.of() : events.values(),
+                          EventField.GETTERS);
+                    eventTimeline = timeline;
                 }
             }
         }
-
-        /**
-         * Gets the current {@link PlanetaryEvent} for the time.
-         *
-         * <p>{@code planetaryEvent} is a single shared, mutable accumulator: fast-forwarding merges every event up to
-         * {@code now} into it via {@link PlanetaryEvent#copyDataFrom}, and nothing ever unmerges them.
-         * {@code lastUpdated} must therefore track the date this accumulator actually reflects (the most recent
-         * {@code now} resolved, not just the date passed to the original {@link #initialize}), or a later
-         * out-of-order query (e.g., a caller checking a future date) would fast-forward the accumulator past a
-         * subsequent, earlier-dated query without tripping the "went back in time" reset below, silently returning
-         * already-future state for a query that asked about the present or past.</p>
-         *
-         * @param now The current time.
-         *
-         * @return The up-to-date {@link PlanetaryEvent} as of {@code now}.
-         */
-        public @Nonnull PlanetaryEvent getCurrentEvent(LocalDate now) {
-            if ((lastUpdated == null) || lastUpdated.isAfter(now)) {
-                // initialize ourselves if we're fresh or if we went back in time (which breaks how the event stream
-                // works)
-                initialize(now);
-            }
-            lastUpdated = now;
-
-            // if we have no more events for this planet, or if our current date is before the next date, return our
-            // cached event
-            if ((nextEvent == null) || now.isBefore(nextEvent.getKey())) {
-                return planetaryEvent;
-            }
-
-            // fast-forward to the next event
-            do {
-                planetaryEvent.copyDataFrom(nextEvent.getValue());
-                if (eventStream.hasNext()) {
-                    nextEvent = eventStream.next();
-                } else {
-                    nextEvent = null;
-                }
-
-            } while ((nextEvent != null) && !now.isBefore(nextEvent.getKey()));
-
-            return planetaryEvent;
-        }
+        return timeline;
     }
 
     public @Nonnull String getName(LocalDate when) {
@@ -544,11 +491,11 @@ public class Planet {
     }
 
     public @Nullable SourceableValue<String> getSourcedName(LocalDate when) {
-        return getEventData(when, name, e -> e.name);
+        return getEventData(when, name, EventField.NAME);
     }
 
     public @Nullable String getShortName(LocalDate when) {
-        return getEventData(when, shortName, e -> e.shortName);
+        return getEventData(when, shortName, EventField.SHORT_NAME);
     }
 
     /** @return short name if set, else full name, else "unnamed" */
@@ -573,15 +520,23 @@ public class Planet {
     }
 
     public @Nullable SourceableValue<SocioIndustrialData> getSourcedSocioIndustrial(LocalDate when) {
-        return getEventData(when, null, e -> e.socioIndustrial);
+        return getEventData(when, null, EventField.SOCIO_INDUSTRIAL);
     }
 
     public @Nonnull HPGRating getHPG(LocalDate when) {
         return (null == getSourcedHPG(when)) ? HPGRating.X : getSourcedHPG(when).getValue();
     }
 
+    /**
+     * @return the dates on which an event sets this planet's HPG rating, in date order. The rating is the same on every
+     *       day between two of them.
+     */
+    public List<LocalDate> getHPGChangeDates() {
+        return (null == events) ? List.of() : getEventTimeline().getChangeDates(EventField.HPG.ordinal());
+    }
+
     public @Nullable SourceableValue<HPGRating> getSourcedHPG(LocalDate when) {
-        return getEventData(when, null, e -> e.hpg);
+        return getEventData(when, null, EventField.HPG);
     }
 
     /**
@@ -596,7 +551,7 @@ public class Planet {
     }
 
     public @Nullable SourceableValue<Long> getSourcedPopulation(LocalDate when) {
-        return getEventData(when, null, e -> e.population);
+        return getEventData(when, null, EventField.POPULATION);
     }
 
     /**
@@ -608,11 +563,11 @@ public class Planet {
     }
 
     public @Nullable SourceableValue<LifeForm> getSourcedLifeForm(LocalDate when) {
-        return getEventData(when, lifeForm, e -> e.lifeForm);
+        return getEventData(when, lifeForm, EventField.LIFE_FORM);
     }
 
     public @Nullable SourceableValue<Integer> getSourcedPercentWater(LocalDate when) {
-        return getEventData(when, percentWater, e -> e.percentWater);
+        return getEventData(when, percentWater, EventField.PERCENT_WATER);
     }
 
     /**
@@ -627,7 +582,7 @@ public class Planet {
     }
 
     public @Nullable SourceableValue<Integer> getSourcedTemperature(LocalDate when) {
-        return getEventData(when, temperature, e -> e.temperature);
+        return getEventData(when, temperature, EventField.TEMPERATURE);
     }
 
     /**
@@ -644,7 +599,7 @@ public class Planet {
     }
 
     public @Nullable SourceableValue<megamek.common.planetaryConditions.Atmosphere> getSourcedPressure(LocalDate when) {
-        return getEventData(when, pressure, e -> e.pressure);
+        return getEventData(when, pressure, EventField.PRESSURE);
     }
 
     public @Nonnull Atmosphere getAtmosphere(LocalDate when) {
@@ -652,11 +607,11 @@ public class Planet {
     }
 
     public @Nullable SourceableValue<Atmosphere> getSourcedAtmosphere(LocalDate when) {
-        return getEventData(when, atmosphere, e -> e.atmosphere);
+        return getEventData(when, atmosphere, EventField.ATMOSPHERE);
     }
 
     public @Nullable SourceableValue<String> getSourcedComposition(LocalDate when) {
-        return getEventData(when, composition, e -> e.composition);
+        return getEventData(when, composition, EventField.COMPOSITION);
     }
 
     public @Nonnull List<String> getFactions(LocalDate when) {
@@ -664,7 +619,7 @@ public class Planet {
     }
 
     public @Nullable SourceableValue<List<String>> getSourcedFactions(LocalDate when) {
-        return getEventData(when, null, e -> e.faction);
+        return getEventData(when, null, EventField.FACTION);
     }
 
     private static Set<Faction> getFactionsFrom(Collection<String> codes) {
@@ -727,7 +682,7 @@ public class Planet {
     }
 
     public @Nullable SourceableValue<HiringHallLevel> getSourcedHiringHallLevel(LocalDate when) {
-        return getEventData(when, null, e -> e.hiringHall);
+        return getEventData(when, null, EventField.HIRING_HALL);
     }
 
     private int calculateHiringHallScore(LocalDate when) {
@@ -1039,6 +994,37 @@ public class Planet {
         T get(PlanetaryEvent e);
     }
 
+    /**
+     * The event fields which can be looked up by date, each compiled into its own {@link PlanetaryEventTimeline}.
+     */
+    private enum EventField {
+        NAME(e -> e.name),
+        SHORT_NAME(e -> e.shortName),
+        FACTION(e -> e.faction),
+        HPG(e -> e.hpg),
+        LIFE_FORM(e -> e.lifeForm),
+        PERCENT_WATER(e -> e.percentWater),
+        TEMPERATURE(e -> e.temperature),
+        SOCIO_INDUSTRIAL(e -> e.socioIndustrial),
+        PRESSURE(e -> e.pressure),
+        HIRING_HALL(e -> e.hiringHall),
+        ATMOSPHERE(e -> e.atmosphere),
+        COMPOSITION(e -> e.composition),
+        POPULATION(e -> e.population),
+        DAY_LENGTH(e -> e.dayLength);
+
+        /** The getter of each field, in ordinal order */
+        private static final List<EventGetter<?>> GETTERS = Arrays.stream(values())
+                                                                   .<EventGetter<?>>map(field -> field.getter)
+                                                                   .toList();
+
+        private final EventGetter<?> getter;
+
+        EventField(EventGetter<?> getter) {
+            this.getter = getter;
+        }
+    }
+
     /**
      * This class is used to do some additional work after a planet file is loaded with Jackson
      **/
@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import megamek.common.annotations.Nullable;
+import mekhq.campaign.universe.Planet.EventGetter;
+import mekhq.campaign.universe.Planet.PlanetaryEvent;
+
+/**
+ * An immutable, precompiled view of a planet's event history, answering "what was this value on this date" for each
+ * event field with a binary search.
+ *
+ * <p>Each field gets its own timeline holding only the dates on which an event set it, so a lookup costs the same
+ * whatever date was asked about before. As nothing is mutated after construction, any number of threads can query an
+ * instance at once without locking.</p>
+ */
+final class PlanetaryEventTimeline {
+    private static final LocalDate[] NO_DATES = new LocalDate[0];
+    private static final Object[] NO_VALUES = new Object[0];
+
+    private final LocalDate[][] dates;
+    private final Object[][] values;
+
+    private PlanetaryEventTimeline(LocalDate[][] dates, Object[][] values) {
+        this.dates = dates;
+        this.values = values;
+    }
+
+    /**
+     * Compiles the timelines of a planet's events.
+     *
+     * @param events  The planet's events, in date order.
+     * @param getters The fields to compile, each read from an event by a getter returning {@code null} when the
+     *                event leaves the field unchanged. A field is looked up later by its position in this list.
+     *
+     * @return The compiled timelines.
+     */
+    static PlanetaryEventTimeline compile(Collection<PlanetaryEvent> events, List<? extends EventGetter<?>> getters) {
+        LocalDate[][] dates = new LocalDate[getters.size()][];
+        Object[][] values = new Object[getters.size()][];
+        List<LocalDate> fieldDates = new ArrayList<>(events.size());
+        List<Object> fieldValues = new ArrayList<>(events.size());
+
+        for (int field = 0; field < getters.size(); field++) {
+            EventGetter<?> getter = getters.get(field);
+            fieldDates.clear();
+            fieldValues.clear();
+            for (PlanetaryEvent event : events) {
+                Object value = getter.get(event);
+                if (value != null) {
+                    fieldDates.add(event.date);
+                    fieldValues.add(value);
+                }
+            }
+            dates[field] = fieldDates.isEmpty() ? NO_DATES : fieldDates.toArray(NO_DATES);
+            values[field] = fieldValues.isEmpty() ? NO_VALUES : fieldValues.toArray();
+        }
+
+        return new PlanetaryEventTimeline(dates, values);
+    }
+
+    /**
+     * @param field The position of the field in the getters the timeline was compiled from.
+     *
+     * @return The dates on which an event sets the field, in date order.
+     */
+    List<LocalDate> getChangeDates(int field) {
+        return Collections.unmodifiableList(Arrays.asList(dates[field]));
+    }
+
+    /**
+     * @param field The position of the field in the getters the timeline was compiled from.
+     * @param when  The date to look up.
+     *
+     * @return The value most recently set on or before {@code when}, or {@code null} if no event had set it yet.
+     */
+    @Nullable Object valueAt(int field, LocalDate when) {
+        LocalDate[] fieldDates = dates[field];
+        int index = Arrays.binarySearch(fieldDates, when);
+        if (index < 0) {
+            // Not an exact match, so take the last change before the insertion point
+            index = -index - 2;
+        }
+        return (index < 0) ? null : values[field][index];
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+import mekhq.MHQConstants;
+
+/**
+ * A binary snapshot of the canonical planetary systems, so they do not need to be parsed from YAML on every start.
+ *
+ * <p>The cache is written after the canonical systems were loaded from YAML, and records a hash of the content of
+ * every source file. It is only used if that hash, the MekHQ version, and the cache format all still match, so any
+ * change to the data or the code reading it causes the systems to be parsed from YAML again. Each system is stored
+ * in Jackson's binary Smile format using the same mapping as the YAML files, along with its connector flag, which is
+ * not part of that mapping. The file is read through a memory-mapped buffer.</p>
+ *
+ * <p>The cache only ever holds canonical systems. User-directory systems and campaign overrides are applied on top
+ * of them exactly as they are when the systems are loaded from YAML.</p>
+ */
+final class PlanetarySystemCache {
+    private static final MMLogger LOGGER = MMLogger.create(PlanetarySystemCache.class);
+
+    private static final int MAGIC = 0x4D485153; // "MHQS"
+    private static final int FORMAT_VERSION = 1;
+
+    private PlanetarySystemCache() {
+    }
+
+    /**
+     * Hashes the content of the planetary system source files below a directory, the same files
+     * {@link Systems#load(String)} reads.
+     *
+     * @param directory The planetary systems directory.
+     *
+     * @return The hex encoded hash, or {@code null} if the directory does not exist or could not be read.
+     */
+    static @Nullable String hashSourceFiles(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            return null;
+        }
+
+        try (Stream<Path> paths = Files.walk(directory)) {
+            List<Path> sourceFiles = paths.filter(Files::isRegularFile)
+                                           .filter(PlanetarySystemCache::isSourceFile)
+                                           .sorted()
+                                           .toList();
+
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (OutputStream hashStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+                for (Path sourceFile : sourceFiles) {
+                    hashStream.write(directory.relativize(sourceFile)
+                                           .toString()
+                                           .replace('\\', '/')
+                                           .getBytes(StandardCharsets.UTF_8));
+                    hashStream.write(0);
+                    Files.copy(sourceFile, hashStream);
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException ex) {
+            LOGGER.error(ex, "Unable to hash the planetary system files in {}", directory);
+            return null;
+        }
+    }
+
+    private static boolean isSourceFile(Path path) {
+        String fileName = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return fileName.endsWith(".yml") || fileName.endsWith(".zip");
+    }
+
+    /**
+     * Reads the systems from the cache.
+     *
+     * @param cacheFile   The cache file.
+     * @param contentHash The hash of the current source files.
+     *
+     * @return The cached systems, or {@code null} if there is no usable cache for the source files.
+     */
+    static @Nullable List<PlanetarySystem> read(Path cacheFile, String contentHash) {
+        if (!Files.isRegularFile(cacheFile)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            if ((buffer.getInt() != MAGIC) || (buffer.getInt() != FORMAT_VERSION)
+                      || !MHQConstants.VERSION.toString().equals(readString(buffer))
+                      || !contentHash.equals(readString(buffer))) {
+                LOGGER.info("The planetary system cache is out of date and will be rebuilt");
+                return null;
+            }
+
+            ObjectReader reader = PlanetarySystemYamlIO.createBinaryMapper().readerFor(PlanetarySystem.class);
+            int count = buffer.getInt();
+            List<PlanetarySystem> systems = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                boolean isConnector = buffer.get() != 0;
+                int length = buffer.getInt();
+                ByteBuffer entry = buffer.slice(buffer.position(), length);
+                buffer.position(buffer.position() + length);
+
+                PlanetarySystem system;
+                try (InputStream inputStream = new ByteBufferBackedInputStream(entry)) {
+                    system = reader.readValue(inputStream);
+                }
+                system.setConnector(isConnector);
+                systems.add(system);
+            }
+            return systems;
+        } catch (IOException | RuntimeException ex) {
+            // A damaged cache is simply rebuilt
+            LOGGER.warn("Unable to read the planetary system cache {}: {}", cacheFile, ex.getMessage());
+            return null;
+        }
+    }
+
+    private static String readString(ByteBuffer buffer) throws BufferUnderflowException {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the systems to the cache. The cache is written to a temporary file first and moved into place, so a
+     * partially written cache is never read. Failing to write the cache is logged and otherwise ignored.
+     *
+     * @param cacheFile   The cache file.
+     * @param contentHash The hash of the source files the systems were loaded from.
+     * @param systems     The canonical systems.
+     */
+    static void write(Path cacheFile, String contentHash, Collection<PlanetarySystem> systems) {
+        Path temporaryFile = null;
+        try {
+            Path directory = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temporaryFile = Files.createTempFile(directory, "planetary_systems", ".tmp");
+
+            ObjectMapper mapper = PlanetarySystemYamlIO.createBinaryMapper();
+            ByteArrayOutputStream entry = new ByteArrayOutputStream();
+            try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(
+                  Files.newOutputStream(temporaryFile)))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                writeString(output, MHQConstants.VERSION.toString());
+                writeString(output, contentHash);
+                output.writeInt(systems.size());
+                for (PlanetarySystem system : systems) {
+                    entry.reset();
+                    mapper.writeValue(entry, system);
+                    output.writeBoolean(system.isConnector());
+                    output.writeInt(entry.size());
+                    entry.writeTo(output);
+                }
+            }
+
+            try {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.ATOMIC_MOVE,
+                      StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporaryFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOGGER.info("Wrote {} planetary systems to the cache {}", systems.size(), cacheFile);
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn("Unable to write the planetary system cache {}: {}", cacheFile, ex.getMessage());
+        } finally {
+            if (temporaryFile != null) {
+                try {
+                    Files.deleteIfExists(temporaryFile);
+                } catch (IOException ex) {
+                    LOGGER.warn("Unable to delete {}: {}", temporaryFile, ex.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
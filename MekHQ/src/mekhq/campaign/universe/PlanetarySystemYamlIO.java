@@ -46,6 +46,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
@@ -59,6 +60,7 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 public final class PlanetarySystemYamlIO {
 
     private static final ObjectMapper MAPPER = buildMapper();
+    private static final ObjectMapper BINARY_MAPPER = configureMapper(new ObjectMapper(new SmileFactory()));
 
     private PlanetarySystemYamlIO() {
 
@@ -69,8 +71,19 @@ public final class PlanetarySystemYamlIO {
         return MAPPER;
     }
 
+    /**
+     * Returns a mapper for the binary Smile format with the same planetary-system mapping as the YAML mapper. Used by
+     * {@link PlanetarySystemCache}. Treat the mapper as read-only after configuration.
+     */
+    static ObjectMapper createBinaryMapper() {
+        return BINARY_MAPPER;
+    }
+
     private static ObjectMapper buildMapper() {
-        ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+        return configureMapper(new ObjectMapper(new YAMLFactory()));
+    }
+
+    private static ObjectMapper configureMapper(ObjectMapper mapper) {
         mapper.setVisibility(PropertyAccessor.GETTER, JsonAutoDetect.Visibility.NONE);
         mapper.setVisibility(PropertyAccessor.IS_GETTER, JsonAutoDetect.Visibility.NONE);
         mapper.setDefaultPropertyInclusion(JsonInclude.Value.construct(JsonInclude.Include.NON_NULL,
@@ -0,0 +1,493 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * An immutable two-dimensional index over the map coordinates of a set of planetary systems, answering radius,
+ * k-nearest and closest-pair queries without scanning every system.
+ *
+ * <p>The index is a k-d tree packed into primitive arrays: each range of the arrays is split around its median along
+ * alternating axes, so the tree needs no node objects and a query allocates nothing beyond its result. Systems without
+ * coordinates are left out.</p>
+ *
+ * <p>Distances are compared the same way as {@link PlanetarySystem#getDistanceTo(double, double)}, so a system
+ * exactly on the edge of a radius is included here whenever it would be by a linear scan.</p>
+ *
+ * <p>Instances are safe to share between threads.</p>
+ */
+public final class SystemSpatialIndex {
+    private static final SystemSpatialIndex EMPTY = new SystemSpatialIndex(List.of());
+
+    /**
+     * The result of a closest pair query.
+     *
+     * @param from     The system from the queried collection.
+     * @param to       The closest system to it in the index.
+     * @param distance The distance between the two, in light years.
+     */
+    public record SystemPair(PlanetarySystem from, PlanetarySystem to, double distance) {
+    }
+
+    /** The indexed systems, in the order they were supplied. */
+    private final PlanetarySystem[] systems;
+    /** The position in {@link #systems} of each node of the tree. */
+    private final int[] order;
+    private final double[] xs;
+    private final double[] ys;
+
+    private SystemSpatialIndex(Collection<PlanetarySystem> source) {
+        List<PlanetarySystem> located = new ArrayList<>(source.size());
+        for (PlanetarySystem system : source) {
+            if ((system != null) && (system.getX() != null) && (system.getY() != null)) {
+                located.add(system);
+            }
+        }
+
+        systems = located.toArray(new PlanetarySystem[0]);
+        order = new int[systems.length];
+        xs = new double[systems.length];
+        ys = new double[systems.length];
+        for (int i = 0; i < systems.length; i++) {
+            order[i] = i;
+            xs[i] = systems[i].getX();
+            ys[i] = systems[i].getY();
+        }
+        build(0, systems.length, true);
+    }
+
+    /**
+     * Creates an index over the given systems.
+     *
+     * @param systems The systems to index. Systems without coordinates are skipped.
+     *
+     * @return A new index.
+     */
+    public static SystemSpatialIndex of(Collection<PlanetarySystem> systems) {
+        return systems.isEmpty() ? EMPTY : new SystemSpatialIndex(systems);
+    }
+
+    /**
+     * @return An index containing no systems.
+     */
+    public static SystemSpatialIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return The number of indexed systems.
+     */
+    public int size() {
+        return systems.length;
+    }
+
+    /**
+     * @return The indexed systems, in the order they were supplied.
+     */
+    public List<PlanetarySystem> getSystems() {
+        return Collections.unmodifiableList(Arrays.asList(systems));
+    }
+
+    /**
+     * Visits every indexed system within a distance of a point, in no particular order.
+     *
+     * @param x       The x coordinate of the point.
+     * @param y       The y coordinate of the point.
+     * @param radius  The distance from the point in light years, inclusive.
+     * @param visitor Receives each system in range.
+     */
+    public void visitWithinRadius(double x, double y, double radius, Consumer<PlanetarySystem> visitor) {
+        if (radius >= 0) {
+            visitWithinRadius(0, systems.length, true, x, y, radius, node -> visitor.accept(systems[order[node]]));
+        }
+    }
+
+    /**
+     * Finds every indexed system within a distance of a point.
+     *
+     * @param x      The x coordinate of the point.
+     * @param y      The y coordinate of the point.
+     * @param radius The distance from the point in light years, inclusive.
+     *
+     * @return The systems in range, in the order they were supplied to the index.
+     */
+    public List<PlanetarySystem> withinRadius(double x, double y, double radius) {
+        if (radius < 0) {
+            return new ArrayList<>();
+        }
+
+        IntList matches = new IntList();
+        visitWithinRadius(0, systems.length, true, x, y, radius, node -> matches.add(order[node]));
+        int[] positions = matches.toSortedArray();
+        List<PlanetarySystem> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(systems[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Finds every indexed system inside an axis-aligned rectangle, edges included.
+     *
+     * @param minX The lowest x coordinate of the rectangle.
+     * @param minY The lowest y coordinate of the rectangle.
+     * @param maxX The highest x coordinate of the rectangle.
+     * @param maxY The highest y coordinate of the rectangle.
+     *
+     * @return The systems inside the rectangle, in the order they were supplied to the index.
+     */
+    public List<PlanetarySystem> withinBounds(double minX, double minY, double maxX, double maxY) {
+        if ((minX > maxX) || (minY > maxY)) {
+            return new ArrayList<>();
+        }
+
+        IntList matches = new IntList();
+        visitWithinBounds(0, systems.length, true, minX, minY, maxX, maxY, matches);
+        int[] positions = matches.toSortedArray();
+        List<PlanetarySystem> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            result.add(systems[position]);
+        }
+        return result;
+    }
+
+    /**
+     * Finds the indexed systems closest to a point.
+     *
+     * @param x     The x coordinate of the point.
+     * @param y     The y coordinate of the point.
+     * @param count The maximum number of systems to return.
+     *
+     * @return Up to {@code count} systems, closest first. Systems at the same distance are in the order they were
+     *       supplied to the index.
+     */
+    public List<PlanetarySystem> nearest(double x, double y, int count) {
+        if ((count <= 0) || (systems.length == 0)) {
+            return new ArrayList<>();
+        }
+
+        NearestSearch search = new NearestSearch(Math.min(count, systems.length));
+        search.search(0, systems.length, true, x, y);
+        return search.toList();
+    }
+
+    /**
+     * Finds the indexed system closest to a point.
+     *
+     * @param x The x coordinate of the point.
+     * @param y The y coordinate of the point.
+     *
+     * @return The closest system, or {@code null} if the index is empty.
+     */
+    public @Nullable PlanetarySystem nearest(double x, double y) {
+        List<PlanetarySystem> nearest = nearest(x, y, 1);
+        return nearest.isEmpty() ? null : nearest.get(0);
+    }
+
+    /**
+     * Finds the pair of systems, one from the given collection and one from this index, which are closest to each
+     * other. Runs one nearest neighbour query per system in {@code from}, so index the larger of the two sets.
+     *
+     * @param from The systems to pair with the indexed systems. Systems without coordinates are skipped.
+     *
+     * @return The closest pair, or {@code null} if either side has no systems. When several pairs are equally close,
+     *       the one whose {@code from} system comes first in {@code from} is returned.
+     */
+    public @Nullable SystemPair closestPair(Collection<PlanetarySystem> from) {
+        if (systems.length == 0) {
+            return null;
+        }
+
+        SystemPair closest = null;
+        for (PlanetarySystem system : from) {
+            if ((system == null) || (system.getX() == null) || (system.getY() == null)) {
+                continue;
+            }
+            NearestSearch search = new NearestSearch(1);
+            search.search(0, systems.length, true, system.getX(), system.getY());
+            double distance = Math.sqrt(search.distances[0]);
+            if ((closest == null) || (distance < closest.distance())) {
+                closest = new SystemPair(system, systems[search.positions[0]], distance);
+            }
+        }
+        return closest;
+    }
+
+    private void visitWithinRadius(int low, int high, boolean splitOnX, double x, double y, double radius,
+          NodeVisitor visitor) {
+        if (low >= high) {
+            return;
+        }
+
+        int mid = (low + high) >>> 1;
+        double dx = xs[mid] - x;
+        double dy = ys[mid] - y;
+        if (Math.sqrt(dx * dx + dy * dy) <= radius) {
+            visitor.visit(mid);
+        }
+
+        // The lower half holds coordinates no greater than the split, the upper half none less than it
+        double offset = splitOnX ? -dx : -dy;
+        if (offset <= radius) {
+            visitWithinRadius(low, mid, !splitOnX, x, y, radius, visitor);
+        }
+        if (-offset <= radius) {
+            visitWithinRadius(mid + 1, high, !splitOnX, x, y, radius, visitor);
+        }
+    }
+
+    private void visitWithinBounds(int low, int high, boolean splitOnX, double minX, double minY, double maxX,
+          double maxY, IntList matches) {
+        if (low >= high) {
+            return;
+        }
+
+        int mid = (low + high) >>> 1;
+        double x = xs[mid];
+        double y = ys[mid];
+        if ((x >= minX) && (x <= maxX) && (y >= minY) && (y <= maxY)) {
+            matches.add(order[mid]);
+        }
+
+        double split = splitOnX ? x : y;
+        if (split >= (splitOnX ? minX : minY)) {
+            visitWithinBounds(low, mid, !splitOnX, minX, minY, maxX, maxY, matches);
+        }
+        if (split <= (splitOnX ? maxX : maxY)) {
+            visitWithinBounds(mid + 1, high, !splitOnX, minX, minY, maxX, maxY, matches);
+        }
+    }
+
+    private void build(int low, int high, boolean splitOnX) {
+        if (high - low < 2) {
+            return;
+        }
+
+        int mid = (low + high) >>> 1;
+        select(low, high - 1, mid, splitOnX);
+        build(low, mid, !splitOnX);
+        build(mid + 1, high, !splitOnX);
+    }
+
+    /**
+     * Partially sorts the inclusive range so that {@code target} holds its median along the given axis, with no
+     * greater coordinate before it and no lesser one after it.
+     */
+    private void select(int left, int right, int target, boolean splitOnX) {
+        double[] coordinates = splitOnX ? xs : ys;
+        while (right > left) {
+            double pivot = coordinates[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinates[i] < pivot) {
+                    i++;
+                }
+                while (coordinates[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+
+            if (target <= j) {
+                right = j;
+            } else if (target >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(int i, int j) {
+        int position = order[i];
+        order[i] = order[j];
+        order[j] = position;
+        double x = xs[i];
+        xs[i] = xs[j];
+        xs[j] = x;
+        double y = ys[i];
+        ys[i] = ys[j];
+        ys[j] = y;
+    }
+
+    @FunctionalInterface
+    private interface NodeVisitor {
+        void visit(int node);
+    }
+
+    /**
+     * A growable list of positions, to collect radius matches without boxing.
+     */
+    private static final class IntList {
+        private int[] values = new int[16];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toSortedArray() {
+            int[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    /**
+     * The state of a k-nearest query: a bounded max-heap of squared distances, so the furthest of the current
+     * candidates is always at the root.
+     */
+    private final class NearestSearch {
+        private final double[] distances;
+        private final int[] positions;
+        private int size;
+
+        NearestSearch(int count) {
+            distances = new double[count];
+            positions = new int[count];
+        }
+
+        void search(int low, int high, boolean splitOnX, double x, double y) {
+            if (low >= high) {
+                return;
+            }
+
+            int mid = (low + high) >>> 1;
+            double dx = xs[mid] - x;
+            double dy = ys[mid] - y;
+            offer(dx * dx + dy * dy, order[mid]);
+
+            double offset = splitOnX ? -dx : -dy;
+            boolean lowerFirst = offset < 0;
+            if (lowerFirst) {
+                search(low, mid, !splitOnX, x, y);
+            } else {
+                search(mid + 1, high, !splitOnX, x, y);
+            }
+            if ((size < distances.length) || (offset * offset <= distances[0])) {
+                if (lowerFirst) {
+                    search(mid + 1, high, !splitOnX, x, y);
+                } else {
+                    search(low, mid, !splitOnX, x, y);
+                }
+            }
+        }
+
+        private void offer(double distance, int position) {
+            if (size < distances.length) {
+                distances[size] = distance;
+                positions[size] = position;
+                siftUp(size++);
+            } else if (isFurther(distances[0], positions[0], distance, position)) {
+                distances[0] = distance;
+                positions[0] = position;
+                siftDown(0);
+            }
+        }
+
+        /**
+         * Orders candidates by distance and then by position, so ties resolve the same way however the tree is
+         * laid out.
+         */
+        private boolean isFurther(double distance, int position, double otherDistance, int otherPosition) {
+            return (distance > otherDistance) || ((distance == otherDistance) && (position > otherPosition));
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (!isFurther(distances[index], positions[index], distances[parent], positions[parent])) {
+                    return;
+                }
+                swapEntries(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int furthest = index;
+                for (int child = (2 * index) + 1; (child <= (2 * index) + 2) && (child < size); child++) {
+                    if (isFurther(distances[child], positions[child], distances[furthest], positions[furthest])) {
+                        furthest = child;
+                    }
+                }
+                if (furthest == index) {
+                    return;
+                }
+                swapEntries(index, furthest);
+                index = furthest;
+            }
+        }
+
+        private void swapEntries(int i, int j) {
+            double distance = distances[i];
+            distances[i] = distances[j];
+            distances[j] = distance;
+            int position = positions[i];
+            positions[i] = positions[j];
+            positions[j] = position;
+        }
+
+        List<PlanetarySystem> toList() {
+            Integer[] entries = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                entries[i] = i;
+            }
+            Arrays.sort(entries, (first, second) -> {
+                int comparison = Double.compare(distances[first], distances[second]);
+                return (comparison != 0) ? comparison : Integer.compare(positions[first], positions[second]);
+            });
+
+            List<PlanetarySystem> result = new ArrayList<>(size);
+            for (Integer entry : entries) {
+                result.add(systems[positions[entry]]);
+            }
+            return result;
+        }
+    }
+}
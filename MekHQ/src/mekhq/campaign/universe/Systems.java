@@ -36,6 +36,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,7 +50,6 @@ import jakarta.annotation.Nullable;
 import megamek.common.preference.PreferenceManager;
 import megamek.logging.MMLogger;
 import mekhq.MHQConstants;
-import mekhq.campaign.universe.enums.HPGRating;
 import org.w3c.dom.DOMException;
 
 /**
@@ -65,9 +65,6 @@ public class Systems {
     private static Systems activeSystems;
     private static Systems canonicalSystems;
 
-    private final int HPG_RADIUS_A_STATION = 50;
-    private final int HPG_RADIUS_B_STATION = 30;
-
     /**
      * Returns the active runtime systems registry.
      *
@@ -132,25 +129,16 @@ public class Systems {
 
     protected ConcurrentMap<String, PlanetarySystem> systemList = new ConcurrentHashMap<>();
 
-    /**
-     * Organizes systems into a grid of 30lyx30ly squares so we can find nearby systems without iterating through the
-     * entire planet list.
-     */
-    private final HashMap<Integer, Map<Integer, Set<PlanetarySystem>>> systemGrid = new HashMap<>();
+    /** Spatial index over the systems' coordinates, so we can find nearby systems without iterating through them all */
+    private volatile SystemSpatialIndex spatialIndex = SystemSpatialIndex.empty();
 
-    // HPG Network cache (to not recalculate all the damn time)
-    private Collection<HPGLink> hpgNetworkCache = null;
-    private LocalDate hpgNetworkCacheDate = null;
+    // Jump graph for path finding, built on first use
+    private volatile JumpGraph jumpGraph = null;
 
-    protected Systems() {
-    }
+    // HPG network, built on first use
+    private volatile HPGNetwork hpgNetwork = null;
 
-    private Set<PlanetarySystem> getSystemGrid(int x, int y) {
-        if (!systemGrid.containsKey(x)) {
-            return null;
-        }
-
-        return systemGrid.get(x).get(y);
+    protected Systems() {
     }
 
     /** Return the planet by given name at a given time point */
@@ -190,6 +178,13 @@ public class Systems {
         return systemList;
     }
 
+    /**
+     * @return The spatial index over every system in this registry, for nearest-system and range queries.
+     */
+    public SystemSpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
     private Systems copyWithOverrides(Collection<PlanetarySystem> overrides) {
         Systems copy = new Systems();
         copy.systemList.putAll(systemList);
@@ -204,6 +199,28 @@ public class Systems {
         return copy;
     }
 
+    /**
+     * Returns the graph of jumps between the systems of this registry, building it on first use. Only systems with
+     * coordinates are part of the graph.
+     *
+     * @return The jump graph.
+     */
+    public JumpGraph getJumpGraph() {
+        JumpGraph graph = jumpGraph;
+        if (graph == null) {
+            synchronized (this) {
+                graph = jumpGraph;
+                if (graph == null) {
+                    List<PlanetarySystem> gridSystems = new ArrayList<>(spatialIndex.getSystems());
+                    gridSystems.sort(Comparator.comparing(PlanetarySystem::getId));
+                    graph = new JumpGraph(gridSystems, this::visitNearbySystems);
+                    jumpGraph = graph;
+                }
+            }
+        }
+        return graph;
+    }
+
     public @Nullable PlanetarySystem getSystemById(String id) {
         return (null != id ? systemList.get(id) : null);
     }
@@ -261,39 +278,26 @@ public class Systems {
     }
 
     public Collection<HPGLink> getHPGNetwork(LocalDate when) {
-        if ((null != when) && when.equals(hpgNetworkCacheDate)) {
-            return hpgNetworkCache;
-        }
-
-        Set<HPGLink> result = new HashSet<>();
-        for (PlanetarySystem system : systemList.values()) {
-            HPGRating hpg = system.getHPG(when);
-            if (hpg != null) {
-                int distance = 0;
-                if (hpg == HPGRating.A) {
-                    distance = HPG_RADIUS_A_STATION;
-                }
-
-                if (hpg == HPGRating.B) {
-                    distance = HPG_RADIUS_B_STATION;
-                }
-
-                Collection<PlanetarySystem> neighbors = getNearbySystems(system, distance);
+        return getHPGNetwork().getLinks(when);
+    }
 
-                if (distance > 0) {
-                    for (PlanetarySystem neighbor : neighbors) {
-                        hpg = neighbor.getHPG(when);
-                        if (null != hpg) {
-                            HPGLink link = new HPGLink(system, neighbor, hpg);
-                            result.add(link);
-                        }
-                    }
+    /**
+     * Returns the HPG network between the systems of this registry, building it on first use.
+     *
+     * @return The HPG network.
+     */
+    public HPGNetwork getHPGNetwork() {
+        HPGNetwork network = hpgNetwork;
+        if (network == null) {
+            synchronized (this) {
+                network = hpgNetwork;
+                if (network == null) {
+                    network = new HPGNetwork(spatialIndex.getSystems(), this::visitNearbySystems);
+                    hpgNetwork = network;
                 }
             }
         }
-        hpgNetworkCache = result;
-        hpgNetworkCacheDate = when;
-        return result;
+        return network;
     }
 
     // Data loading methods
@@ -310,13 +314,17 @@ public class Systems {
 
         Systems systems = new Systems();
 
-        // load default systems
-        systems.load(MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH);
+        // load default systems, from the cache if they have not changed since it was written
+        boolean isLoadedFromCache = systems.loadCanonicalSystems(MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH,
+              Path.of(MHQConstants.PLANETARY_SYSTEM_CACHE_FILE_PATH));
 
         // load user-installed systems for backwards compatibility
         String userDir = PreferenceManager.getClientPreferences().getUserDir();
+        boolean hasUserSystems = false;
         if ((userDir != null) && !userDir.isBlank()) {
-            systems.load(new File(userDir, MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH).toString());
+            File userSystemsDirectory = new File(userDir, MHQConstants.PLANETARY_SYSTEM_DIRECTORY_PATH);
+            hasUserSystems = userSystemsDirectory.exists();
+            systems.load(userSystemsDirectory.toString());
         }
 
         // a bit of post loading clean up
@@ -325,11 +333,44 @@ public class Systems {
         // logging
         logger.info(String.format(Locale.ROOT, "Loaded a total of %d systems in %.3fs.",
               systems.systemList.size(), (java.lang.System.currentTimeMillis() - currentTime) / 1000.0));
-        systems.logVeryCloseSystems();
+        // Cached canonical systems were already checked when the cache was written
+        if (!isLoadedFromCache || hasUserSystems) {
+            systems.logVeryCloseSystems();
+        }
 
         return systems;
     }
 
+    /**
+     * Loads the canonical systems, either from the binary cache if it was written from the current source files, or
+     * from YAML, in which case the cache is rewritten.
+     *
+     * @param planetsPath The path to the folder containing the canonical planetary YAML files.
+     * @param cacheFile   The path of the binary cache.
+     *
+     * @return {@code true} if the systems were loaded from the cache.
+     */
+    boolean loadCanonicalSystems(String planetsPath, Path cacheFile) {
+        String contentHash = PlanetarySystemCache.hashSourceFiles(Path.of(planetsPath));
+        if (contentHash == null) {
+            load(planetsPath);
+            return false;
+        }
+
+        List<PlanetarySystem> cachedSystems = PlanetarySystemCache.read(cacheFile, contentHash);
+        if (cachedSystems != null) {
+            for (PlanetarySystem system : cachedSystems) {
+                systemList.put(system.getId(), system);
+            }
+            logger.info("Loaded {} planetary systems from the cache", cachedSystems.size());
+            return true;
+        }
+
+        load(planetsPath);
+        PlanetarySystemCache.write(cacheFile, contentHash, systemList.values());
+        return false;
+    }
+
     /**
      * Loads Systems data from files.
      *
@@ -482,15 +523,13 @@ public class Systems {
                 toRemove.add(system);
                 continue;
             }
-            int x = (int) (system.getX() / 30.0);
-            int y = (int) (system.getY() / 30.0);
-            systemGrid.computeIfAbsent(x, k -> new HashMap<>());
-            systemGrid.get(x).computeIfAbsent(y, k -> new HashSet<>());
-            systemGrid.get(x).get(y).add(system);
         }
         for (PlanetarySystem system : toRemove) {
             systemList.remove(system.getId());
         }
+        spatialIndex = SystemSpatialIndex.of(systemList.values());
+        jumpGraph = null;
+        hpgNetwork = null;
     }
 
     private void logVeryCloseSystems() {
@@ -521,23 +560,7 @@ public class Systems {
 
     public void visitNearbySystems(final double centerX, final double centerY, final int distance,
           Consumer<PlanetarySystem> visitor) {
-        int gridRadius = (int) Math.ceil(distance / 30.0);
-        int gridX = (int) (centerX / 30.0);
-        int gridY = (int) (centerY / 30.0);
-
-        for (int x = gridX - gridRadius; x <= gridX + gridRadius; x++) {
-            for (int y = gridY - gridRadius; y <= gridY + gridRadius; y++) {
-                Set<PlanetarySystem> grid = getSystemGrid(x, y);
-
-                if (null != grid) {
-                    for (PlanetarySystem p : grid) {
-                        if (p.getDistanceTo(centerX, centerY) <= distance) {
-                            visitor.accept(p);
-                        }
-                    }
-                }
-            }
-        }
+        spatialIndex.visitWithinRadius(centerX, centerY, distance, visitor);
     }
 
     public void visitNearbySystems(final PlanetarySystem system, final int distance,
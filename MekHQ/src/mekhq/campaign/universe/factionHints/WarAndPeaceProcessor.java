@@ -126,6 +126,10 @@ public class WarAndPeaceProcessor {
      * @since 0.50.10
      */
     private void triggerAllMessages(Faction campaignFaction) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         Map<String, Set<Faction>> factionArrays = Map.of(
               KEY_WAR_START, warStartFactions,
               KEY_WAR_END, warEndFactions,
@@ -49,7 +49,6 @@ import java.util.List;
 
 import megamek.common.enums.Gender;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.units.Entity;
 import megamek.common.units.EntityMovementMode;
@@ -78,6 +77,7 @@ import mekhq.gui.dialog.factionStanding.factionJudgment.FactionAccoladeConfirmat
 import mekhq.gui.dialog.factionStanding.factionJudgment.FactionJudgmentDialog;
 import mekhq.gui.dialog.factionStanding.factionJudgment.FactionJudgmentNewsArticle;
 import mekhq.campaign.campaignOptions.CampaignOption;
+import mekhq.utilities.EntityFactory;
 
 /**
  * Handles events where a campaign receives a faction accolade, such as adoption.
@@ -215,7 +215,9 @@ public class FactionAccoladeEvent {
                       factionName,
                       spanOpeningWithCustomColor(getWarningColor()), CLOSING_SPAN_TAG);
 
-                new ImmersiveDialogNotification(campaign, message, false);
+                if (!campaign.isUnattended()) {
+                    new ImmersiveDialogNotification(campaign, message, false);
+                }
                 return;
             }
 
@@ -244,6 +246,10 @@ public class FactionAccoladeEvent {
 
     private static void triggerTakingNoticeNotification(Campaign campaign, Faction accoladingFaction,
           FactionAccoladeLevel accoladeLevel) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         String factionName = FactionStandingUtilities.getFactionName(accoladingFaction, campaign.getGameYear());
         String key = "FactionJudgmentDialog.message." + accoladeLevel.name() + ".message";
         String message = getFormattedTextAt(RESOURCE_BUNDLE, key, factionName);
@@ -391,8 +397,7 @@ public class FactionAccoladeEvent {
 
             if (mekSummary != null) {
                 try {
-                    Entity entity = new MekFileParser(mekSummary.getSourceFile(),
-                          mekSummary.getEntryName()).getEntity();
+                    Entity entity = EntityFactory.getInstance().getEntity(mekSummary);
 
                     if (entity != null) {
                         generatedEntities.add(entity);
@@ -207,7 +207,10 @@ public class FactionCensureEvent {
                 String dialogKey = DIALOG_OOC_KEY + censureAction.getLookupName();
                 String message = getFormattedTextAt(RESOURCE_BUNDLE, dialogKey, commander.getFullName(),
                       commander.getGivenName(), secondInCommand.getFullName(), secondInCommand.getGivenName());
-                new ImmersiveDialogSimple(campaign, commander, secondInCommand, message, null, null, null, false);
+                if (!campaign.isUnattended()) {
+                    new ImmersiveDialogSimple(campaign, commander, secondInCommand, message, null, null, null,
+                          false);
+                }
             }
             case COMMANDER_MURDERED,
                  COMMANDER_IMPRISONMENT,
@@ -75,7 +75,8 @@ public class PerformBatchall {
     /**
      * Constructs a new {@code PerformBatchall} handler for the specified campaign and Clan opponent.
      *
-     * <p>Initializes the dialog flow, beginning with the Batchall challenge and tracking the player's response.</p>
+     * <p>Initializes the dialog flow, beginning with the Batchall challenge and tracking the player's response. While
+     * the campaign is {@link Campaign#isUnattended() unattended}, no dialog is shown and the Batchall is accepted.</p>
      *
      * @param campaign         The current campaign context.
      * @param clanOpponent     The opponent issuing the Batchall challenge.
@@ -92,12 +93,19 @@ public class PerformBatchall {
 
         if (campaign.getCampaignOptions().isUseFactionStandingBatchallRestrictionsSafe()) {
             if (!standingLevel.isBatchallAllowed()) {
-                getBatchallStandingTooLowDialog(clanOpponent);
+                if (!campaign.isUnattended()) {
+                    getBatchallStandingTooLowDialog(clanOpponent);
+                }
                 isBatchallAccepted = false;
                 return;
             }
         }
 
+        // Nobody is there to answer the challenge, so it is accepted, as the dialog's first responses would
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         if (getInitialChallengeDialog(clanOpponent) < DIALOG_DECLINE_OPTION_START_INDEX) {
             getBatchallFollowUpDialog(false, clanOpponent);
             return;
@@ -52,7 +52,6 @@ import java.util.stream.Stream;
 
 import megamek.client.generator.RandomCallsignGenerator;
 import megamek.common.annotations.Nullable;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.options.OptionsConstants;
 import megamek.common.units.Entity;
@@ -104,6 +103,7 @@ import mekhq.campaign.universe.selectors.planetSelectors.AbstractPlanetSelector;
 import mekhq.campaign.universe.selectors.planetSelectors.DefaultPlanetSelector;
 import mekhq.campaign.universe.selectors.planetSelectors.RangedPlanetSelector;
 import mekhq.campaign.work.WorkTime;
+import mekhq.utilities.EntityFactory;
 
 /**
  * Startup: Second Panel: Presets, Date, Starting Faction, Starting Planet, AtB Third Panel: Campaign Options Fifth
@@ -1094,7 +1094,7 @@ public abstract class AbstractCompanyGenerator {
         }
 
         try {
-            return new MekFileParser(mekSummary.getSourceFile(), mekSummary.getEntryName()).getEntity();
+            return EntityFactory.getInstance().getEntity(mekSummary);
         } catch (Exception ex) {
             LOGGER.error("Failed to generate entity", ex);
             return null;
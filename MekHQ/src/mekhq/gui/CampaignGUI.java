@@ -91,6 +91,7 @@ import mekhq.MHQConstants;
 import mekhq.MHQOptionsChangedEvent;
 import mekhq.MekHQ;
 import mekhq.Utilities;
+import mekhq.campaign.BatchDayAdvancer;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.CampaignController;
 import mekhq.campaign.base.PlayerBase;
@@ -168,6 +169,7 @@ public class CampaignGUI extends JPanel {
 
     /* for the main panel */
     private EnhancedTabbedPane tabMain;
+    private final List<CampaignGuiTab> suspendedTabs = new ArrayList<>();
 
     private MekHQMenuBar windowMenu;
 
@@ -1450,6 +1452,37 @@ public class CampaignGUI extends JPanel {
         }
     }
 
+    /**
+     * Stops the tabs from receiving campaign events until {@link #resumeTabEvents()} is called. Used while advancing
+     * a batch of days, whose intermediate states are never shown, so the tabs do not rebuild themselves for every
+     * event of every day.
+     */
+    public void suspendTabEvents() {
+        if (!suspendedTabs.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < tabMain.getTabCount(); i++) {
+            CampaignGuiTab tab = (CampaignGuiTab) tabMain.getComponentAt(i);
+            MekHQ.unregisterHandler(tab);
+            suspendedTabs.add(tab);
+        }
+    }
+
+    /**
+     * Lets the tabs suspended by {@link #suspendTabEvents()} receive campaign events again. They are not refreshed
+     * for the events they missed, which is left to the caller, normally through {@link #refreshAfterNewDay()}.
+     */
+    public void resumeTabEvents() {
+        for (CampaignGuiTab tab : suspendedTabs) {
+            // Tabs removed in the meantime have already unregistered themselves for good
+            if (tab.isDisplayable()) {
+                MekHQ.registerHandler(tab);
+            }
+        }
+        suspendedTabs.clear();
+    }
+
     public void refreshLab() {
         MekLabTab lab = getMekLabTab();
         if (lab == null) {
@@ -1813,7 +1846,8 @@ public class CampaignGUI extends JPanel {
             AutomatedTechAssignments.handleTheAutomaticAssignmentOfUnmaintainedUnits(getCampaign(), skipReports);
         }
 
-        if (triggerDailyNags(getCampaign())) {
+        final BatchDayAdvancer.Policy batchPolicy = getCampaign().getBatchAdvancePolicy();
+        if (((batchPolicy == null) || batchPolicy.showDailyNags()) && triggerDailyNags(getCampaign())) {
             dayEndingEvent.cancel();
             return;
         }
@@ -1831,8 +1865,9 @@ public class CampaignGUI extends JPanel {
             return;
         }
 
-        // Optional New Day Blocker
-        if (getCampaign().getCampaignOptions().get(CampaignOption.USE_RANDOM_RETIREMENT)) {
+        // Optional New Day Blocker, which an unattended batch advances through regardless
+        if (getCampaign().getCampaignOptions().get(CampaignOption.USE_RANDOM_RETIREMENT)
+                  && ((batchPolicy == null) || batchPolicy.promptForTurnover())) {
             int turnoverPrompt = getCampaign().checkTurnoverPrompt();
 
             switch (turnoverPrompt) {
@@ -2031,6 +2066,18 @@ public class CampaignGUI extends JPanel {
      */
     @Subscribe
     public void handleNewDay(NewDayEvent newDayEvent) {
+        // A batch of days is refreshed for once it has finished
+        if (getCampaign().isBatchAdvancing()) {
+            return;
+        }
+
+        refreshAfterNewDay();
+    }
+
+    /**
+     * Refreshes the calendar, location, funds, parts availability, and all the tabs, as after a new day.
+     */
+    public void refreshAfterNewDay() {
         refreshWindowTitle();
         refreshCampaignControlButtons();
         refreshPartsAvailability();
@@ -1037,6 +1037,10 @@ public final class CommandCenterTab extends CampaignGuiTab {
      */
     private void initLog() {
         DailyReportLog reportLog = getCampaign().getDailyReportLog();
+        for (DailyReportLogPanel logPanel : List.of(pnlGeneralLog, pnlSkillLog, pnlBattleLog, pnlPoliticsLog,
+              pnlPersonnelLog, pnlMedicalLog, pnlFinancesLog, pnlAcquisitionsLog, pnlTechnicalLog, pnlAggregateLog)) {
+            logPanel.setArchive(reportLog.getArchive());
+        }
 
         pnlGeneralLog.refreshLog(reportLog.getHtml(GENERAL), GENERAL);
         reportLog.fetchAndClearNew(GENERAL);
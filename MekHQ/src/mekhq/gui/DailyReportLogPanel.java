@@ -39,33 +39,55 @@ import java.io.StringReader;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.ResourceBundle;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTextPane;
 import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.HyperlinkEvent;
+import javax.swing.event.HyperlinkEvent.EventType;
 import javax.swing.text.DefaultCaret;
+import javax.swing.text.Element;
 import javax.swing.text.html.HTMLDocument;
 import javax.swing.text.html.HTMLEditorKit;
 
 import megamek.codeUtilities.StringUtility;
+import megamek.common.annotations.Nullable;
 import megamek.common.ui.FastJScrollPane;
+import megamek.logging.MMLogger;
 import mekhq.MekHQ;
 import mekhq.Utilities;
+import mekhq.campaign.dailyReportLog.DailyReportArchive;
 import mekhq.campaign.enums.DailyReportType;
 
 /**
  * This is a panel for displaying the reporting log for each day. We are putting it into its own panel so that we can
  * later extend this to include chat and maybe break up the log into different sections.
  *
+ * <p>When given a {@link DailyReportArchive}, the panel offers a link above the log that loads the day before the
+ * earliest one shown, so earlier days are only read back from the archive when the player asks for them.</p>
+ *
  * @author Jay Lawson
  */
 public class DailyReportLogPanel extends JPanel {
     //region Variable Declarations
+    private static final MMLogger LOGGER = MMLogger.create(DailyReportLogPanel.class);
+
+    private static final String EARLIER_DAYS = "EARLIER_DAYS";
+    private static final String EARLIER_DAYS_ID = "earlierDays";
+    private static final String DAY_SEPARATOR = "<hr>";
+
+    private final transient ResourceBundle resources = ResourceBundle.getBundle("mekhq.resources.GUI",
+          MekHQ.getMHQOptions().getLocale());
+
     private final CampaignGUI gui;
     final JScrollPane logPanel = new FastJScrollPane();
     private JTextPane txtLog;
     private String logText = "";
+    private transient DailyReportArchive archive;
+    private DailyReportType shownType;
+    private int earliestShownDay;
     //endregion Variable Declarations
 
     public DailyReportLogPanel(final CampaignGUI gui) {
@@ -93,6 +115,13 @@ public class DailyReportLogPanel extends JPanel {
     public void setLogText(final String logText) {
         this.logText = logText;
     }
+
+    /**
+     * @param archive the finished days to offer above the log, or {@code null} to only show the log itself
+     */
+    public void setArchive(final @Nullable DailyReportArchive archive) {
+        this.archive = archive;
+    }
     //region Getters/Setters
 
     //region Initialization
@@ -110,6 +139,7 @@ public class DailyReportLogPanel extends JPanel {
         ((DefaultCaret) getTxtLog().getCaret()).setUpdatePolicy(DefaultCaret.ALWAYS_UPDATE);
         getTxtLog().getAccessibleContext().setAccessibleName("Daily Log");
         getTxtLog().addHyperlinkListener(gui.getReportHLL());
+        getTxtLog().addHyperlinkListener(this::earlierDaysLinkActivated);
 
         logPanel.setViewportView(getTxtLog());
         SwingUtilities.invokeLater(() -> logPanel.getVerticalScrollBar().setValue(0));
@@ -130,7 +160,9 @@ public class DailyReportLogPanel extends JPanel {
         }
 
         setLogText(text);
-        final Reader stringReader = new StringReader(getLogText());
+        shownType = type;
+        earliestShownDay = (archive == null) ? 0 : archive.getDayCount();
+        final Reader stringReader = new StringReader(getEarlierDaysLink() + getLogText());
         final HTMLEditorKit htmlKit = new HTMLEditorKit();
         final HTMLDocument blank = (HTMLDocument) htmlKit.createDefaultDocument();
         try {
@@ -177,6 +209,53 @@ public class DailyReportLogPanel extends JPanel {
         SwingUtilities.invokeLater(() -> logPanel.getVerticalScrollBar().setValue(0));
     }
 
+    /**
+     * Loads days from the archive above the earliest day shown, in the order they happened.
+     *
+     * @param days the most days to load
+     */
+    public void showEarlierDays(final int days) {
+        if ((archive == null) || (shownType == null) || (days <= 0) || (earliestShownDay <= 0)) {
+            return;
+        }
+
+        final HTMLDocument doc = (HTMLDocument) getTxtLog().getDocument();
+        final Element link = doc.getElement(EARLIER_DAYS_ID);
+        if (link == null) {
+            return;
+        }
+
+        final StringBuilder earlierText = new StringBuilder();
+        final int firstDay = Math.max(0, earliestShownDay - days);
+        for (int day = firstDay; day < earliestShownDay; day++) {
+            earlierText.append(archive.getHtml(day, shownType)).append(DAY_SEPARATOR);
+        }
+        earliestShownDay = firstDay;
+
+        try {
+            doc.insertAfterEnd(link, earlierText.toString());
+            if (earliestShownDay == 0) {
+                doc.remove(link.getStartOffset(), link.getEndOffset() - link.getStartOffset());
+            }
+        } catch (Exception ex) {
+            LOGGER.error(ex, "Unable to show earlier days of the {} daily report", shownType);
+        }
+    }
+
+    private void earlierDaysLinkActivated(final HyperlinkEvent evt) {
+        if ((evt.getEventType() == EventType.ACTIVATED) && EARLIER_DAYS.equals(evt.getDescription())) {
+            showEarlierDays(1);
+        }
+    }
+
+    private String getEarlierDaysLink() {
+        if (earliestShownDay <= 0) {
+            return "";
+        }
+        return "<div id=\"" + EARLIER_DAYS_ID + "\"><a href=\"" + EARLIER_DAYS + "\">" +
+                     resources.getString("DailyReportLogPanel.earlierDays.text") + "</a></div>";
+    }
+
     /**
      * Checks whether the given list of report lines represents a single, date-only entry.
      *
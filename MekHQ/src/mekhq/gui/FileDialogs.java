@@ -494,6 +494,15 @@ public class FileDialogs {
               getDefaultFilename(campaign, getTextAt("dlgSaveFinancesCSV.fileSuffix")), FileType.CSV);
     }
 
+    /**
+     * Displays a dialog window from which the user can select a <code>.csv</code> file to save new day profiling data
+     * to. Uses <code>[Campaign Name]</code><code>[Date]</code>_NewDayProfile.csv as default filename.
+     */
+    public static Optional<File> saveNewDayProfileCSV(JFrame frame, Campaign campaign) {
+        return saveWithBackup(frame, getTextAt("dlgSaveNewDayProfileCSV.title"), MekHQ.getCampaignsDirectory(),
+              getDefaultFilename(campaign, getTextAt("dlgSaveNewDayProfileCSV.fileSuffix")), FileType.CSV);
+    }
+
     /**
      * Displays a dialog pointing at the default directory where the user can save a file, ensures its extension, and
      * creates a backup if it already exists.
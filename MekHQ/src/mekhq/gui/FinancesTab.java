@@ -43,8 +43,10 @@ import java.awt.GridBagLayout;
 import java.awt.GridLayout;
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.ResourceBundle;
 import javax.swing.*;
 import javax.swing.table.TableColumn;
@@ -67,9 +69,10 @@ import mekhq.campaign.events.scenarios.ScenarioResolvedEvent;
 import mekhq.campaign.events.transactions.TransactionEvent;
 import mekhq.campaign.events.units.UnitEvent;
 import mekhq.campaign.finances.Asset;
+import mekhq.campaign.finances.FinancialLedger;
+import mekhq.campaign.finances.FinancialLedger.MonthlyTotals;
 import mekhq.campaign.finances.FinancialReport;
 import mekhq.campaign.finances.Money;
-import mekhq.campaign.finances.Transaction;
 import mekhq.campaign.finances.WeeklyNetWorth;
 import mekhq.gui.adapter.FinanceTableMouseAdapter;
 import mekhq.gui.adapter.LoanTableMouseAdapter;
@@ -276,17 +279,13 @@ public final class FinancesTab extends CampaignGuiTab {
 
     private XYDataset setupFinanceDataset() {
         TimeSeries timeSeries = new TimeSeries("C-Bills");
-        List<Transaction> transactions = getCampaign().getPlayerForce().getFinances().getTransactions();
-
-        Money balance = Money.zero();
-        for (Transaction transaction : transactions) {
-            balance = balance.plus(transaction.getAmount());
-            LocalDate date = transaction.getDate();
-            // since there may be more than one entry per day and the dataset for the graph can only have one entry per day
-            // we use addOrUpdate() which assumes transactions are in sequential order by date so we always have the most
-            // up-to-date entry for each day
-            timeSeries.addOrUpdate(new Day(date.getDayOfMonth(), date.getMonth().getValue(), date.getYear()),
-                  balance.getAmount().doubleValue());
+        FinancialLedger ledger = getCampaign().getPlayerForce().getFinances().getLedger();
+
+        // The ledger already holds the closing balance of each day, which is the single entry per day the graph needs
+        for (Map.Entry<LocalDate, Money> entry : ledger.getDailyBalances().entrySet()) {
+            LocalDate date = entry.getKey();
+            timeSeries.add(new Day(date.getDayOfMonth(), date.getMonth().getValue(), date.getYear()),
+                  entry.getValue().getAmount().doubleValue());
         }
 
         TimeSeriesCollection dataset = new TimeSeriesCollection();
@@ -299,49 +298,16 @@ public final class FinancesTab extends CampaignGuiTab {
         final DateTimeFormatter df = DateTimeFormatter.ofPattern("MMM-yyyy")
                                            .withLocale(MekHQ.getMHQOptions().getDateLocale());
         DefaultCategoryDataset dataset = new DefaultCategoryDataset();
-        List<Transaction> transactions = getCampaign().getPlayerForce().getFinances().getTransactions();
-
-        String pastMonthYear = "";
-        Money monthlyRevenue = Money.zero();
-        Money monthlyExpenditures = Money.zero();
-        for (int i = 0; i < transactions.size(); i++) {
-            LocalDate date = transactions.get(i).getDate();
-
-            if (pastMonthYear.equals(df.format(date))) {
-                if (transactions.get(i).getAmount().isPositive()) {
-                    monthlyRevenue = monthlyRevenue.plus(transactions.get(i).getAmount());
-                } else {
-                    monthlyExpenditures = monthlyExpenditures.plus(transactions.get(i).getAmount().absolute());
-                }
-            } else {
-                // as long as we're not at the first transaction, add the previous month and reset
-                if (i != 0) {
-                    dataset.addValue(monthlyRevenue.getAmount().doubleValue(),
-                          resourceMap.getString("graphMonthlyRevenue.text"),
-                          pastMonthYear);
-                    dataset.addValue(monthlyExpenditures.getAmount().doubleValue(),
-                          resourceMap.getString("graphMonthlyExpenditures.text"),
-                          pastMonthYear);
-                    monthlyRevenue = Money.zero();
-                    monthlyExpenditures = Money.zero();
-                }
-                pastMonthYear = df.format(date);
-                if (transactions.get(i).getAmount().isPositive()) {
-                    monthlyRevenue = transactions.get(i).getAmount();
-                } else {
-                    monthlyExpenditures = transactions.get(i).getAmount().absolute();
-                }
-            }
-
-            // if we're at the last transaction, save it off
-            if (i == transactions.size() - 1) {
-                dataset.addValue(monthlyRevenue.getAmount().doubleValue(),
-                      resourceMap.getString("graphMonthlyRevenue.text"),
-                      pastMonthYear);
-                dataset.addValue(monthlyExpenditures.getAmount().doubleValue(),
-                      resourceMap.getString("graphMonthlyExpenditures.text"),
-                      pastMonthYear);
-            }
+        FinancialLedger ledger = getCampaign().getPlayerForce().getFinances().getLedger();
+
+        for (Map.Entry<YearMonth, MonthlyTotals> entry : ledger.getMonthlyTotals().entrySet()) {
+            String monthYear = df.format(entry.getKey());
+            dataset.addValue(entry.getValue().revenue().getAmount().doubleValue(),
+                  resourceMap.getString("graphMonthlyRevenue.text"),
+                  monthYear);
+            dataset.addValue(entry.getValue().expenditures().getAmount().doubleValue(),
+                  resourceMap.getString("graphMonthlyExpenditures.text"),
+                  monthYear);
         }
 
         return dataset;
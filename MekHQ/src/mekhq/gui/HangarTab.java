@@ -41,9 +41,11 @@ import java.awt.GridBagConstraints;
 import java.awt.GridBagLayout;
 import java.awt.Insets;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.UUID;
 import javax.swing.*;
 import javax.swing.RowSorter.SortKey;
@@ -59,6 +61,7 @@ import megamek.client.ui.preferences.JTablePreference;
 import megamek.client.ui.preferences.JToggleButtonPreference;
 import megamek.client.ui.preferences.PreferencesNode;
 import megamek.client.ui.util.UIUtil;
+import megamek.common.annotations.Nullable;
 import megamek.common.event.Subscribe;
 import megamek.common.preference.IPreferenceChangeListener;
 import megamek.common.ui.FastJScrollPane;
@@ -89,6 +92,7 @@ import mekhq.gui.baseComponents.roundedComponents.RoundedJButton;
 import mekhq.gui.baseComponents.roundedComponents.RoundedLineBorder;
 import mekhq.gui.enums.MHQTabType;
 import mekhq.gui.model.LocationFilterItem;
+import mekhq.gui.model.TableRowChanges;
 import mekhq.gui.model.UnitTableModel;
 import mekhq.gui.panels.TutorialHyperlinkPanel;
 import mekhq.gui.sorter.FormattedNumberSorter;
@@ -286,6 +290,8 @@ public final class HangarTab extends CampaignGuiTab {
         add(btnAssignTechs, gridBagConstraints);
 
         unitModel = new UnitTableModel(getCampaign());
+        // Every change to a unit reaches the table through applyUnitChanges or refreshUnitCells
+        unitModel.setCacheCellValues(true);
         unitTable = new JTable(unitModel);
         unitTable.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         XTableColumnModel unitColumnModel = new XTableColumnModel();
@@ -301,6 +307,8 @@ public final class HangarTab extends CampaignGuiTab {
         unitSorter.setComparator(UnitTableModel.COL_TECH_CRW, new PersonTitleStringSorter(getCampaign()));
         unitSorter.setComparator(UnitTableModel.COL_MAINTAIN, new FormattedNumberSorter());
         unitSorter.setComparator(UnitTableModel.COL_MAINTAIN_CYCLE, new NaturalOrderComparator());
+        // Re-sort and re-filter the rows updated by applyUnitChanges
+        unitSorter.setSortsOnUpdates(true);
         unitTable.setRowSorter(unitSorter);
         List<SortKey> sortKeys = new ArrayList<>();
         sortKeys.add(new SortKey(UnitTableModel.COL_TYPE, SortOrder.DESCENDING));
@@ -756,6 +764,9 @@ public final class HangarTab extends CampaignGuiTab {
     }
 
     public void refreshUnitList() {
+        // The rebuilt list already reflects any pending row changes
+        unitChanges.clear();
+
         UUID selectedUUID = null;
         int selectedRow = unitTable.getSelectedRow();
         if (selectedRow != -1) {
@@ -781,17 +792,51 @@ public final class HangarTab extends CampaignGuiTab {
         getCampaignGui().refreshLab();
     }
 
+    /**
+     * Applies the unit changes reported since the last call as row insertions, updates, and deletions, which keeps
+     * the current sort, filter, and selection without rebuilding the table.
+     */
+    private void applyUnitChanges() {
+        LocationFilterItem locationFilter = getCampaignGui().getActiveLocation();
+        Set<Unit> unitsAtLocation = new HashSet<>(locationFilter.selectUnits(getCampaign()));
+
+        if (unitChanges.applyTo(unitModel, unitsAtLocation::contains)) {
+            getCampaignGui().refreshLab();
+        }
+        refreshUnitView();
+    }
+
+    /**
+     * Recomputes every cell, for changes which are not reported against a single unit, such as a person changing or
+     * a deployment changing.
+     */
+    private void refreshUnitCells() {
+        unitModel.clearCellValueCache();
+        filterUnits();
+    }
+
+    private void scheduleUnitChange(@Nullable Unit unit) {
+        if (unit == null) {
+            unitCellsScheduler.schedule();
+        } else {
+            unitChanges.changed(unit);
+            unitChangesScheduler.schedule();
+        }
+    }
+
+    private final TableRowChanges<Unit> unitChanges = new TableRowChanges<>();
     private final ActionScheduler unitListScheduler = new ActionScheduler(this::refreshUnitList);
-    private final ActionScheduler filterUnitScheduler = new ActionScheduler(this::filterUnits);
+    private final ActionScheduler unitChangesScheduler = new ActionScheduler(this::applyUnitChanges);
+    private final ActionScheduler unitCellsScheduler = new ActionScheduler(this::refreshUnitCells);
 
     @Subscribe
     public void handle(DeploymentChangedEvent ev) {
-        filterUnitScheduler.schedule();
+        unitCellsScheduler.schedule();
     }
 
     @Subscribe
     public void handle(PersonChangedEvent ev) {
-        filterUnitScheduler.schedule();
+        unitCellsScheduler.schedule();
     }
 
     @Subscribe
@@ -801,7 +846,7 @@ public final class HangarTab extends CampaignGuiTab {
 
     @Subscribe
     public void handle(UnitChangedEvent ev) {
-        filterUnitScheduler.schedule();
+        scheduleUnitChange(ev.getUnit());
     }
 
     @Subscribe
@@ -811,17 +856,19 @@ public final class HangarTab extends CampaignGuiTab {
 
     @Subscribe
     public void handle(UnitNewEvent ev) {
-        unitListScheduler.schedule();
+        unitChanges.added(ev.getUnit());
+        unitChangesScheduler.schedule();
     }
 
     @Subscribe
     public void handle(UnitRemovedEvent ev) {
-        unitListScheduler.schedule();
+        unitChanges.removed(ev.getUnit());
+        unitChangesScheduler.schedule();
     }
 
     @Subscribe
     public void handle(RepairStatusChangedEvent ev) {
-        filterUnitScheduler.schedule();
+        scheduleUnitChange(ev.getUnit());
     }
 
     @Subscribe
@@ -839,19 +886,19 @@ public final class HangarTab extends CampaignGuiTab {
     @Subscribe
     public void handle(PartEvent ev) {
         if (ev.getPart().getUnit() != null) {
-            filterUnitScheduler.schedule();
+            scheduleUnitChange(ev.getPart().getUnit());
         }
     }
 
     @Subscribe
     public void handle(PartWorkEvent ev) {
         if (ev.getPartWork().getUnit() != null) {
-            filterUnitScheduler.schedule();
+            scheduleUnitChange(ev.getPartWork().getUnit());
         }
     }
 
     @Subscribe
     public void handle(OvertimeModeEvent ev) {
-        filterUnitScheduler.schedule();
+        unitCellsScheduler.schedule();
     }
 }
@@ -51,6 +51,7 @@ import java.awt.geom.Arc2D;
 import java.awt.geom.GeneralPath;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.time.LocalDate;
@@ -59,6 +60,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -83,6 +85,7 @@ import mekhq.campaign.universe.Factions;
 import mekhq.campaign.universe.HPGLink;
 import mekhq.campaign.universe.PlanetarySystem;
 import mekhq.campaign.universe.SocioIndustrialData;
+import mekhq.campaign.universe.SystemSpatialIndex;
 import mekhq.campaign.universe.Systems;
 import mekhq.campaign.universe.enums.HPGRating;
 import mekhq.campaign.universe.enums.HiringHallLevel;
@@ -100,6 +103,23 @@ import mekhq.gui.dialog.PlanetarySystemEditorDialog;
 public class InterstellarMapPanel extends JPanel {
     private static final MMLogger LOGGER = MMLogger.create(InterstellarMapPanel.class);
 
+    /** The memory budget for cached map tiles, in bytes. */
+    private static final long MAX_TILE_CACHE_BYTES = 96L * 1024L * 1024L;
+    /** How far, in pixels, markers drawn around a system can reach beyond the edge of the area being drawn. */
+    private static final double MARKER_MARGIN = 48.0;
+    /** How far, in pixels, the names of systems left of the area being drawn can reach into it. */
+    private static final double NAME_MARGIN = 320.0;
+
+    private static final Stroke THICK_STROKE = new BasicStroke(2.0f);
+    private static final Stroke THIN_STROKE = new BasicStroke(1.2f);
+    private static final Stroke DASHED_STROKE = new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
+          new float[] { 3 }, 0);
+    private static final Stroke DASHED_THICK_STROKE = new BasicStroke(3.0f, BasicStroke.CAP_BUTT,
+          BasicStroke.JOIN_BEVEL, 0, new float[] { 3 }, 0);
+    private static final Stroke DOTTED_STROKE = new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
+          new float[] { 2, 5 }, 0);
+    private static final Color DARK_CYAN = new Color(0, 100, 50);
+
     private static final Vector2d[] BASE_HEX_COORDS = {
           new Vector2d(1.0, 0.0),
           new Vector2d(Math.cos(Math.PI / 3.0), Math.sin(Math.PI / 3.0)),
@@ -145,15 +165,18 @@ public class InterstellarMapPanel extends JPanel {
     private Point lastMousePos = null;
     private int mouseMod = 0;
 
-    private transient double minX;
-    private transient double minY;
-    private transient double maxX;
-    private transient double maxY;
     private transient LocalDate now;
 
+    private final ButtonGroup colorChoice;
+    private transient SystemSpatialIndex systemIndex;
+    private final transient InterstellarMapTileCache tileCache = new InterstellarMapTileCache(MAX_TILE_CACHE_BYTES);
+    private transient LayerState layerState;
+    private transient int layerGeneration;
+
     public InterstellarMapPanel(Campaign campaign, CampaignGUI view) {
         this.campaign = campaign;
         systems = this.campaign.getSystems();
+        systemIndex = SystemSpatialIndex.of(systems);
         hqView = view;
         jumpPath = new JumpPath();
         optionPanelHidden = false;
@@ -461,470 +484,7 @@ public class InterstellarMapPanel extends JPanel {
         mapPanel = new JPanel() {
             @Override
             protected void paintComponent(Graphics g) {
-                Graphics2D g2 = (Graphics2D) g;
-                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-                g2.setColor(Color.BLACK);
-                g2.fillRect(0, 0, getWidth(), getHeight());
-                double size = 1 + 5 * Math.log(conf.scale);
-                size = Math.clamp(size, conf.minDotSize, conf.maxDotSize);
-
-                final Stroke thick = new BasicStroke(2.0f);
-                final Stroke thin = new BasicStroke(1.2f);
-                final Stroke dashed = new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
-                      new float[] { 3 }, 0);
-                final Stroke dashedThick = new BasicStroke(3.0f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
-                      new float[] { 3 }, 0);
-                final Stroke dotted = new BasicStroke(1.5f, BasicStroke.CAP_BUTT, BasicStroke.JOIN_BEVEL, 0,
-                      new float[] { 2, 5 }, 0);
-                final Color darkCyan = new Color(0, 100, 50);
-
-                minX = scr2mapX(-size * 2.0);
-                minY = scr2mapY(getHeight() + size * 2.0);
-                maxX = scr2mapX(getWidth() + size * 2.0);
-                maxY = scr2mapY(-size * 2.0);
-                now = InterstellarMapPanel.this.campaign.getLocalDate();
-
-                Arc2D.Double arc = new Arc2D.Double();
-
-                // Draw auras around a selected planet
-                if (selectedSystem != null) {
-                    final double x = map2scrX(selectedSystem.getX());
-                    final double y = map2scrY(selectedSystem.getY());
-                    // Contract Search Radius Aura
-                    if (!InterstellarMapPanel.this.campaign.getCampaignOptions().get(CampaignOption.CONTRACT_MARKET_METHOD).isNone()
-                              && MekHQ.getMHQOptions().getInterstellarMapShowContractSearchRadius()) {
-                        final double z = map2scrX(selectedSystem.getX()
-                                                        +
-                                                        InterstellarMapPanel.this.campaign.getCampaignOptions()
-                                                              .get(CampaignOption.CONTRACT_SEARCH_RADIUS));
-                        final double contractSearchRadius = z - x;
-                        g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapContractSearchRadiusColour());
-                        g2.setStroke(dashedThick);
-                        arc.setArcByCenter(x, y, contractSearchRadius, 0, 360, Arc2D.OPEN);
-                        g2.draw(arc);
-                    }
-
-                    // Acquisition Search Radius Aura
-                    if (InterstellarMapPanel.this.campaign.getCampaignOptions().get(CampaignOption.USE_PLANETARY_ACQUISITION)
-                              && MekHQ.getMHQOptions().getInterstellarMapShowPlanetaryAcquisitionRadius()
-                              && (conf.scale > MekHQ.getMHQOptions()
-                                                     .getInterstellarMapShowPlanetaryAcquisitionRadiusMinimumZoom())) {
-                        final double z = map2scrX(selectedSystem.getX()
-                                                        + (MHQConstants.MAX_JUMP_RADIUS
-                                                                 *
-                                                                 InterstellarMapPanel.this.campaign.getCampaignOptions()
-                                                                       .get(CampaignOption.MAX_JUMPS_PLANETARY_ACQUISITION)));
-                        final double acquisitionRadius = z - x;
-                        g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapPlanetaryAcquisitionRadiusColour());
-                        g2.setStroke(dashedThick);
-                        arc.setArcByCenter(x, y, acquisitionRadius, 0, 360, Arc2D.OPEN);
-                        g2.draw(arc);
-                    }
-
-                    // Jump Radius Aura
-                    if (MekHQ.getMHQOptions().getInterstellarMapShowJumpRadius()
-                              && (conf.scale > MekHQ.getMHQOptions().getInterstellarMapShowJumpRadiusMinimumZoom())) {
-                        final double z = map2scrX(selectedSystem.getX() + MHQConstants.MAX_JUMP_RADIUS);
-                        final double jumpRadius = z - x;
-                        g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapJumpRadiusColour());
-                        g2.setStroke(dashedThick);
-                        arc.setArcByCenter(x, y, jumpRadius, 0, 360, Arc2D.OPEN);
-                        g2.draw(arc);
-                    }
-
-                    // Don't override HPG Network drawing
-                    if (optHPGNetwork.isSelected()) {
-                        final double z = map2scrX(selectedSystem.getX() + 50);
-                        final double jumpRadius = z - x;
-                        g2.setPaint(darkCyan);
-                        g2.setStroke(dotted);
-                        arc.setArcByCenter(x, y, jumpRadius, 0, 360, Arc2D.OPEN);
-                        g2.draw(arc);
-                    }
-                }
-
-                if ((conf.scale > 1.0) && optTerritory.isSelected()) {
-                    final double HEX_SIZE = 30;
-                    final double SPACING_X = HEX_SIZE * Math.sqrt(3) / 2.0;
-
-                    AffineTransform transform = getMap2ScrTransform();
-                    Paint defaultFactionPaint = new Color(0.0f, 0.0f, 0.0f, 0.25f);
-
-                    int minX = (int) Math.floor(scr2mapX(0.0) / SPACING_X);
-                    int maxX = (int) Math.ceil(scr2mapX(getWidth()) / SPACING_X);
-                    int minY = (int) Math.floor(scr2mapY(getHeight()) / HEX_SIZE);
-                    int maxY = (int) Math.ceil(scr2mapY(0.0) / HEX_SIZE);
-
-                    Faction indFaction = Factions.getInstance().getFaction("IND");
-
-                    for (int x = minX; x <= maxX; ++x) {
-                        for (int y = minY; y <= maxY; ++y) {
-                            double coordX = x * SPACING_X;
-                            double coordY = y * HEX_SIZE + (x % 2) * HEX_SIZE / 2.0;
-                            GeneralPath path = new GeneralPath();
-                            setupHexPath(path, coordX, coordY, HEX_SIZE / 2.0);
-
-                            Paint factionPaint = defaultFactionPaint;
-                            Set<Faction> hexFactions = new HashSet<>();
-
-                            List<PlanetarySystem> nearbySystems = Systems.getInstance()
-                                                                        .getNearbySystems(coordX,
-                                                                              coordY,
-                                                                              (int) Math.round(HEX_SIZE * 1.3));
-
-                            for (PlanetarySystem system : nearbySystems) {
-                                if (!isSystemEmpty(system) && path.contains(system.getX(), system.getY())) {
-                                    Set<Faction> factions = system.getFactionSet(now);
-                                    factions.remove(indFaction);
-                                    hexFactions.addAll(factions);
-                                }
-                            }
-
-                            if (hexFactions.isEmpty()) {
-                                for (PlanetarySystem system : nearbySystems) {
-                                    if (!isSystemEmpty(system)) {
-                                        Set<Faction> factions = system.getFactionSet(now);
-                                        hexFactions.addAll(factions);
-                                    }
-                                }
-                            }
-
-                            if (hexFactions.size() > 1) {
-                                hexFactions.remove(indFaction);
-                            }
-
-                            path.transform(transform);
-
-                            if (hexFactions.size() == 1) {
-                                // Single-faction hex
-                                Color factionColor = hexFactions.iterator().next().getColor();
-                                float[] colorComponents = new float[4];
-                                factionColor.getComponents(colorComponents);
-                                factionPaint = new Color(colorComponents[0], colorComponents[1], colorComponents[2],
-                                      0.25f);
-                            } else if (hexFactions.size() > 1) {
-                                // Create the painted stripes data
-                                int factionSize = hexFactions.size();
-                                Iterator<Faction> factionIterator = hexFactions.iterator();
-                                float[] colorComponents = new float[4];
-                                float[] paintFractions = new float[factionSize * 2];
-                                Color[] paintColors = new Color[factionSize * 2];
-                                for (int i = 0; i < factionSize; ++i) {
-                                    paintFractions[i * 2] = i * (1.0f / factionSize) + 0.001f;
-                                    paintFractions[i * 2 + 1] = (i + 1) * (1.0f / factionSize);
-                                    Color factionColor = factionIterator.next().getColor();
-                                    factionColor.getComponents(colorComponents);
-                                    factionColor = new Color(colorComponents[0], colorComponents[1], colorComponents[2],
-                                          0.25f);
-                                    paintColors[i * 2] = factionColor;
-                                    paintColors[i * 2 + 1] = factionColor;
-                                }
-                                paintFractions[0] = 0.0f;
-
-                                // Determine where to anchor the stripes
-                                Point2D firstPoint = new Point2D.Double(map2scrX(coordX), map2scrY(coordY));
-                                Point2D secondPoint = new Point2D.Double(
-                                      firstPoint.getX() + 6 * conf.scale,
-                                      firstPoint.getY() + 6 * conf.scale);
-                                factionPaint = new LinearGradientPaint(
-                                      firstPoint, secondPoint, paintFractions, paintColors,
-                                      CycleMethod.REPEAT);
-                            }
-
-                            g2.setPaint(factionPaint);
-                            g2.fill(path);
-                        }
-                    }
-                }
-
-                // draw a jump path
-                g2.setStroke(new BasicStroke(1.0f));
-                for (int i = 0; i < jumpPath.size(); i++) {
-                    PlanetarySystem systemB = jumpPath.get(i);
-                    double x = map2scrX(systemB.getX());
-                    double y = map2scrY(systemB.getY());
-                    // lest try rings
-                    g2.setPaint(Color.WHITE);
-                    arc.setArcByCenter(x, y, size * 1.8, 0, 360, Arc2D.OPEN);
-                    g2.fill(arc);
-                    g2.setPaint(Color.BLACK);
-                    arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
-                    g2.fill(arc);
-                    g2.setPaint(Color.WHITE);
-                    arc.setArcByCenter(x, y, size * 1.4, 0, 360, Arc2D.OPEN);
-                    g2.fill(arc);
-                    g2.setPaint(Color.BLACK);
-                    arc.setArcByCenter(x, y, size * 1.2, 0, 360, Arc2D.OPEN);
-                    g2.fill(arc);
-                    if (i > 0) {
-                        PlanetarySystem systemA = jumpPath.get(i - 1);
-                        g2.setPaint(Color.WHITE);
-                        g2.draw(new Line2D.Double(map2scrX(systemA.getX()), map2scrY(systemA.getY()),
-                              map2scrX(systemB.getX()), map2scrY(systemB.getY())));
-                    }
-                }
-
-                // Brute-force HPG network drawing. Will be optimized
-                if (optHPGNetwork.isSelected()) {
-                    // Grab the network from the planet manager
-                    Collection<HPGLink> hpgNetwork = Systems.getInstance().getHPGNetwork(now);
-
-                    for (PlanetarySystem system : systems) {
-                        if (isSystemVisible(system, true)) {
-                            double x = map2scrX(system.getX());
-                            double y = map2scrY(system.getY());
-                            HPGRating hpgRating = ObjectUtility.nonNull(system.getHPG(now), HPGRating.X);
-                            if (hpgRating == HPGRating.A) {
-                                g2.setPaint(Color.CYAN);
-                                arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
-                                g2.setStroke(thick);
-                                g2.draw(arc);
-                            }
-                            if (hpgRating == HPGRating.A || hpgRating == HPGRating.B) {
-                                g2.setPaint(Color.BLUE);
-                                arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
-                                g2.setStroke(thin);
-                                g2.draw(arc);
-                            }
-                            if (hpgRating == HPGRating.C) {
-                                g2.setPaint(Color.ORANGE);
-                                arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
-                                g2.setStroke(dashed);
-                                g2.draw(arc);
-                            }
-                            if (hpgRating == HPGRating.D) {
-                                g2.setPaint(Color.RED);
-                                arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
-                                g2.setStroke(dotted);
-                                g2.draw(arc);
-                            }
-                        }
-                    }
-                    for (HPGLink link : hpgNetwork) {
-                        PlanetarySystem p1 = link.primary();
-                        PlanetarySystem p2 = link.secondary();
-                        if (isSystemVisible(p1, false) || isSystemVisible(p2, false)) {
-                            if (link.rating() == HPGRating.A) {
-                                g2.setPaint(Color.CYAN);
-                                g2.setStroke(thick);
-                                g2.draw(new Line2D.Double(map2scrX(p1.getX()), map2scrY(p1.getY()), map2scrX(p2.getX()),
-                                      map2scrY(p2.getY())));
-                            }
-                            if (link.rating() == HPGRating.B) {
-                                g2.setPaint(Color.BLUE);
-                                g2.setStroke(dashed);
-                                g2.draw(new Line2D.Double(map2scrX(p1.getX()), map2scrY(p1.getY()), map2scrX(p2.getX()),
-                                      map2scrY(p2.getY())));
-                            }
-                        }
-                    }
-                    g2.setStroke(new BasicStroke(1.0f));
-                }
-
-                // check to see if the unit is traveling on a jump path currently and if so
-                // draw this one too, in a different color
-                if (null != InterstellarMapPanel.this.campaign.getPlayerForce()
-                                  .getForceDetachment()
-                                  .getCurrentLocation()
-                                  .getJumpPath()) {
-                    for (int i = 0;
-                          i < InterstellarMapPanel.this.campaign.getPlayerForce()
-                                    .getForceDetachment()
-                                    .getCurrentLocation()
-                                    .getJumpPath().size();
-                          i++) {
-                        PlanetarySystem systemB = InterstellarMapPanel.this.campaign.getPlayerForce()
-                                                        .getForceDetachment()
-                                                        .getCurrentLocation()
-                                                        .getJumpPath()
-                                                        .get(i);
-                        double x = map2scrX(systemB.getX());
-                        double y = map2scrY(systemB.getY());
-                        // lest try rings
-                        g2.setPaint(Color.YELLOW);
-                        arc.setArcByCenter(x, y, size * 1.8, 0, 360, Arc2D.OPEN);
-                        g2.fill(arc);
-                        g2.setPaint(Color.BLACK);
-                        arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
-                        g2.fill(arc);
-                        g2.setPaint(Color.YELLOW);
-                        arc.setArcByCenter(x, y, size * 1.4, 0, 360, Arc2D.OPEN);
-                        g2.fill(arc);
-                        g2.setPaint(Color.BLACK);
-                        arc.setArcByCenter(x, y, size * 1.2, 0, 360, Arc2D.OPEN);
-                        g2.fill(arc);
-                        if (i > 0) {
-                            PlanetarySystem systemA = InterstellarMapPanel.this.campaign.getPlayerForce()
-                                                            .getForceDetachment()
-                                                            .getCurrentLocation()
-                                                            .getJumpPath()
-                                                            .get(i - 1);
-                            g2.setPaint(Color.YELLOW);
-                            g2.draw(new Line2D.Double(map2scrX(systemA.getX()), map2scrY(systemA.getY()),
-                                  map2scrX(systemB.getX()), map2scrY(systemB.getY())));
-                        }
-                    }
-                }
-
-                Map<Faction, String> capitals = new HashMap<>();
-                for (Faction faction : Factions.getInstance().getFactions()) {
-                    capitals.put(faction, faction.getStartingPlanet(InterstellarMapPanel.this.campaign.getLocalDate()));
-                }
-
-                boolean isUseFactionStandingOutlawing =
-                      campaign.getCampaignOptions().isUseFactionStandingOutlawedSafe();
-                Faction campaignFaction = campaign.getPlayerForce().getFaction();
-                FactionStandings factionStandings = campaign.getPlayerForce().getFactionStandings();
-                LocalDate today = campaign.getLocalDate();
-                List<AbstractContract> activeAtBContracts = campaign.getActiveContracts();
-
-                FactionHints factionHints = FactionHints.getInstance();
-
-                for (PlanetarySystem system : systems) {
-                    if (isSystemVisible(system, false)) {
-                        double x = map2scrX(system.getX());
-                        double y = map2scrY(system.getY());
-                        if (system.equals(InterstellarMapPanel.this.campaign.getCurrentSystem())) {
-                            // let's try rings
-                            g2.setPaint(Color.ORANGE);
-                            arc.setArcByCenter(x, y, size * 3.4, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                            g2.setPaint(Color.BLACK);
-                            arc.setArcByCenter(x, y, size * 2.9, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                            g2.setPaint(Color.ORANGE);
-                            arc.setArcByCenter(x, y, size * 2.4, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                            g2.setPaint(Color.BLACK);
-                            arc.setArcByCenter(x, y, size * 1.9, 0, 360, Arc2D.OPEN);
-                            g2.fill(arc);
-                        }
-                        if ((null != selectedSystem) && selectedSystem.equals(system)) {
-                            // Draw the selection marker as TWO concentric stroked outlines (a white outer
-                            // ring and a thinner white inner ring with a black gap between them) instead of
-                            // filled discs. Filled discs on a full 360-degree arc with Arc2D.OPEN fill the
-                            // entire interior, which would obliterate the orange "current location" rings
-                            // (radii 1.2-1.8) and the cyan "GM override" outline (radius size + 2.5) drawn
-                            // underneath when a system is both your current location, an override, and
-                            // selected.
-                            Stroke oldStroke = g2.getStroke();
-                            g2.setPaint(Color.WHITE);
-                            g2.setStroke(new BasicStroke(2.5f));
-                            arc.setArcByCenter(x, y, size * 2.2, 0, 360, Arc2D.OPEN);
-                            g2.draw(arc);
-                            arc.setArcByCenter(x, y, size * 1.95, 0, 360, Arc2D.OPEN);
-                            g2.draw(arc);
-                            g2.setStroke(oldStroke);
-                        }
-
-                        // if factions are selected, then we need to do it differently, because
-                        // of multiple factions per planet
-                        if (isFactionsSelected()) {
-                            Set<Faction> factions = system.getFactionSet(now);
-                            if ((null != factions) && !isSystemEmpty(system)) {
-                                int i = 0;
-                                for (Faction faction : factions) {
-                                    if (system.getId().equals(capitals.get(faction))) {
-                                        g2.setPaint(faction.getColor());
-                                        arc.setArcByCenter(x, y, size + 5, 0,
-                                              360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
-                                        g2.fill(arc);
-                                        g2.setPaint(new Color(0.0f, 0.0f, 0.0f, 0.5f));
-                                        arc.setArcByCenter(x, y, size + 3, 0,
-                                              360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
-                                        g2.fill(arc);
-                                    } else {
-                                        if (system.getHiringHallLevel(InterstellarMapPanel.this.campaign.getLocalDate()) ==
-                                                  HiringHallLevel.GREAT) {
-                                            g2.setPaint(new Color(176, 196, 222));
-                                            arc.setArcByCenter(x, y, size + 5, 0,
-                                                  360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
-                                            g2.fill(arc);
-                                            g2.setPaint(new Color(0.0f, 0.0f, 0.0f, 0.5f));
-                                            arc.setArcByCenter(x, y, size + 3, 0,
-                                                  360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
-                                            g2.fill(arc);
-                                        }
-                                    }
-
-                                    g2.setPaint(faction.getColor());
-                                    arc.setArcByCenter(x, y, size, 0, 360.0 * (1 - ((double) i) / factions.size()),
-                                          Arc2D.PIE);
-                                    g2.fill(arc);
-                                    ++i;
-                                }
-                            } else {
-                                if (optEmptySystems.isSelected()) {
-                                    // Just a dark grey circle then
-                                    g2.setPaint(Color.DARK_GRAY);
-                                    arc.setArcByCenter(x, y, size, 0, 360.0, Arc2D.PIE);
-                                    g2.fill(arc);
-                                }
-                            }
-                        } else {
-                            g2.setPaint(getSystemColor(system));
-                            arc.setArcByCenter(x, y, size, 0, 360.0, Arc2D.PIE);
-                            g2.fill(arc);
-                        }
-
-                        // Outlaw status image
-                        if (isUseFactionStandingOutlawing) {
-                            boolean isOutlawedInSystem = !FactionStandingUtilities.canEnterTargetSystem(campaignFaction,
-                                  factionStandings, null, system, today, activeAtBContracts, factionHints);
-                            if (isOutlawedInSystem) {
-                                int half = (int) (size * 0.8);
-                                g2.setPaint(Color.BLACK);
-                                Stroke oldStroke = g2.getStroke();
-                                g2.setStroke(new BasicStroke(4));
-                                g2.drawLine((int) (x - half), (int) (y - half), (int) (x + half), (int) (y + half));
-                                g2.drawLine((int) (x - half), (int) (y + half), (int) (x + half), (int) (y - half));
-                                g2.setStroke(oldStroke);
-                            }
-                        }
-
-                        // GM-edited system marker: thin cyan outline ring so the player can spot non-canon edits.
-                        if (campaign.hasPlanetarySystemOverride(system.getId())) {
-                            Stroke oldStroke = g2.getStroke();
-                            g2.setPaint(Color.CYAN);
-                            g2.setStroke(new BasicStroke(2.0f));
-                            arc.setArcByCenter(x, y, size + 2.5, 0, 360, Arc2D.OPEN);
-                            g2.draw(arc);
-                            g2.setStroke(oldStroke);
-                        }
-                    }
-                }
-
-                // cycle through planets again and assign names - to make sure names go on
-                // outside
-                for (PlanetarySystem system : systems) {
-                    if (isSystemVisible(system, !optEmptySystems.isSelected())) {
-                        double x = map2scrX(system.getX());
-                        double y = map2scrY(system.getY());
-                        if ((conf.showPlanetNamesThreshold == 0) || (conf.scale > conf.showPlanetNamesThreshold)
-                                  || jumpPath.contains(system)
-                                  || ((InterstellarMapPanel.this.campaign.getPlayerForce()
-                                             .getForceDetachment()
-                                             .getCurrentLocation()
-                                             .getJumpPath() != null)
-                                            &&
-                                            InterstellarMapPanel.this.campaign.getPlayerForce()
-                                                  .getForceDetachment()
-                                                  .getCurrentLocation()
-                                                  .getJumpPath()
-                                                  .contains(system))) {
-                            final String planetName = system.getPrintableName(InterstellarMapPanel.this.campaign.getLocalDate());
-                            final float xPos = (float) (x + size * 1.8);
-                            final float yPos = (float) y;
-                            g2.setPaint(Color.BLACK);
-                            g2.drawString(planetName, xPos - 1f, yPos - 1f);
-                            g2.drawString(planetName, xPos + 1f, yPos - 1f);
-                            g2.drawString(planetName, xPos + 1f, yPos + 1f);
-                            g2.drawString(planetName, xPos - 1f, yPos + 1f);
-                            g2.setPaint(Color.WHITE);
-                            g2.drawString(planetName, xPos, yPos);
-                        }
-                    }
-                }
+                paintMap((Graphics2D) g, getWidth(), getHeight(), isPaintingForPrint());
             }
         };
         pane.add(mapPanel, Integer.valueOf(1));
@@ -964,7 +524,7 @@ public class InterstellarMapPanel extends JPanel {
         optDiseases = createOptionRadioButton("Disease Outbreaks", checkboxIcon, checkboxSelectedIcon);
         optionPanel.add(optDiseases);
 
-        ButtonGroup colorChoice = new ButtonGroup();
+        colorChoice = new ButtonGroup();
         colorChoice.add(optFactions);
         colorChoice.add(optTech);
         colorChoice.add(optIndustry);
@@ -1028,9 +588,27 @@ public class InterstellarMapPanel extends JPanel {
     private void refreshSystemsFromCampaign() {
         String selectedSystemId = selectedSystem == null ? null : selectedSystem.getId();
         this.systems = campaign.getSystems();
+        systemIndex = SystemSpatialIndex.of(systems);
         if (selectedSystemId != null) {
             selectedSystem = campaign.getSystemById(selectedSystemId);
         }
+        invalidateLayers();
+    }
+
+    /**
+     * Discards the cached territory, HPG network and system layers and repaints the map. The layers are redrawn on
+     * their own when the date or the map options change; this is for campaign changes the map can't see, such as
+     * options or standings which decide where the player force is outlawed.
+     */
+    public void refreshMapLayers() {
+        invalidateLayers();
+        repaint();
+    }
+
+    private void invalidateLayers() {
+        layerGeneration++;
+        layerState = null;
+        tileCache.clear();
     }
 
     public void setJumpPath(JumpPath path) {
@@ -1038,6 +616,570 @@ public class InterstellarMapPanel extends JPanel {
         repaint();
     }
 
+    /**
+     * Draws the map. The territory, HPG network and system markers change at most once a day, so on screen they are
+     * drawn from cached tiles and only the selection and jump paths are drawn afresh; when printing, everything is
+     * drawn directly instead.
+     */
+    private void paintMap(Graphics2D g2, int width, int height, boolean directly) {
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setColor(Color.BLACK);
+        g2.fillRect(0, 0, width, height);
+        now = campaign.getLocalDate();
+        double size = 1 + 5 * Math.log(conf.scale);
+        size = Math.clamp(size, conf.minDotSize, conf.maxDotSize);
+
+        LayerState state = getLayerState(mapPanel.getFont());
+        MapProjection projection;
+        if (directly) {
+            projection = new MapProjection(map2scrX(0.0), map2scrY(0.0), conf.scale);
+            Rectangle2D area = projection.toMapArea(-NAME_MARGIN, -MARKER_MARGIN, width + MARKER_MARGIN,
+                  height + MARKER_MARGIN);
+            paintBackgroundLayer(g2, projection, size, area, state);
+            paintSelectionLayer(g2, projection, size);
+            paintSystemLayer(g2, projection, size, area, state);
+        } else {
+            // Snap the map to whole pixels, so the tiles and everything drawn over them line up
+            projection = new MapProjection(Math.rint(map2scrX(0.0)), Math.rint(map2scrY(0.0)), conf.scale);
+            paintTiles(g2, projection, size, width, height, Layer.BACKGROUND, state);
+            paintSelectionLayer(g2, projection, size);
+            paintTiles(g2, projection, size, width, height, Layer.SYSTEMS, state);
+        }
+        paintRemainingSystemNames(g2, projection, size);
+    }
+
+    /**
+     * Draws the visible tiles of a cached layer, rendering the ones that aren't cached yet.
+     */
+    private void paintTiles(Graphics2D g2, MapProjection projection, double size, int width, int height,
+          Layer layer, LayerState state) {
+        final int tileSize = InterstellarMapTileCache.TILE_SIZE;
+        final double deviceScale = g2.getDeviceConfiguration().getDefaultTransform().getScaleX();
+        final RenderingHints hints = g2.getRenderingHints();
+        final int firstColumn = (int) Math.floor(-projection.originX() / tileSize);
+        final int lastColumn = (int) Math.floor((width - projection.originX()) / tileSize);
+        final int firstRow = (int) Math.floor(-projection.originY() / tileSize);
+        final int lastRow = (int) Math.floor((height - projection.originY()) / tileSize);
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                BufferedImage tile = tileCache.getTile(layer, conf.scale, deviceScale, column, row,
+                      (tileGraphics, tileColumn, tileRow) -> {
+                          tileGraphics.setRenderingHints(hints);
+                          tileGraphics.setFont(state.key().font());
+                          MapProjection tileProjection = new MapProjection(-(double) tileColumn * tileSize,
+                                -(double) tileRow * tileSize, conf.scale);
+                          Rectangle2D area = tileProjection.toMapArea(-NAME_MARGIN, -MARKER_MARGIN,
+                                tileSize + MARKER_MARGIN, tileSize + MARKER_MARGIN);
+                          if (layer == Layer.BACKGROUND) {
+                              paintBackgroundLayer(tileGraphics, tileProjection, size, area, state);
+                          } else {
+                              paintSystemLayer(tileGraphics, tileProjection, size, area, state);
+                          }
+                      });
+                g2.drawImage(tile, (int) (projection.originX() + (double) column * tileSize),
+                      (int) (projection.originY() + (double) row * tileSize), tileSize, tileSize, null);
+            }
+        }
+    }
+
+    /**
+     * Works out what the cached layers are drawn from, discarding the cached tiles if any of it has changed since the
+     * last repaint.
+     */
+    private LayerState getLayerState(Font font) {
+        boolean isUseFactionStandingOutlawing = campaign.getCampaignOptions().isUseFactionStandingOutlawedSafe();
+        PlanetarySystem currentSystem = campaign.getCurrentSystem();
+        LayerKey key = new LayerKey(layerGeneration,
+              now,
+              (currentSystem == null) ? null : currentSystem.getId(),
+              colorChoice.getSelection(),
+              optEmptySystems.isSelected(),
+              optTerritory.isSelected(),
+              optHPGNetwork.isSelected(),
+              isUseFactionStandingOutlawing,
+              isUseFactionStandingOutlawing ? campaign.getActiveContracts() : List.of(),
+              font);
+        if ((layerState == null) || !layerState.key().equals(key)) {
+            tileCache.clear();
+
+            Map<Faction, String> capitals = new HashMap<>();
+            for (Faction faction : Factions.getInstance().getFactions()) {
+                capitals.put(faction, faction.getStartingPlanet(now));
+            }
+
+            layerState = new LayerState(key,
+                  capitals,
+                  key.hpgNetwork() ? Systems.getInstance().getHPGNetwork(now) : List.of(),
+                  campaign.getPlayerForce().getFaction(),
+                  campaign.getPlayerForce().getFactionStandings(),
+                  FactionHints.getInstance());
+        }
+        return layerState;
+    }
+
+    /**
+     * Draws the faction territory and the HPG network of the given area.
+     */
+    private void paintBackgroundLayer(Graphics2D g2, MapProjection projection, double size, Rectangle2D area,
+          LayerState state) {
+        if ((conf.scale > 1.0) && optTerritory.isSelected()) {
+            paintTerritory(g2, projection, area);
+        }
+
+        if (optHPGNetwork.isSelected()) {
+            Arc2D.Double arc = new Arc2D.Double();
+            for (PlanetarySystem system : getSystemsWithin(area)) {
+                if (isShownInLayers(system, true)) {
+                    paintHPGRings(g2, arc, system, projection.x(system.getX()), projection.y(system.getY()), size);
+                }
+            }
+            for (HPGLink link : state.hpgNetwork()) {
+                PlanetarySystem p1 = link.primary();
+                PlanetarySystem p2 = link.secondary();
+                if (!area.intersectsLine(p1.getX(), p1.getY(), p2.getX(), p2.getY())) {
+                    continue;
+                }
+                if (link.rating() == HPGRating.A) {
+                    g2.setPaint(Color.CYAN);
+                    g2.setStroke(THICK_STROKE);
+                    g2.draw(new Line2D.Double(projection.x(p1.getX()), projection.y(p1.getY()),
+                          projection.x(p2.getX()), projection.y(p2.getY())));
+                }
+                if (link.rating() == HPGRating.B) {
+                    g2.setPaint(Color.BLUE);
+                    g2.setStroke(DASHED_STROKE);
+                    g2.draw(new Line2D.Double(projection.x(p1.getX()), projection.y(p1.getY()),
+                          projection.x(p2.getX()), projection.y(p2.getY())));
+                }
+            }
+            g2.setStroke(new BasicStroke(1.0f));
+        }
+    }
+
+    private void paintTerritory(Graphics2D g2, MapProjection projection, Rectangle2D area) {
+        final double HEX_SIZE = 30;
+        final double SPACING_X = HEX_SIZE * Math.sqrt(3) / 2.0;
+
+        AffineTransform transform = projection.getTransform();
+        Paint defaultFactionPaint = new Color(0.0f, 0.0f, 0.0f, 0.25f);
+
+        int minX = (int) Math.floor(area.getMinX() / SPACING_X);
+        int maxX = (int) Math.ceil(area.getMaxX() / SPACING_X);
+        int minY = (int) Math.floor(area.getMinY() / HEX_SIZE);
+        int maxY = (int) Math.ceil(area.getMaxY() / HEX_SIZE);
+
+        Faction indFaction = Factions.getInstance().getFaction("IND");
+
+        for (int x = minX; x <= maxX; ++x) {
+            for (int y = minY; y <= maxY; ++y) {
+                double coordX = x * SPACING_X;
+                double coordY = y * HEX_SIZE + (x % 2) * HEX_SIZE / 2.0;
+                GeneralPath path = new GeneralPath();
+                setupHexPath(path, coordX, coordY, HEX_SIZE / 2.0);
+
+                Paint factionPaint = defaultFactionPaint;
+                Set<Faction> hexFactions = new HashSet<>();
+
+                List<PlanetarySystem> nearbySystems = Systems.getInstance()
+                                                            .getNearbySystems(coordX,
+                                                                  coordY,
+                                                                  (int) Math.round(HEX_SIZE * 1.3));
+
+                for (PlanetarySystem system : nearbySystems) {
+                    if (!isSystemEmpty(system) && path.contains(system.getX(), system.getY())) {
+                        Set<Faction> factions = system.getFactionSet(now);
+                        factions.remove(indFaction);
+                        hexFactions.addAll(factions);
+                    }
+                }
+
+                if (hexFactions.isEmpty()) {
+                    for (PlanetarySystem system : nearbySystems) {
+                        if (!isSystemEmpty(system)) {
+                            Set<Faction> factions = system.getFactionSet(now);
+                            hexFactions.addAll(factions);
+                        }
+                    }
+                }
+
+                if (hexFactions.size() > 1) {
+                    hexFactions.remove(indFaction);
+                }
+
+                path.transform(transform);
+
+                if (hexFactions.size() == 1) {
+                    // Single-faction hex
+                    Color factionColor = hexFactions.iterator().next().getColor();
+                    float[] colorComponents = new float[4];
+                    factionColor.getComponents(colorComponents);
+                    factionPaint = new Color(colorComponents[0], colorComponents[1], colorComponents[2], 0.25f);
+                } else if (hexFactions.size() > 1) {
+                    // Create the painted stripes data
+                    int factionSize = hexFactions.size();
+                    Iterator<Faction> factionIterator = hexFactions.iterator();
+                    float[] colorComponents = new float[4];
+                    float[] paintFractions = new float[factionSize * 2];
+                    Color[] paintColors = new Color[factionSize * 2];
+                    for (int i = 0; i < factionSize; ++i) {
+                        paintFractions[i * 2] = i * (1.0f / factionSize) + 0.001f;
+                        paintFractions[i * 2 + 1] = (i + 1) * (1.0f / factionSize);
+                        Color factionColor = factionIterator.next().getColor();
+                        factionColor.getComponents(colorComponents);
+                        factionColor = new Color(colorComponents[0], colorComponents[1], colorComponents[2], 0.25f);
+                        paintColors[i * 2] = factionColor;
+                        paintColors[i * 2 + 1] = factionColor;
+                    }
+                    paintFractions[0] = 0.0f;
+
+                    // Determine where to anchor the stripes
+                    Point2D firstPoint = new Point2D.Double(projection.x(coordX), projection.y(coordY));
+                    Point2D secondPoint = new Point2D.Double(
+                          firstPoint.getX() + 6 * conf.scale,
+                          firstPoint.getY() + 6 * conf.scale);
+                    factionPaint = new LinearGradientPaint(
+                          firstPoint, secondPoint, paintFractions, paintColors,
+                          CycleMethod.REPEAT);
+                }
+
+                g2.setPaint(factionPaint);
+                g2.fill(path);
+            }
+        }
+    }
+
+    private void paintHPGRings(Graphics2D g2, Arc2D.Double arc, PlanetarySystem system, double x, double y,
+          double size) {
+        HPGRating hpgRating = ObjectUtility.nonNull(system.getHPG(now), HPGRating.X);
+        if (hpgRating == HPGRating.A) {
+            g2.setPaint(Color.CYAN);
+            arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
+            g2.setStroke(THICK_STROKE);
+            g2.draw(arc);
+        }
+        if (hpgRating == HPGRating.A || hpgRating == HPGRating.B) {
+            g2.setPaint(Color.BLUE);
+            arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
+            g2.setStroke(THIN_STROKE);
+            g2.draw(arc);
+        }
+        if (hpgRating == HPGRating.C) {
+            g2.setPaint(Color.ORANGE);
+            arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
+            g2.setStroke(DASHED_STROKE);
+            g2.draw(arc);
+        }
+        if (hpgRating == HPGRating.D) {
+            g2.setPaint(Color.RED);
+            arc.setArcByCenter(x, y, size * 1.3, 0, 360, Arc2D.OPEN);
+            g2.setStroke(DOTTED_STROKE);
+            g2.draw(arc);
+        }
+    }
+
+    /**
+     * Draws what depends on the selection and the planned travel: the auras and markers of the selected system, the
+     * jump paths and the current location. These sit between the cached background and system layers.
+     */
+    private void paintSelectionLayer(Graphics2D g2, MapProjection projection, double size) {
+        Arc2D.Double arc = new Arc2D.Double();
+
+        // Draw auras around a selected planet
+        if (selectedSystem != null) {
+            final double x = projection.x(selectedSystem.getX());
+            final double y = projection.y(selectedSystem.getY());
+            // Contract Search Radius Aura
+            if (!campaign.getCampaignOptions().get(CampaignOption.CONTRACT_MARKET_METHOD).isNone()
+                      && MekHQ.getMHQOptions().getInterstellarMapShowContractSearchRadius()) {
+                final double z = projection.x(selectedSystem.getX()
+                                                    + campaign.getCampaignOptions()
+                                                            .get(CampaignOption.CONTRACT_SEARCH_RADIUS));
+                final double contractSearchRadius = z - x;
+                g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapContractSearchRadiusColour());
+                g2.setStroke(DASHED_THICK_STROKE);
+                arc.setArcByCenter(x, y, contractSearchRadius, 0, 360, Arc2D.OPEN);
+                g2.draw(arc);
+            }
+
+            // Acquisition Search Radius Aura
+            if (campaign.getCampaignOptions().get(CampaignOption.USE_PLANETARY_ACQUISITION)
+                      && MekHQ.getMHQOptions().getInterstellarMapShowPlanetaryAcquisitionRadius()
+                      && (conf.scale > MekHQ.getMHQOptions()
+                                             .getInterstellarMapShowPlanetaryAcquisitionRadiusMinimumZoom())) {
+                final double z = projection.x(selectedSystem.getX()
+                                                    + (MHQConstants.MAX_JUMP_RADIUS
+                                                             * campaign.getCampaignOptions()
+                                                                     .get(CampaignOption.MAX_JUMPS_PLANETARY_ACQUISITION)));
+                final double acquisitionRadius = z - x;
+                g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapPlanetaryAcquisitionRadiusColour());
+                g2.setStroke(DASHED_THICK_STROKE);
+                arc.setArcByCenter(x, y, acquisitionRadius, 0, 360, Arc2D.OPEN);
+                g2.draw(arc);
+            }
+
+            // Jump Radius Aura
+            if (MekHQ.getMHQOptions().getInterstellarMapShowJumpRadius()
+                      && (conf.scale > MekHQ.getMHQOptions().getInterstellarMapShowJumpRadiusMinimumZoom())) {
+                final double z = projection.x(selectedSystem.getX() + MHQConstants.MAX_JUMP_RADIUS);
+                final double jumpRadius = z - x;
+                g2.setPaint(MekHQ.getMHQOptions().getInterstellarMapJumpRadiusColour());
+                g2.setStroke(DASHED_THICK_STROKE);
+                arc.setArcByCenter(x, y, jumpRadius, 0, 360, Arc2D.OPEN);
+                g2.draw(arc);
+            }
+
+            // Don't override HPG Network drawing
+            if (optHPGNetwork.isSelected()) {
+                final double z = projection.x(selectedSystem.getX() + 50);
+                final double jumpRadius = z - x;
+                g2.setPaint(DARK_CYAN);
+                g2.setStroke(DOTTED_STROKE);
+                arc.setArcByCenter(x, y, jumpRadius, 0, 360, Arc2D.OPEN);
+                g2.draw(arc);
+
+                // The selected system shows its HPG even when it is empty and so left out of the network layer
+                if (!isShownInLayers(selectedSystem, true)) {
+                    paintHPGRings(g2, arc, selectedSystem, x, y, size);
+                }
+            }
+        }
+
+        // draw a jump path
+        paintJumpPath(g2, projection, size, jumpPath, Color.WHITE);
+
+        // check to see if the unit is traveling on a jump path currently and if so
+        // draw this one too, in a different color
+        JumpPath travelPath = getTravelJumpPath();
+        if (null != travelPath) {
+            paintJumpPath(g2, projection, size, travelPath, Color.YELLOW);
+        }
+
+        PlanetarySystem currentSystem = campaign.getCurrentSystem();
+        if (null != currentSystem) {
+            double x = projection.x(currentSystem.getX());
+            double y = projection.y(currentSystem.getY());
+            // let's try rings
+            g2.setPaint(Color.ORANGE);
+            arc.setArcByCenter(x, y, size * 3.4, 0, 360, Arc2D.OPEN);
+            g2.fill(arc);
+            g2.setPaint(Color.BLACK);
+            arc.setArcByCenter(x, y, size * 2.9, 0, 360, Arc2D.OPEN);
+            g2.fill(arc);
+            g2.setPaint(Color.ORANGE);
+            arc.setArcByCenter(x, y, size * 2.4, 0, 360, Arc2D.OPEN);
+            g2.fill(arc);
+            g2.setPaint(Color.BLACK);
+            arc.setArcByCenter(x, y, size * 1.9, 0, 360, Arc2D.OPEN);
+            g2.fill(arc);
+        }
+
+        if (null != selectedSystem) {
+            // Draw the selection marker as TWO concentric stroked outlines (a white outer
+            // ring and a thinner white inner ring with a black gap between them) instead of
+            // filled discs. Filled discs on a full 360-degree arc with Arc2D.OPEN fill the
+            // entire interior, which would obliterate the orange "current location" rings
+            // (radii 1.2-1.8) and the cyan "GM override" outline (radius size + 2.5) drawn
+            // underneath when a system is both your current location, an override, and
+            // selected.
+            double x = projection.x(selectedSystem.getX());
+            double y = projection.y(selectedSystem.getY());
+            Stroke oldStroke = g2.getStroke();
+            g2.setPaint(Color.WHITE);
+            g2.setStroke(new BasicStroke(2.5f));
+            arc.setArcByCenter(x, y, size * 2.2, 0, 360, Arc2D.OPEN);
+            g2.draw(arc);
+            arc.setArcByCenter(x, y, size * 1.95, 0, 360, Arc2D.OPEN);
+            g2.draw(arc);
+            g2.setStroke(oldStroke);
+        }
+    }
+
+    private void paintJumpPath(Graphics2D g2, MapProjection projection, double size, JumpPath path, Color color) {
+        Arc2D.Double arc = new Arc2D.Double();
+        g2.setStroke(new BasicStroke(1.0f));
+        for (int i = 0; i < path.size(); i++) {
+            PlanetarySystem systemB = path.get(i);
+            double x = projection.x(systemB.getX());
+            double y = projection.y(systemB.getY());
+            // lest try rings
+            g2.setPaint(color);
+            arc.setArcByCenter(x, y, size * 1.8, 0, 360, Arc2D.OPEN);
+            g2.fill(arc);
+            g2.setPaint(Color.BLACK);
+            arc.setArcByCenter(x, y, size * 1.6, 0, 360, Arc2D.OPEN);
+            g2.fill(arc);
+            g2.setPaint(color);
+            arc.setArcByCenter(x, y, size * 1.4, 0, 360, Arc2D.OPEN);
+            g2.fill(arc);
+            g2.setPaint(Color.BLACK);
+            arc.setArcByCenter(x, y, size * 1.2, 0, 360, Arc2D.OPEN);
+            g2.fill(arc);
+            if (i > 0) {
+                PlanetarySystem systemA = path.get(i - 1);
+                g2.setPaint(color);
+                g2.draw(new Line2D.Double(projection.x(systemA.getX()), projection.y(systemA.getY()),
+                      projection.x(systemB.getX()), projection.y(systemB.getY())));
+            }
+        }
+    }
+
+    /**
+     * Draws the system markers of the given area and, when zoomed in far enough, their names.
+     */
+    private void paintSystemLayer(Graphics2D g2, MapProjection projection, double size, Rectangle2D area,
+          LayerState state) {
+        List<PlanetarySystem> areaSystems = getSystemsWithin(area);
+        Arc2D.Double arc = new Arc2D.Double();
+        for (PlanetarySystem system : areaSystems) {
+            paintSystemMarker(g2, arc, system, projection.x(system.getX()), projection.y(system.getY()), size, state);
+        }
+
+        // cycle through planets again and assign names - to make sure names go on
+        // outside
+        if (isShowingAllSystemNames()) {
+            boolean hideEmpty = !optEmptySystems.isSelected();
+            for (PlanetarySystem system : areaSystems) {
+                if (isShownInLayers(system, hideEmpty)) {
+                    paintSystemName(g2, projection, size, system);
+                }
+            }
+        }
+    }
+
+    private void paintSystemMarker(Graphics2D g2, Arc2D.Double arc, PlanetarySystem system, double x, double y,
+          double size, LayerState state) {
+        // if factions are selected, then we need to do it differently, because
+        // of multiple factions per planet
+        if (isFactionsSelected()) {
+            Set<Faction> factions = system.getFactionSet(now);
+            if ((null != factions) && !isSystemEmpty(system)) {
+                int i = 0;
+                for (Faction faction : factions) {
+                    if (system.getId().equals(state.capitals().get(faction))) {
+                        g2.setPaint(faction.getColor());
+                        arc.setArcByCenter(x, y, size + 5, 0,
+                              360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
+                        g2.fill(arc);
+                        g2.setPaint(new Color(0.0f, 0.0f, 0.0f, 0.5f));
+                        arc.setArcByCenter(x, y, size + 3, 0,
+                              360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
+                        g2.fill(arc);
+                    } else {
+                        if (system.getHiringHallLevel(now) == HiringHallLevel.GREAT) {
+                            g2.setPaint(new Color(176, 196, 222));
+                            arc.setArcByCenter(x, y, size + 5, 0,
+                                  360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
+                            g2.fill(arc);
+                            g2.setPaint(new Color(0.0f, 0.0f, 0.0f, 0.5f));
+                            arc.setArcByCenter(x, y, size + 3, 0,
+                                  360.0 * (1 - ((double) i) / factions.size()), Arc2D.OPEN);
+                            g2.fill(arc);
+                        }
+                    }
+
+                    g2.setPaint(faction.getColor());
+                    arc.setArcByCenter(x, y, size, 0, 360.0 * (1 - ((double) i) / factions.size()),
+                          Arc2D.PIE);
+                    g2.fill(arc);
+                    ++i;
+                }
+            } else {
+                if (optEmptySystems.isSelected()) {
+                    // Just a dark grey circle then
+                    g2.setPaint(Color.DARK_GRAY);
+                    arc.setArcByCenter(x, y, size, 0, 360.0, Arc2D.PIE);
+                    g2.fill(arc);
+                }
+            }
+        } else {
+            g2.setPaint(getSystemColor(system));
+            arc.setArcByCenter(x, y, size, 0, 360.0, Arc2D.PIE);
+            g2.fill(arc);
+        }
+
+        // Outlaw status image
+        if (state.key().isUseFactionStandingOutlawing()) {
+            boolean isOutlawedInSystem = !FactionStandingUtilities.canEnterTargetSystem(state.campaignFaction(),
+                  state.factionStandings(), null, system, now, state.key().activeContracts(),
+                  state.factionHints());
+            if (isOutlawedInSystem) {
+                int half = (int) (size * 0.8);
+                g2.setPaint(Color.BLACK);
+                Stroke oldStroke = g2.getStroke();
+                g2.setStroke(new BasicStroke(4));
+                g2.drawLine((int) (x - half), (int) (y - half), (int) (x + half), (int) (y + half));
+                g2.drawLine((int) (x - half), (int) (y + half), (int) (x + half), (int) (y - half));
+                g2.setStroke(oldStroke);
+            }
+        }
+
+        // GM-edited system marker: thin cyan outline ring so the player can spot non-canon edits.
+        if (campaign.hasPlanetarySystemOverride(system.getId())) {
+            Stroke oldStroke = g2.getStroke();
+            g2.setPaint(Color.CYAN);
+            g2.setStroke(new BasicStroke(2.0f));
+            arc.setArcByCenter(x, y, size + 2.5, 0, 360, Arc2D.OPEN);
+            g2.draw(arc);
+            g2.setStroke(oldStroke);
+        }
+    }
+
+    /**
+     * Names the systems the cached system layer leaves unnamed but which should still be named: those on a jump path
+     * when zoomed out, and the selected system when it is empty and empty systems are hidden.
+     */
+    private void paintRemainingSystemNames(Graphics2D g2, MapProjection projection, double size) {
+        boolean hideEmpty = !optEmptySystems.isSelected();
+        boolean isShowingAllNames = isShowingAllSystemNames();
+        JumpPath travelPath = getTravelJumpPath();
+
+        Set<PlanetarySystem> candidates = new LinkedHashSet<>(jumpPath.getSystems());
+        if (null != travelPath) {
+            candidates.addAll(travelPath.getSystems());
+        }
+        if (null != selectedSystem) {
+            candidates.add(selectedSystem);
+        }
+
+        for (PlanetarySystem system : candidates) {
+            boolean isShown = isShownInLayers(system, hideEmpty);
+            if (isShown && isShowingAllNames) {
+                // Already named by the system layer
+                continue;
+            }
+            boolean isOnJumpPath = jumpPath.contains(system) || ((null != travelPath) && travelPath.contains(system));
+            if ((isShown || system.equals(selectedSystem)) && (isShowingAllNames || isOnJumpPath)) {
+                paintSystemName(g2, projection, size, system);
+            }
+        }
+    }
+
+    private void paintSystemName(Graphics2D g2, MapProjection projection, double size, PlanetarySystem system) {
+        final String planetName = system.getPrintableName(now);
+        final float xPos = (float) (projection.x(system.getX()) + size * 1.8);
+        final float yPos = (float) projection.y(system.getY());
+        g2.setPaint(Color.BLACK);
+        g2.drawString(planetName, xPos - 1f, yPos - 1f);
+        g2.drawString(planetName, xPos + 1f, yPos - 1f);
+        g2.drawString(planetName, xPos + 1f, yPos + 1f);
+        g2.drawString(planetName, xPos - 1f, yPos + 1f);
+        g2.setPaint(Color.WHITE);
+        g2.drawString(planetName, xPos, yPos);
+    }
+
+    private @Nullable JumpPath getTravelJumpPath() {
+        return campaign.getPlayerForce().getForceDetachment().getCurrentLocation().getJumpPath();
+    }
+
+    private boolean isShowingAllSystemNames() {
+        return (conf.showPlanetNamesThreshold == 0) || (conf.scale > conf.showPlanetNamesThreshold);
+    }
+
+    private List<PlanetarySystem> getSystemsWithin(Rectangle2D area) {
+        return systemIndex.withinBounds(area.getMinX(), area.getMinY(), area.getMaxX(), area.getMaxY());
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         int width = getWidth();
@@ -1118,14 +1260,6 @@ public class InterstellarMapPanel extends JPanel {
         return getHeight() / 2.0 - (y - conf.centerY) * conf.scale;
     }
 
-    private AffineTransform getMap2ScrTransform() {
-        AffineTransform transform = new AffineTransform();
-        transform.translate(getWidth() / 2.0, getHeight() / 2.0);
-        transform.scale(conf.scale, -conf.scale);
-        transform.translate(conf.centerX, -conf.centerY);
-        return transform;
-    }
-
     public void setSelectedSystem(PlanetarySystem p) {
         selectedSystem = p;
         if (conf.scale < 4.0) {
@@ -1136,22 +1270,10 @@ public class InterstellarMapPanel extends JPanel {
     }
 
     /**
-     * Calculate the nearest neighbor for the given point If anyone has a better algorithm than this, please, feel free
-     * to exchange my brute force thing... A good idea would be a voronoi diagram and the sweep algorithm from Steven
-     * Fortune.
+     * Calculate the nearest neighbor for the given point
      */
-    private PlanetarySystem nearestNeighbour(double x, double y) {
-        double minDiff = Double.MAX_VALUE;
-        double diff;
-        PlanetarySystem minPlanet = null;
-        for (PlanetarySystem p : systems) {
-            diff = Math.sqrt(Math.pow(x - p.getX(), 2) + Math.pow(y - p.getY(), 2));
-            if (diff < minDiff) {
-                minDiff = diff;
-                minPlanet = p;
-            }
-        }
-        return minPlanet;
+    private @Nullable PlanetarySystem nearestNeighbour(double x, double y) {
+        return systemIndex.nearest(x, y);
     }
 
     private boolean isSystemEmpty(PlanetarySystem system) {
@@ -1164,25 +1286,16 @@ public class InterstellarMapPanel extends JPanel {
                      .allMatch(faction -> faction.is(FactionTag.ABANDONED));
     }
 
-    private boolean isSystemVisible(PlanetarySystem system, boolean hideEmpty) {
-        if (null == system) {
-            return false;
-        }
-        // The current planet and the selected one are always visible
-        if (system.equals(campaign.getCurrentSystem()) || system.equals(selectedSystem)) {
+    /**
+     * Whether the cached layers draw the given system. The current system is always drawn; other empty systems only
+     * when they aren't being hidden.
+     */
+    private boolean isShownInLayers(PlanetarySystem system, boolean hideEmpty) {
+        if (!hideEmpty || system.equals(campaign.getCurrentSystem())) {
             return true;
         }
-        // viewport check
-        double x = system.getX();
-        double y = system.getY();
-        if ((x < minX) || (x > maxX) || (y < minY) || (y > maxY)) {
-            return false;
-        }
-        if (hideEmpty) {
-            // Filter out "empty" systems
-            return !isSystemEmpty(system);
-        }
-        return true;
+        // Filter out "empty" systems
+        return !isSystemEmpty(system);
     }
 
     /**
@@ -1432,4 +1545,60 @@ public class InterstellarMapPanel extends JPanel {
     public boolean isFactionsSelected() {
         return optFactions.isSelected();
     }
+
+    /**
+     * The cached layers of the map, from the bottom up. The selection and jump paths are drawn between the two.
+     */
+    private enum Layer {
+        BACKGROUND,
+        SYSTEMS
+    }
+
+    /**
+     * Everything the cached layers depend on other than the zoom level. The cached tiles are discarded whenever it
+     * changes.
+     */
+    private record LayerKey(int generation, LocalDate date, @Nullable String currentSystemId, ButtonModel colorMode,
+          boolean showEmptySystems, boolean territory, boolean hpgNetwork, boolean isUseFactionStandingOutlawing,
+          List<AbstractContract> activeContracts, Font font) {
+    }
+
+    /**
+     * What the cached layers are drawn from, worked out once per {@link LayerKey} rather than on every repaint.
+     */
+    private record LayerState(LayerKey key, Map<Faction, String> capitals, Collection<HPGLink> hpgNetwork,
+          Faction campaignFaction, FactionStandings factionStandings, FactionHints factionHints) {
+    }
+
+    /**
+     * Places map coordinates on a drawing surface.
+     *
+     * @param originX Where the map origin falls on the surface, horizontally.
+     * @param originY Where the map origin falls on the surface, vertically.
+     * @param scale   The number of pixels per light year. The map's y axis points up.
+     */
+    private record MapProjection(double originX, double originY, double scale) {
+        double x(double mapX) {
+            return originX + mapX * scale;
+        }
+
+        double y(double mapY) {
+            return originY - mapY * scale;
+        }
+
+        AffineTransform getTransform() {
+            AffineTransform transform = new AffineTransform();
+            transform.translate(originX, originY);
+            transform.scale(scale, -scale);
+            return transform;
+        }
+
+        /**
+         * @return The map area covered by the given rectangle of the surface.
+         */
+        Rectangle2D toMapArea(double left, double top, double right, double bottom) {
+            return new Rectangle2D.Double((left - originX) / scale, (originY - bottom) / scale,
+                  (right - left) / scale, (bottom - top) / scale);
+        }
+    }
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.gui;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of pre-rendered map tiles for {@link InterstellarMapPanel}.
+ *
+ * <p>Tiles are square pieces of a layer, {@link #TILE_SIZE} logical pixels across, addressed by column and row in
+ * the map's own pixel space at a given zoom level. A tile is rendered once and then blitted on every repaint until it
+ * is evicted or the cache is cleared; the least recently drawn tiles are dropped first once the cache holds more than
+ * its memory budget.</p>
+ *
+ * <p>This class is not thread safe and is meant to be used from the event dispatch thread.</p>
+ */
+final class InterstellarMapTileCache {
+    /** The width and height of a tile, in logical pixels. */
+    static final int TILE_SIZE = 256;
+
+    /**
+     * Draws the content of one tile. The graphics are already scaled for the display, so the renderer works in logical
+     * pixels with the tile's top left corner at the origin.
+     */
+    @FunctionalInterface
+    interface TileRenderer {
+        void render(Graphics2D g2, int column, int row);
+    }
+
+    private record TileKey(Object layer, double scale, double deviceScale, int column, int row) {
+    }
+
+    private final long maximumBytes;
+    private final Map<TileKey, BufferedImage> tiles = new LinkedHashMap<>(64, 0.75f, true);
+    private long cachedBytes;
+
+    /**
+     * @param maximumBytes The approximate memory budget for cached tile images, in bytes.
+     */
+    InterstellarMapTileCache(long maximumBytes) {
+        this.maximumBytes = maximumBytes;
+    }
+
+    /**
+     * Gets a tile, rendering it first if it isn't cached.
+     *
+     * @param layer       Identifies the layer and everything its content depends on other than the zoom level.
+     * @param scale       The zoom level, in pixels per light year.
+     * @param deviceScale The ratio of device pixels to logical pixels of the display the tile is drawn on.
+     * @param column      The column of the tile.
+     * @param row         The row of the tile.
+     * @param renderer    Draws the tile if it has to be rendered.
+     *
+     * @return The tile image, {@link #TILE_SIZE} logical pixels across.
+     */
+    BufferedImage getTile(Object layer, double scale, double deviceScale, int column, int row,
+          TileRenderer renderer) {
+        TileKey key = new TileKey(layer, scale, deviceScale, column, row);
+        BufferedImage tile = tiles.get(key);
+        if (tile == null) {
+            int pixels = (int) Math.ceil(TILE_SIZE * deviceScale);
+            tile = new BufferedImage(pixels, pixels, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = tile.createGraphics();
+            try {
+                g2.scale(deviceScale, deviceScale);
+                renderer.render(g2, column, row);
+            } finally {
+                g2.dispose();
+            }
+            tiles.put(key, tile);
+            cachedBytes += getBytes(tile);
+            evict();
+        }
+        return tile;
+    }
+
+    /**
+     * Drops every cached tile.
+     */
+    void clear() {
+        tiles.clear();
+        cachedBytes = 0L;
+    }
+
+    /**
+     * @return The number of cached tiles.
+     */
+    int size() {
+        return tiles.size();
+    }
+
+    private void evict() {
+        Iterator<BufferedImage> iterator = tiles.values().iterator();
+        // Always keep the tile just rendered, even if it alone is over budget
+        while ((cachedBytes > maximumBytes) && (tiles.size() > 1)) {
+            cachedBytes -= getBytes(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private static long getBytes(BufferedImage tile) {
+        return (long) tile.getWidth() * tile.getHeight() * Integer.BYTES;
+    }
+}
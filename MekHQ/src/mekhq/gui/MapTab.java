@@ -437,6 +437,6 @@ public final class MapTab extends CampaignGuiTab implements ActionListener {
 
     @Subscribe
     public void handle(OptionsChangedEvent ev) {
-        panMap.repaint();
+        panMap.refreshMapLayers();
     }
 }
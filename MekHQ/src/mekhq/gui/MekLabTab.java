@@ -57,7 +57,6 @@ import megamek.common.equipment.Mounted;
 import megamek.common.equipment.WeaponType;
 import megamek.common.interfaces.ITechManager;
 import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.ui.FastJScrollPane;
@@ -109,6 +108,7 @@ import megameklab.util.UnitUtil;
 import mekhq.campaign.parts.Refit;
 import mekhq.campaign.unit.Unit;
 import mekhq.gui.enums.MHQTabType;
+import mekhq.utilities.EntityFactory;
 import mekhq.utilities.ReportingUtilities;
 
 public class MekLabTab extends CampaignGuiTab {
@@ -275,7 +275,7 @@ public class MekLabTab extends CampaignGuiTab {
         MekSummary mekSummary = MekSummaryCache.getInstance().getMek(unit.getEntity().getShortNameRaw());
         Entity entity;
         try {
-            entity = (new MekFileParser(mekSummary.getSourceFile(), mekSummary.getEntryName())).getEntity();
+            entity = EntityFactory.getInstance().getEntity(mekSummary);
         } catch (EntityLoadingException ex) {
             LOGGER.error("", ex);
             return;
@@ -321,7 +321,7 @@ public class MekLabTab extends CampaignGuiTab {
 
         Entity entity;
         try {
-            entity = new MekFileParser(mekSummary.getSourceFile(), mekSummary.getEntryName()).getEntity();
+            entity = EntityFactory.getInstance().getEntity(mekSummary);
         } catch (EntityLoadingException ex) {
             LOGGER.error("", ex);
             return;
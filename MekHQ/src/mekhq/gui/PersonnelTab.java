@@ -45,6 +45,7 @@ import java.awt.Toolkit;
 import java.awt.event.ActionEvent;
 import java.awt.event.KeyEvent;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
@@ -78,6 +79,7 @@ import mekhq.campaign.events.persons.PersonLogEvent;
 import mekhq.campaign.events.persons.PersonNewEvent;
 import mekhq.campaign.events.persons.PersonRemovedEvent;
 import mekhq.campaign.events.scenarios.ScenarioResolvedEvent;
+import mekhq.campaign.events.units.UnitChangedEvent;
 import mekhq.campaign.events.units.UnitRemovedEvent;
 import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.skills.QuickTrain;
@@ -93,6 +95,7 @@ import mekhq.gui.enums.PersonnelTabView;
 import mekhq.gui.enums.PersonnelTableModelColumn;
 import mekhq.gui.model.LocationFilterItem;
 import mekhq.gui.model.PersonnelTableModel;
+import mekhq.gui.model.TableRowChanges;
 import mekhq.gui.panels.TutorialHyperlinkPanel;
 import mekhq.gui.view.PersonViewPanel;
 
@@ -321,6 +324,8 @@ public final class PersonnelTab extends CampaignGuiTab {
         add(btnMassTraining, gridBagConstraints);
 
         personnelTable = new MHQTable<>(new PersonnelTableModel(getCampaign()));
+        // Every change to a person reaches the table through applyPersonnelChanges or refreshPersonnelCells
+        getPersonnelTableModel().setCacheCellValues(true);
         personnelTable.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
         personnelTable.getSelectionModel().addListSelectionListener(ev -> refreshPersonnelView());
 
@@ -454,7 +459,7 @@ public final class PersonnelTab extends CampaignGuiTab {
                 for (int i = 0; i < visibleColumnCount; i++) {
                     int modelIndex = columnModel.getColumn(i).getModelIndex();
                     PersonnelTableModelColumn column = getPersonnelTableModel().getAllColumns().get(modelIndex);
-                    String cellText = column.getText(column.getCellValue(getCampaign(), person));
+                    String cellText = column.getText(entry.getModel().getValueAt(entry.getIdentifier(), modelIndex));
                     if (cellText != null && cellText.toLowerCase(Locale.ROOT).contains(searchAsLowerCase)) {
                         return true;
                     }
@@ -529,6 +534,9 @@ public final class PersonnelTab extends CampaignGuiTab {
      * Refreshes the personnel table model, applying the currently-selected location filter.
      */
     public void refreshPersonnelList() {
+        // The rebuilt list already reflects any pending row changes
+        personnelChanges.clear();
+
         UUID selectedUUID = null;
         int selectedRow = personnelTable.getSelectedRow();
         if (selectedRow != -1) {
@@ -554,6 +562,42 @@ public final class PersonnelTab extends CampaignGuiTab {
         filterPersonnel();
     }
 
+    /**
+     * Applies the personnel changes reported since the last call as row insertions, updates, and deletions, which
+     * keeps the current sort, filter, and selection without rebuilding the table.
+     */
+    private void applyPersonnelChanges() {
+        LocationFilterItem locationFilter = getCampaignGui().getActiveLocation();
+        Set<Person> peopleAtLocation = new HashSet<>(locationFilter.selectPersonnel(getCampaign()));
+
+        personnelChanges.applyTo(getPersonnelTableModel(), peopleAtLocation::contains);
+        if (personnelTable.getSelectedRow() != -1) {
+            refreshPersonnelView();
+        }
+    }
+
+    /**
+     * Recomputes every cell, for changes which are not reported against a single person, such as a unit being
+     * removed or a deployment changing.
+     */
+    private void refreshPersonnelCells() {
+        getPersonnelTableModel().clearCellValueCache();
+        filterPersonnel();
+    }
+
+    /**
+     * Queues a change to a single person. While grouping by unit, a change to one person can change which of their
+     * crewmates are shown, so the whole list is rebuilt instead.
+     */
+    private void schedulePersonnelChange(Runnable change) {
+        if (getPersonnelTableModel().isGroupByUnit()) {
+            personnelListScheduler.schedule();
+        } else {
+            change.run();
+            personnelChangesScheduler.schedule();
+        }
+    }
+
     public void refreshPersonnelView() {
         int row = personnelTable.getSelectedRow();
         if (row < 0) {
@@ -586,8 +630,10 @@ public final class PersonnelTab extends CampaignGuiTab {
         return selectedPersons;
     }
 
+    private final TableRowChanges<Person> personnelChanges = new TableRowChanges<>();
     private final ActionScheduler personnelListScheduler = new ActionScheduler(this::refreshPersonnelList);
-    private final ActionScheduler filterPersonnelScheduler = new ActionScheduler(this::filterPersonnel);
+    private final ActionScheduler personnelChangesScheduler = new ActionScheduler(this::applyPersonnelChanges);
+    private final ActionScheduler personnelCellsScheduler = new ActionScheduler(this::refreshPersonnelCells);
 
     @Subscribe
     public void handle(OptionsChangedEvent ev) {
@@ -603,22 +649,22 @@ public final class PersonnelTab extends CampaignGuiTab {
 
     @Subscribe
     public void handle(DeploymentChangedEvent ev) {
-        filterPersonnelScheduler.schedule();
+        personnelCellsScheduler.schedule();
     }
 
     @Subscribe
     public void handle(PersonChangedEvent ev) {
-        personnelListScheduler.schedule();
+        schedulePersonnelChange(() -> personnelChanges.changed(ev.getPerson()));
     }
 
     @Subscribe
     public void handle(PersonNewEvent ev) {
-        personnelListScheduler.schedule();
+        schedulePersonnelChange(() -> personnelChanges.added(ev.getPerson()));
     }
 
     @Subscribe
     public void handle(PersonRemovedEvent ev) {
-        personnelListScheduler.schedule();
+        schedulePersonnelChange(() -> personnelChanges.removed(ev.getPerson()));
     }
 
     @Subscribe
@@ -631,18 +677,24 @@ public final class PersonnelTab extends CampaignGuiTab {
         personnelListScheduler.schedule();
     }
 
+    @Subscribe
+    public void handle(UnitChangedEvent ev) {
+        // Cells show the names and states of assigned units
+        personnelCellsScheduler.schedule();
+    }
+
     @Subscribe
     public void handle(UnitRemovedEvent ev) {
-        filterPersonnelScheduler.schedule();
+        personnelCellsScheduler.schedule();
     }
 
     @Subscribe
     public void handle(PartWorkEvent ev) {
-        filterPersonnelScheduler.schedule();
+        personnelCellsScheduler.schedule();
     }
 
     @Subscribe
     public void handle(OvertimeModeEvent ev) {
-        filterPersonnelScheduler.schedule();
+        personnelCellsScheduler.schedule();
     }
 }
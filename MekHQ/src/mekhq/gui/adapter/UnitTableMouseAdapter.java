@@ -84,7 +84,6 @@ import megamek.common.icons.Camouflage;
 import megamek.common.loaders.BLKFile;
 import megamek.common.loaders.EntityLoadingException;
 import megamek.common.loaders.EntitySavingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Aero;
@@ -150,6 +149,7 @@ import mekhq.gui.menus.TransportAssignmentMenus;
 import mekhq.gui.model.UnitTableModel;
 import mekhq.gui.utilities.JMenuHelpers;
 import mekhq.gui.utilities.StaticChecks;
+import mekhq.utilities.EntityFactory;
 
 public class UnitTableMouseAdapter extends JPopupMenuAdapter {
     private static final MMLogger LOGGER = MMLogger.create(UnitTableMouseAdapter.class);
@@ -608,8 +608,7 @@ public class UnitTableMouseAdapter extends JPopupMenuAdapter {
                 if (summary != null) {
                     for (Unit unit : units) {
                         try {
-                            Entity refitEntity = new MekFileParser(summary.getSourceFile(),
-                                  summary.getEntryName()).getEntity();
+                            Entity refitEntity = EntityFactory.getInstance().getEntity(summary);
                             if (refitEntity != null) {
                                 Refit refit = new Refit(unit, refitEntity, crd.isCustomize(), false, false);
                                 if (refit.checkFixable() == null) {
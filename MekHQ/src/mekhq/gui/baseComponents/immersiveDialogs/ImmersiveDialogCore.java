@@ -63,7 +63,6 @@ import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.Toolkit;
 import java.awt.Window;
-import java.awt.image.ImageObserver;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -97,6 +96,7 @@ import mekhq.gui.baseComponents.JScrollablePanel;
 import mekhq.gui.dialog.glossary.GlossaryDocumentationEntryDialog;
 import mekhq.gui.dialog.glossary.GlossaryEntryDialog;
 import mekhq.gui.utilities.WrapLayout;
+import mekhq.utilities.ScaledImageCache;
 
 /**
  * An immersive dialog used in MekHQ to display interactions between speakers, messages, and actions. The dialog
@@ -1158,22 +1158,15 @@ public class ImmersiveDialogCore extends JDialog {
                 return campaign.getCampaignFactionIcon();
             }
 
-            baseImage = portrait.getBaseImage();
+            baseImage = speaker.getPortraitImageWithFallback();
         } else {
             baseImage = Factions.getFactionLogo(campaign.getGameYear(), speaker.getOriginFaction().getShortName())
                               .getImage();
         }
 
-        // The following sorcery is due to the compressed manner in which personnel portraits are stored.
-        // We need to manipulate the original base image, otherwise it looks grainy and terrible.
-        ImageObserver observer = (img, infoFlags, x, y, width, height) -> true;
-        int baseImageHeight = baseImage.getHeight(observer);
-        int baseImageWidth = baseImage.getWidth(observer);
-        int targetWidth = Math.max(1, IMAGE_WIDTH);
-
-        int height = (int) Math.ceil((double) targetWidth * baseImageHeight / baseImageWidth);
-
-        return new ImageIcon(baseImage.getScaledInstance(targetWidth, height, Image.SCALE_SMOOTH));
+        // Personnel portraits are stored compressed, so we scale the original base image rather than the icon,
+        // otherwise it looks grainy and terrible
+        return ScaledImageCache.getScaledIconToWidth(baseImage, IMAGE_WIDTH);
     }
 
     static final class ResponseActivationController {
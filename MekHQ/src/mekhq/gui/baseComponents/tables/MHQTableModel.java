@@ -40,11 +40,11 @@ import java.util.List;
 import java.util.Map;
 import javax.swing.JTable;
 import javax.swing.SortOrder;
-import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.TableCellRenderer;
 
 import megamek.common.annotations.Nullable;
+import mekhq.gui.model.DataTableModel;
 import mekhq.utilities.ReportingUtilities;
 
 /**
@@ -57,13 +57,7 @@ import mekhq.utilities.ReportingUtilities;
  * @author Hokk
  * @since 0.51.01
  */
-public abstract class MHQTableModel<DataModel, ColumnModel extends MHQTableColumn> extends AbstractTableModel {
-
-
-    /** The underlying data for the table, where each element represents a row.
-     */
-    protected List<DataModel> data = Collections.emptyList();
-
+public abstract class MHQTableModel<DataModel, ColumnModel extends MHQTableColumn> extends DataTableModel<DataModel> {
     /** Columns defined for the table model.
      */
     protected final List<ColumnModel> columns;
@@ -77,6 +71,7 @@ public abstract class MHQTableModel<DataModel, ColumnModel extends MHQTableColum
      */
     public MHQTableModel(List<ColumnModel> columns) {
         this.columns = columns;
+        data = Collections.emptyList();
     }
 
     /**
@@ -97,11 +92,6 @@ public abstract class MHQTableModel<DataModel, ColumnModel extends MHQTableColum
      */
     protected abstract Object getCellValue(DataModel data, ColumnModel column);
 
-    @Override
-    public int getRowCount() {
-        return data.size();
-    }
-
     @Override
     public int getColumnCount() {
         return columns.size();
@@ -112,14 +102,23 @@ public abstract class MHQTableModel<DataModel, ColumnModel extends MHQTableColum
         return columns.get(columnIndex).toString();
     }
 
+    @Override
+    public Class<?> getColumnClass(int columnIndex) {
+        // Cells are rendered and compared through their column definitions
+        return Object.class;
+    }
+
     @Override
     public Object getValueAt(int rowIndex, int columnIndex) {
         DataModel row = getRow(rowIndex);
         if (row == null) {
             return "?";
         }
-        ColumnModel column = columns.get(columnIndex);
-        return getCellValue(row, column);
+        return getCachedValueAt(row, columnIndex, this::getCellValueAt);
+    }
+
+    private Object getCellValueAt(DataModel row, int columnIndex) {
+        return getCellValue(row, columns.get(columnIndex));
     }
 
     /**
@@ -127,8 +126,9 @@ public abstract class MHQTableModel<DataModel, ColumnModel extends MHQTableColum
      *
      * @param data The new list of row data objects
      */
+    @Override
     public void setData(List<DataModel> data) {
-        this.data = data;
+        replaceData(data);
     }
 
     public Map<ColumnModel, SortOrder> getDefaultSortOrder() {
@@ -160,6 +160,7 @@ class MHQOptionsModel {
     boolean autosaveBeforeScenarios;
     boolean autosaveBeforeMissionEnd;
     int maximumNumberOfAutoSaves;
+    boolean asynchronousAutosave;
     // endregion Autosave
 
     // region New Day - Personnel Pools (keyed by the control's resource name)
@@ -196,6 +197,7 @@ class MHQOptionsModel {
     boolean writeCustomsToXML;
     boolean writeAllUnitsToXML;
     boolean saveMothballState;
+    boolean streamingCampaignLoad;
     // endregion Campaign Save
 
     // region Reminders & Confirmations (keyed by MHQConstants nag/confirmation key)
@@ -320,6 +322,7 @@ class MHQOptionsModel {
         autosaveBeforeScenarios = options.getAutosaveBeforeScenariosValue();
         autosaveBeforeMissionEnd = options.getAutosaveBeforeMissionEndValue();
         maximumNumberOfAutoSaves = options.getMaximumNumberOfAutoSavesValue();
+        asynchronousAutosave = options.getAsynchronousAutosave();
 
         // New Day - Personnel Pools
         newDayPools.put("chkNewDayAstechPoolFill", options.getNewDayAsTechPoolFill());
@@ -370,6 +373,7 @@ class MHQOptionsModel {
         writeCustomsToXML = options.getWriteCustomsToXML();
         writeAllUnitsToXML = options.getWriteAllUnitsToXML();
         saveMothballState = options.getSaveMothballState();
+        streamingCampaignLoad = options.getStreamingCampaignLoad();
 
         // Reminders & Confirmations
         for (String key : NAG_IGNORE_KEYS) {
@@ -505,6 +509,7 @@ class MHQOptionsModel {
         options.setAutosaveBeforeScenariosValue(autosaveBeforeScenarios);
         options.setAutosaveBeforeMissionEndValue(autosaveBeforeMissionEnd);
         options.setMaximumNumberOfAutoSavesValue(maximumNumberOfAutoSaves);
+        options.setAsynchronousAutosave(asynchronousAutosave);
 
         // New Day - Personnel Pools
         options.setNewDayAsTechPoolFill(newDayPools.get("chkNewDayAstechPoolFill"));
@@ -555,6 +560,7 @@ class MHQOptionsModel {
         options.setWriteCustomsToXML(writeCustomsToXML);
         options.setWriteAllUnitsToXML(writeAllUnitsToXML);
         options.setSaveMothballState(saveMothballState);
+        options.setStreamingCampaignLoad(streamingCampaignLoad);
 
         // Reminders & Confirmations
         for (String key : NAG_IGNORE_KEYS) {
@@ -62,6 +62,7 @@ class MHQSaveOptionsPage extends MHQOptionsPage {
     private JRadioButton optionSaveYearly;
     private SettingsCheckBox chkSaveBeforeScenarios;
     private SettingsCheckBox chkSaveBeforeMissionEnd;
+    private SettingsCheckBox chkAsynchronousAutosave;
     private SettingsSpinner spinnerSavedGamesCount;
 
     // Campaign Save
@@ -69,6 +70,7 @@ class MHQSaveOptionsPage extends MHQOptionsPage {
     private SettingsCheckBox chkWriteCustomsToXML;
     private SettingsCheckBox chkWriteAllUnitsToXML;
     private SettingsCheckBox chkSaveMothballState;
+    private SettingsCheckBox chkStreamingCampaignLoad;
 
     MHQSaveOptionsPage(MHQOptionsModel model) {
         super(model);
@@ -97,11 +99,12 @@ class MHQSaveOptionsPage extends MHQOptionsPage {
         chkWriteAllUnitsToXML = checkBox("optionWriteAllUnitsToXML", model.writeAllUnitsToXML,
               getMetadata(null, CampaignOptionFlag.IMPORTANT));
         chkSaveMothballState = checkBox("optionSaveMothballState", model.saveMothballState);
+        chkStreamingCampaignLoad = checkBox("optionStreamingCampaignLoad", model.streamingCampaignLoad);
 
         SettingsFormPanel panel = new SettingsFormPanel("MHQCampaignSaveContent", FORM_LABEL_WIDTH,
               FORM_CONTROL_WIDTH);
         panel.addCheckBoxGrid(2, chkPreferGzippedOutput, chkWriteCustomsToXML, chkWriteAllUnitsToXML,
-              chkSaveMothballState);
+              chkSaveMothballState, chkStreamingCampaignLoad);
         return panel;
     }
 
@@ -120,6 +123,7 @@ class MHQSaveOptionsPage extends MHQOptionsPage {
 
         chkSaveBeforeScenarios = checkBox("checkSaveBeforeScenarios", model.autosaveBeforeScenarios);
         chkSaveBeforeMissionEnd = checkBox("checkSaveBeforeMissionEnd", model.autosaveBeforeMissionEnd);
+        chkAsynchronousAutosave = checkBox("checkAsynchronousAutosave", model.asynchronousAutosave);
 
         SettingsLabel labelSavedGamesCount = new SettingsLabel(TEXT_PROVIDER, "labelSavedGamesCount");
         spinnerSavedGamesCount =
@@ -129,7 +133,7 @@ class MHQSaveOptionsPage extends MHQOptionsPage {
         SettingsFormPanel panel = new SettingsFormPanel("MHQAutosaveContent", FORM_LABEL_WIDTH,
               FORM_CONTROL_WIDTH);
         panel.addComponentGrid(1, optionNoSave, optionSaveDaily, optionSaveWeekly, optionSaveMonthly, optionSaveYearly);
-        panel.addCheckBoxGrid(2, chkSaveBeforeScenarios, chkSaveBeforeMissionEnd);
+        panel.addCheckBoxGrid(2, chkSaveBeforeScenarios, chkSaveBeforeMissionEnd, chkAsynchronousAutosave);
         panel.addRow(labelSavedGamesCount, spinnerSavedGamesCount);
         return panel;
     }
@@ -160,9 +164,11 @@ class MHQSaveOptionsPage extends MHQOptionsPage {
         model.autosaveBeforeScenarios = chkSaveBeforeScenarios.isSelected();
         model.autosaveBeforeMissionEnd = chkSaveBeforeMissionEnd.isSelected();
         model.maximumNumberOfAutoSaves = (Integer) spinnerSavedGamesCount.getValue();
+        model.asynchronousAutosave = chkAsynchronousAutosave.isSelected();
         model.preferGzippedOutput = chkPreferGzippedOutput.isSelected();
         model.writeCustomsToXML = chkWriteCustomsToXML.isSelected();
         model.writeAllUnitsToXML = chkWriteAllUnitsToXML.isSelected();
         model.saveMothballState = chkSaveMothballState.isSelected();
+        model.streamingCampaignLoad = chkStreamingCampaignLoad.isSelected();
     }
 }
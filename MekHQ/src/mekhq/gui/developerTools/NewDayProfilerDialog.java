@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.gui.developerTools;
+
+import static mekhq.utilities.MHQInternationalization.getFormattedTextAt;
+import static mekhq.utilities.MHQInternationalization.getTextAt;
+
+import java.awt.BorderLayout;
+import java.awt.FlowLayout;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+
+import megamek.common.event.Subscribe;
+import megamek.common.ui.FastJScrollPane;
+import megamek.logging.MMLogger;
+import mekhq.MekHQ;
+import mekhq.campaign.Campaign;
+import mekhq.campaign.NewDayProfiler;
+import mekhq.campaign.NewDayProfiler.DayProfile;
+import mekhq.campaign.NewDayProfiler.PhaseSummary;
+import mekhq.campaign.events.NewDayEvent;
+import mekhq.gui.FileDialogs;
+
+/**
+ * A developer tool showing how long each phase of advancing the day took, averaged over the days the
+ * {@link NewDayProfiler} has recorded. Profiling can be switched on and off here, and the raw per-day samples exported
+ * to CSV. The dialog is not modal, so it can stay open and refresh while days are advanced.
+ */
+public class NewDayProfilerDialog extends JDialog {
+    private static final MMLogger LOGGER = MMLogger.create(NewDayProfilerDialog.class);
+
+    private static final String RESOURCE_BUNDLE = "mekhq.resources.DeveloperTools";
+
+    private final JFrame frame;
+    private final Campaign campaign;
+    private final NewDayProfiler profiler = NewDayProfiler.getInstance();
+    private final PhaseSummaryTableModel summaryModel = new PhaseSummaryTableModel();
+    private final JLabel lblDays = new JLabel();
+
+    public NewDayProfilerDialog(JFrame parent, Campaign campaign) {
+        super(parent, false);
+        this.frame = parent;
+        this.campaign = campaign;
+        setTitle(getTextAt(RESOURCE_BUNDLE, "newDayProfiler.title"));
+        setDefaultCloseOperation(DISPOSE_ON_CLOSE);
+        setLayout(new BorderLayout());
+        add(buildHeader(), BorderLayout.NORTH);
+        add(buildTable(), BorderLayout.CENTER);
+        add(buildButtonBar(), BorderLayout.SOUTH);
+        refresh();
+        pack();
+        setLocationRelativeTo(parent);
+
+        MekHQ.registerHandler(this);
+        addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosed(WindowEvent e) {
+                MekHQ.unregisterHandler(NewDayProfilerDialog.this);
+            }
+        });
+    }
+
+    private JPanel buildHeader() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT));
+        JCheckBox chkEnabled = new JCheckBox(getTextAt(RESOURCE_BUNDLE, "newDayProfiler.enabled"));
+        chkEnabled.setToolTipText(getTextAt(RESOURCE_BUNDLE, "newDayProfiler.enabled.tooltip"));
+        chkEnabled.setSelected(profiler.isEnabled());
+        chkEnabled.addActionListener(e -> profiler.setEnabled(chkEnabled.isSelected()));
+        panel.add(chkEnabled);
+        panel.add(lblDays);
+        return panel;
+    }
+
+    private JScrollPane buildTable() {
+        JTable table = new JTable(summaryModel);
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        return new FastJScrollPane(table);
+    }
+
+    private JPanel buildButtonBar() {
+        JPanel bar = new JPanel();
+        JButton btnRefresh = new JButton(getTextAt(RESOURCE_BUNDLE, "button.refresh"));
+        btnRefresh.addActionListener(e -> refresh());
+        JButton btnClear = new JButton(getTextAt(RESOURCE_BUNDLE, "button.clear"));
+        btnClear.addActionListener(e -> {
+            profiler.clear();
+            refresh();
+        });
+        JButton btnExport = new JButton(getTextAt(RESOURCE_BUNDLE, "button.exportCSV"));
+        btnExport.addActionListener(e -> exportToCSV());
+        JButton btnClose = new JButton(getTextAt(RESOURCE_BUNDLE, "button.close"));
+        btnClose.addActionListener(e -> dispose());
+        bar.add(btnRefresh);
+        bar.add(btnClear);
+        bar.add(btnExport);
+        bar.add(btnClose);
+        return bar;
+    }
+
+    private void refresh() {
+        List<DayProfile> history = profiler.getHistory();
+        double totalMillis = 0;
+        for (DayProfile day : history) {
+            totalMillis += day.totalNanos() / 1_000_000.0;
+        }
+        double meanMillis = history.isEmpty() ? 0 : totalMillis / history.size();
+        lblDays.setText(getFormattedTextAt(RESOURCE_BUNDLE, "newDayProfiler.days", history.size(),
+              String.format("%.1f", meanMillis)));
+        summaryModel.setSummaries(profiler.getSummary());
+    }
+
+    private void exportToCSV() {
+        FileDialogs.saveNewDayProfileCSV(frame, campaign).ifPresent(file -> {
+            try {
+                int days = profiler.exportToCSV(file.toPath());
+                JOptionPane.showMessageDialog(this,
+                      getFormattedTextAt(RESOURCE_BUNDLE, "newDayProfiler.exported.message", days));
+            } catch (IOException ex) {
+                LOGGER.error(ex, "Failed to export the new day profile to {}", file);
+                JOptionPane.showMessageDialog(this, getTextAt(RESOURCE_BUNDLE, "newDayProfiler.exportError.message"),
+                      getTextAt(RESOURCE_BUNDLE, "newDayProfiler.title"), JOptionPane.ERROR_MESSAGE);
+            }
+        });
+    }
+
+    @Subscribe
+    public void handle(final NewDayEvent evt) {
+        // The day is only added to the profile once newDay() returns, after this event has fired
+        SwingUtilities.invokeLater(this::refresh);
+    }
+
+    private static class PhaseSummaryTableModel extends AbstractTableModel {
+        private static final String[] COLUMN_KEYS = { "newDayProfiler.column.phase",
+                                                      "newDayProfiler.column.samples",
+                                                      "newDayProfiler.column.mean",
+                                                      "newDayProfiler.column.max",
+                                                      "newDayProfiler.column.last",
+                                                      "newDayProfiler.column.allocated" };
+
+        private List<PhaseSummary> summaries = new ArrayList<>();
+
+        void setSummaries(List<PhaseSummary> summaries) {
+            this.summaries = summaries;
+            fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return summaries.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMN_KEYS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return getTextAt(RESOURCE_BUNDLE, COLUMN_KEYS[column]);
+        }
+
+        @Override
+        public Class<?> getColumnClass(int column) {
+            return switch (column) {
+                case 0 -> String.class;
+                case 1 -> Integer.class;
+                default -> Double.class;
+            };
+        }
+
+        @Override
+        public Object getValueAt(int row, int column) {
+            PhaseSummary summary = summaries.get(row);
+            return switch (column) {
+                case 0 -> summary.phase();
+                case 1 -> summary.samples();
+                case 2 -> round(summary.meanMillis());
+                case 3 -> round(summary.maxMillis());
+                case 4 -> round(summary.lastMillis());
+                default -> round(summary.meanAllocatedMegabytes());
+            };
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100.0) / 100.0;
+        }
+    }
+}
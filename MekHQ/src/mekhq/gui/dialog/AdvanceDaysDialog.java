@@ -43,8 +43,6 @@ import java.awt.event.WindowEvent;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.IsoFields;
-import java.util.ArrayList;
-import java.util.List;
 import javax.swing.GroupLayout;
 import javax.swing.JButton;
 import javax.swing.JFrame;
@@ -60,8 +58,10 @@ import megamek.common.event.Subscribe;
 import megamek.common.ui.EnhancedTabbedPane;
 import megamek.logging.MMLogger;
 import mekhq.MekHQ;
+import mekhq.campaign.BatchDayAdvancer;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.dailyReportLog.DailyReportLog;
+import mekhq.campaign.enums.DailyReportType;
 import mekhq.campaign.events.ReportEvent;
 import mekhq.gui.CampaignGUI;
 import mekhq.gui.CommandCenterTab;
@@ -71,6 +71,9 @@ import mekhq.gui.baseComponents.AbstractMHQDialogBasic;
 public class AdvanceDaysDialog extends AbstractMHQDialogBasic {
     private static final MMLogger LOGGER = MMLogger.create(AdvanceDaysDialog.class);
 
+    // A month of days is shown once a batch is done; anything earlier stays in the archive until asked for
+    private static final int RECENT_DAYS_SHOWN = 31;
+
     // region Variable Declarations
     private final CampaignGUI gui;
     private boolean running;
@@ -444,114 +447,53 @@ public class AdvanceDaysDialog extends AbstractMHQDialogBasic {
         }
 
         setRunning(true);
-        boolean firstDay = true;
-        final List<String> generalReports = new ArrayList<>();
-        final List<String> skillReports = new ArrayList<>();
-        final List<String> battleReports = new ArrayList<>();
-        final List<String> politicsReports = new ArrayList<>();
-        final List<String> personnelReports = new ArrayList<>();
-        final List<String> medicalReports = new ArrayList<>();
-        final List<String> financesReports = new ArrayList<>();
-        final List<String> acquisitionsReports = new ArrayList<>();
-        final List<String> technicalReports = new ArrayList<>();
-        final List<String> aggregateReports = new ArrayList<>();
         Campaign campaign = getGUI().getCampaign();
-        for (; days > 0; days--) {
-            try {
-                if (!campaign.newDay()) {
-                    break;
-                }
-
-                final DailyReportLog reportLog = campaign.getDailyReportLog();
-                final String generalReport = reportLog.getHtml(GENERAL);
-                final String skillReport = reportLog.getHtml(SKILL_CHECKS);
-                final String battleReport = reportLog.getHtml(BATTLE);
-                final String politicsReport = reportLog.getHtml(POLITICS);
-                final String personnelReport = reportLog.getHtml(PERSONNEL);
-                final String medicalReport = reportLog.getHtml(MEDICAL);
-                final String financesReport = reportLog.getHtml(FINANCES);
-                final String acquisitionsReport = reportLog.getHtml(ACQUISITIONS);
-                final String technicalReport = reportLog.getHtml(TECHNICAL);
-                final String aggregateReport = reportLog.getHtml(AGGREGATE);
-                if (firstDay) {
-                    getDailyLogPanel().refreshLog(generalReport, GENERAL);
-                    getSkillLogPanel().refreshLog(skillReport, SKILL_CHECKS);
-                    getBattleLogPanel().refreshLog(battleReport, BATTLE);
-                    getPoliticsLogPanel().refreshLog(politicsReport, POLITICS);
-                    getPersonnelLogPanel().refreshLog(personnelReport, PERSONNEL);
-                    getMedicalLogPanel().refreshLog(medicalReport, MEDICAL);
-                    getFinancesLogPanel().refreshLog(financesReport, ACQUISITIONS);
-                    getAcquisitionsLogPanel().refreshLog(acquisitionsReport, ACQUISITIONS);
-                    getTechnicalLogPanel().refreshLog(technicalReport, TECHNICAL);
-                    getAggregateLogPanel().refreshLog(aggregateReport, AGGREGATE);
-                    firstDay = false;
-                } else {
-                    generalReports.add("<hr>");
-                    generalReports.add(generalReport);
-
-                    skillReports.add("<hr>");
-                    skillReports.add(skillReport);
-
-                    battleReports.add("<hr>");
-                    battleReports.add(battleReport);
-
-                    politicsReports.add("<hr>");
-                    politicsReports.add(politicsReport);
-
-                    personnelReports.add("<hr>");
-                    personnelReports.add(personnelReport);
-
-                    medicalReports.add("<hr>");
-                    medicalReports.add(medicalReport);
-
-                    financesReports.add("<hr>");
-                    financesReports.add(financesReport);
-
-                    acquisitionsReports.add("<hr>");
-                    acquisitionsReports.add(acquisitionsReport);
-
-                    technicalReports.add("<hr>");
-                    technicalReports.add(technicalReport);
-
-                    aggregateReports.add("<hr>");
-                    aggregateReports.add(aggregateReport);
-                }
-                generalReports.addAll(reportLog.fetchAndClearNew(GENERAL));
-                skillReports.addAll(reportLog.fetchAndClearNew(SKILL_CHECKS));
-                battleReports.addAll(reportLog.fetchAndClearNew(BATTLE));
-                politicsReports.addAll(reportLog.fetchAndClearNew(POLITICS));
-                personnelReports.addAll(reportLog.fetchAndClearNew(PERSONNEL));
-                medicalReports.addAll(reportLog.fetchAndClearNew(MEDICAL));
-                financesReports.addAll(reportLog.fetchAndClearNew(FINANCES));
-                acquisitionsReports.addAll(reportLog.fetchAndClearNew(ACQUISITIONS));
-                technicalReports.addAll(reportLog.fetchAndClearNew(TECHNICAL));
-                aggregateReports.addAll(reportLog.fetchAndClearNew(AGGREGATE));
-            } catch (Exception ex) {
-                LOGGER.error("", ex);
-                break;
-            }
+
+        // The tabs are refreshed once the batch is over, rather than for every event of every day. Each day's report
+        // moves into the daily report archive when the next day begins, so nothing is collected here.
+        getGUI().suspendTabEvents();
+        final BatchDayAdvancer.Result result;
+        try {
+            result = new BatchDayAdvancer(campaign, BatchDayAdvancer.Policy.INTERACTIVE).advance(days);
+        } finally {
+            getGUI().resumeTabEvents();
         }
 
         setRunning(false);
-        getDailyLogPanel().appendLog(generalReports, GENERAL);
-        getSkillLogPanel().appendLog(skillReports, SKILL_CHECKS);
-        getBattleLogPanel().appendLog(battleReports, BATTLE);
-        getPoliticsLogPanel().appendLog(politicsReports, POLITICS);
-        getPersonnelLogPanel().appendLog(personnelReports, PERSONNEL);
-        getMedicalLogPanel().appendLog(medicalReports, MEDICAL);
-        getFinancesLogPanel().appendLog(financesReports, FINANCES);
-        getAcquisitionsLogPanel().appendLog(acquisitionsReports, ACQUISITIONS);
-        getTechnicalLogPanel().appendLog(technicalReports, TECHNICAL);
-        getAggregateLogPanel().appendLog(aggregateReports, AGGREGATE);
+        showAdvancedDays(campaign.getDailyReportLog(), result.daysAdvanced());
 
         // We couldn't advance all days for some reason,
         // set the spinner to the number of remaining days
-        if (days > 0) {
-            getSpnDays().setValue(days);
+        if (result.daysAdvanced() < days) {
+            getSpnDays().setValue(days - result.daysAdvanced());
         }
 
-        getGUI().refreshWindowTitle();
-        getGUI().refreshAllTabs();
+        getGUI().refreshAfterNewDay();
+    }
+
+    /**
+     * Shows the current day and up to {@link #RECENT_DAYS_SHOWN} of the days before it that were advanced. Any earlier
+     * days are left in the archive until the player asks for them.
+     */
+    private void showAdvancedDays(final DailyReportLog reportLog, final int daysAdvanced) {
+        final int earlierDays = Math.min(Math.max(0, daysAdvanced - 1), RECENT_DAYS_SHOWN);
+        showAdvancedDays(getDailyLogPanel(), reportLog, GENERAL, earlierDays);
+        showAdvancedDays(getSkillLogPanel(), reportLog, SKILL_CHECKS, earlierDays);
+        showAdvancedDays(getBattleLogPanel(), reportLog, BATTLE, earlierDays);
+        showAdvancedDays(getPoliticsLogPanel(), reportLog, POLITICS, earlierDays);
+        showAdvancedDays(getPersonnelLogPanel(), reportLog, PERSONNEL, earlierDays);
+        showAdvancedDays(getMedicalLogPanel(), reportLog, MEDICAL, earlierDays);
+        showAdvancedDays(getFinancesLogPanel(), reportLog, FINANCES, earlierDays);
+        showAdvancedDays(getAcquisitionsLogPanel(), reportLog, ACQUISITIONS, earlierDays);
+        showAdvancedDays(getTechnicalLogPanel(), reportLog, TECHNICAL, earlierDays);
+        showAdvancedDays(getAggregateLogPanel(), reportLog, AGGREGATE, earlierDays);
+    }
+
+    private static void showAdvancedDays(final DailyReportLogPanel panel, final DailyReportLog reportLog,
+          final DailyReportType type, final int earlierDays) {
+        panel.setArchive(reportLog.getArchive());
+        panel.refreshLog(reportLog.getHtml(type), type);
+        panel.showEarlierDays(earlierDays);
     }
 
     @Subscribe(priority = 1)
@@ -37,7 +37,6 @@ import java.awt.CardLayout;
 import java.awt.Checkbox;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
-import java.awt.Image;
 import java.awt.Toolkit;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -60,10 +59,12 @@ import mekhq.MekHQ;
 import mekhq.campaign.Campaign;
 import mekhq.campaign.personnel.Award;
 import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.autoAwards.AutoAwardsController;
 import mekhq.gui.CampaignGUI;
 import mekhq.gui.enums.PersonnelFilter;
 import mekhq.gui.model.AutoAwardsTableModel;
 import mekhq.gui.sorter.PersonRankStringSorter;
+import mekhq.utilities.ScaledImageCache;
 
 public class AutoAwardsDialog extends JDialog {
     private static final MMLogger logger = MMLogger.create(AutoAwardsDialog.class);
@@ -123,9 +124,8 @@ public class AutoAwardsDialog extends JDialog {
         // right below the title, but above the instructions
         JPanel imageAndInstructionsPanel = new JPanel(new BorderLayout());
 
-        Image image = new ImageIcon("data/images/awards/awardceremony.jpg")
-                            .getImage().getScaledInstance(screenWidth, (screenHeight / 4), Image.SCALE_FAST);
-        JLabel lblImage = new JLabel(new ImageIcon(image));
+        JLabel lblImage = new JLabel(ScaledImageCache.getScaledIcon("data/images/awards/awardceremony.jpg",
+              screenWidth, (screenHeight / 4)));
         imageAndInstructionsPanel.add(lblImage, BorderLayout.CENTER);
 
         JTextArea txtInstructions = new JTextArea();
@@ -259,32 +259,7 @@ public class AutoAwardsDialog extends JDialog {
                         Person person = campaign.getPlayerForce().getHumanResources().getPerson((UUID) data.get(rowIndex).getFirst());
                         Award award = (Award) data.get(rowIndex).get(1);
 
-                        List<Award> awardsForRemoval = new ArrayList<>();
-
-                        if ((award.canBeAwarded(person))
-                                  && (award.getItem().equalsIgnoreCase("rank"))
-                                  && (award.getRange().equalsIgnoreCase("Promotion"))) {
-                            for (Award existingAward : person.getAwardController().getAwards()) {
-                                if ((!existingAward.getItem().equalsIgnoreCase("rank"))
-                                          || (!existingAward.getRange().equalsIgnoreCase("promotion"))) {
-                                    continue;
-                                }
-
-                                awardsForRemoval.add(existingAward);
-                            }
-                        }
-
-                        if (!awardsForRemoval.isEmpty()) {
-                            for (Award awardPendingRemoval : awardsForRemoval) {
-                                person.getAwardController().removeAwardSilent(
-                                      awardPendingRemoval.getSet(),
-                                      awardPendingRemoval.getName(),
-                                      null);
-                            }
-                        }
-
-                        person.getAwardController().addAndLogAward(campaign, award.getSet(),
-                              award.getName(), campaign.getLocalDate());
+                        AutoAwardsController.grantAward(campaign, person, award);
                     }
                 }
 
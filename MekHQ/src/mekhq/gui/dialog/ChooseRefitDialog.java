@@ -44,6 +44,10 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
 import javax.swing.*;
 import javax.swing.table.AbstractTableModel;
 import javax.swing.table.DefaultTableCellRenderer;
@@ -54,8 +58,6 @@ import megamek.client.ui.entityreadout.EntityReadout;
 import megamek.client.ui.preferences.JWindowPreference;
 import megamek.client.ui.preferences.PreferencesNode;
 import megamek.codeUtilities.StringUtility;
-import megamek.common.loaders.EntityLoadingException;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.ui.FastJScrollPane;
 import megamek.common.units.Entity;
@@ -66,6 +68,7 @@ import mekhq.campaign.Campaign;
 import mekhq.campaign.parts.Refit;
 import mekhq.campaign.unit.Unit;
 import mekhq.campaign.campaignOptions.CampaignOption;
+import mekhq.utilities.EntityFactory;
 
 /**
  * @author Taharqa
@@ -74,13 +77,19 @@ public class ChooseRefitDialog extends JDialog {
     private static final MMLogger logger = MMLogger.create(ChooseRefitDialog.class);
 
     // region Variable Declarations
+    private final ResourceBundle resourceMap = ResourceBundle.getBundle("mekhq.resources.ChooseRefitDialog",
+          MekHQ.getMHQOptions().getLocale());
     private final Campaign campaign;
     private final Unit unit;
     private RefitTableModel refitModel;
+    private RefitLoader refitLoader;
+    // Held while a Refit is being calculated, as that briefly changes the state of the unit
+    private final Object refitCalculationLock = new Object();
 
     private JButton btnRefit;
     private JButton btnCustomize;
     private JTable refitTable;
+    private JScrollPane scrRefitTable;
     private JScrollPane scrShoppingList;
     private JTextPane txtNewUnit;
     private JScrollPane scrOldUnit;
@@ -97,18 +106,17 @@ public class ChooseRefitDialog extends JDialog {
         super(parent, modal);
         campaign = c;
         this.unit = unit;
-        populateRefits();
+        refitModel = new RefitTableModel(new ArrayList<>());
         initComponents();
         setLocationRelativeTo(parent);
         setUserPreferences();
+        populateRefits();
     }
     // endregion Constructors
 
     // region Initialization
     private void initComponents() {
         setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
-        final ResourceBundle resourceMap = ResourceBundle.getBundle("mekhq.resources.ChooseRefitDialog",
-              MekHQ.getMHQOptions().getLocale());
 
         setTitle(resourceMap.getString("title.text") + " " + unit.getName());
 
@@ -129,9 +137,9 @@ public class ChooseRefitDialog extends JDialog {
         refitSorter.setComparator(RefitTableModel.COL_CLASS, new ClassSorter());
         refitSorter.setComparator(RefitTableModel.COL_COST, new FormattedNumberSorter());
         refitTable.setRowSorter(refitSorter);
-        JScrollPane scrRefitTable = new FastJScrollPane();
+        scrRefitTable = new FastJScrollPane();
         scrRefitTable.setViewportView(refitTable);
-        scrRefitTable.setBorder(BorderFactory.createTitledBorder(resourceMap.getString("refitTable.title")));
+        scrRefitTable.setBorder(BorderFactory.createTitledBorder(resourceMap.getString("refitTable.loading.title")));
         GridBagConstraints gridBagConstraints = new GridBagConstraints();
         gridBagConstraints.gridx = 0;
         gridBagConstraints.gridy = 0;
@@ -235,21 +243,30 @@ public class ChooseRefitDialog extends JDialog {
     // endregion Initialization
 
     private void confirmRefit() {
+        stopLoadingRefits();
         confirmed = getSelectedRefit() != null;
         customize = false;
         setVisible(false);
     }
 
     private void confirmCustomize() {
+        stopLoadingRefits();
         confirmed = getSelectedRefit() != null;
         customize = true;
         setVisible(false);
     }
 
     private void cancel() {
+        stopLoadingRefits();
         setVisible(false);
     }
 
+    @Override
+    public void dispose() {
+        stopLoadingRefits();
+        super.dispose();
+    }
+
     public boolean isConfirmed() {
         return confirmed;
     }
@@ -286,26 +303,95 @@ public class ChooseRefitDialog extends JDialog {
         SwingUtilities.invokeLater(() -> scrNewUnit.getVerticalScrollBar().setValue(0));
     }
 
+    /**
+     * Starts finding the refits available to the unit in the background. Rows are added to the table as each refit is
+     * calculated.
+     */
     private void populateRefits() {
-        List<Refit> refits = new ArrayList<>();
-        Entity e = unit.getEntity();
-        String chassis = e.getFullChassis();
-        for (String model : Utilities.getAllVariants(e, campaign)) {
-            model = StringUtility.isNullOrBlank(model) ? "" : " " + model;
-            try {
-                MekSummary summary = Utilities.retrieveUnit(chassis + model);
-                Entity refitEn = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+        refitLoader = new RefitLoader();
+        refitLoader.execute();
+    }
+
+    /**
+     * Stops looking for further refits and waits for the refit being calculated, if any, so the unit is left in a
+     * consistent state before it is used.
+     */
+    private void stopLoadingRefits() {
+        if (refitLoader != null) {
+            refitLoader.cancel(false);
+        }
+        synchronized (refitCalculationLock) {
+            // Nothing to do, this only waits for a calculation in progress to finish
+        }
+    }
+
+    /**
+     * Loads the variants of the unit in parallel, then calculates a {@link Refit} for each as soon as it is loaded.
+     * Calculating a refit temporarily changes the salvage state of the old unit, which the time calculations of its
+     * parts depend on, so only one refit is calculated at a time.
+     */
+    private class RefitLoader extends SwingWorker<Void, Refit> {
+        @Override
+        protected Void doInBackground() throws Exception {
+            Entity e = unit.getEntity();
+            String chassis = e.getFullChassis();
+            List<String> models = Utilities.getAllVariants(e, campaign);
+
+            CompletionService<Entity> loadedEntities = new ExecutorCompletionService<>(ForkJoinPool.commonPool());
+            for (String variant : models) {
+                String model = StringUtility.isNullOrBlank(variant) ? "" : " " + variant;
+                loadedEntities.submit(() -> {
+                    MekSummary summary = Utilities.retrieveUnit(chassis + model);
+                    return EntityFactory.getInstance().getEntity(summary);
+                });
+            }
+
+            for (int i = 0; (i < models.size()) && !isCancelled(); i++) {
+                Entity refitEn;
+                try {
+                    refitEn = loadedEntities.take().get();
+                } catch (ExecutionException ex) {
+                    logger.error("", ex.getCause());
+                    continue;
+                }
+
                 if (null != refitEn) {
-                    Refit r = new Refit(unit, refitEn, false, false, false);
-                    if (null == r.checkFixable()) {
-                        refits.add(r);
+                    synchronized (refitCalculationLock) {
+                        if (isCancelled()) {
+                            break;
+                        }
+                        Refit r = new Refit(unit, refitEn, false, false, false);
+                        if (null == r.checkFixable()) {
+                            publish(r);
+                        }
                     }
                 }
-            } catch (EntityLoadingException ex) {
-                logger.error("", ex);
+            }
+            return null;
+        }
+
+        @Override
+        protected void process(List<Refit> refits) {
+            if (!isCancelled()) {
+                refitModel.addRefits(refits);
+            }
+        }
+
+        @Override
+        protected void done() {
+            scrRefitTable.setBorder(BorderFactory.createTitledBorder(resourceMap.getString("refitTable.title")));
+            if (isCancelled()) {
+                return;
+            }
+
+            try {
+                get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException ex) {
+                logger.error("Unable to find the refits for {}", unit.getName(), ex.getCause());
             }
         }
-        refitModel = new RefitTableModel(refits);
     }
 
     /**
@@ -424,6 +510,15 @@ public class ChooseRefitDialog extends JDialog {
             fireTableDataChanged();
         }
 
+        public void addRefits(List<Refit> refits) {
+            if (refits.isEmpty()) {
+                return;
+            }
+            int firstRow = data.size();
+            data.addAll(refits);
+            fireTableRowsInserted(firstRow, data.size() - 1);
+        }
+
         public Renderer getRenderer() {
             return new Renderer();
         }
@@ -1606,13 +1606,11 @@ public class CustomizePersonDialog extends JDialog implements DialogOptionListen
     }
 
     /**
-     * Cache-bypassing point-in-time owner lookup with to-the-victor citizenship semantics.
+     * Point-in-time owner lookup with to-the-victor citizenship semantics.
      *
-     * <p>{@link Planet#getFactionSet(LocalDate)} routes through {@code Planet.CurrentEvents}, a
-     * stateful per-planet event-stream cache that can return stale-forward state when warmed at a later date and
-     * queried at an earlier one (observed during #8934 testing — New Avalon at 3047-09-25 returning 3067-12-31's
-     * {@code DIS} marker because the cache had already advanced for a campaign-date render). We walk
-     * {@link Planet#getEvents()} directly (TreeMap-ordered, deterministic) instead.</p>
+     * <p>{@link Planet#getFactionSet(LocalDate)} only answers who held a world on a given date, while this also needs
+     * the world's later owners, so we walk {@link Planet#getEvents()} directly (TreeMap-ordered, deterministic)
+     * instead.</p>
      *
      * <p>BattleTech canon treats world-citizenship as defined by whoever ends up holding the world
      * long-term, not by transient umbrella states or active disputes. We substitute the snapshot with the world's
@@ -32,7 +32,6 @@
  */
 package mekhq.gui.dialog;
 
-import static java.util.Arrays.sort;
 import static mekhq.campaign.enums.DailyReportType.POLITICS;
 import static mekhq.campaign.universe.warriorsAlmanac.WarriorsAlmanacEntry.buildAlmanacPartsData;
 import static mekhq.campaign.universe.warriorsAlmanac.WarriorsAlmanacEntry.buildAlmanacUnitsData;
@@ -63,18 +62,14 @@ import javax.swing.SwingUtilities;
 import javax.swing.SwingWorker;
 
 import megamek.Version;
-import megamek.client.generator.RandomCallsignGenerator;
-import megamek.client.generator.RandomNameGenerator;
 import megamek.client.ui.util.UIUtil;
 import megamek.client.ui.widget.RawImagePanel;
 import megamek.common.annotations.Nullable;
-import megamek.common.loaders.MekSummaryCache;
 import megamek.common.options.OptionsConstants;
 import megamek.common.units.Entity;
 import megamek.logging.MMLogger;
 import mekhq.CampaignPreset;
 import mekhq.MHQConstants;
-import mekhq.MHQStaticDirectoryManager;
 import mekhq.MekHQ;
 import mekhq.NullEntityException;
 import mekhq.campaign.Campaign;
@@ -82,25 +77,13 @@ import mekhq.campaign.CampaignFactory;
 import mekhq.campaign.campaignOptions.CampaignOption;
 import mekhq.campaign.campaignOptions.CampaignOptions;
 import mekhq.campaign.events.OptionsChangedEvent;
-import mekhq.campaign.finances.CurrencyManager;
-import mekhq.campaign.finances.financialInstitutions.FinancialInstitutions;
 import mekhq.campaign.market.PartsStore;
-import mekhq.campaign.mission.scenarios.atb.AtBScenarioModifier;
-import mekhq.campaign.personnel.Bloodname;
-import mekhq.campaign.personnel.SpecialAbility;
-import mekhq.campaign.personnel.backgrounds.RandomCompanyNameGenerator;
 import mekhq.campaign.personnel.divorce.AbstractDivorce;
 import mekhq.campaign.personnel.enums.PersonnelRole;
 import mekhq.campaign.personnel.marriage.AbstractMarriage;
-import mekhq.campaign.personnel.medical.advancedMedical.InjuryTypes;
 import mekhq.campaign.personnel.procreation.AbstractProcreation;
-import mekhq.campaign.personnel.ranks.Ranks;
-import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.campaign.reputation.camOpsReputation.ForceReputationController;
 import mekhq.campaign.unit.Unit;
-import mekhq.campaign.universe.Factions;
-import mekhq.campaign.universe.Systems;
-import mekhq.campaign.universe.eras.Eras;
 import mekhq.campaign.universe.factionHints.WarAndPeaceProcessor;
 import mekhq.campaign.universe.factionStanding.FactionStandings;
 import mekhq.gui.baseComponents.AbstractMHQDialogBasic;
@@ -108,6 +91,7 @@ import mekhq.gui.baseComponents.immersiveDialogs.ImmersiveDialogSimple;
 import mekhq.gui.campaignOptions.CampaignOptionsDialog;
 import mekhq.gui.campaignOptions.CampaignOptionsDialog.CampaignOptionsDialogMode;
 import mekhq.gui.campaignOptions.CampaignOptionsPresetPicker;
+import mekhq.service.StartupDataLoader;
 
 public class DataLoadingDialog extends AbstractMHQDialogBasic implements PropertyChangeListener {
     private static final MMLogger LOGGER = MMLogger.create(DataLoadingDialog.class);
@@ -282,58 +266,18 @@ public class DataLoadingDialog extends AbstractMHQDialogBasic implements Propert
          *     <li>Campaign Application</li>
          * </ol>
          *
+         * <p>The first six stages are loaded concurrently by a {@link StartupDataLoader}, and the progress shows the
+         * earliest stage still loading.</p>
+         *
          * @return The loaded campaign
          *
          * @throws Exception if anything goes wrong
          */
         @Override
         public Campaign doInBackground() throws Exception {
-            // region progress 0
-            setProgress(0);
-            CurrencyManager.getInstance().loadCurrencies();
-            Eras.initializeEras();
-            FinancialInstitutions.initializeFinancialInstitutions();
-            InjuryTypes.registerAll(); // TODO : Isolate into an actual module
-            Ranks.initializeRankSystems();
-            SkillType.initializeTypes();
-            sort(SkillType.getSkillList()); // sort all skills alphabetically
-            SpecialAbility.initializeSPA(false);
-            AtBScenarioModifier.initializeScenarioModifiers(false);
-            // endregion Progress 0
-
-            // region progress 1
-            setProgress(1);
-            Factions.setInstance(Factions.loadDefault(false));
-            // endregion Progress 1
-
-            // region progress 2
-            setProgress(2);
-            RandomNameGenerator.getInstance();
-            RandomCallsignGenerator.getInstance();
-            RandomCompanyNameGenerator.getInstance();
-            Bloodname.loadBloodnameData();
-            // endregion Progress 2
-
-            // region progress 3
-            setProgress(3);
-            Systems.initializeDefaultSystems();
-            // endregion Progress 3
-
-            // region progress 4
-            setProgress(4);
-            MHQStaticDirectoryManager.initialize();
-            // endregion Progress 4
-
-            // region progress 5
-            setProgress(5);
-            while (!MekSummaryCache.getInstance().isInitialized()) {
-                try {
-                    Thread.sleep(50);
-                } catch (InterruptedException ignored) {
-
-                }
-            }
-            // endregion Progress 5
+            // region progress 0-5
+            StartupDataLoader.forCampaignData().load(this::setProgress);
+            // endregion Progress 0-5
 
             setProgress(6);
             final Campaign campaign;
@@ -41,7 +41,6 @@ import java.awt.Container;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.GridLayout;
-import java.awt.Image;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.FocusEvent;
@@ -61,6 +60,7 @@ import megamek.client.ui.preferences.JWindowPreference;
 import megamek.client.ui.preferences.PreferencesNode;
 import megamek.logging.MMLogger;
 import mekhq.MekHQ;
+import mekhq.utilities.ScaledImageCache;
 
 /**
  * Hovanes Gambaryan Henry Demirchian CSUN, CS 585 Professor Mike Barnes December 06, 2000
@@ -202,10 +202,8 @@ public class DateChooser extends JDialog implements ActionListener, FocusListene
         topPane.add(Box.createRigidArea(new Dimension(20, 0)));
         topPane.add(yearPane);
 
-        ImageIcon originalIcon = new ImageIcon("data/images/force/Pieces/Logos/Inner Sphere/Star League.png");
-        Image originalImage = originalIcon.getImage();
-        Image scaledImage = originalImage.getScaledInstance(120, 63, Image.SCALE_FAST);
-        ImageIcon resizedIcon = new ImageIcon(scaledImage);
+        ImageIcon resizedIcon = ScaledImageCache.getScaledIcon(
+              "data/images/force/Pieces/Logos/Inner Sphere/Star League.png", 120, 63);
 
         JLabel imageLabel = new JLabel(resizedIcon);
         topPane.add(imageLabel, BorderLayout.BEFORE_FIRST_LINE);
@@ -67,7 +67,6 @@ import megamek.common.Messages;
 import megamek.common.annotations.Nullable;
 import megamek.common.compute.Compute;
 import megamek.common.enums.Gender;
-import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.ui.FastJScrollPane;
 import megamek.common.units.Entity;
@@ -93,6 +92,7 @@ import mekhq.gui.baseComponents.DefaultMHQScrollablePanel;
 import mekhq.gui.displayWrappers.ClanDisplay;
 import mekhq.gui.displayWrappers.FactionDisplay;
 import mekhq.gui.panels.LayeredFormationIconCreationPanel;
+import mekhq.utilities.EntityFactory;
 
 public class GMToolsDialog extends AbstractMHQDialogBasic {
     private static final MMLogger LOGGER = MMLogger.create(GMToolsDialog.class);
@@ -1487,7 +1487,7 @@ public class GMToolsDialog extends AbstractMHQDialogBasic {
         }
 
         try {
-            final Entity entity = new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+            final Entity entity = EntityFactory.getInstance().getEntity(summary);
             getLblUnitPicked().setText(String.format("<html><a href='ENTITY'>%s</html>", summary.getName()));
             return entity;
         } catch (Exception ex) {
@@ -76,6 +76,7 @@ import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.enums.InjuryLevel;
 import mekhq.campaign.personnel.medical.BodyLocation;
 import mekhq.gui.view.PaperDoll;
+import mekhq.utilities.ScaledImageCache;
 
 public class MedicalViewDialog extends JDialog {
     private static final MMLogger LOGGER = MMLogger.create(MedicalViewDialog.class);
@@ -132,10 +133,8 @@ public class MedicalViewDialog extends JDialog {
         handwritingFont = Font.decode(MekHQ.getMHQOptions().getMedicalViewDialogHandwritingFont())
                                 .deriveFont(Font.PLAIN, 22);
         labelColor = new Color(170, 170, 170);
-        healImageIcon = new ImageIcon(new ImageIcon("data/images/misc/medical.png").getImage()
-                                            .getScaledInstance(16,
-                                                  16,
-                                                  Image.SCALE_DEFAULT)); // TODO : Remove inline file path
+        // TODO : Remove inline file path
+        healImageIcon = ScaledImageCache.getScaledIcon("data/images/misc/medical.png", 16, 16);
 
         dollActionListener = ae -> {
             final BodyLocation bodyLocation = BodyLocation.of(ae.getActionCommand());
@@ -650,10 +649,8 @@ public class MedicalViewDialog extends JDialog {
             this.today = today;
             this.person = person;
             this.injury = injury;
-            this.healImageIcon = new ImageIcon(new ImageIcon("data/images/misc/medical.png").getImage()
-                                                     .getScaledInstance(16,
-                                                           16,
-                                                           Image.SCALE_DEFAULT)); // TODO : Remove inline file path
+            // TODO : Remove inline file path
+            this.healImageIcon = ScaledImageCache.getScaledIcon("data/images/misc/medical.png", 16, 16);
         }
 
         @Override
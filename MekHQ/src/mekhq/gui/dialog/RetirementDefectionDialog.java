@@ -38,7 +38,6 @@ import java.awt.BorderLayout;
 import java.awt.CardLayout;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
-import java.awt.Image;
 import java.awt.Toolkit;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -85,6 +84,7 @@ import mekhq.gui.sorter.FormattedNumberSorter;
 import mekhq.gui.sorter.PersonRankStringSorter;
 import mekhq.gui.sorter.WeightClassSorter;
 import mekhq.utilities.ReportingUtilities;
+import mekhq.utilities.ScaledImageCache;
 
 /**
  * @author Neoancient
@@ -948,10 +948,9 @@ public class RetirementDefectionDialog extends JDialog {
 
         // Creating and scaling the image label
         ImageIcon originalIcon = Factions.getFactionLogo(campaign.getGameYear(), campaign.getPlayerForce().getFaction().getShortName());
-        ImageIcon scaledIcon = new ImageIcon(originalIcon.getImage()
-                                                   .getScaledInstance(originalIcon.getIconWidth() / 2,
-                                                         originalIcon.getIconHeight() / 2,
-                                                         Image.SCALE_FAST));
+        ImageIcon scaledIcon = ScaledImageCache.getScaledIcon(originalIcon.getImage(),
+              originalIcon.getIconWidth() / 2,
+              originalIcon.getIconHeight() / 2);
         JLabel imageLabel = new JLabel(scaledIcon);
 
         dialog.add(imageLabel, BorderLayout.NORTH);
@@ -36,7 +36,6 @@ import static mekhq.utilities.MHQInternationalization.getTextAt;
 
 import java.awt.BorderLayout;
 import java.awt.Component;
-import java.awt.Image;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
 import java.awt.image.BufferedImage;
@@ -50,6 +49,7 @@ import megamek.common.ui.FastJScrollPane;
 import mekhq.campaign.digitalGM.stratCon.biome.StratConBiomeManifest;
 import mekhq.gui.StratConPanel;
 import mekhq.gui.baseComponents.roundedComponents.RoundedJButton;
+import mekhq.utilities.ScaledImageCache;
 
 /**
  * GM tool: a non-modal terrain palette that puts the sector map into paint mode. Pick a terrain and a brush size, then
@@ -165,7 +165,8 @@ public class StratConTerrainPaintDialog extends JDialog {
             BufferedImage sprite = stratConPanel.getTerrainImage((String) value);
             if (sprite != null) {
                 int size = UIUtil.scaleForGUI(ICON_SIZE);
-                label.setIcon(new ImageIcon(sprite.getScaledInstance(size, size, Image.SCALE_SMOOTH)));
+                // Scaled off the event dispatch thread, so the list repaints once the icon is ready
+                label.setIcon(ScaledImageCache.getScaledIconLater(sprite, size, size, list::repaint));
             } else {
                 label.setIcon(null);
             }
@@ -127,9 +127,9 @@ public class FactionStandingUltimatumDialog {
         showDialog(ultimatumName, KEY_SUPPORT_AGAINST, commander, secondInCommand, null, secondInCommand,
               campaignName, commanderAddress);
 
-        // Ultimatum decision dialog loop
-        boolean overallConfirmed = false;
-        ImmersiveDialogSimple ultimatumDialog = null;
+        // Ultimatum decision dialog loop. During an unattended run the first, default, choice is taken.
+        int dialogChoice = CHOICE_INDEX_CHALLENGER;
+        boolean overallConfirmed = campaign.isUnattended();
         while (!overallConfirmed) {
             List<String> buttons = List.of(
                   getFormattedTextAt(RESOURCE_BUNDLE,
@@ -143,11 +143,12 @@ public class FactionStandingUltimatumDialog {
                   getFormattedTextAt(RESOURCE_BUNDLE,
                         "FactionStandingUltimatumDialog.goRogue.pirate")
             );
-            ultimatumDialog = new ImmersiveDialogSimple(
+            ImmersiveDialogSimple ultimatumDialog = new ImmersiveDialogSimple(
                   campaign, challenger, incumbent,
                   getTextAt(RESOURCE_BUNDLE, "FactionStandingUltimatumDialog.ultimatum"),
                   buttons, null, null, true, ImmersiveDialogWidth.SMALL
             );
+            dialogChoice = ultimatumDialog.getDialogChoice();
 
             if (!MekHQ.getMHQOptions().getNagDialogIgnore(CONFIRMATION_FACTION_STANDINGS_ULTIMATUM)) {
                 overallConfirmed = new ImmersiveDialogConfirmation(campaign,
@@ -157,7 +158,6 @@ public class FactionStandingUltimatumDialog {
             }
         }
 
-        int dialogChoice = ultimatumDialog.getDialogChoice();
         boolean mercenaryChoice = dialogChoice == CHOICE_INDEX_GO_MERCENARY;
         boolean pirateChoice = dialogChoice == CHOICE_INDEX_GO_PIRATE;
         if (mercenaryChoice || pirateChoice) {
@@ -170,7 +170,7 @@ public class FactionStandingUltimatumDialog {
               challenger,
               incumbent,
               isViolentTransition,
-              ultimatumDialog,
+              dialogChoice,
               thirdInCommand,
               secondInCommand,
               commander,
@@ -187,7 +187,7 @@ public class FactionStandingUltimatumDialog {
      * @param challenger          the {@link Person} issuing the challenge
      * @param incumbent           the {@link Person} currently in command
      * @param isViolentTransition {@code true} if the leadership transition involves violence, {@code false} otherwise
-     * @param ultimatumDialog     the {@link ImmersiveDialogSimple} capturing the user's choice
+     * @param dialogChoice        the index of the choice made in the ultimatum dialog
      * @param thirdInCommand      the third-in-command {@link Person}, may be {@code null}
      * @param secondInCommand     the second-in-command {@link Person}, may be {@code null}
      * @param commander           the current commanding {@link Person}
@@ -199,10 +199,10 @@ public class FactionStandingUltimatumDialog {
      * @since 0.50.07
      */
     private void processChoosingAnUltimatum(Campaign campaign, Person challenger, Person incumbent,
-          boolean isViolentTransition, ImmersiveDialogSimple ultimatumDialog, Person thirdInCommand,
+          boolean isViolentTransition, int dialogChoice, Person thirdInCommand,
           Person secondInCommand, Person commander, String campaignName, String commanderAddress,
           String ultimatumName) {
-        boolean choseChallenger = ultimatumDialog.getDialogChoice() == CHOICE_INDEX_CHALLENGER;
+        boolean choseChallenger = dialogChoice == CHOICE_INDEX_CHALLENGER;
         String newsKey = choseChallenger ? KEY_NEWS_FOR : KEY_NEWS_AGAINST;
         Faction chosenFaction = choseChallenger ? challenger.getOriginFaction() : incumbent.getOriginFaction();
         Faction otherFaction = choseChallenger ? incumbent.getOriginFaction() : challenger.getOriginFaction();
@@ -220,7 +220,9 @@ public class FactionStandingUltimatumDialog {
               "",
               null,
               commanderAddress);
-        new NewsDialog(campaign, newsText);
+        if (!campaign.isUnattended()) {
+            new NewsDialog(campaign, newsText);
+        }
 
         // Process outcome
         processGoingRogue(campaign, chosenFaction, commander, supporter, isViolentTransition, true);
@@ -303,6 +305,10 @@ public class FactionStandingUltimatumDialog {
      */
     private void showDialog(String ultimatumName, String key, Person commander, Person second,
           @Nullable Person leftPerson, @Nullable Person rightPerson, String campaignName, String commanderAddress) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         String dialogKey = getDialogKey(ultimatumName, key);
         String text = getInCharacterText(RESOURCE_BUNDLE, dialogKey, commander, second, "", campaignName, "",
               null, commanderAddress);
@@ -92,6 +92,12 @@ public class FactionAccoladeConfirmationDialog {
     public FactionAccoladeConfirmationDialog(Campaign campaign, FactionAccoladeLevel accoladeLevel) {
         this.campaign = campaign;
 
+        // Nobody is there to reconsider the choice during an unattended run
+        if (campaign.isUnattended()) {
+            wasConfirmed = true;
+            return;
+        }
+
         Person speaker = campaign.getPlayerForce().getHumanResources()
                                .getSeniorAdminPerson(campaign.getCampaignOptions(),
                                      campaign.getPlayerForce().isClanForce(),
@@ -81,6 +81,12 @@ public class FactionCensureConfirmationDialog {
      * @since 0.50.07
      */
     public FactionCensureConfirmationDialog(Campaign campaign) {
+        // Nobody is there to reconsider the choice during an unattended run
+        if (campaign.isUnattended()) {
+            wasConfirmed = true;
+            return;
+        }
+
         Person speaker = campaign.getPlayerForce().getHumanResources()
                                .getSeniorAdminPerson(campaign.getCampaignOptions(),
                                      campaign.getPlayerForce().isClanForce(),
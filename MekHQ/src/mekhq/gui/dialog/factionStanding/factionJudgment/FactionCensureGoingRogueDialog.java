@@ -125,6 +125,13 @@ public class FactionCensureGoingRogueDialog {
     public FactionCensureGoingRogueDialog(Campaign campaign, boolean isUsingFactionStandings) {
         this.campaign = campaign;
 
+        // Going rogue is never chosen on the player's behalf during an unattended run
+        if (campaign.isUnattended()) {
+            wasConfirmed = false;
+            chosenFaction = null;
+            return;
+        }
+
         getPossibleFactions(isUsingFactionStandings);
 
         ImmersiveDialogCore dialog = new ImmersiveDialogCore(campaign,
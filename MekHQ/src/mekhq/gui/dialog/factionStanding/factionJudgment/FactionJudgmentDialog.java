@@ -125,6 +125,12 @@ public class FactionJudgmentDialog {
     public FactionJudgmentDialog(Campaign campaign, @Nullable Person speaker, @Nullable Person commander,
           String judgmentLookupName, Faction judgingFaction, FactionStandingJudgmentType judgmentType,
           ImmersiveDialogWidth dialogWidth, @Nullable String outOfCharacterText, @Nullable Integer moneyReward) {
+        // During an unattended run the first, default, response is taken without showing the dialog
+        if (campaign.isUnattended()) {
+            responseIndex = 0;
+            return;
+        }
+
         final String judgmentTypeLookupName = judgmentType.getLookupName();
 
         // Assembles dialog components
@@ -152,6 +152,10 @@ public class FactionJudgmentNewsArticle {
     private static void constructDialog(Campaign campaign, Person commander, Person secondInCommand,
           String judgmentLookupName, Faction censuringFaction, FactionStandingJudgmentType judgmentType,
           boolean useFactionCapitalAsLocation, String factionName) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         String dialogKey = getDialogKey(judgmentType, judgmentLookupName, censuringFaction);
 
         LocalDate today = campaign.getLocalDate();
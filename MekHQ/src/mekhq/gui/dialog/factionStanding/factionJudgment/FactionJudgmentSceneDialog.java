@@ -85,6 +85,10 @@ public class FactionJudgmentSceneDialog {
      */
     public FactionJudgmentSceneDialog(Campaign campaign, Person commander, @Nullable Person secondCharacter,
           FactionJudgmentSceneType sceneType, Faction judgingFaction) {
+        if (campaign.isUnattended()) {
+            return;
+        }
+
         LocalDate today = campaign.getLocalDate();
         String factionName = judgingFaction.getFullName(today.getYear());
         String campaignName = campaign.getPlayerForce().getName();
@@ -60,6 +60,7 @@ import mekhq.gui.baseComponents.roundedComponents.RoundedJButton;
 import mekhq.gui.baseComponents.roundedComponents.RoundedLineBorder;
 import mekhq.gui.utilities.MarkdownRenderer;
 import mekhq.gui.view.PlanetViewPanel;
+import mekhq.utilities.ScaledImageCache;
 import org.apache.commons.lang3.StringUtils;
 
 /**
@@ -280,11 +281,8 @@ public class ContractDossierPanel extends JPanel {
 
         JLabel portrait = new JLabel();
         if (negotiator != null) {
-            ImageIcon icon = negotiator.getPortraitImageIconWithFallback(true);
-            if (icon != null) {
-                Image scaled = icon.getImage().getScaledInstance(PORTRAIT_SIZE, PORTRAIT_SIZE, Image.SCALE_SMOOTH);
-                portrait.setIcon(new ImageIcon(scaled));
-            }
+            portrait.setIcon(ScaledImageCache.getScaledIcon(negotiator.getPortraitImageWithFallback(), PORTRAIT_SIZE,
+                  PORTRAIT_SIZE));
         }
         portrait.setPreferredSize(new Dimension(PORTRAIT_SIZE, PORTRAIT_SIZE));
         row.add(portrait, BorderLayout.WEST);
@@ -51,7 +51,6 @@ import java.util.ArrayList;
 import java.util.List;
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
-import javax.swing.ImageIcon;
 import javax.swing.JButton;
 import javax.swing.JDialog;
 import javax.swing.JLabel;
@@ -80,6 +79,7 @@ import mekhq.campaign.personnel.Person;
 import mekhq.campaign.universe.Faction;
 import mekhq.gui.baseComponents.roundedComponents.RoundedJButton;
 import mekhq.gui.baseComponents.roundedComponents.RoundedLineBorder;
+import mekhq.utilities.ScaledImageCache;
 
 /**
  * The contract negotiation table. Lets the player improve a contract's terms - spending reputation or sacrificing steps
@@ -312,22 +312,18 @@ public class ContractNegotiationDialog extends JDialog {
         Person negotiator = contract.getPlayerNegotiator();
 
         if (negotiator != null) {
-            ImageIcon icon = negotiator.getPortraitImageIconWithFallback(true);
-            if (icon != null) {
-                negotiatorButton.setIcon(new ImageIcon(icon.getImage().getScaledInstance(size, size,
-                      Image.SCALE_SMOOTH)));
-            }
+            negotiatorButton.setIcon(ScaledImageCache.getScaledIcon(negotiator.getPortraitImageWithFallback(), size,
+                  size));
             negotiatorButton.setBorder(BorderFactory.createLineBorder(muted(), scaleForGUI(1)));
             negotiatorButton.setToolTipText(wordWrap(getTextAt(RESOURCE_BUNDLE,
                   "negotiate.contractMarket.negotiator.tooltip")));
             negotiatorLabel.setText(escape(negotiator.getFullTitle()));
             negotiatorLabel.setForeground(null);
         } else {
-            ImageIcon icon = new Portrait().getImageIcon(size);
-            if (icon != null) {
-                negotiatorButton.setIcon(new ImageIcon(icon.getImage().getScaledInstance(size, size,
-                      Image.SCALE_SMOOTH)));
-            }
+            Portrait placeholder = new Portrait();
+            Image placeholderImage = ScaledImageCache.getSourceImage(List.of(Portrait.class,
+                  placeholder.getCategory(), placeholder.getFilename()), placeholder::getBaseImage);
+            negotiatorButton.setIcon(ScaledImageCache.getScaledIcon(placeholderImage, size, size));
             negotiatorButton.setBorder(BorderFactory.createLineBorder(warning(), scaleForGUI(2)));
             negotiatorButton.setToolTipText(wordWrap(getTextAt(RESOURCE_BUNDLE,
                   "negotiate.contractMarket.negotiator.tooltip")));
@@ -40,14 +40,12 @@ import java.awt.BorderLayout;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
-import java.awt.Image;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import javax.swing.BorderFactory;
 import javax.swing.DefaultListCellRenderer;
 import javax.swing.DefaultListModel;
-import javax.swing.ImageIcon;
 import javax.swing.JDialog;
 import javax.swing.JLabel;
 import javax.swing.JList;
@@ -61,6 +59,7 @@ import mekhq.campaign.personnel.Person;
 import mekhq.campaign.personnel.skills.Skill;
 import mekhq.campaign.personnel.skills.SkillType;
 import mekhq.gui.baseComponents.roundedComponents.RoundedJButton;
+import mekhq.utilities.ScaledImageCache;
 
 /**
  * A modal dialog for choosing the officer who will represent the player at a contract's negotiation table.
@@ -224,11 +223,9 @@ public class ContractNegotiatorPickerDialog extends JDialog {
             if (value instanceof Person person) {
                 setText("<html><b>" + person.getFullTitle() + "</b><br><span style='font-size:smaller'>"
                               + skillLine(person) + "</span></html>");
-                ImageIcon icon = person.getPortraitImageIconWithFallback(true);
-                if (icon != null) {
-                    Image scaled = icon.getImage().getScaledInstance(PORTRAIT_SIZE, PORTRAIT_SIZE, Image.SCALE_SMOOTH);
-                    setIcon(new ImageIcon(scaled));
-                }
+                // Scaled off the event dispatch thread, so the list repaints once the thumbnail is ready
+                setIcon(ScaledImageCache.getScaledIconLater(person.getPortraitImageWithFallback(), PORTRAIT_SIZE,
+                      PORTRAIT_SIZE, list::repaint));
                 setBorder(BorderFactory.createEmptyBorder(scaleForGUI(4), scaleForGUI(4), scaleForGUI(4),
                       scaleForGUI(4)));
             }
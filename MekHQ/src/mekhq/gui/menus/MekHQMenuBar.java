@@ -115,6 +115,7 @@ import mekhq.gui.CampaignGUI;
 import mekhq.gui.FileDialogs;
 import mekhq.gui.campaignOptions.CampaignOptionsDialog;
 import mekhq.gui.developerTools.ContractDefinitionEditorDialog;
+import mekhq.gui.developerTools.NewDayProfilerDialog;
 import mekhq.gui.developerTools.ScenarioModifierEditorDialog;
 import mekhq.gui.developerTools.StratConFacilityEditorDialog;
 import mekhq.gui.dialog.*;
@@ -128,6 +129,7 @@ import mekhq.gui.scenarioTemplateEditor.ScenarioTemplateEditorDialog;
 import mekhq.io.FileType;
 import mekhq.utilities.MHQInternationalization;
 import mekhq.utilities.MHQXMLUtility;
+import mekhq.utilities.ScaledImageCache;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
@@ -393,6 +395,8 @@ public class MekHQMenuBar extends JMenuBar {
         }));
         menuRefresh.add(createMenuItem("miRefreshPortraits.text", KeyEvent.VK_P, evt -> {
             MHQStaticDirectoryManager.refreshPortraitDirectory();
+            // Portraits are decoded and scaled once, so the copies from before the refresh must go
+            ScaledImageCache.clear();
             getGui().refreshAllTabs();
         }));
         menuRefresh.add(createMenuItem("miRefreshFormationIcons.text", KeyEvent.VK_F, evt -> {
@@ -596,7 +600,7 @@ public class MekHQMenuBar extends JMenuBar {
 
     /**
      * Builds the "Developer Tools" menu, which groups the data-file editors: the scenario template editor and the new
-     * scenario modifier and contract definition editors.
+     * scenario modifier and contract definition editors. It also opens the new day profiler.
      */
     private JMenu initDeveloperToolsMenu() {
         JMenu menuDeveloperTools = new JMenu(getTextAt("menuDeveloperTools.text"));
@@ -619,6 +623,12 @@ public class MekHQMenuBar extends JMenuBar {
               evt -> new StratConFacilityEditorDialog(getFrame()).setVisible(true));
         menuDeveloperTools.add(miFacilityEditor);
 
+        menuDeveloperTools.addSeparator();
+
+        JMenuItem miNewDayProfiler = createMenuItem("miNewDayProfiler.text", KeyEvent.VK_P,
+              evt -> new NewDayProfilerDialog(getFrame(), getCampaign()).setVisible(true));
+        menuDeveloperTools.add(miNewDayProfiler);
+
         return menuDeveloperTools;
     }
 
@@ -55,6 +55,8 @@ import megamek.common.units.Entity;
 import mekhq.MHQConstants;
 import mekhq.MekHQ;
 import mekhq.campaign.Campaign;
+import mekhq.campaign.TransportAssignmentPlanner.Assignment;
+import mekhq.campaign.TransportAssignmentPlanner.Plan;
 import mekhq.campaign.enums.CampaignTransportType;
 import mekhq.campaign.events.units.UnitChangedEvent;
 import mekhq.campaign.force.Formation;
@@ -78,8 +80,8 @@ public final class TransportAssignmentMenus {
     }
 
     /**
-     * Adds the assign-to-transport submenus and unassign menu items for every campaign transport
-     * type to the given popup, plus the Connect Train item for a multi-selected tractor and its
+     * Adds the assign-to-transport submenus, auto-assign and unassign menu items for every campaign
+     * transport type to the given popup, plus the Connect Train item for a multi-selected tractor and its
      * trailers. Menus that do not apply to the selection are omitted.
      *
      * @param frame    parent frame for dialogs opened by menu actions
@@ -96,6 +98,7 @@ public final class TransportAssignmentMenus {
                 case TOW_TRANSPORT -> new AssignForceToTowTransportMenu(campaign, unitSet);
             };
             addMenuIfNonEmpty(popup, assignMenu);
+            addAutoAssignMenuItem(frame, popup, campaign, units, campaignTransportType);
             addUnassignSelfMenuItem(popup, campaign, units, campaignTransportType);
             addUnassignTransportedMenuItem(popup, campaign, units, campaignTransportType);
         }
@@ -399,6 +402,83 @@ public final class TransportAssignmentMenus {
         }
     }
 
+    /**
+     * Menu item shown when some of the selected units have no transport of this type yet: loads
+     * all of them into the campaign's transports at once, placing the units needing the most space
+     * first. Tow trains are built by hand, so there is no such item for tow transport.
+     */
+    private static void addAutoAssignMenuItem(JFrame frame, JPopupMenu popup, Campaign campaign, List<Unit> units,
+          CampaignTransportType campaignTransportType) {
+        if (campaignTransportType.isTowTransport() || anyDeployed(units)
+                  || !campaign.hasTransports(campaignTransportType)) {
+            return;
+        }
+        List<Unit> unassignedUnits = new ArrayList<>();
+        for (Unit unit : units) {
+            if (unit.isAvailable() && !unit.hasTransportAssignment(campaignTransportType)) {
+                unassignedUnits.add(unit);
+            }
+        }
+        if (unassignedUnits.isEmpty()) {
+            return;
+        }
+        String menuTextKey = "TransportAssignmentMenus.autoAssign." + campaignTransportType.name() + ".text";
+        JMenuItem menuItem = new JMenuItem(MHQInternationalization.getTextAt(RESOURCE_BUNDLE, menuTextKey));
+        menuItem.addActionListener(evt -> autoAssignAction(frame, campaign, campaignTransportType,
+              unassignedUnits));
+        popup.add(menuItem);
+    }
+
+    private static void autoAssignAction(JFrame frame, Campaign campaign,
+          CampaignTransportType campaignTransportType, List<Unit> units) {
+        Plan plan = campaign.planTransportAssignments(campaignTransportType, units);
+        applyTransportPlan(campaign, campaignTransportType, plan);
+
+        if (!plan.unplacedUnits().isEmpty()) {
+            JOptionPane.showMessageDialog(frame,
+                  MHQInternationalization.getFormattedTextAt(RESOURCE_BUNDLE,
+                        "TransportAssignmentMenus.autoAssignIncomplete.text",
+                        plan.unplacedUnits().size(), units.size()),
+                  MHQInternationalization.getTextAt(RESOURCE_BUNDLE,
+                        "TransportAssignmentMenus.autoAssignIncomplete.title"),
+                  JOptionPane.INFORMATION_MESSAGE);
+        }
+    }
+
+    /**
+     * Loads units into transports as planned by
+     * {@link Campaign#planTransportAssignments(CampaignTransportType, Collection)}, then refreshes
+     * every transport and unit involved once.
+     *
+     * @param campaign              current campaign
+     * @param campaignTransportType ship or tactical transport; tow trains are not planned
+     * @param plan                  the assignments to make
+     */
+    public static void applyTransportPlan(Campaign campaign, CampaignTransportType campaignTransportType,
+          Plan plan) {
+        Set<Unit> changedUnits = new HashSet<>();
+        for (Assignment assignment : plan.assignments()) {
+            Unit transport = assignment.transport();
+            Set<Unit> oldTransports = campaignTransportType.isShipTransport() ?
+                                            transport.loadShipTransport(assignment.transporterType(),
+                                                  assignment.units()) :
+                                            transport.loadTacticalTransport(assignment.transporterType(),
+                                                  assignment.units());
+            for (Unit oldTransport : oldTransports) {
+                oldTransport.initializeAllTransportSpace();
+                campaign.updateTransportInTransports(campaignTransportType, oldTransport);
+                changedUnits.add(oldTransport);
+            }
+            campaign.updateTransportInTransports(campaignTransportType, transport);
+            changedUnits.add(transport);
+            changedUnits.addAll(assignment.units());
+        }
+
+        for (Unit changedUnit : changedUnits) {
+            MekHQ.triggerEvent(new UnitChangedEvent(changedUnit));
+        }
+    }
+
     /**
      * Menu item shown when every selected unit is itself assigned to a transport of this type:
      * unassigns the selected units from their transports.
@@ -32,16 +32,36 @@
  */
 package mekhq.gui.model;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.swing.table.AbstractTableModel;
 
 /**
  * A table model for displaying data in lists
  */
-public abstract class DataTableModel<T> extends AbstractTableModel {
+public abstract class DataTableModel<T> extends AbstractTableModel implements TableRowChanges.RowModel<T> {
+    /** Marks a cell whose value has not been cached yet, as {@code null} is a valid cell value. */
+    private static final Object UNCACHED = new Object();
+
     protected String[] columnNames;
     protected List<T> data;
 
+    /** Whether {@link #data} was created by this model, and so may be modified by the row operations. */
+    private boolean ownsData;
+
+    /** The model index of each row, or {@code null} until it is next needed. */
+    private Map<T, Integer> rowIndices;
+
+    /** Whether cell values are kept in {@link #cellValueCache}. */
+    private boolean cacheCellValues;
+
+    /** The cached cell values of each row, while {@link #setCacheCellValues(boolean) enabled}. */
+    private final Map<T, Object[]> cellValueCache = new IdentityHashMap<>();
+
     @Override
     public int getRowCount() {
         return data.size();
@@ -72,7 +92,117 @@ public abstract class DataTableModel<T> extends AbstractTableModel {
 
     // fill table with values
     public void setData(List<T> array) {
-        data = array;
+        replaceData(array);
         fireTableDataChanged();
     }
+
+    /**
+     * Replaces the rows of the table, discarding every cached cell value. This does not fire a table event.
+     *
+     * @param array the new rows
+     */
+    protected void replaceData(List<T> array) {
+        data = array;
+        ownsData = false;
+        rowIndices = null;
+        cellValueCache.clear();
+    }
+
+    /**
+     * Determines whether cell values read through {@link #getCachedValueAt(Object, int, CellValueFunction)} are
+     * cached until their row is updated. A cached row is only recomputed once it is updated through
+     * {@link #updateRow(int)}, or after {@link #setData(List)} or {@link #clearCellValueCache()}, so this should only
+     * be enabled by owners which report every change to their rows.
+     *
+     * @param cacheCellValues true if cell values should be cached
+     */
+    public void setCacheCellValues(boolean cacheCellValues) {
+        this.cacheCellValues = cacheCellValues;
+        cellValueCache.clear();
+    }
+
+    /**
+     * Discards every cached cell value, for changes which may affect any row. This does not fire a table event.
+     */
+    public void clearCellValueCache() {
+        cellValueCache.clear();
+    }
+
+    /**
+     * Returns the value of a cell, from the cache when it is enabled.
+     *
+     * @param row           the row
+     * @param column        the model index of the column
+     * @param valueFunction computes the value when it is not cached
+     *
+     * @return the value of the cell
+     */
+    protected Object getCachedValueAt(T row, int column, CellValueFunction<T> valueFunction) {
+        if (!cacheCellValues || (column < 0) || (column >= getColumnCount())) {
+            return valueFunction.getCellValue(row, column);
+        }
+
+        Object[] values = cellValueCache.computeIfAbsent(row, key -> {
+            Object[] uncached = new Object[getColumnCount()];
+            Arrays.fill(uncached, UNCACHED);
+            return uncached;
+        });
+        if (values[column] == UNCACHED) {
+            values[column] = valueFunction.getCellValue(row, column);
+        }
+        return values[column];
+    }
+
+    /**
+     * Computes the value of a cell for {@link #getCachedValueAt(Object, int, CellValueFunction)}.
+     */
+    @FunctionalInterface
+    protected interface CellValueFunction<T> {
+        Object getCellValue(T row, int column);
+    }
+
+    @Override
+    public int indexOf(T row) {
+        if (rowIndices == null) {
+            rowIndices = new HashMap<>();
+            for (int i = 0; i < data.size(); i++) {
+                rowIndices.putIfAbsent(data.get(i), i);
+            }
+        }
+        return rowIndices.getOrDefault(row, -1);
+    }
+
+    @Override
+    public void addRow(T row) {
+        final int index = data.size();
+        getMutableData().add(row);
+        if (rowIndices != null) {
+            rowIndices.putIfAbsent(row, index);
+        }
+        fireTableRowsInserted(index, index);
+    }
+
+    @Override
+    public void updateRow(int index) {
+        if (cacheCellValues) {
+            cellValueCache.remove(data.get(index));
+        }
+        fireTableRowsUpdated(index, index);
+    }
+
+    @Override
+    public void removeRow(int index) {
+        cellValueCache.remove(getMutableData().remove(index));
+        rowIndices = null;
+        fireTableRowsDeleted(index, index);
+    }
+
+    private List<T> getMutableData() {
+        if (!ownsData) {
+            // The list handed to setData may be shared with, or owned by, the caller
+            data = new ArrayList<>(data);
+            ownsData = true;
+        }
+        return data;
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.gui.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Collects the rows of a table which need to change, so that a burst of campaign events can be applied to the table
+ * as individual row insertions, updates, and deletions instead of rebuilding the whole table.
+ *
+ * <p>Changes may be recorded from any thread. They are resolved against the table model on the event dispatching
+ * thread by {@link #applyTo(RowModel, Predicate)}, where each recorded row is inserted, updated, or deleted depending
+ * on whether the table currently shows it and whether it should be shown.</p>
+ *
+ * @param <T> The type of the object representing a single row of data
+ */
+public class TableRowChanges<T> {
+    /**
+     * A table model which supports changing individual rows.
+     *
+     * @param <T> The type of the object representing a single row of data
+     */
+    public interface RowModel<T> {
+        /**
+         * @return the model index of the row, or -1 if the model does not contain it
+         */
+        int indexOf(T row);
+
+        void addRow(T row);
+
+        void updateRow(int index);
+
+        void removeRow(int index);
+    }
+
+    /** The recorded rows, mapped to whether they have been removed, in the order they were first recorded. */
+    private final Map<T, Boolean> pending = new LinkedHashMap<>();
+
+    /**
+     * Records a row which is new to the campaign.
+     */
+    public synchronized void added(T row) {
+        pending.put(row, false);
+    }
+
+    /**
+     * Records a row whose contents have changed. A row which has already been recorded as removed stays removed.
+     */
+    public synchronized void changed(T row) {
+        pending.putIfAbsent(row, false);
+    }
+
+    /**
+     * Records a row which has been removed from the campaign.
+     */
+    public synchronized void removed(T row) {
+        pending.put(row, true);
+    }
+
+    /**
+     * Discards every recorded change, for use when the table has been rebuilt from scratch.
+     */
+    public synchronized void clear() {
+        pending.clear();
+    }
+
+    public synchronized boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * Applies and then discards the recorded changes.
+     *
+     * @param model   the table model to update
+     * @param include whether a row which has not been removed belongs in the table, for example because it is in the
+     *                currently selected location
+     *
+     * @return {@code true} if any row was inserted or deleted, {@code false} if at most existing rows were updated
+     */
+    public boolean applyTo(RowModel<T> model, Predicate<T> include) {
+        final Map<T, Boolean> changes;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return false;
+            }
+            changes = new LinkedHashMap<>(pending);
+            pending.clear();
+        }
+
+        boolean membershipChanged = false;
+        for (Map.Entry<T, Boolean> change : changes.entrySet()) {
+            final T row = change.getKey();
+            final int index = model.indexOf(row);
+            final boolean shown = !change.getValue() && include.test(row);
+            if (index >= 0) {
+                if (shown) {
+                    model.updateRow(index);
+                } else {
+                    model.removeRow(index);
+                    membershipChanged = true;
+                }
+            } else if (shown) {
+                model.addRow(row);
+                membershipChanged = true;
+            }
+        }
+        return membershipChanged;
+    }
+}
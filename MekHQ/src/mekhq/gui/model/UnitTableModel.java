@@ -344,7 +344,10 @@ public class UnitTableModel extends DataTableModel<Unit> {
             return "";
         }
 
-        Unit unit = getUnit(row);
+        return getCachedValueAt(getUnit(row), col, this::getValueFor);
+    }
+
+    private Object getValueFor(Unit unit, int col) {
         Entity entity = unit.getEntity();
         if (entity == null) {
             return "?";
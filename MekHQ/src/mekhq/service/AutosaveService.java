@@ -32,20 +32,33 @@
  */
 package mekhq.service;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Arrays;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.GZIPOutputStream;
 
 import megamek.codeUtilities.StringUtility;
@@ -55,9 +68,53 @@ import mekhq.MHQConstants;
 import mekhq.MekHQ;
 import mekhq.campaign.Campaign;
 
+/**
+ * Writes autosaves of the campaign to the campaigns directory.
+ *
+ * <p>An autosave is taken in two steps. First the campaign is serialized to an in-memory snapshot on the calling
+ * thread, so the saved state is consistent with the moment the autosave was requested. The snapshot is then
+ * compressed and written to a temporary file, which is atomically renamed into place, so a partially written autosave
+ * is never left behind. When the asynchronous autosave option is enabled, the second step runs on a background
+ * thread; if another snapshot is taken before the previous one was written, only the newest is kept.</p>
+ *
+ * <p>The first step cannot be moved off the calling thread: {@link Campaign} is not thread-safe, and the day advance
+ * that requested the autosave carries on changing it. The XML serialization therefore still blocks the caller, and
+ * only the compression and file writing are saved.</p>
+ *
+ * <p>The autosave files are tracked in memory, oldest first, so rotating them does not need to list the campaigns
+ * directory on every save. The directory is only scanned the first time it is autosaved to.</p>
+ */
 public class AutosaveService implements IAutosaveService {
     private static final MMLogger LOGGER = MMLogger.create(AutosaveService.class);
 
+    static final String AUTOSAVE_PREFIX = "Autosave-";
+    static final String TEMPORARY_FILE_PREFIX = ".autosave-";
+    static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    // Autosaves are requested through more than one service instance, so the writer and rotation state are shared
+    private static final ExecutorService AUTOSAVE_WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "MekHQ Autosave Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final AtomicReference<AutosaveSnapshot> PENDING_SNAPSHOT = new AtomicReference<>();
+
+    // The autosave files of the tracked directory, oldest first
+    private static final Deque<Path> AUTOSAVE_FILES = new ArrayDeque<>();
+    private static @Nullable Path trackedDirectory;
+
+    /**
+     * A campaign serialized to uncompressed XML, along with everything needed to name its autosave file.
+     *
+     * @param directory   The directory to write the autosave to.
+     * @param forceName   The name of the player force.
+     * @param date        The formatted campaign date.
+     * @param campaignXml The UTF-8 encoded campaign XML.
+     */
+    record AutosaveSnapshot(Path directory, String forceName, String date, byte[] campaignXml) {
+    }
+
     // region Constructors
     public AutosaveService() {
 
@@ -99,73 +156,206 @@ public class AutosaveService implements IAutosaveService {
         }
     }
 
+    /**
+     * Waits for any autosave still being written in the background to finish.
+     *
+     * @param timeoutMillis The maximum time to wait, in milliseconds.
+     *
+     * @return {@code true} if all autosaves were written, or {@code false} if the wait timed out or was interrupted.
+     */
+    public static boolean awaitPendingAutosaves(long timeoutMillis) {
+        try {
+            AUTOSAVE_WRITER.submit(() -> {
+            }).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception ex) {
+            LOGGER.error("", ex);
+            return false;
+        }
+    }
+
     private void performAutosave(final Campaign campaign) {
         try {
-            final String fileName = getAutosaveFilename(campaign);
-            if (!StringUtility.isNullOrBlank(fileName)) {
-                try (FileOutputStream fos = new FileOutputStream(fileName);
-                      GZIPOutputStream gos = new GZIPOutputStream(fos);
-                      OutputStreamWriter osw = new OutputStreamWriter(gos, StandardCharsets.UTF_8);
-                      PrintWriter writer = new PrintWriter(osw)) {
-                    campaign.writeToXML(writer, false);
-                    writer.flush();
+            final String savesDirectoryPath = MekHQ.getCampaignsDirectory().getValue();
+            if (StringUtility.isNullOrBlank(savesDirectoryPath)) {
+                LOGGER.error("Unable to perform an autosave because of a null or empty file name");
+                return;
+            }
+
+            final AutosaveSnapshot snapshot = createSnapshot(campaign, Paths.get(savesDirectoryPath));
+            if (MekHQ.getMHQOptions().getAsynchronousAutosave()) {
+                if (PENDING_SNAPSHOT.getAndSet(snapshot) == null) {
+                    AUTOSAVE_WRITER.execute(AutosaveService::writePendingSnapshot);
+                } else {
+                    LOGGER.info("Replacing an autosave which was not yet written with a newer one");
                 }
             } else {
-                LOGGER.error("Unable to perform an autosave because of a null or empty file name");
+                writeAutosave(snapshot, MekHQ.getMHQOptions().getMaximumNumberOfAutoSavesValue());
             }
         } catch (Exception ex) {
             LOGGER.error("", ex);
         }
     }
 
-    private @Nullable String getAutosaveFilename(final Campaign campaign) {
-        // Get all autosave files in ascending order of date creation
-        final String savesDirectoryPath = MekHQ.getCampaignsDirectory().getValue();
-        final File folder = new File(savesDirectoryPath);
-        final File[] files = folder.listFiles();
-        if (files != null) {
-            final List<File> autosaveFiles = Arrays.stream(files)
-                                                   .filter(f -> f.getName().startsWith("Autosave-"))
-                                                   .sorted(Comparator.comparing(File::lastModified))
-                                                   .collect(Collectors.toList());
-
-            // Delete older autosave files if needed
-            final int maxNumberAutoSaves = MekHQ.getMHQOptions().getMaximumNumberOfAutoSavesValue();
-
-            int index = 0;
-            while ((autosaveFiles.size() >= maxNumberAutoSaves) && (autosaveFiles.size() > index)) {
-                if (autosaveFiles.get(index).delete()) {
-                    autosaveFiles.remove(index);
-                } else {
-                    LOGGER.error("Unable to delete file {}", autosaveFiles.get(index).getName());
-                    index++;
-                }
+    /**
+     * Serializes the campaign on the calling thread, so the snapshot reflects its current state. This must stay on the
+     * calling thread, as the campaign may not be read while it is being changed.
+     */
+    private static AutosaveSnapshot createSnapshot(final Campaign campaign, final Path directory) {
+        final ByteArrayOutputStream campaignXml = new ByteArrayOutputStream(WRITE_BUFFER_SIZE);
+        try (OutputStreamWriter osw = new OutputStreamWriter(campaignXml, StandardCharsets.UTF_8);
+              PrintWriter writer = new PrintWriter(osw)) {
+            campaign.writeToXML(writer, false);
+            writer.flush();
+        } catch (IOException ex) {
+            // Closing an in-memory stream cannot fail
+            LOGGER.error("", ex);
+        }
+
+        final String date = campaign.getLocalDate()
+                                  .format(DateTimeFormatter.ofPattern(MHQConstants.FILENAME_DATE_FORMAT)
+                                                .withLocale(MekHQ.getMHQOptions().getDateLocale()));
+        return new AutosaveSnapshot(directory,
+              campaign.getPlayerForce().getName(),
+              date,
+              campaignXml.toByteArray());
+    }
+
+    private static void writePendingSnapshot() {
+        final AutosaveSnapshot snapshot = PENDING_SNAPSHOT.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+
+        try {
+            writeAutosave(snapshot, MekHQ.getMHQOptions().getMaximumNumberOfAutoSavesValue());
+        } catch (Exception ex) {
+            LOGGER.error("", ex);
+        }
+    }
+
+    /**
+     * Compresses the snapshot into a temporary file, renames it to its autosave file name, and then deletes the
+     * oldest autosaves so no more than the maximum are kept. Nothing is deleted unless the new autosave was moved into
+     * place.
+     *
+     * @param snapshot         The snapshot to write.
+     * @param maximumAutosaves The maximum number of autosaves to keep.
+     *
+     * @return The path of the written autosave.
+     *
+     * @throws IOException if the autosave could not be written
+     */
+    static synchronized Path writeAutosave(final AutosaveSnapshot snapshot, final int maximumAutosaves) throws IOException {
+        trackDirectory(snapshot.directory());
+
+        final Path temporaryFile = Files.createTempFile(snapshot.directory(),
+              TEMPORARY_FILE_PREFIX,
+              TEMPORARY_FILE_SUFFIX);
+        final Path autosaveFile;
+        try {
+            try (OutputStream fos = new BufferedOutputStream(Files.newOutputStream(temporaryFile),
+                  WRITE_BUFFER_SIZE);
+                  GZIPOutputStream gos = new GZIPOutputStream(fos, WRITE_BUFFER_SIZE)) {
+                gos.write(snapshot.campaignXml());
             }
 
-            // Find a unique name for this autosave
-            String fileName = null;
-
-            boolean repeatedName = true;
-            index = 1;
-            while (repeatedName) {
-                fileName = String.format("Autosave-%d-%s-%s.cpnx.gz",
-                      index++,
-                      campaign.getPlayerForce().getName(),
-                      campaign.getLocalDate()
-                            .format(DateTimeFormatter.ofPattern(MHQConstants.FILENAME_DATE_FORMAT)
-                                          .withLocale(MekHQ.getMHQOptions().getDateLocale())));
-
-                repeatedName = false;
-                for (final File file : autosaveFiles) {
-                    if (file.getName().compareToIgnoreCase(fileName) == 0) {
-                        repeatedName = true;
-                        break;
+            autosaveFile = snapshot.directory().resolve(getAutosaveFilename(snapshot));
+            moveIntoPlace(temporaryFile, autosaveFile);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+
+        AUTOSAVE_FILES.addLast(autosaveFile);
+        // Always keep the autosave just written
+        deleteOldestAutosaves(Math.max(maximumAutosaves, 1));
+        return autosaveFile;
+    }
+
+    private static void moveIntoPlace(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            LOGGER.warn("Atomic moves are not supported for {}, falling back to a regular move", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads the existing autosaves of the directory, oldest first, the first time it is saved to. Temporary files
+     * left behind by an interrupted autosave are deleted.
+     */
+    private static void trackDirectory(final Path directory) throws IOException {
+        if (directory.equals(trackedDirectory)) {
+            return;
+        }
+
+        AUTOSAVE_FILES.clear();
+        trackedDirectory = null;
+
+        final List<Path> existingAutosaves = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (final Path path : stream) {
+                final String fileName = path.getFileName().toString();
+                if (fileName.startsWith(AUTOSAVE_PREFIX)) {
+                    existingAutosaves.add(path);
+                } else if (fileName.startsWith(TEMPORARY_FILE_PREFIX) && fileName.endsWith(TEMPORARY_FILE_SUFFIX)) {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException ex) {
+                        LOGGER.error("Unable to delete file {}", fileName);
                     }
                 }
             }
-            return Paths.get(savesDirectoryPath, fileName).toString();
         }
 
-        return null;
+        existingAutosaves.sort(Comparator.comparingLong(path -> path.toFile().lastModified()));
+        AUTOSAVE_FILES.addAll(existingAutosaves);
+        trackedDirectory = directory;
+    }
+
+    /**
+     * Deletes the oldest tracked autosaves until no more than the given number remain. Files which cannot be deleted
+     * are skipped, as they were before autosaves were tracked in memory.
+     */
+    private static void deleteOldestAutosaves(final int maximumRemaining) {
+        final List<Path> undeletable = new ArrayList<>();
+        while ((AUTOSAVE_FILES.size() > Math.max(maximumRemaining, 0)) && !AUTOSAVE_FILES.isEmpty()) {
+            final Path oldest = AUTOSAVE_FILES.pollFirst();
+            try {
+                Files.deleteIfExists(oldest);
+            } catch (IOException ex) {
+                LOGGER.error("Unable to delete file {}", oldest.getFileName());
+                undeletable.add(oldest);
+            }
+        }
+
+        for (int i = undeletable.size() - 1; i >= 0; i--) {
+            AUTOSAVE_FILES.addFirst(undeletable.get(i));
+        }
+    }
+
+    /**
+     * @return A file name for the autosave which is not used by any tracked autosave.
+     */
+    private static String getAutosaveFilename(final AutosaveSnapshot snapshot) {
+        final List<String> usedNames = AUTOSAVE_FILES.stream()
+                                             .map(path -> path.getFileName().toString().toLowerCase(Locale.ROOT))
+                                             .toList();
+
+        String fileName;
+        int index = 1;
+        do {
+            fileName = String.format("%s%d-%s-%s.cpnx.gz",
+                  AUTOSAVE_PREFIX,
+                  index++,
+                  snapshot.forceName(),
+                  snapshot.date());
+        } while (usedNames.contains(fileName.toLowerCase(Locale.ROOT)));
+
+        return fileName;
     }
 }
@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.service;
+
+import static java.util.Arrays.sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import megamek.client.generator.RandomCallsignGenerator;
+import megamek.client.generator.RandomNameGenerator;
+import megamek.common.loaders.MekSummaryCache;
+import megamek.logging.MMLogger;
+import mekhq.MHQStaticDirectoryManager;
+import mekhq.campaign.finances.CurrencyManager;
+import mekhq.campaign.finances.financialInstitutions.FinancialInstitutions;
+import mekhq.campaign.mission.scenarios.atb.AtBScenarioModifier;
+import mekhq.campaign.personnel.Bloodname;
+import mekhq.campaign.personnel.SpecialAbility;
+import mekhq.campaign.personnel.backgrounds.RandomCompanyNameGenerator;
+import mekhq.campaign.personnel.medical.advancedMedical.InjuryTypes;
+import mekhq.campaign.personnel.ranks.Ranks;
+import mekhq.campaign.personnel.skills.SkillType;
+import mekhq.campaign.universe.Factions;
+import mekhq.campaign.universe.Systems;
+import mekhq.campaign.universe.eras.Eras;
+
+/**
+ * Loads the static data MekHQ needs at startup as a set of stages which run concurrently on a bounded thread pool.
+ *
+ * <p>Each stage names the stages it depends on, and only starts once they have all finished, so only the real
+ * ordering constraints between data sets are kept. Stages must be added after the stages they depend on, which also
+ * rules out cycles. If a stage fails, the stages depending on it are skipped, the remaining stages are allowed to
+ * finish, and the first failure is thrown from {@link #load(IntConsumer)}.</p>
+ *
+ * <p>Every stage also has a progress tier, used to report which kind of data the loader is still waiting on, and the
+ * time each stage took is logged once loading finishes.</p>
+ */
+public class StartupDataLoader {
+    private static final MMLogger LOGGER = MMLogger.create(StartupDataLoader.class);
+
+    /**
+     * The work done by a single stage.
+     */
+    @FunctionalInterface
+    public interface StageAction {
+        void run() throws Exception;
+    }
+
+    private record Stage(String name, int progressTier, StageAction action, List<String> dependencies) {
+    }
+
+    private final int parallelism;
+    private final Map<String, Stage> stages = new LinkedHashMap<>();
+    private final Map<String, Long> stageTimes = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    /**
+     * Creates a loader which runs up to one stage per available processor at a time.
+     */
+    public StartupDataLoader() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param parallelism The maximum number of stages to run at the same time.
+     */
+    public StartupDataLoader(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Creates a loader for all the static data a campaign needs, from currencies up to the unit cache. It is shared by
+     * the startup dialog and headless campaign tools.
+     *
+     * <p>Progress tiers run from 0 (basics) to 5 (units). Only the real ordering constraints between the data sets
+     * are kept: currency dates are adjusted by faction during their load, so they must not see a half-loaded faction
+     * list, systems reference factions, and SPAs reference skills. Everything else loads concurrently.</p>
+     *
+     * @return A loader with the campaign data stages added.
+     */
+    public static StartupDataLoader forCampaignData() {
+        return new StartupDataLoader()
+                     .addStage("Currencies", 0, () -> CurrencyManager.getInstance().loadCurrencies())
+                     .addStage("Eras", 0, Eras::initializeEras)
+                     .addStage("Financial Institutions", 0, FinancialInstitutions::initializeFinancialInstitutions)
+                     .addStage("Injury Types", 0, InjuryTypes::registerAll) // TODO : Isolate into an actual module
+                     .addStage("Ranks", 0, Ranks::initializeRankSystems)
+                     .addStage("Skills", 0, () -> {
+                         SkillType.initializeTypes();
+                         sort(SkillType.getSkillList()); // sort all skills alphabetically
+                     })
+                     .addStage("Special Abilities", 0, () -> SpecialAbility.initializeSPA(false), "Skills")
+                     .addStage("Scenario Modifiers", 0, () -> AtBScenarioModifier.initializeScenarioModifiers(false))
+                     .addStage("Factions", 1, () -> Factions.setInstance(Factions.loadDefault(false)), "Currencies")
+                     .addStage("Names", 2, () -> {
+                         RandomNameGenerator.getInstance();
+                         RandomCallsignGenerator.getInstance();
+                         RandomCompanyNameGenerator.getInstance();
+                     })
+                     .addStage("Bloodnames", 2, Bloodname::loadBloodnameData)
+                     .addStage("Planetary Systems", 3, Systems::initializeDefaultSystems, "Factions")
+                     .addStage("Static Directories", 4, MHQStaticDirectoryManager::initialize)
+                     .addStage("Units", 5, StartupDataLoader::waitForMekSummaryCache);
+    }
+
+    private static void waitForMekSummaryCache() throws InterruptedException {
+        while (!MekSummaryCache.getInstance().isInitialized()) {
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Adds a stage to the loader.
+     *
+     * @param name         The unique name of the stage, used for dependencies and the timing log.
+     * @param progressTier The progress reported while this stage is the earliest unfinished one.
+     * @param action       The work to do.
+     * @param dependencies The names of the stages which must finish first. They must already have been added.
+     *
+     * @return This loader.
+     *
+     * @throws IllegalArgumentException if the name is already used, or a dependency has not been added
+     */
+    public StartupDataLoader addStage(String name, int progressTier, StageAction action, String... dependencies) {
+        if (stages.containsKey(name)) {
+            throw new IllegalArgumentException("Duplicate startup stage " + name);
+        }
+
+        for (String dependency : dependencies) {
+            if (!stages.containsKey(dependency)) {
+                throw new IllegalArgumentException("Startup stage " + name + " depends on unknown stage " +
+                                                         dependency);
+            }
+        }
+
+        stages.put(name, new Stage(name, progressTier, action, List.of(dependencies)));
+        return this;
+    }
+
+    /**
+     * Runs all stages and waits for them to finish.
+     *
+     * @param progressListener Called with the lowest progress tier of the unfinished stages whenever it changes.
+     *
+     * @throws Exception the first exception thrown by a stage
+     */
+    public void load(IntConsumer progressListener) throws Exception {
+        final long startNanos = System.nanoTime();
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism,
+              Math.max(1, stages.size())), runnable -> {
+            Thread thread = new Thread(runnable, "MekHQ Startup Loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final List<Stage> unfinished = new ArrayList<>(stages.values());
+        final AtomicInteger reportedTier = new AtomicInteger(Integer.MIN_VALUE);
+        reportProgress(unfinished, reportedTier, progressListener);
+
+        final Map<String, CompletableFuture<Void>> futures = new LinkedHashMap<>();
+        try {
+            for (Stage stage : stages.values()) {
+                CompletableFuture<?>[] dependencies = stage.dependencies()
+                                                            .stream()
+                                                            .map(futures::get)
+                                                            .toArray(CompletableFuture[]::new);
+                futures.put(stage.name(), CompletableFuture.allOf(dependencies).thenRunAsync(() -> {
+                    try {
+                        runStage(stage);
+                    } finally {
+                        synchronized (unfinished) {
+                            unfinished.remove(stage);
+                            reportProgress(unfinished, reportedTier, progressListener);
+                        }
+                    }
+                }, executor));
+            }
+
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException ex) {
+            throw unwrap(futures);
+        } finally {
+            executor.shutdownNow();
+            logStageTimes(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
+    /**
+     * @return The time each finished stage took in milliseconds, in the order the stages were added.
+     */
+    public Map<String, Long> getStageTimes() {
+        synchronized (stageTimes) {
+            Map<String, Long> ordered = new LinkedHashMap<>();
+            for (String name : stages.keySet()) {
+                Long time = stageTimes.get(name);
+                if (time != null) {
+                    ordered.put(name, time);
+                }
+            }
+            return ordered;
+        }
+    }
+
+    private void runStage(Stage stage) {
+        final long startNanos = System.nanoTime();
+        try {
+            stage.action().run();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new CompletionException(ex);
+        } finally {
+            stageTimes.put(stage.name(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        }
+    }
+
+    private static void reportProgress(List<Stage> unfinished, AtomicInteger reportedTier,
+          IntConsumer progressListener) {
+        synchronized (unfinished) {
+            int tier = unfinished.stream().mapToInt(Stage::progressTier).min().orElse(Integer.MAX_VALUE);
+            if ((tier != Integer.MAX_VALUE) && (reportedTier.getAndSet(tier) != tier)) {
+                progressListener.accept(tier);
+            }
+        }
+    }
+
+    /**
+     * @return The exception thrown by the first stage, in the order they were added, which failed itself rather
+     *       than because a dependency failed.
+     */
+    private Exception unwrap(Map<String, CompletableFuture<Void>> futures) {
+        Throwable failure = null;
+        for (Stage stage : stages.values()) {
+            CompletableFuture<Void> future = futures.get(stage.name());
+            if ((future == null) || !future.isCompletedExceptionally()) {
+                continue;
+            }
+
+            try {
+                future.join();
+            } catch (CompletionException ex) {
+                Throwable cause = (ex.getCause() == null) ? ex : ex.getCause();
+                if (stageTimes.containsKey(stage.name())) {
+                    failure = cause;
+                    break;
+                } else if (failure == null) {
+                    failure = cause;
+                }
+            }
+        }
+
+        if (failure instanceof Exception exception) {
+            return exception;
+        } else if (failure instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException("Startup data loading failed", failure);
+    }
+
+    private void logStageTimes(long elapsedMillis) {
+        long totalStageMillis = 0;
+        for (Map.Entry<String, Long> stageTime : getStageTimes().entrySet()) {
+            LOGGER.info("[Startup] {} loaded in {}ms", stageTime.getKey(), stageTime.getValue());
+            totalStageMillis += stageTime.getValue();
+        }
+        LOGGER.info("[Startup] Loaded {} stages in {}ms, which would have taken {}ms one after another",
+              stages.size(), elapsedMillis, totalStageMillis);
+    }
+}
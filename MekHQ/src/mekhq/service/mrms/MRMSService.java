@@ -45,6 +45,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ForkJoinPool;
 
 import megamek.common.battleArmor.BattleArmor;
 import megamek.common.enums.SkillLevel;
@@ -79,6 +80,10 @@ public class MRMSService {
     private static final MMLogger LOGGER = MMLogger.create(MRMSService.class);
 
     private static final String RESOURCE_BUNDLE = "mekhq.resources.MRMS";
+    // Leave a core free for the UI while units are planned
+    private static final ForkJoinPool PLANNING_POOL = new ForkJoinPool(Math.max(1,
+          Runtime.getRuntime().availableProcessors() - 1));
+
     @Deprecated(since = "0.50.10")
     private static final ResourceBundle resources = ResourceBundle.getBundle(RESOURCE_BUNDLE,
           MekHQ.getMHQOptions().getLocale());
@@ -325,21 +330,13 @@ public class MRMSService {
             units.add(unit);
         }
 
-        // Sort the list status fixing the least damaged first
-        units.sort((o1, o2) -> {
-            int damageIdx1 = UnitStatusSorter.getDamageStateIndex(Unit.getDamageStateName(o1.getDamageState()));
-            int damageIdx2 = UnitStatusSorter.getDamageStateIndex(Unit.getDamageStateName(o2.getDamageState()));
-
-            if (damageIdx2 == damageIdx1) {
-                return 0;
-            } else if (damageIdx2 < damageIdx1) {
-                return -1;
-            }
+        List<UnitPlan> unitPlans = new ArrayList<>(planUnits(campaign, units));
 
-            return 1;
-        });
+        // Sort the list status fixing the least damaged first. The sort is stable, so units in the same damage state
+        // keep their order.
+        unitPlans.sort(Comparator.comparingInt(UnitPlan::damageStateIndex).reversed());
 
-        mrmsUnits(campaign, units, configuredOptions);
+        commitUnitPlans(campaign, unitPlans, configuredOptions);
     }
 
     public static void mrmsUnits(Campaign campaign, List<Unit> units, MRMSConfiguredOptions configuredOptions) {
@@ -348,12 +345,77 @@ public class MRMSService {
             campaign.addReport(TECHNICAL, resources.getString("MRMS.CompleteDisabled.report"));
             return;
         }
+
+        commitUnitPlans(campaign, planUnits(campaign, units), configuredOptions);
+    }
+
+    /**
+     * What mass repair/salvage needs to know about a unit before any work is assigned.
+     *
+     * @param unit             the unit to work on
+     * @param damageStateIndex the unit's damage state, as ordered by {@link UnitStatusSorter}
+     * @param techEligibility  whether each tech who could be working today is able to work on the unit
+     */
+    record UnitPlan(Unit unit, int damageStateIndex, Map<Person, Boolean> techEligibility) {
+        /**
+         * @return {@code true} if the tech can work on the unit. Techs who were not planned for are checked directly.
+         */
+        boolean canTech(Person tech) {
+            Boolean eligible = techEligibility.get(tech);
+            return (eligible == null) ? tech.canTech(unit.getEntity()) : eligible;
+        }
+    }
+
+    /**
+     * Plans every unit in parallel. Planning only reads the units and techs, and finds the parts each unit needs
+     * worked on so that its repair index is ready for the commit phase. Everything that depends on the work done so
+     * far, such as the minutes techs have left, the parts in the warehouse, and every roll, is left to
+     * {@link #commitUnitPlans}, which runs on the calling thread in the order given so that the results match
+     * working through the units one at a time.
+     *
+     * @return the plans, in the same order as the units
+     */
+    static List<UnitPlan> planUnits(Campaign campaign, List<Unit> units) {
+        final List<Person> techs = campaign.getPlayerForce()
+                                         .getHumanResources()
+                                         .getTechs(campaign.getPlayerForce().getHangar().getUnits(),
+                                               campaign.getCampaignOptions(),
+                                               campaign.getPlayerForce().isClanForce(),
+                                               campaign.getLocalDate());
+
+        long time = System.nanoTime();
+        List<UnitPlan> unitPlans = PLANNING_POOL.submit(() -> units.parallelStream()
+                                                                 .map(unit -> planUnit(unit, techs))
+                                                                 .toList()).join();
+        debugLog("Planned %s units in %s ns", "planUnits", units.size(), System.nanoTime() - time);
+        return unitPlans;
+    }
+
+    private static UnitPlan planUnit(Unit unit, List<Person> techs) {
+        Map<Person, Boolean> techEligibility = new HashMap<>();
+        for (Person tech : techs) {
+            techEligibility.put(tech, tech.canTech(unit.getEntity()));
+        }
+
+        // Build the unit's index of parts needing service ahead of the commit phase
+        unit.getPartsNeedingService(false);
+
+        return new UnitPlan(unit,
+              UnitStatusSorter.getDamageStateIndex(Unit.getDamageStateName(unit.getDamageState())),
+              techEligibility);
+    }
+
+    private static void commitUnitPlans(Campaign campaign, List<UnitPlan> unitPlans,
+          MRMSConfiguredOptions configuredOptions) {
         Map<MRMSUnitAction.STATUS, List<MRMSUnitAction>> unitActionsByStatus = new HashMap<>();
         List<MRMSOption> activeMRMSOptions = configuredOptions.getActiveMRMSOptions();
+        List<Unit> units = new ArrayList<>(unitPlans.size());
 
-        for (Unit unit : units) {
+        for (UnitPlan unitPlan : unitPlans) {
+            Unit unit = unitPlan.unit();
+            units.add(unit);
             MRMSUnitAction unitAction = performUnitMRMS(campaign,
-                  unit,
+                  unitPlan,
                   unit.isSalvage(),
                   activeMRMSOptions,
                   configuredOptions);
@@ -507,8 +569,9 @@ public class MRMSService {
         campaign.addReport(TECHNICAL, sbMsg.toString());
     }
 
-    private static MRMSUnitAction performUnitMRMS(Campaign campaign, Unit unit, boolean isSalvage,
+    private static MRMSUnitAction performUnitMRMS(Campaign campaign, UnitPlan unitPlan, boolean isSalvage,
           List<MRMSOption> mrmsOptions, MRMSConfiguredOptions configuredOptions) {
+        Unit unit = unitPlan.unit();
         List<Person> techs = campaign.getPlayerForce()
                                    .getHumanResources()
                                    .getTechs(campaign.getPlayerForce().getHangar().getUnits(),
@@ -527,7 +590,7 @@ public class MRMSService {
         for (int i = techs.size() - 1; i >= 0; i--) {
             Person tech = techs.get(i);
 
-            if (!tech.canTech(unit.getEntity())) {
+            if (!unitPlan.canTech(tech)) {
                 techs.remove(i);
             }
         }
@@ -0,0 +1,228 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.loaders.EntityLoadingException;
+import megamek.common.loaders.MekFileParser;
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.Entity;
+import megamek.logging.MMLogger;
+
+/**
+ * Creates entities from their {@link MekSummary}, caching each parsed unit definition so that the same unit file is
+ * only read and parsed once.
+ *
+ * <p>Parsed definitions are kept in serialized form in a bounded, least recently used cache. Every call hands out a
+ * fresh deep copy made by deserializing the cached definition, so callers are free to modify the entity they receive
+ * just as they could one returned by {@link MekFileParser}.</p>
+ *
+ * <p>Entries are keyed by the source file, its modification time and length, and the entry name within it, so a unit
+ * file which is rewritten (for example by a refit or MekLab) is parsed again rather than served stale.</p>
+ */
+public class EntityFactory {
+    private static final MMLogger LOGGER = MMLogger.create(EntityFactory.class);
+
+    /** The number of parsed unit definitions kept by the shared factory. */
+    public static final int DEFAULT_MAX_ENTRIES = 256;
+
+    private static final EntityFactory INSTANCE = new EntityFactory(DEFAULT_MAX_ENTRIES,
+          summary -> new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity());
+
+    /**
+     * Parses an entity from its unit definition.
+     */
+    @FunctionalInterface
+    interface EntityParser {
+        @Nullable Entity parse(MekSummary summary) throws EntityLoadingException;
+    }
+
+    private record TemplateKey(String sourcePath, long lastModified, long length, @Nullable String entryName) {
+        static TemplateKey of(MekSummary summary) {
+            File sourceFile = summary.getSourceFile();
+            return new TemplateKey(sourceFile.getPath(),
+                  sourceFile.lastModified(),
+                  sourceFile.length(),
+                  summary.getEntryName());
+        }
+    }
+
+    private final Map<TemplateKey, byte[]> templates;
+    private final EntityParser parser;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    EntityFactory(int maxEntries, EntityParser parser) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("The cache must hold at least one entry");
+        }
+        this.parser = Objects.requireNonNull(parser);
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TemplateKey, byte[]> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static EntityFactory getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Creates a new entity for the given unit.
+     *
+     * @param summary The summary of the unit to create.
+     *
+     * @return A new entity, which shares no state with any other entity returned by this factory, or {@code null} if
+     *       the unit definition did not produce an entity.
+     *
+     * @throws EntityLoadingException if the unit definition could not be read or parsed
+     */
+    public @Nullable Entity getEntity(MekSummary summary) throws EntityLoadingException {
+        if (summary.getSourceFile() == null) {
+            throw new EntityLoadingException("No source file for " + summary.getName());
+        }
+
+        final TemplateKey key = TemplateKey.of(summary);
+        final byte[] template;
+        synchronized (templates) {
+            template = templates.get(key);
+        }
+
+        if (template != null) {
+            Entity entity = deserialize(template);
+            if (entity != null) {
+                hits.incrementAndGet();
+                return entity;
+            }
+        }
+
+        // Parse outside the lock; two threads missing on the same unit at once will just both parse it
+        misses.incrementAndGet();
+        Entity entity = parser.parse(summary);
+        if (entity == null) {
+            return null;
+        }
+
+        byte[] serialized = serialize(entity);
+        if (serialized != null) {
+            synchronized (templates) {
+                templates.put(key, serialized);
+            }
+        }
+        return entity;
+    }
+
+    /**
+     * Parses an entity without consulting or filling the cache. Intended for passes over every unit, which would
+     * otherwise evict the definitions in regular use for ones that are only read once.
+     *
+     * @param summary The summary of the unit to create.
+     *
+     * @return A new entity, or {@code null} if the unit definition did not produce an entity.
+     *
+     * @throws EntityLoadingException if the unit definition could not be read or parsed
+     */
+    public @Nullable Entity getEntityUncached(MekSummary summary) throws EntityLoadingException {
+        if (summary.getSourceFile() == null) {
+            throw new EntityLoadingException("No source file for " + summary.getName());
+        }
+        return parser.parse(summary);
+    }
+
+    /**
+     * @return The number of entities created from a cached unit definition.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return The number of entities which had to be parsed from their unit file.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return The number of unit definitions currently cached.
+     */
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    /**
+     * Removes all cached unit definitions. The hit and miss counters are left untouched.
+     */
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+
+    private static @Nullable byte[] serialize(Entity entity) {
+        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+              ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(entity);
+            objectOutputStream.flush();
+            return byteArrayOutputStream.toByteArray();
+        } catch (IOException ex) {
+            // The entity is still usable, it just cannot be cached
+            LOGGER.error(ex, "Unable to cache the unit definition for {}", entity.getShortNameRaw());
+            return null;
+        }
+    }
+
+    private static @Nullable Entity deserialize(byte[] template) {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(template))) {
+            return (Entity) objectInputStream.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException ex) {
+            LOGGER.error(ex, "Unable to copy a cached unit definition, parsing it again");
+            return null;
+        }
+    }
+}
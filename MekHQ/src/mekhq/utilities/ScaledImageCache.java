@@ -0,0 +1,474 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import javax.imageio.ImageIO;
+import javax.swing.ImageIcon;
+import javax.swing.SwingUtilities;
+
+import megamek.common.annotations.Nullable;
+import megamek.logging.MMLogger;
+
+/**
+ * A shared, memory-bounded cache of decoded and rescaled images for portraits, faction logos and dialog art.
+ *
+ * <p>Source images are decoded once per source key, and each downscale is produced once per source and target size
+ * using progressive bilinear halving, which looks far better than a single {@link Image#SCALE_FAST} pass and is much
+ * cheaper than {@link Image#getScaledInstance(int, int, int)}. Both are held through soft references in a
+ * least-recently-used map; once the cache holds more than its byte budget the oldest images are dropped first, and
+ * the garbage collector may reclaim any of them sooner under memory pressure.</p>
+ *
+ * <p>Scaled images are keyed by the identity of their source image, so callers should pass sources that are stable
+ * between calls, such as those returned by {@link #getSourceImage(Object, Supplier)}. Cell renderers and other code
+ * running on every repaint should use {@link #getScaledIconLater(Image, int, int, Runnable)}, which scales on a
+ * background thread rather than the event dispatch thread.</p>
+ *
+ * <p>This class is thread safe.</p>
+ */
+public final class ScaledImageCache {
+    private static final MMLogger LOGGER = MMLogger.create(ScaledImageCache.class);
+
+    /** The default memory budget of the shared cache, in bytes. */
+    static final long DEFAULT_MAXIMUM_BYTES = 96L * 1024 * 1024;
+
+    private static final Executor SCALING_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "MekHQ Image Scaler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final ScaledImageCache INSTANCE = new ScaledImageCache(DEFAULT_MAXIMUM_BYTES, SCALING_EXECUTOR,
+          SwingUtilities::invokeLater);
+
+    /**
+     * Identifies an image in the cache. Decoded sources use a width and height of {@code 0}.
+     */
+    private record CacheKey(Object source, int width, int height) {
+    }
+
+    /**
+     * Compares source images by identity without keeping them alive once nothing else refers to them.
+     */
+    private static final class SourceIdentity extends WeakReference<Image> {
+        private final int hashCode;
+
+        private SourceIdentity(Image source) {
+            super(source);
+            hashCode = System.identityHashCode(source);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof SourceIdentity sourceIdentity)) {
+                return false;
+            }
+            Image source = get();
+            return (source != null) && (source == sourceIdentity.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class CacheEntry extends SoftReference<BufferedImage> {
+        private final CacheKey key;
+        private final long bytes;
+
+        private CacheEntry(CacheKey key, BufferedImage image, ReferenceQueue<BufferedImage> queue) {
+            super(image, queue);
+            this.key = key;
+            bytes = getBytes(image);
+        }
+    }
+
+    private final long maximumBytes;
+    private final Executor scalingExecutor;
+    private final Executor callbackExecutor;
+    private final Map<CacheKey, CacheEntry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<CacheKey, List<Runnable>> pendingScales = new HashMap<>();
+    private final ReferenceQueue<BufferedImage> clearedEntries = new ReferenceQueue<>();
+    private long cachedBytes;
+
+    /**
+     * @param maximumBytes     The approximate memory budget for cached images, in bytes.
+     * @param scalingExecutor  Runs the scaling requested through {@link #scaleLater}.
+     * @param callbackExecutor Runs the callbacks of {@link #scaleLater} once their image is ready.
+     */
+    ScaledImageCache(long maximumBytes, Executor scalingExecutor, Executor callbackExecutor) {
+        this.maximumBytes = maximumBytes;
+        this.scalingExecutor = scalingExecutor;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Gets a decoded source image, decoding it only if it isn't already cached.
+     *
+     * <p>The returned image is shared, and must not be drawn on.</p>
+     *
+     * @param sourceKey Identifies the source; it must have value-based {@code equals} and {@code hashCode}, and should
+     *                  capture everything the decoded image depends on.
+     * @param source    Loads the source image if it isn't cached. It may return {@code null} if the image is missing.
+     *
+     * @return The decoded image, or {@code null} if it could not be loaded.
+     */
+    public static @Nullable BufferedImage getSourceImage(Object sourceKey, Supplier<? extends Image> source) {
+        return INSTANCE.source(sourceKey, source);
+    }
+
+    /**
+     * Gets an image file scaled to the given size, decoding the file only the first time it is requested.
+     *
+     * @param path   The path of the image file.
+     * @param width  The width to scale to, in pixels.
+     * @param height The height to scale to, in pixels.
+     *
+     * @return The scaled image, or an empty {@link ImageIcon} if the file could not be read.
+     */
+    public static ImageIcon getScaledIcon(String path, int width, int height) {
+        return getScaledIcon(getSourceImage(new File(path), () -> readImageFile(path)), width, height);
+    }
+
+    /**
+     * Gets an image scaled to the given size, scaling it on the calling thread if it isn't already cached.
+     *
+     * @param source The image to scale.
+     * @param width  The width to scale to, in pixels.
+     * @param height The height to scale to, in pixels.
+     *
+     * @return The scaled image, or an empty {@link ImageIcon} if {@code source} is {@code null} or hasn't loaded.
+     */
+    public static ImageIcon getScaledIcon(@Nullable Image source, int width, int height) {
+        BufferedImage scaled = INSTANCE.scale(source, width, height);
+        return (scaled == null) ? new ImageIcon() : new ImageIcon(scaled);
+    }
+
+    /**
+     * Gets an image scaled to the given width, keeping its aspect ratio.
+     *
+     * @param source The image to scale.
+     * @param width  The width to scale to, in pixels; clamped to a minimum of {@code 1}.
+     *
+     * @return The scaled image, or an empty {@link ImageIcon} if {@code source} is {@code null} or hasn't loaded.
+     *
+     * @see #getScaledIcon(Image, int, int)
+     */
+    public static ImageIcon getScaledIconToWidth(@Nullable Image source, int width) {
+        BufferedImage decoded = INSTANCE.decode(source);
+        if (decoded == null) {
+            return new ImageIcon();
+        }
+        int targetWidth = Math.max(1, width);
+        int targetHeight = (int) Math.ceil((double) targetWidth * decoded.getHeight() / decoded.getWidth());
+        return getScaledIcon(source, targetWidth, targetHeight);
+    }
+
+    /**
+     * Gets an image scaled to the given size if it is already cached, and otherwise scales it on a background thread.
+     *
+     * <p>This is meant for cell renderers and other painting code, which should not stall the event dispatch thread:
+     * a caller that gets {@code null} should paint without the image, and repaint from {@code onReady}.</p>
+     *
+     * @param source  The image to scale.
+     * @param width   The width to scale to, in pixels.
+     * @param height  The height to scale to, in pixels.
+     * @param onReady Run on the event dispatch thread once the scaled image is cached, if it wasn't already.
+     *
+     * @return The scaled image, or {@code null} if it is not cached yet or {@code source} is {@code null}.
+     */
+    public static @Nullable ImageIcon getScaledIconLater(@Nullable Image source, int width, int height,
+          Runnable onReady) {
+        BufferedImage scaled = INSTANCE.scaleLater(source, width, height, onReady);
+        return (scaled == null) ? null : new ImageIcon(scaled);
+    }
+
+    /**
+     * Drops every cached image, for example after the portrait directories have been reloaded.
+     */
+    public static void clear() {
+        INSTANCE.clearEntries();
+    }
+
+    @Nullable
+    BufferedImage source(Object sourceKey, Supplier<? extends Image> source) {
+        CacheKey key = new CacheKey(sourceKey, 0, 0);
+        BufferedImage decoded = get(key);
+        if (decoded == null) {
+            decoded = toBufferedImage(source.get());
+            if (decoded != null) {
+                put(key, decoded);
+            }
+        }
+        return decoded;
+    }
+
+    @Nullable
+    BufferedImage scale(@Nullable Image source, int width, int height) {
+        if (source == null) {
+            return null;
+        }
+        CacheKey key = new CacheKey(new SourceIdentity(source), Math.max(1, width), Math.max(1, height));
+        BufferedImage scaled = get(key);
+        if (scaled == null) {
+            scaled = createScaled(source, key);
+        }
+        return scaled;
+    }
+
+    @Nullable
+    BufferedImage scaleLater(@Nullable Image source, int width, int height, Runnable onReady) {
+        if (source == null) {
+            return null;
+        }
+        CacheKey key = new CacheKey(new SourceIdentity(source), Math.max(1, width), Math.max(1, height));
+        synchronized (this) {
+            BufferedImage scaled = get(key);
+            if (scaled != null) {
+                return scaled;
+            }
+            List<Runnable> callbacks = pendingScales.get(key);
+            if (callbacks != null) {
+                // Already queued, so just wait for that one
+                callbacks.add(onReady);
+                return null;
+            }
+            callbacks = new ArrayList<>();
+            callbacks.add(onReady);
+            pendingScales.put(key, callbacks);
+        }
+
+        scalingExecutor.execute(() -> {
+            BufferedImage scaled = null;
+            try {
+                scaled = createScaled(source, key);
+            } catch (Exception ex) {
+                LOGGER.error(ex, "Failed to scale image");
+            }
+            List<Runnable> callbacks;
+            synchronized (this) {
+                callbacks = pendingScales.remove(key);
+            }
+            // A source that can't be scaled would otherwise be requested again by every repaint it triggers
+            if ((scaled != null) && (callbacks != null)) {
+                callbackExecutor.execute(() -> callbacks.forEach(Runnable::run));
+            }
+        });
+        return null;
+    }
+
+    synchronized void clearEntries() {
+        entries.clear();
+        cachedBytes = 0L;
+        while (clearedEntries.poll() != null) {
+            // The entries are already gone, so just drain the queue
+        }
+    }
+
+    /**
+     * @return The number of cached images, both decoded sources and scaled copies.
+     */
+    synchronized int size() {
+        expungeClearedEntries();
+        return entries.size();
+    }
+
+    /**
+     * @return The approximate memory held by cached images, in bytes.
+     */
+    synchronized long getCachedBytes() {
+        expungeClearedEntries();
+        return cachedBytes;
+    }
+
+    private @Nullable BufferedImage createScaled(Image source, CacheKey key) {
+        BufferedImage decoded = decode(source);
+        if (decoded == null) {
+            return null;
+        }
+        BufferedImage scaled = scaleImage(decoded, key.width(), key.height());
+        put(key, scaled);
+        return scaled;
+    }
+
+    private @Nullable BufferedImage decode(@Nullable Image source) {
+        if (source instanceof BufferedImage bufferedImage) {
+            return bufferedImage;
+        }
+        // Anything else, such as a toolkit image, is converted once and kept alongside its scaled copies
+        return (source == null) ? null : source(new SourceIdentity(source), () -> source);
+    }
+
+    private synchronized @Nullable BufferedImage get(CacheKey key) {
+        expungeClearedEntries();
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        BufferedImage image = entry.get();
+        if (image == null) {
+            removeEntry(entry);
+        }
+        return image;
+    }
+
+    private synchronized void put(CacheKey key, BufferedImage image) {
+        expungeClearedEntries();
+        CacheEntry previous = entries.put(key, new CacheEntry(key, image, clearedEntries));
+        if (previous != null) {
+            cachedBytes -= previous.bytes;
+        }
+        cachedBytes += getBytes(image);
+
+        Iterator<CacheEntry> iterator = entries.values().iterator();
+        // Always keep the image just added, even if it alone is over budget
+        while ((cachedBytes > maximumBytes) && (entries.size() > 1)) {
+            cachedBytes -= iterator.next().bytes;
+            iterator.remove();
+        }
+    }
+
+    private void expungeClearedEntries() {
+        Reference<? extends BufferedImage> reference;
+        while ((reference = clearedEntries.poll()) != null) {
+            removeEntry((CacheEntry) reference);
+        }
+    }
+
+    private void removeEntry(CacheEntry entry) {
+        // The key may have been replaced or evicted since this entry was cleared
+        if (entries.get(entry.key) == entry) {
+            entries.remove(entry.key);
+            cachedBytes -= entry.bytes;
+        }
+    }
+
+    /**
+     * Scales an image to the given size, halving it step by step while it is more than twice the target size so that
+     * every bilinear pass samples all of the source pixels.
+     *
+     * @param source The image to scale.
+     * @param width  The width to scale to, in pixels.
+     * @param height The height to scale to, in pixels.
+     *
+     * @return The scaled image, or {@code source} itself if it is already the requested size.
+     */
+    static BufferedImage scaleImage(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        while ((currentWidth != width) || (currentHeight != height)) {
+            currentWidth = (currentWidth > (width * 2)) ? (currentWidth / 2) : width;
+            currentHeight = (currentHeight > (height * 2)) ? (currentHeight / 2) : height;
+
+            BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D g2 = next.createGraphics();
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g2.setRenderingHint(RenderingHints.KEY_ALPHA_INTERPOLATION,
+                      RenderingHints.VALUE_ALPHA_INTERPOLATION_QUALITY);
+                g2.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g2.dispose();
+            }
+            current = next;
+        }
+        return current;
+    }
+
+    private static @Nullable BufferedImage toBufferedImage(@Nullable Image image) {
+        if (image == null) {
+            return null;
+        } else if (image instanceof BufferedImage bufferedImage) {
+            return bufferedImage;
+        }
+
+        // Wraps the image so that a toolkit image is fully loaded before it is measured and drawn
+        ImageIcon loaded = new ImageIcon(image);
+        int width = loaded.getIconWidth();
+        int height = loaded.getIconHeight();
+        if ((width <= 0) || (height <= 0)) {
+            return null;
+        }
+
+        BufferedImage bufferedImage = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = bufferedImage.createGraphics();
+        try {
+            g2.drawImage(loaded.getImage(), 0, 0, null);
+        } finally {
+            g2.dispose();
+        }
+        return bufferedImage;
+    }
+
+    private static @Nullable BufferedImage readImageFile(String path) {
+        try {
+            BufferedImage image = ImageIO.read(new File(path));
+            if (image == null) {
+                LOGGER.warn("Unsupported image format: {}", path);
+            }
+            return image;
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to read image {}: {}", path, ex.getMessage());
+            return null;
+        }
+    }
+
+    private static long getBytes(BufferedImage image) {
+        return (long) image.getWidth() * image.getHeight() * Integer.BYTES;
+    }
+}
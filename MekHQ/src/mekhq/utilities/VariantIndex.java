@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import megamek.common.annotations.Nullable;
+import megamek.common.battleArmor.BattleArmor;
+import megamek.common.loaders.MekSummary;
+import megamek.common.loaders.MekSummaryCache;
+import megamek.common.units.Entity;
+import megamek.common.units.UnitType;
+
+/**
+ * Groups the units in the {@link MekSummaryCache} by chassis, unit type and weight, which are the properties every
+ * variant of a unit shares, so the variants of a unit can be found without scanning the whole unit catalog.
+ *
+ * <p>The index is built on first use and rebuilt whenever the unit data has been reloaded, which is detected by the
+ * cache handing out a different set of units. Chassis are compared without regard to case. Battle armor is grouped by
+ * squad size rather than by weight, matching how battle armor variants have always been compared.</p>
+ */
+public final class VariantIndex {
+    private static final VariantIndex INSTANCE = new VariantIndex();
+
+    private static final String BATTLE_ARMOR_TYPE_NAME = UnitType.getTypeName(UnitType.BATTLE_ARMOR);
+
+    private record VariantKey(String chassis, String unitType, double weight) {
+        static VariantKey of(MekSummary summary) {
+            String unitType = summary.getUnitType();
+            double weight = BATTLE_ARMOR_TYPE_NAME.equals(unitType) ? (int) summary.getTWWeight()
+                                  : summary.getTons();
+            return new VariantKey(normalize(summary.getChassis()), unitType, weight);
+        }
+
+        static VariantKey of(Entity entity) {
+            double weight = (entity instanceof BattleArmor battleArmor) ? battleArmor.getSquadSize()
+                                  : entity.getWeight();
+            return new VariantKey(normalize(entity.getChassis()),
+                  UnitType.getTypeName(entity.getUnitType()),
+                  weight);
+        }
+
+        private static String normalize(@Nullable String chassis) {
+            return (chassis == null) ? "" : chassis.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private MekSummary[] indexedSummaries;
+    private Map<VariantKey, List<MekSummary>> index = Map.of();
+
+    private VariantIndex() {
+    }
+
+    public static VariantIndex getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Finds every unit with the same chassis, unit type and weight as an entity, including the entity's own model.
+     * Blocks until the unit data has been loaded.
+     *
+     * @param entity The entity to find the variants of.
+     *
+     * @return The matching units, which may be empty.
+     */
+    public List<MekSummary> getVariants(Entity entity) {
+        return getVariants(MekSummaryCache.getInstance().getAllMeks(), entity);
+    }
+
+    synchronized List<MekSummary> getVariants(MekSummary[] summaries, Entity entity) {
+        if (summaries != indexedSummaries) {
+            index = buildIndex(summaries);
+            indexedSummaries = summaries;
+        }
+        return index.getOrDefault(VariantKey.of(entity), List.of());
+    }
+
+    private static Map<VariantKey, List<MekSummary>> buildIndex(MekSummary[] summaries) {
+        Map<VariantKey, List<MekSummary>> variants = new HashMap<>();
+        for (MekSummary summary : summaries) {
+            variants.computeIfAbsent(VariantKey.of(summary), key -> new ArrayList<>()).add(summary);
+        }
+        variants.replaceAll((key, list) -> List.copyOf(list));
+        return variants;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import mekhq.campaign.BatchDayAdvancer.DayTiming;
+import mekhq.campaign.BatchDayAdvancer.Policy;
+import mekhq.campaign.BatchDayAdvancer.Result;
+import mekhq.campaign.BatchDayAdvancer.StopReason;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class BatchDayAdvancerTest {
+    private static final LocalDate START = LocalDate.of(3025, 1, 1);
+
+    private Campaign campaign;
+    private LocalDate[] date;
+
+    @BeforeEach
+    void setUp() {
+        campaign = mock(Campaign.class);
+        date = new LocalDate[] { START };
+        when(campaign.getLocalDate()).thenAnswer(invocation -> date[0]);
+    }
+
+    private boolean nextDay() {
+        date[0] = date[0].plusDays(1);
+        return true;
+    }
+
+    @Test
+    void testAdvancesEveryRequestedDay() {
+        List<DayTiming> reported = new ArrayList<>();
+
+        Result result = new BatchDayAdvancer(campaign, Policy.UNATTENDED, this::nextDay).advance(3, reported::add);
+
+        assertEquals(StopReason.COMPLETED, result.stopReason());
+        assertEquals(3, result.daysAdvanced());
+        assertEquals(List.of(START.plusDays(1), START.plusDays(2), START.plusDays(3)),
+              result.days().stream().map(DayTiming::date).toList());
+        assertEquals(result.days(), reported);
+    }
+
+    @Test
+    void testBlockedDayStopsTheBatch() {
+        Result result = new BatchDayAdvancer(campaign, Policy.UNATTENDED, () -> true).advance(3);
+
+        assertEquals(StopReason.BLOCKED, result.stopReason());
+        assertEquals(0, result.daysAdvanced());
+        assertNull(result.slowestDay());
+    }
+
+    @Test
+    void testInterruptedDayIsCountedAndStopsTheBatch() {
+        Result result = new BatchDayAdvancer(campaign, Policy.INTERACTIVE, () -> {
+            nextDay();
+            return date[0].isBefore(START.plusDays(2));
+        }).advance(5);
+
+        assertEquals(StopReason.INTERRUPTED, result.stopReason());
+        assertEquals(2, result.daysAdvanced());
+    }
+
+    @Test
+    void testFailedDayStopsTheBatch() {
+        Result result = new BatchDayAdvancer(campaign, Policy.UNATTENDED, () -> {
+            if (date[0].isAfter(START)) {
+                throw new IllegalStateException("Test failure");
+            }
+            return nextDay();
+        }).advance(3);
+
+        assertEquals(StopReason.FAILED, result.stopReason());
+        assertEquals(1, result.daysAdvanced());
+    }
+
+    @Test
+    void testDueScenarioStopsAnUnattendedBatch() {
+        when(campaign.checkScenariosDue()).thenReturn(false, true);
+
+        Result result = new BatchDayAdvancer(campaign, Policy.UNATTENDED, this::nextDay).advance(3);
+
+        assertEquals(StopReason.SCENARIO_DUE, result.stopReason());
+        assertEquals(1, result.daysAdvanced());
+    }
+
+    @Test
+    void testPolicyIsRestoredAfterTheBatch() {
+        when(campaign.getBatchAdvancePolicy()).thenReturn(Policy.INTERACTIVE);
+
+        new BatchDayAdvancer(campaign, Policy.UNATTENDED, () -> {
+            throw new IllegalStateException("Test failure");
+        }).advance(1);
+
+        InOrder order = inOrder(campaign);
+        order.verify(campaign).setBatchAdvancePolicy(Policy.UNATTENDED);
+        order.verify(campaign).setBatchAdvancePolicy(Policy.INTERACTIVE);
+    }
+}
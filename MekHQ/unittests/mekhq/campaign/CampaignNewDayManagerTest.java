@@ -33,16 +33,30 @@
 package mekhq.campaign;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.stream.Stream;
 
+import megamek.client.ui.util.PlayerColour;
+import megamek.common.enums.SkillLevel;
 import megamek.common.equipment.EquipmentType;
+import megamek.common.icons.Camouflage;
 import mekhq.MHQOptions;
 import mekhq.MekHQ;
+import mekhq.campaign.BatchDayAdvancer.Policy;
+import mekhq.campaign.BatchDayAdvancer.Result;
+import mekhq.campaign.BatchDayAdvancer.StopReason;
 import mekhq.campaign.campaignOptions.CampaignOptions;
 import mekhq.campaign.campaignOptions.CampaignOption;
+import mekhq.campaign.enums.DragoonRating;
+import mekhq.campaign.mission.contract.AbstractContract;
+import mekhq.campaign.mission.contract.contractData.EnemyData;
 import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.universe.Faction;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -264,4 +278,34 @@ public class CampaignNewDayManagerTest {
             };
         }
     }
+
+    /**
+     * Nested test class for the decisions a new day makes when nobody is there to answer its dialogs
+     */
+    @Nested
+    class UnattendedDecisionTests {
+        @Test
+        void testUnattendedBatchallIsAcceptedWithoutDialog() {
+            Faction clanFaction = mock(Faction.class);
+            when(clanFaction.performsBatchalls()).thenReturn(true);
+
+            AbstractContract contract = mock(AbstractContract.class);
+            when(contract.getEnemyFaction()).thenReturn(clanFaction);
+            when(contract.getEnemyFactionCode()).thenReturn("CJF");
+            when(contract.getEnemyData()).thenReturn(new EnemyData("CJF", null, "Clan Jade Falcon",
+                  SkillLevel.REGULAR, DragoonRating.DRAGOON_C.getRating(), null, new Camouflage(),
+                  PlayerColour.RED, false));
+
+            CampaignNewDayManager manager = new CampaignNewDayManager(testCampaign);
+            Result result = new BatchDayAdvancer(testCampaign, Policy.UNATTENDED, () -> {
+                manager.processBatchall(contract);
+                testCampaign.setLocalDate(testCampaign.getLocalDate().plusDays(1));
+                return true;
+            }).advance(1);
+
+            // A dialog would have thrown in the headless test run, failing the batch
+            assertEquals(StopReason.COMPLETED, result.stopReason());
+            verify(contract).setEnemyData(argThat(EnemyData::batchallAccepted));
+        }
+    }
 }
@@ -540,6 +540,64 @@ public class LocalWarehouseTest {
         assertEquals(60, ((AmmoStorage) addedAmmo).getShots());
     }
 
+    @Test
+    public void testSparePartLookupsOnlyMatchSamePartType() {
+        Campaign mockCampaign = mockCampaign();
+        LocalWarehouse warehouse = new LocalWarehouse();
+
+        // Stock the warehouse with a few different kinds of spare parts
+        AmmoStorage ac5Ammo = createMockAmmoStorage(mockCampaign, getAmmoType("ISAC5 Ammo"), 20);
+        AmmoStorage ac10Ammo = createMockAmmoStorage(mockCampaign, getAmmoType("ISAC10 Ammo"), 10);
+        Armor armor = createMockArmor(mockCampaign, EquipmentType.T_ARMOR_STANDARD, 16);
+        warehouse.addPart(ac5Ammo);
+        warehouse.addPart(ac10Ammo);
+        warehouse.addPart(armor);
+
+        // Each lookup should only see the matching part
+        AmmoStorage otherAc5Ammo = createMockAmmoStorage(mockCampaign, getAmmoType("ISAC5 Ammo"), 5);
+        assertEquals(ac5Ammo, warehouse.checkForExistingSparePart(otherAc5Ammo));
+        assertEquals(20, warehouse.getSparePartsCount(otherAc5Ammo));
+
+        AmmoStorage otherAc10Ammo = createMockAmmoStorage(mockCampaign, getAmmoType("ISAC10 Ammo"), 5);
+        assertEquals(ac10Ammo, warehouse.checkForExistingSparePart(otherAc10Ammo));
+        assertEquals(10, warehouse.getSparePartsCount(otherAc10Ammo));
+
+        Armor otherArmor = createMockArmor(mockCampaign, EquipmentType.T_ARMOR_STANDARD, 8);
+        assertEquals(armor, warehouse.checkForExistingSparePart(otherArmor));
+        assertEquals(16, warehouse.getSparePartsCount(otherArmor));
+
+        // Once removed, the parts should no longer be found
+        warehouse.removePart(ac5Ammo);
+        assertNull(warehouse.checkForExistingSparePart(otherAc5Ammo));
+        assertEquals(0, warehouse.getSparePartsCount(otherAc5Ammo));
+        assertEquals(ac10Ammo, warehouse.checkForExistingSparePart(otherAc10Ammo));
+    }
+
+    @Test
+    public void testSparePartLookupsFollowSpareStatus() {
+        Campaign mockCampaign = mockCampaign();
+        LocalWarehouse warehouse = new LocalWarehouse();
+
+        Part mockPart = spy(new MekLocation());
+        mockPart.setCampaign(mockCampaign);
+        mockPart.setQuantity(1);
+        warehouse.addPart(mockPart);
+
+        Part otherPart = spy(new MekLocation());
+        otherPart.setCampaign(mockCampaign);
+        otherPart.setQuantity(1);
+        assertEquals(mockPart, warehouse.checkForExistingSparePart(otherPart));
+
+        // Putting the part on a unit means it is no longer a spare
+        mockPart.setUnit(createMockUnit());
+        assertNull(warehouse.checkForExistingSparePart(otherPart));
+        assertEquals(0, warehouse.getSparePartsCount(otherPart));
+
+        // Taking it back off makes it available again
+        mockPart.setUnit(null);
+        assertEquals(mockPart, warehouse.checkForExistingSparePart(otherPart));
+    }
+
     @Test
     public void testAddSparePartWontMixWithRefitPart() {
         Campaign mockCampaign = mockCampaign();
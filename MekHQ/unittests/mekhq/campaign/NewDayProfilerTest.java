@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import mekhq.campaign.NewDayProfiler.DayProfile;
+import mekhq.campaign.NewDayProfiler.EntityCounts;
+import mekhq.campaign.NewDayProfiler.PhaseSummary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class NewDayProfilerTest {
+    private static final LocalDate DATE = LocalDate.of(3025, 1, 1);
+    private static final EntityCounts COUNTS = new EntityCounts(10, 5, 100);
+
+    @Test
+    void testDisabledProfilerRecordsNothing() {
+        NewDayProfiler profiler = new NewDayProfiler(10, false);
+
+        NewDayProfiler.Recorder recorder = profiler.startDay(() -> COUNTS);
+        recorder.mark("Personnel");
+        recorder.finish(DATE);
+
+        assertTrue(profiler.getHistory().isEmpty());
+    }
+
+    @Test
+    void testPhasesAreRecordedInOrder() {
+        NewDayProfiler profiler = new NewDayProfiler(10, true);
+
+        NewDayProfiler.Recorder recorder = profiler.startDay(() -> COUNTS);
+        recorder.mark("Personnel");
+        recorder.mark("Units");
+        recorder.finish(DATE);
+
+        List<DayProfile> history = profiler.getHistory();
+        assertEquals(1, history.size());
+        assertEquals(DATE, history.get(0).date());
+        assertEquals(List.of("Personnel", "Units"),
+              history.get(0).phases().stream().map(NewDayProfiler.PhaseSample::phase).toList());
+        assertEquals(COUNTS, history.get(0).phases().get(1).counts());
+    }
+
+    @Test
+    void testUnfinishedDayIsNotRecorded() {
+        NewDayProfiler profiler = new NewDayProfiler(10, true);
+
+        profiler.startDay(() -> COUNTS).mark("Pool Refills");
+
+        assertTrue(profiler.getHistory().isEmpty());
+    }
+
+    @Test
+    void testHistoryIsBounded() {
+        NewDayProfiler profiler = new NewDayProfiler(3, true);
+
+        for (int day = 0; day < 5; day++) {
+            NewDayProfiler.Recorder recorder = profiler.startDay(() -> COUNTS);
+            recorder.mark("Personnel");
+            recorder.finish(DATE.plusDays(day));
+        }
+
+        List<DayProfile> history = profiler.getHistory();
+        assertEquals(3, history.size());
+        assertEquals(DATE.plusDays(2), history.get(0).date());
+        assertEquals(DATE.plusDays(4), history.get(2).date());
+    }
+
+    @Test
+    void testSummaryAggregatesPhasesAcrossDays() {
+        NewDayProfiler profiler = new NewDayProfiler(10, true);
+
+        for (int day = 0; day < 4; day++) {
+            NewDayProfiler.Recorder recorder = profiler.startDay(() -> COUNTS);
+            recorder.mark("Personnel");
+            if (day % 2 == 0) {
+                recorder.mark("Awards & Prisoners");
+            }
+            recorder.finish(DATE.plusDays(day));
+        }
+
+        List<PhaseSummary> summary = profiler.getSummary();
+        assertEquals(2, summary.size());
+        assertEquals("Personnel", summary.get(0).phase());
+        assertEquals(4, summary.get(0).samples());
+        assertEquals("Awards & Prisoners", summary.get(1).phase());
+        assertEquals(2, summary.get(1).samples());
+        assertTrue(summary.get(0).maxMillis() >= summary.get(0).meanMillis());
+    }
+
+    @Test
+    void testExportWritesOneRowPerPhase(@TempDir Path tempDir) throws IOException {
+        NewDayProfiler profiler = new NewDayProfiler(10, true);
+        for (int day = 0; day < 2; day++) {
+            NewDayProfiler.Recorder recorder = profiler.startDay(() -> COUNTS);
+            recorder.mark("Personnel");
+            recorder.mark("Units");
+            recorder.finish(DATE.plusDays(day));
+        }
+
+        Path file = tempDir.resolve("profile.csv");
+        assertEquals(2, profiler.exportToCSV(file));
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(5, lines.size());
+        assertEquals("Date,Phase,WallMillis,AllocatedBytes,Personnel,Units,Parts", lines.get(0));
+        assertTrue(lines.get(1).startsWith("3025-01-01,Personnel,"));
+        assertTrue(lines.get(1).endsWith(",10,5,100"));
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static mekhq.campaign.enums.CampaignTransportType.SHIP_TRANSPORT;
+import static mekhq.campaign.unit.enums.TransporterType.MEK_BAY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import megamek.common.units.Mek;
+import mekhq.campaign.TransportAssignmentPlanner.Assignment;
+import mekhq.campaign.TransportAssignmentPlanner.Plan;
+import mekhq.campaign.unit.AbstractTransportedUnitsSummary;
+import mekhq.campaign.unit.Unit;
+import org.junit.jupiter.api.Test;
+
+class TransportAssignmentPlannerTest {
+    private static Unit createTransport(double mekBays) {
+        Unit transport = mock(Unit.class);
+        when(transport.getId()).thenReturn(UUID.randomUUID());
+        AbstractTransportedUnitsSummary summary = mock(SHIP_TRANSPORT.getTransportedUnitsSummaryType());
+        when(summary.getTransportCapabilities()).thenReturn(Set.of(MEK_BAY));
+        when(summary.getCurrentTransportCapacity(MEK_BAY)).thenReturn(mekBays);
+        when(transport.getTransportedUnitsSummary(SHIP_TRANSPORT)).thenReturn(summary);
+        return transport;
+    }
+
+    private static List<Unit> createMeks(int count) {
+        List<Unit> meks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Unit unit = mock(Unit.class);
+            Mek mek = mock(Mek.class);
+            when(unit.getEntity()).thenReturn(mek);
+            meks.add(unit);
+        }
+        return meks;
+    }
+
+    private static CampaignTransporterMap createTransporterMap(Unit... transports) {
+        CampaignTransporterMap transporters = new CampaignTransporterMap(mock(Campaign.class), SHIP_TRANSPORT);
+        for (Unit transport : transports) {
+            transporters.addTransporter(transport);
+        }
+        return transporters;
+    }
+
+    @Test
+    void testUnitsFillTheTightestTransportFirst() {
+        Unit large = createTransport(12.0);
+        Unit small = createTransport(2.0);
+        List<Unit> meks = createMeks(2);
+
+        Plan plan = TransportAssignmentPlanner.plan(SHIP_TRANSPORT, createTransporterMap(large, small), meks,
+              (transport, unit) -> true);
+
+        assertEquals(List.of(new Assignment(small, MEK_BAY, Set.copyOf(meks))), plan.assignments());
+        assertTrue(plan.unplacedUnits().isEmpty());
+        assertEquals(2, plan.getPlacedUnitCount());
+    }
+
+    @Test
+    void testUnitsThatDoNotFitAreReported() {
+        Unit large = createTransport(3.0);
+        Unit small = createTransport(2.0);
+        List<Unit> meks = createMeks(6);
+
+        Plan plan = TransportAssignmentPlanner.plan(SHIP_TRANSPORT, createTransporterMap(large, small), meks,
+              (transport, unit) -> true);
+
+        assertEquals(2, plan.assignments().size());
+        assertEquals(small, plan.assignments().get(0).transport());
+        assertEquals(meks.subList(0, 2), List.copyOf(plan.assignments().get(0).units()));
+        assertEquals(large, plan.assignments().get(1).transport());
+        assertEquals(meks.subList(2, 5), List.copyOf(plan.assignments().get(1).units()));
+        assertEquals(5, plan.getPlacedUnitCount());
+        assertEquals(List.of(meks.get(5)), plan.unplacedUnits());
+    }
+
+    @Test
+    void testRejectedTransportsAreSkipped() {
+        Unit large = createTransport(12.0);
+        Unit small = createTransport(2.0);
+        List<Unit> meks = createMeks(1);
+
+        Plan plan = TransportAssignmentPlanner.plan(SHIP_TRANSPORT, createTransporterMap(large, small), meks,
+              (transport, unit) -> transport != small);
+
+        assertEquals(List.of(new Assignment(large, MEK_BAY, Set.copyOf(meks))), plan.assignments());
+    }
+
+    @Test
+    void testUnitsWithoutAnEntityAreNotPlaced() {
+        Unit unit = mock(Unit.class);
+
+        Plan plan = TransportAssignmentPlanner.plan(SHIP_TRANSPORT, createTransporterMap(createTransport(2.0)),
+              List.of(unit), (transport, transported) -> true);
+
+        assertTrue(plan.assignments().isEmpty());
+        assertEquals(List.of(unit), plan.unplacedUnits());
+    }
+}
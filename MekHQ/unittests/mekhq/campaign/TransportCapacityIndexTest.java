@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign;
+
+import static mekhq.campaign.unit.enums.TransporterType.ASF_BAY;
+import static mekhq.campaign.unit.enums.TransporterType.MEK_BAY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class TransportCapacityIndexTest {
+    @Test
+    void testTransportsWithCapacityAreOrderedByCapacity() {
+        TransportCapacityIndex index = new TransportCapacityIndex();
+        UUID large = UUID.randomUUID();
+        UUID small = UUID.randomUUID();
+        UUID full = UUID.randomUUID();
+        index.setCapacity(large, MEK_BAY, 12.0);
+        index.setCapacity(small, MEK_BAY, 2.0);
+        index.setCapacity(full, MEK_BAY, 0.0);
+
+        assertEquals(List.of(small, large), index.getTransportsWithCapacity(MEK_BAY, 2.0));
+        assertEquals(List.of(full, small, large), index.getTransportsWithCapacity(MEK_BAY, -1.0));
+        assertTrue(index.getTransportsWithCapacity(MEK_BAY, 13.0).isEmpty());
+        assertTrue(index.getTransportsWithCapacity(ASF_BAY, 0.0).isEmpty());
+    }
+
+    @Test
+    void testSetCapacityMovesTheTransportBetweenBuckets() {
+        TransportCapacityIndex index = new TransportCapacityIndex();
+        UUID transport = UUID.randomUUID();
+        index.setCapacity(transport, MEK_BAY, 4.0);
+        index.setCapacity(transport, MEK_BAY, 1.0);
+
+        assertEquals(Map.of(1.0, Set.of(transport)), index.asMap().get(MEK_BAY));
+        assertEquals(1.0, index.getCapacity(transport, MEK_BAY));
+    }
+
+    @Test
+    void testRemoveDropsEmptyBucketsAndTypes() {
+        TransportCapacityIndex index = new TransportCapacityIndex();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        index.setCapacity(first, MEK_BAY, 4.0);
+        index.setCapacity(first, ASF_BAY, 2.0);
+        index.setCapacity(second, MEK_BAY, 4.0);
+
+        index.removeCapacity(first, ASF_BAY);
+        assertFalse(index.asMap().containsKey(ASF_BAY));
+        assertEquals(Set.of(MEK_BAY), index.getTransporterTypes(first));
+
+        index.remove(first);
+        assertFalse(index.contains(first));
+        assertEquals(Map.of(4.0, Set.of(second)), index.asMap().get(MEK_BAY));
+
+        index.remove(second);
+        assertTrue(index.isEmpty());
+        assertTrue(index.asMap().isEmpty());
+    }
+
+    @Test
+    void testBestFitIsTheTightestAcceptedTransport() {
+        TransportCapacityIndex index = new TransportCapacityIndex();
+        UUID large = UUID.randomUUID();
+        UUID small = UUID.randomUUID();
+        UUID tooSmall = UUID.randomUUID();
+        index.setCapacity(large, MEK_BAY, 12.0);
+        index.setCapacity(small, MEK_BAY, 3.0);
+        index.setCapacity(tooSmall, MEK_BAY, 1.0);
+
+        assertEquals(small, index.getBestFit(MEK_BAY, 2.0, id -> true));
+        assertEquals(large, index.getBestFit(MEK_BAY, 2.0, id -> !id.equals(small)));
+        assertNull(index.getBestFit(MEK_BAY, 13.0, id -> true));
+        assertNull(index.getBestFit(ASF_BAY, 1.0, id -> true));
+    }
+
+    @Test
+    void testCopyIsIndependent() {
+        TransportCapacityIndex index = new TransportCapacityIndex();
+        UUID transport = UUID.randomUUID();
+        index.setCapacity(transport, MEK_BAY, 4.0);
+
+        TransportCapacityIndex copy = index.copy();
+        copy.setCapacity(transport, MEK_BAY, 0.0);
+
+        assertEquals(4.0, index.getCapacity(transport, MEK_BAY));
+        assertEquals(0.0, copy.getCapacity(transport, MEK_BAY));
+    }
+}
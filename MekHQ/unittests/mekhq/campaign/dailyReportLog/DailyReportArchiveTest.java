@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.dailyReportLog;
+
+import static mekhq.campaign.enums.DailyReportType.BATTLE;
+import static mekhq.campaign.enums.DailyReportType.GENERAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class DailyReportArchiveTest {
+    private final DailyReportArchive archive = new DailyReportArchive();
+
+    @AfterEach
+    void closeArchive() {
+        archive.close();
+    }
+
+    @Test
+    void newArchiveIsEmpty() {
+        assertEquals(0, archive.getDayCount());
+        assertThrows(IndexOutOfBoundsException.class, () -> archive.getHtml(0, GENERAL));
+    }
+
+    @Test
+    void archivedDaysReadBackInOrder() {
+        archive.archiveDay(Map.of(GENERAL, "<b>Day one</b>", BATTLE, "battle one"));
+        archive.archiveDay(Map.of(GENERAL, "<b>Day two</b> with \u00e9 and &amp;"));
+
+        assertEquals(2, archive.getDayCount());
+        assertEquals("<b>Day one</b>", archive.getHtml(0, GENERAL));
+        assertEquals("battle one", archive.getHtml(0, BATTLE));
+        assertEquals("<b>Day two</b> with \u00e9 and &amp;", archive.getHtml(1, GENERAL));
+    }
+
+    @Test
+    void missingChannelReadsBackEmpty() {
+        archive.archiveDay(Map.of(GENERAL, "general", BATTLE, ""));
+
+        assertEquals("", archive.getHtml(0, BATTLE));
+    }
+
+    @Test
+    void largeDayRoundTrips() {
+        String day = "report line<br/><br/>".repeat(10_000);
+        archive.archiveDay(Map.of(GENERAL, day));
+
+        assertEquals(day, archive.getHtml(0, GENERAL));
+    }
+
+    @Test
+    void closeEmptiesTheArchive() {
+        archive.archiveDay(Map.of(GENERAL, "general"));
+
+        archive.close();
+
+        assertEquals(0, archive.getDayCount());
+    }
+}
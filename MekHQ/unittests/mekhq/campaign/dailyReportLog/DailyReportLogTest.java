@@ -106,6 +106,45 @@ class DailyReportLogTest {
         assertEquals("", log.getHtml(GENERAL));
     }
 
+    @Test
+    void clearArchivesTheFinishedDay() {
+        DailyReportLog log = new DailyReportLog();
+        log.beginNewDay("<b>Day</b>");
+        log.add(GENERAL, "x");
+
+        log.clear();
+        log.clear();
+
+        DailyReportArchive archive = log.getArchive();
+        assertEquals(1, archive.getDayCount());
+        assertEquals("<b>Day</b>" + REPORT_LINEBREAK + "x", archive.getHtml(0, GENERAL));
+        assertEquals("<b>Day</b>", archive.getHtml(0, BATTLE));
+        archive.close();
+    }
+
+    @Test
+    void closeReleasesTheArchiveButKeepsTheCurrentDay() {
+        DailyReportLog log = new DailyReportLog();
+        log.add(GENERAL, "yesterday");
+        log.clear();
+        log.add(GENERAL, "today");
+
+        log.close();
+
+        assertEquals(0, log.getArchive().getDayCount());
+        assertEquals(List.of("today"), log.getLines(GENERAL));
+    }
+
+    @Test
+    void htmlReflectsLinesAddedAfterItWasRead() {
+        DailyReportLog log = new DailyReportLog();
+        log.add(GENERAL, "a");
+        assertEquals("a", log.getHtml(GENERAL));
+
+        log.add(GENERAL, "b");
+        assertEquals("a" + REPORT_LINEBREAK + "b", log.getHtml(GENERAL));
+    }
+
     @Test
     void beginNewDayAppendsToEveryChannel() {
         DailyReportLog log = new DailyReportLog();
@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.finances;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+
+import mekhq.campaign.finances.FinancialLedger.MonthlyTotals;
+import mekhq.campaign.finances.enums.TransactionType;
+import org.junit.jupiter.api.Test;
+
+class FinancialLedgerTest {
+    private static final LocalDate DAY_ONE = LocalDate.of(3025, 1, 30);
+    private static final LocalDate DAY_TWO = LocalDate.of(3025, 2, 1);
+
+    private static Transaction transaction(TransactionType type, LocalDate date, String amount) {
+        return new Transaction(type, date, new Money(Money.zero().wrapped().withAmount(new BigDecimal(amount))), "");
+    }
+
+    @Test
+    void testBalanceMatchesSumOfTransactions() {
+        List<Transaction> transactions = List.of(transaction(TransactionType.STARTING_CAPITAL, DAY_ONE, "1000000"),
+              transaction(TransactionType.MAINTENANCE, DAY_ONE, "-1234.5"),
+              transaction(TransactionType.CONTRACT_PAYMENT, DAY_TWO, "250000.25"));
+
+        FinancialLedger ledger = new FinancialLedger();
+        transactions.forEach(ledger::add);
+
+        Money expected = Money.zero();
+        for (Transaction transaction : transactions) {
+            expected = expected.plus(transaction.getAmount());
+        }
+        assertEquals(0, expected.getAmount().compareTo(ledger.getBalance().getAmount()));
+        assertEquals(3, ledger.getTransactionCount());
+    }
+
+    @Test
+    void testAmountsFinerThanMinorUnitsStayExact() {
+        FinancialLedger ledger = new FinancialLedger();
+        ledger.add(transaction(TransactionType.MISCELLANEOUS, DAY_ONE, "0.30000000000000004"));
+        ledger.add(transaction(TransactionType.MISCELLANEOUS, DAY_ONE, "0.1"));
+
+        assertEquals(0, new BigDecimal("0.40000000000000004").compareTo(ledger.getBalance().getAmount()));
+    }
+
+    @Test
+    void testLargeTotalsDoNotOverflow() {
+        FinancialLedger ledger = new FinancialLedger();
+        ledger.add(transaction(TransactionType.MISCELLANEOUS, DAY_ONE, "9000000000000"));
+        ledger.add(transaction(TransactionType.MISCELLANEOUS, DAY_ONE, "9000000000000"));
+
+        assertEquals(0, new BigDecimal("18000000000000").compareTo(ledger.getBalance().getAmount()));
+        assertEquals(0,
+              new BigDecimal("18000000000000").compareTo(ledger.getDailyBalances().get(DAY_ONE).getAmount()));
+    }
+
+    @Test
+    void testTotalsByType() {
+        FinancialLedger ledger = new FinancialLedger();
+        ledger.add(transaction(TransactionType.MAINTENANCE, DAY_ONE, "-100"));
+        ledger.add(transaction(TransactionType.MAINTENANCE, DAY_TWO, "-50"));
+        ledger.add(transaction(TransactionType.CONTRACT_PAYMENT, DAY_TWO, "500"));
+
+        assertEquals(0, new BigDecimal("-150").compareTo(ledger.getTotal(TransactionType.MAINTENANCE).getAmount()));
+        assertEquals(0, new BigDecimal("500").compareTo(ledger.getTotal(TransactionType.CONTRACT_PAYMENT).getAmount()));
+        assertTrue(ledger.getTotal(TransactionType.SALVAGE).isZero());
+    }
+
+    @Test
+    void testMonthlyAndDailyTotals() {
+        FinancialLedger ledger = new FinancialLedger();
+        ledger.add(transaction(TransactionType.STARTING_CAPITAL, DAY_ONE, "1000"));
+        ledger.add(transaction(TransactionType.MAINTENANCE, DAY_ONE, "-200"));
+        ledger.add(transaction(TransactionType.MAINTENANCE, DAY_TWO, "-300"));
+
+        NavigableMap<YearMonth, MonthlyTotals> monthly = ledger.getMonthlyTotals();
+        assertEquals(2, monthly.size());
+        MonthlyTotals january = monthly.get(YearMonth.of(3025, 1));
+        assertEquals(0, new BigDecimal("1000").compareTo(january.revenue().getAmount()));
+        assertEquals(0, new BigDecimal("200").compareTo(january.expenditures().getAmount()));
+        MonthlyTotals february = monthly.get(YearMonth.of(3025, 2));
+        assertTrue(february.revenue().isZero());
+        assertEquals(0, new BigDecimal("300").compareTo(february.expenditures().getAmount()));
+
+        NavigableMap<LocalDate, Money> daily = ledger.getDailyBalances();
+        assertEquals(0, new BigDecimal("800").compareTo(daily.get(DAY_ONE).getAmount()));
+        assertEquals(0, new BigDecimal("500").compareTo(daily.get(DAY_TWO).getAmount()));
+    }
+
+    @Test
+    void testRebuildReplacesTotals() {
+        FinancialLedger ledger = new FinancialLedger();
+        ledger.add(transaction(TransactionType.MAINTENANCE, DAY_ONE, "-200"));
+
+        ledger.rebuild(List.of(transaction(TransactionType.CONTRACT_PAYMENT, DAY_TWO, "75")));
+
+        assertEquals(1, ledger.getTransactionCount());
+        assertEquals(0, new BigDecimal("75").compareTo(ledger.getBalance().getAmount()));
+        assertTrue(ledger.getTotal(TransactionType.MAINTENANCE).isZero());
+        assertFalse(ledger.getMonthlyTotals().containsKey(YearMonth.of(3025, 1)));
+    }
+
+    @Test
+    void testFinancesKeepsLedgerInStep() {
+        Finances finances = new Finances();
+        finances.credit(TransactionType.STARTING_CAPITAL, DAY_ONE, Money.of(1000), "");
+        assertTrue(finances.debit(TransactionType.MAINTENANCE, DAY_ONE, Money.of(400), ""));
+        assertFalse(finances.debit(TransactionType.MAINTENANCE, DAY_ONE, Money.of(700), ""));
+        assertEquals(0, new BigDecimal("600").compareTo(finances.getBalance().getAmount()));
+
+        // Editing a transaction in place needs the ledger to be rebuilt
+        finances.getTransactions().get(1).setAmount(Money.of(-100));
+        finances.clearCachedBalance();
+        assertEquals(0, new BigDecimal("900").compareTo(finances.getBalance().getAmount()));
+
+        // Removing one directly is caught by the transaction count
+        finances.getTransactions().remove(1);
+        assertEquals(0, new BigDecimal("1000").compareTo(finances.getBalance().getAmount()));
+
+        List<Transaction> loaded = new ArrayList<>();
+        loaded.add(transaction(TransactionType.STARTING_CAPITAL, DAY_TWO, "5000"));
+        finances.setTransactions(loaded);
+        assertEquals(0, new BigDecimal("5000").compareTo(finances.getBalance().getAmount()));
+    }
+}
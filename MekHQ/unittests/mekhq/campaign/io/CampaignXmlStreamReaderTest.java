@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.io;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Tests that {@link CampaignXmlStreamReader} produces the same element trees the node-based loaders expect.
+ */
+class CampaignXmlStreamReaderTest {
+    private static final String XML = """
+          <?xml version="1.0" encoding="UTF-8"?>
+          <campaign version="0.50.10">
+              <info>
+                  <name>Test &amp; Co</name>
+              </info>
+              <units>
+                  <unit id="a"><entity chassis="Atlas"/></unit>
+                  <unit id="b"><entity chassis="Locust"/></unit>
+              </units>
+              <custom><mtf><![CDATA[chassis:Atlas <AS7-D>]]></mtf></custom>
+          </campaign>
+          """;
+
+    private static CampaignXmlStreamReader createReader() throws Exception {
+        return new CampaignXmlStreamReader(new ByteArrayInputStream(XML.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void readerStartsOnRootElement() throws Exception {
+        try (CampaignXmlStreamReader reader = createReader()) {
+            assertEquals("campaign", reader.getElementName());
+            assertEquals("0.50.10", reader.getAttribute("version"));
+            assertNull(reader.getAttribute("missing"));
+        }
+    }
+
+    @Test
+    void topLevelElementsCanBeReadOrSkipped() throws Exception {
+        List<String> names = new ArrayList<>();
+        Element info = null;
+        try (CampaignXmlStreamReader reader = createReader()) {
+            while (reader.nextChildElement()) {
+                names.add(reader.getElementName());
+                if (reader.getElementName().equals("info")) {
+                    info = reader.readElement();
+                } else {
+                    reader.skipElement();
+                }
+            }
+        }
+
+        assertEquals(List.of("info", "units", "custom"), names);
+        assertEquals("info", info.getNodeName());
+        NodeList children = info.getElementsByTagName("name");
+        assertEquals(1, children.getLength());
+        assertEquals("Test & Co", children.item(0).getTextContent());
+    }
+
+    @Test
+    void nestedElementsCanBeReadOneAtATime() throws Exception {
+        List<Element> units = new ArrayList<>();
+        String customText = null;
+        try (CampaignXmlStreamReader reader = createReader()) {
+            while (reader.nextChildElement()) {
+                if (reader.getElementName().equals("units")) {
+                    while (reader.nextChildElement()) {
+                        units.add(reader.readElement());
+                    }
+                } else if (reader.getElementName().equals("custom")) {
+                    customText = reader.readElement().getTextContent();
+                } else {
+                    reader.skipElement();
+                }
+            }
+        }
+
+        assertEquals(2, units.size());
+        assertEquals("a", units.get(0).getAttribute("id"));
+        assertEquals("b", units.get(1).getAttribute("id"));
+        assertNull(units.get(0).getParentNode());
+
+        Node entity = units.get(1).getFirstChild();
+        assertEquals("entity", entity.getNodeName());
+        assertEquals("Locust", ((Element) entity).getAttribute("chassis"));
+
+        assertEquals("chassis:Atlas <AS7-D>", customText);
+    }
+
+    @Test
+    void nextChildElementStopsAtEndOfEnclosingElement() throws Exception {
+        try (CampaignXmlStreamReader reader = createReader()) {
+            assertTrue(reader.nextChildElement());
+            reader.skipElement();
+            assertTrue(reader.nextChildElement());
+            assertEquals("units", reader.getElementName());
+            assertTrue(reader.nextChildElement());
+            reader.skipElement();
+            assertTrue(reader.nextChildElement());
+            reader.skipElement();
+            assertFalse(reader.nextChildElement());
+            assertTrue(reader.nextChildElement());
+            assertEquals("custom", reader.getElementName());
+        }
+    }
+}
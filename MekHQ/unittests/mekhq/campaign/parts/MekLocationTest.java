@@ -550,6 +550,25 @@ class MekLocationTest {
         assertEquals(1 / 2.0, mekLocation.getPercent(), 0.001);
     }
 
+    @Test
+    void conditionChangesMarkTheUnitForRepair() {
+        Campaign mockCampaign = mockCampaign();
+        Unit unit = mock(Unit.class);
+        Entity entity = mock(Entity.class);
+        when(entity.getWeight()).thenReturn(100.0);
+        when(unit.getEntity()).thenReturn(entity);
+        MekLocation mekLocation = new MekLocation(Mek.LOC_LEFT_LEG, 100, EquipmentType.T_STRUCTURE_INDUSTRIAL,
+              true, true, true, true, true, mockCampaign);
+        mekLocation.setUnit(unit);
+        verify(unit, times(1)).markRepairStateChanged();
+
+        mekLocation.setBreached(true);
+        mekLocation.setBlownOff(true);
+        mekLocation.setPercent(0.5);
+
+        verify(unit, times(4)).markRepairStateChanged();
+    }
+
     @Test
     void updateConditionFromPartUpdatesEntityArmorTest() {
         Campaign mockCampaign = mockCampaign();
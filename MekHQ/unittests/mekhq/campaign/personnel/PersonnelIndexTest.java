@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static testUtilities.MHQTestUtilities.mockCampaign;
+
+import java.util.List;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.personnel.enums.PersonnelRole;
+import mekhq.campaign.personnel.enums.PersonnelStatus;
+import mekhq.campaign.randomEvents.prisoners.PrisonerStatus;
+import mekhq.campaign.universe.Faction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PersonnelIndexTest {
+    private Campaign campaign;
+    private PersonnelIndex index;
+
+    @BeforeEach
+    void setUp() {
+        campaign = mockCampaign();
+        Faction faction = mock(Faction.class);
+        when(campaign.getPlayerForce().getFaction()).thenReturn(faction);
+        when(faction.getShortName()).thenReturn("MERC");
+        index = new PersonnelIndex();
+    }
+
+    private Person createPerson(PersonnelRole primaryRole, PersonnelRole secondaryRole) {
+        Person person = new Person(campaign);
+        person.setPrimaryRoleDirect(primaryRole);
+        person.setSecondaryRoleDirect(secondaryRole);
+        return person;
+    }
+
+    @Test
+    void peopleAreFoundByPrimaryAndSecondaryRoleInRosterOrder() {
+        Person doctor = createPerson(PersonnelRole.DOCTOR, PersonnelRole.NONE);
+        Person pilot = createPerson(PersonnelRole.MEKWARRIOR, PersonnelRole.NONE);
+        Person secondaryDoctor = createPerson(PersonnelRole.ADMINISTRATOR_HR, PersonnelRole.DOCTOR);
+        index.add(doctor);
+        index.add(pilot);
+        index.add(secondaryDoctor);
+
+        assertEquals(List.of(doctor, secondaryDoctor), index.getByRole(PersonnelRole::isDoctor));
+        assertEquals(List.of(doctor, pilot, secondaryDoctor),
+              index.getByRole(role -> role.isDoctor() || role.isMekWarrior()));
+    }
+
+    @Test
+    void settersRefileIndexedPeople() {
+        Person person = createPerson(PersonnelRole.MEKWARRIOR, PersonnelRole.NONE);
+        index.add(person);
+
+        person.setPrimaryRoleDirect(PersonnelRole.DOCTOR);
+        person.setStatus(PersonnelStatus.STUDENT);
+        person.setPrisonerStatusDirect(PrisonerStatus.PRISONER);
+
+        assertTrue(index.getByRole(PersonnelRole::isMekWarrior).isEmpty());
+        assertEquals(List.of(person), index.getByRole(PersonnelRole::isDoctor));
+        assertEquals(List.of(person), index.getByStatus(PersonnelStatus::isStudent));
+        assertTrue(index.getByStatus(PersonnelStatus::isActive).isEmpty());
+        assertEquals(List.of(person), index.getByPrisonerStatus(PrisonerStatus::isCurrentPrisoner));
+    }
+
+    @Test
+    void patientsAreTrackedByDoctor() {
+        Person doctor = createPerson(PersonnelRole.DOCTOR, PersonnelRole.NONE);
+        Person patient = createPerson(PersonnelRole.MEKWARRIOR, PersonnelRole.NONE);
+        index.add(doctor);
+        index.add(patient);
+
+        patient.setDoctorId(doctor.getId(), 0);
+        assertEquals(List.of(patient), index.getPatientsOf(doctor.getId()));
+
+        patient.setDoctorId(null, 0);
+        assertTrue(index.getPatientsOf(doctor.getId()).isEmpty());
+    }
+
+    @Test
+    void removedPeopleAreNoLongerIndexedOrTracked() {
+        Person person = createPerson(PersonnelRole.DOCTOR, PersonnelRole.NONE);
+        index.add(person);
+        index.remove(person);
+
+        person.setStatus(PersonnelStatus.STUDENT);
+
+        assertEquals(0, index.size());
+        assertTrue(index.getByRole(PersonnelRole::isDoctor).isEmpty());
+        assertTrue(index.getByStatus(PersonnelStatus::isStudent).isEmpty());
+    }
+}
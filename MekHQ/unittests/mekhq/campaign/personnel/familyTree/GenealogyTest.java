@@ -476,6 +476,32 @@ public class GenealogyTest {
         assertFalse(nu.getGenealogy().checkMutualAncestors(eta, 4));
         assertFalse(nu.getGenealogy().checkMutualAncestors(zeta, 4));
     }
+
+    @Test
+    public void testAncestorSetsAgreeWithCheckMutualAncestors() {
+        final List<Person> people = List.of(alpha, beta, gamma, delta, epsilon, zeta, eta, theta, iota, kappa,
+              lambda, mu, nu, xi, omicron, pi, rho, sigma, tau);
+        for (int depth = 1; depth <= 4; depth++) {
+            for (Person person : people) {
+                for (Person other : people) {
+                    final boolean shared = person.getGenealogy()
+                                                 .getAncestors(depth)
+                                                 .stream()
+                                                 .anyMatch(other.getGenealogy().getReachableAncestors(depth)::contains);
+                    assertEquals(person.getGenealogy().checkMutualAncestors(other, depth), shared,
+                          person.getFullName() + " and " + other.getFullName() + " at depth " + depth);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testGetAncestors() {
+        // Gamma's parent is Alpha, whose parents are Beta and Eta
+        assertEquals(1, gamma.getGenealogy().getAncestors(0).size());
+        assertTrue(gamma.getGenealogy().getAncestors(2).containsAll(List.of(gamma, alpha, beta, eta)));
+        assertTrue(gamma.getGenealogy().getReachableAncestors(2).containsAll(List.of(gamma, alpha, beta, eta)));
+    }
     //endregion Boolean Checks
 
     //region Basic Family Getters
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.personnel.marriage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import megamek.common.enums.Gender;
+import mekhq.campaign.personnel.Person;
+import mekhq.campaign.personnel.familyTree.Genealogy;
+import org.junit.jupiter.api.Test;
+
+class RandomSpousePoolTest {
+    private static final LocalDate TODAY = LocalDate.of(3025, 1, 6);
+
+    @Test
+    void candidatesMatchPreferredGenderAndAgeRangeInPersonnelOrder() {
+        Person olderMan = mockPerson(Gender.MALE, 40);
+        Person woman = mockPerson(Gender.FEMALE, 30);
+        Person man = mockPerson(Gender.MALE, 32);
+        Person secondMan = mockPerson(Gender.MALE, 28);
+        Person youngMan = mockPerson(Gender.MALE, 20);
+
+        RandomSpousePool pool = new RandomSpousePool(TODAY, 5, 4,
+              List.of(olderMan, woman, man, secondMan, youngMan));
+
+        Person seeker = mockPerson(Gender.FEMALE, 30);
+        when(seeker.isPrefersMen()).thenReturn(true);
+
+        assertEquals(List.of(man, secondMan), pool.getCandidates(seeker, 5));
+        assertEquals(List.of(olderMan, man, secondMan, youngMan), pool.getCandidates(seeker, 10));
+    }
+
+    @Test
+    void candidatesFromBothGendersKeepPersonnelOrder() {
+        Person man = mockPerson(Gender.MALE, 30);
+        Person woman = mockPerson(Gender.FEMALE, 31);
+        Person secondMan = mockPerson(Gender.MALE, 29);
+
+        RandomSpousePool pool = new RandomSpousePool(TODAY, 3, 4, List.of(man, woman, secondMan));
+
+        Person seeker = mockPerson(Gender.FEMALE, 30);
+        when(seeker.isPrefersMen()).thenReturn(true);
+        when(seeker.isPrefersWomen()).thenReturn(true);
+
+        assertEquals(List.of(man, woman, secondMan), pool.getCandidates(seeker, 1));
+    }
+
+    @Test
+    void noPreferenceOrNegativeRangeFindsNobody() {
+        Person man = mockPerson(Gender.MALE, 30);
+        RandomSpousePool pool = new RandomSpousePool(TODAY, 1, 4, List.of(man));
+
+        Person seeker = mockPerson(Gender.FEMALE, 30);
+        assertTrue(pool.getCandidates(seeker, 10).isEmpty());
+
+        when(seeker.isPrefersMen()).thenReturn(true);
+        assertTrue(pool.getCandidates(seeker, -1).isEmpty());
+    }
+
+    @Test
+    void poolIsOnlyForTheDaySizeAndDepthItWasBuiltFor() {
+        RandomSpousePool pool = new RandomSpousePool(TODAY, 10, 4, List.of());
+
+        assertTrue(pool.isEmpty());
+        assertTrue(pool.isFor(TODAY, 10, 4));
+        assertFalse(pool.isFor(TODAY.plusWeeks(1), 10, 4));
+        assertFalse(pool.isFor(TODAY, 11, 4));
+        assertFalse(pool.isFor(TODAY, 10, 3));
+    }
+
+    @Test
+    void mutualAncestorsUseTheCollectedSets() {
+        Person person = mockPerson(Gender.FEMALE, 30);
+        Person sibling = mockPerson(Gender.MALE, 30);
+        Person stranger = mockPerson(Gender.MALE, 30);
+        Person parent = mock(Person.class);
+
+        Genealogy personGenealogy = mock(Genealogy.class);
+        when(person.getGenealogy()).thenReturn(personGenealogy);
+        when(personGenealogy.getAncestors(2)).thenReturn(Set.of(person, parent));
+
+        Genealogy siblingGenealogy = mock(Genealogy.class);
+        when(sibling.getGenealogy()).thenReturn(siblingGenealogy);
+        when(siblingGenealogy.getReachableAncestors(2)).thenReturn(Set.of(sibling, parent));
+
+        Genealogy strangerGenealogy = mock(Genealogy.class);
+        when(stranger.getGenealogy()).thenReturn(strangerGenealogy);
+        when(strangerGenealogy.getReachableAncestors(2)).thenReturn(Set.of(stranger));
+
+        RandomSpousePool pool = new RandomSpousePool(TODAY, 3, 2, List.of(person, sibling, stranger));
+
+        assertTrue(pool.hasMutualAncestors(person, person));
+        assertTrue(pool.hasMutualAncestors(person, sibling));
+        assertFalse(pool.hasMutualAncestors(person, stranger));
+    }
+
+    private static Person mockPerson(Gender gender, int age) {
+        Person person = mock(Person.class);
+        when(person.getGender()).thenReturn(gender);
+        when(person.getAge(TODAY)).thenReturn(age);
+        return person;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import mekhq.campaign.Campaign;
+import mekhq.campaign.LocalHangar;
+import mekhq.campaign.parts.Armor;
+import mekhq.campaign.parts.Part;
+import mekhq.campaign.parts.StructuralIntegrity;
+import mekhq.campaign.parts.meks.MekLocation;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class MaintenanceTest {
+    @ParameterizedTest
+    @ValueSource(classes = { Armor.class, MekLocation.class, StructuralIntegrity.class })
+    void testMaintenanceDamageQueuesUnitForRepair(Class<? extends Part> partClass) {
+        LocalHangar hangar = new LocalHangar();
+        RepairWorkQueue queue = new RepairWorkQueue(() -> hangar);
+        Campaign campaign = mock(Campaign.class);
+        when(campaign.getRepairWorkQueue()).thenReturn(queue);
+
+        Unit unit = spy(new Unit(null, campaign));
+        doReturn(UUID.randomUUID()).when(unit).getId();
+        doReturn(false).when(unit).isServiceable();
+        hangar.addUnit(unit);
+        assertTrue(queue.getUnitsWithWork().isEmpty());
+
+        // These parts record maintenance damage without telling the unit, which a mock stands in for
+        Part part = mock(partClass);
+        doReturn(true).when(unit).isServiceable();
+        int destroyed = Maintenance.applyMaintenanceDamage(unit, Map.of(part, 2));
+
+        assertEquals(0, destroyed);
+        verify(part).doMaintenanceDamage(2);
+        assertEquals(List.of(unit), queue.getUnitsWithWork());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import mekhq.campaign.LocalHangar;
+import org.junit.jupiter.api.Test;
+
+class RepairWorkQueueTest {
+    private LocalHangar hangar = new LocalHangar();
+    private final RepairWorkQueue queue = new RepairWorkQueue(() -> hangar);
+
+    private Unit unit(boolean serviceable) {
+        Unit unit = mock(Unit.class);
+        when(unit.getId()).thenReturn(UUID.randomUUID());
+        when(unit.isServiceable()).thenReturn(serviceable);
+        return unit;
+    }
+
+    @Test
+    void testUnitsWithWorkAreFoundInHangarOrder() {
+        Unit damaged = unit(true);
+        Unit undamaged = unit(false);
+        Unit alsoDamaged = unit(true);
+        hangar.addUnit(damaged);
+        hangar.addUnit(undamaged);
+        hangar.addUnit(alsoDamaged);
+
+        assertEquals(List.of(damaged, alsoDamaged), queue.getUnitsWithWork());
+    }
+
+    @Test
+    void testChangedUnitIsCheckedAgain() {
+        Unit unit = unit(false);
+        hangar.addUnit(unit);
+        assertTrue(queue.getUnitsWithWork().isEmpty());
+
+        when(unit.isServiceable()).thenReturn(true);
+        queue.markChanged(unit);
+
+        assertEquals(List.of(unit), queue.getUnitsWithWork());
+    }
+
+    @Test
+    void testUnitWithoutWorkIsDroppedWithoutBeingMarked() {
+        Unit unit = unit(true);
+        hangar.addUnit(unit);
+        assertEquals(List.of(unit), queue.getUnitsWithWork());
+
+        when(unit.isServiceable()).thenReturn(false);
+
+        assertTrue(queue.getUnitsWithWork().isEmpty());
+    }
+
+    @Test
+    void testHangarChangesArePickedUp() {
+        Unit removed = unit(true);
+        hangar.addUnit(removed);
+        assertEquals(List.of(removed), queue.getUnitsWithWork());
+
+        Unit added = unit(true);
+        hangar.addUnit(added);
+        hangar.removeUnit(removed.getId());
+
+        assertEquals(List.of(added), queue.getUnitsWithWork());
+    }
+
+    @Test
+    void testUnitsOutsideTheHangarAreIgnored() {
+        hangar.addUnit(unit(false));
+        assertTrue(queue.getUnitsWithWork().isEmpty());
+
+        queue.markChanged(unit(true));
+
+        assertTrue(queue.getUnitsWithWork().isEmpty());
+    }
+
+    @Test
+    void testNewHangarRebuildsTheQueue() {
+        hangar.addUnit(unit(true));
+        assertEquals(1, queue.getUnitsWithWork().size());
+
+        hangar = new LocalHangar();
+        Unit unit = unit(true);
+        hangar.addUnit(unit);
+
+        assertEquals(List.of(unit), queue.getUnitsWithWork());
+    }
+}
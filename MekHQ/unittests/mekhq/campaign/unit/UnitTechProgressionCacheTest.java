@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.unit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import megamek.common.enums.Faction;
+import megamek.common.interfaces.ITechnology;
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.Entity;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import testUtilities.MHQTestUtilities;
+
+class UnitTechProgressionCacheTest {
+    private static final String GRIFFIN = "Griffin GRF-1E Sparky";
+
+    private static MekSummary createSummary(String name, File sourceFile) {
+        MekSummary summary = mock(MekSummary.class);
+        when(summary.getName()).thenReturn(name);
+        when(summary.getSourceFile()).thenReturn(sourceFile);
+        when(summary.getEntryName()).thenReturn(null);
+        return summary;
+    }
+
+    @Test
+    void hashChangesWhenAUnitFileChanges(@TempDir Path tempDir) throws IOException {
+        Path unitFile = Files.writeString(tempDir.resolve("unit.mtf"), "chassis:Griffin");
+        List<MekSummary> summaries = List.of(createSummary(GRIFFIN, unitFile.toFile()));
+
+        String before = UnitTechProgressionCache.hashUnitData(summaries);
+        assertEquals(before, UnitTechProgressionCache.hashUnitData(summaries));
+
+        Files.writeString(unitFile, "chassis:Griffin\nmodel:GRF-1N");
+        assertNotEquals(before, UnitTechProgressionCache.hashUnitData(summaries));
+    }
+
+    @Test
+    void progressionRoundTripsThroughTheCache(@TempDir Path tempDir) {
+        // Entities are their own base tech progression, and are serializable
+        Entity griffin = MHQTestUtilities.getEntityForUnitTesting(GRIFFIN, false);
+        assertNotNull(griffin);
+        Path cacheFile = UnitTechProgressionCache.getCacheFile(tempDir, Faction.NONE);
+
+        UnitTechProgressionCache.write(cacheFile, "hash", Faction.NONE, Map.of(GRIFFIN, griffin));
+        Map<String, ITechnology> cached = UnitTechProgressionCache.read(cacheFile, "hash", Faction.NONE);
+
+        assertNotNull(cached);
+        assertEquals(1, cached.size());
+        ITechnology progression = cached.get(GRIFFIN);
+        assertNotNull(progression);
+        assertEquals(griffin.getTechBase(), progression.getTechBase());
+        assertEquals(griffin.getIntroductionDate(), progression.getIntroductionDate());
+    }
+
+    @Test
+    void outdatedCacheIsIgnored(@TempDir Path tempDir) {
+        Entity griffin = MHQTestUtilities.getEntityForUnitTesting(GRIFFIN, false);
+        assertNotNull(griffin);
+        Path cacheFile = UnitTechProgressionCache.getCacheFile(tempDir, Faction.NONE);
+
+        UnitTechProgressionCache.write(cacheFile, "hash", Faction.NONE, Map.of(GRIFFIN, griffin));
+
+        assertNull(UnitTechProgressionCache.read(cacheFile, "other hash", Faction.NONE));
+    }
+
+    @Test
+    void damagedCacheIsIgnored(@TempDir Path tempDir) throws IOException {
+        Path cacheFile = Files.writeString(UnitTechProgressionCache.getCacheFile(tempDir, Faction.NONE), "damaged");
+
+        assertNull(UnitTechProgressionCache.read(cacheFile, "hash", Faction.NONE));
+    }
+}
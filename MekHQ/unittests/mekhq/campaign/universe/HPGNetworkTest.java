@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import mekhq.campaign.universe.enums.HPGRating;
+import org.junit.jupiter.api.Test;
+
+class HPGNetworkTest {
+    private static final LocalDate UPGRADE = LocalDate.of(3030, 1, 1);
+
+    /**
+     * Creates a system whose HPG rating changes from {@code before} to {@code after} on {@link #UPGRADE}.
+     */
+    private static PlanetarySystem system(double x, HPGRating before, HPGRating after) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(0.0);
+        when(system.getHPG(any())).thenAnswer(invocation -> {
+            LocalDate when = invocation.getArgument(0);
+            return when.isBefore(UPGRADE) ? before : after;
+        });
+        Planet planet = mock(Planet.class);
+        when(planet.getHPGChangeDates()).thenReturn((before == after) ? List.of() : List.of(UPGRADE));
+        when(system.getPlanets()).thenReturn(List.of(planet));
+        return system;
+    }
+
+    private static HPGNetwork networkOf(List<PlanetarySystem> systems) {
+        return new HPGNetwork(systems, (center, distance, visitor) -> {
+            for (PlanetarySystem system : systems) {
+                if (Math.abs(system.getX() - center.getX()) <= distance) {
+                    visitor.accept(system);
+                }
+            }
+        });
+    }
+
+    @Test
+    void testStationsLinkToSystemsInRange() {
+        PlanetarySystem station = system(0, HPGRating.A, HPGRating.A);
+        PlanetarySystem near = system(40, HPGRating.C, HPGRating.C);
+        PlanetarySystem far = system(60, HPGRating.B, HPGRating.B);
+        HPGNetwork network = networkOf(List.of(station, near, far));
+
+        Set<HPGLink> links = network.getLinks(LocalDate.of(3025, 1, 1));
+
+        assertTrue(links.contains(new HPGLink(station, near, HPGRating.C)));
+        assertTrue(links.contains(new HPGLink(far, near, HPGRating.C)));
+        assertTrue(links.stream().noneMatch(link -> link.primary() == station && link.secondary() == far));
+        assertEquals(Set.of(near), network.getLinkedSystems(station, LocalDate.of(3025, 1, 1)));
+        assertEquals(Set.of(station, far), network.getLinkedSystems(near, LocalDate.of(3025, 1, 1)));
+    }
+
+    @Test
+    void testNetworkIsSharedUntilARatingChanges() {
+        PlanetarySystem station = system(0, HPGRating.B, HPGRating.A);
+        PlanetarySystem other = system(40, HPGRating.C, HPGRating.C);
+        HPGNetwork network = networkOf(List.of(station, other));
+
+        Set<HPGLink> before = network.getLinks(LocalDate.of(3025, 1, 1));
+        assertSame(before, network.getLinks(UPGRADE.minusDays(1)));
+        assertEquals(Set.of(), network.getLinkedSystems(station, UPGRADE.minusDays(1)));
+
+        Set<HPGLink> after = network.getLinks(UPGRADE);
+        assertSame(after, network.getLinks(LocalDate.of(3100, 1, 1)));
+        assertEquals(Set.of(other), network.getLinkedSystems(station, UPGRADE));
+
+        // Going back in time picks up the earlier network again
+        assertEquals(before, network.getLinks(LocalDate.of(3026, 6, 1)));
+        assertEquals(Set.of(UPGRADE), network.getChangeDates());
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class JumpGraphTest {
+    private static final LocalDate TODAY = LocalDate.of(3025, 1, 1);
+
+    private static PlanetarySystem system(String id, double x, double y, double rechargeTime, long population) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getId()).thenReturn(id);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        when(system.getRechargeTime(any(), anyBoolean())).thenReturn(rechargeTime);
+        when(system.getPopulation(any())).thenReturn(population);
+        return system;
+    }
+
+    private static JumpGraph graphOf(List<PlanetarySystem> systems) {
+        return new JumpGraph(systems, (center, distance, visitor) -> {
+            for (PlanetarySystem system : systems) {
+                double dx = system.getX() - center.getX();
+                double dy = system.getY() - center.getY();
+                if (Math.sqrt((dx * dx) + (dy * dy)) <= distance) {
+                    visitor.accept(system);
+                }
+            }
+        });
+    }
+
+    private static int[] indicesOf(JumpGraph graph, String... ids) {
+        int[] indices = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            indices[i] = graph.indexOf(ids[i]);
+        }
+        return indices;
+    }
+
+    @Test
+    void neighborsAreSystemsWithinOneJump() {
+        JumpGraph graph = graphOf(List.of(system("A", 0, 0, 100, 1),
+              system("B", 30, 0, 100, 1),
+              system("C", 61, 0, 100, 1)));
+
+        assertEquals(3, graph.size());
+        assertEquals(1, graph.getNeighborCount(graph.indexOf("A")));
+        assertEquals(2, graph.getNeighborCount(graph.indexOf("B")));
+        assertEquals(1, graph.getNeighborCount(graph.indexOf("C")));
+        assertEquals(-1, graph.indexOf("D"));
+    }
+
+    @Test
+    void pathPrefersTheFasterRecharge() {
+        // Both routes take two jumps, but recharging at B is much slower than at C
+        JumpGraph graph = graphOf(List.of(system("A", 0, 0, 100, 1),
+              system("B", 20, 10, 500, 1),
+              system("C", 20, -10, 150, 1),
+              system("D", 40, 0, 100, 1)));
+
+        int[] path = graph.findPath(graph.indexOf("A"), graph.indexOf("D"), TODAY, false, (from, to) -> true);
+
+        assertArrayEquals(indicesOf(graph, "A", "C", "D"), path);
+    }
+
+    @Test
+    void filteredJumpsAreAvoided() {
+        JumpGraph graph = graphOf(List.of(system("A", 0, 0, 100, 1),
+              system("B", 20, 10, 100, 0),
+              system("C", 20, -10, 500, 1),
+              system("D", 40, 0, 100, 1)));
+
+        int[] path = graph.findPath(graph.indexOf("A"), graph.indexOf("D"), TODAY, false,
+              (from, to) -> !graph.isEmpty(to, TODAY));
+
+        assertArrayEquals(indicesOf(graph, "A", "C", "D"), path);
+    }
+
+    @Test
+    void unreachableDestinationEndsAtTheLastSearchedSystem() {
+        JumpGraph graph = graphOf(List.of(system("A", 0, 0, 100, 1),
+              system("B", 30, 0, 100, 1),
+              system("C", 100, 0, 100, 1)));
+
+        int[] path = graph.findPath(graph.indexOf("A"), graph.indexOf("C"), TODAY, false, (from, to) -> true);
+
+        assertArrayEquals(indicesOf(graph, "A", "B"), path);
+    }
+
+    @Test
+    void dateDependentDataIsCachedPerDay() {
+        PlanetarySystem populated = system("A", 0, 0, 100, 1);
+        PlanetarySystem empty = system("B", 10, 0, 100, 0);
+        JumpGraph graph = graphOf(List.of(populated, empty));
+        int index = graph.indexOf("B");
+
+        assertTrue(graph.isEmpty(index, TODAY));
+        assertTrue(graph.isEmpty(index, TODAY));
+        assertFalse(graph.isEmpty(graph.indexOf("A"), TODAY));
+        verify(empty, times(1)).getPopulation(TODAY);
+
+        assertTrue(graph.isEmpty(index, TODAY.plusDays(1)));
+        verify(empty, times(1)).getPopulation(TODAY.plusDays(1));
+
+        assertEquals(100, graph.getRechargeTime(index, TODAY, true), 1.0e-9);
+        assertEquals(100, graph.getRechargeTime(index, TODAY, true), 1.0e-9);
+        verify(empty, times(1)).getRechargeTime(TODAY, true);
+    }
+}
@@ -33,20 +33,25 @@
 package mekhq.campaign.universe;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 /**
- * Tests {@link Planet}'s event-sourced accessors, in particular the internal {@code CurrentEvents} cache's handling
- * of out-of-order date queries.
+ * Tests {@link Planet}'s event-sourced accessors, in particular their handling of out-of-order date queries.
  */
 public class PlanetTest {
 
@@ -114,4 +119,79 @@ public class PlanetTest {
               "A query for the early date again, after an intervening later-dated query, must still resolve to the "
                     + "early owner rather than the future state the prior query fast-forwarded past");
     }
+
+    @Test
+    public void testEventFieldsResolveIndependently() {
+        LocalDate founded = LocalDate.of(2500, 1, 1);
+        LocalDate renamed = LocalDate.of(2600, 1, 1);
+        LocalDate conquered = LocalDate.of(2700, 1, 1);
+
+        Planet planet = new Planet("Test System");
+        Planet.PlanetaryEvent foundingEvent = createFactionEvent(founded, "AAA");
+        foundingEvent.name = SourceableValue.of("Old Name");
+        planet.putEvent(foundingEvent);
+        Planet.PlanetaryEvent renameEvent = new Planet.PlanetaryEvent();
+        renameEvent.date = renamed;
+        renameEvent.name = SourceableValue.of("New Name");
+        planet.putEvent(renameEvent);
+        planet.putEvent(createFactionEvent(conquered, "BBB"));
+
+        assertEquals(List.of(), planet.getFactions(founded.minusDays(1)));
+        assertEquals("?", planet.getName(founded.minusDays(1)));
+        assertEquals(List.of("AAA"), planet.getFactions(renamed));
+        assertEquals("New Name", planet.getName(renamed));
+        assertEquals(List.of("BBB"), planet.getFactions(conquered.plusDays(1)));
+        assertEquals("New Name", planet.getName(conquered.plusDays(1)));
+        assertEquals("Old Name", planet.getName(renamed.minusDays(1)));
+    }
+
+    @Test
+    public void testChangedEventsAreVisibleToLaterQueries() {
+        LocalDate earlyDate = LocalDate.of(3049, 12, 1);
+        LocalDate lateDate = LocalDate.of(3050, 4, 1);
+
+        Planet planet = new Planet("Test System");
+        planet.putEvent(createFactionEvent(earlyDate, "AAA"));
+        assertEquals(List.of("AAA"), planet.getFactions(lateDate));
+
+        planet.putEvent(createFactionEvent(lateDate, "BBB"));
+        assertEquals(List.of("BBB"), planet.getFactions(lateDate));
+
+        planet.removeEvent(lateDate);
+        assertEquals(List.of("AAA"), planet.getFactions(lateDate));
+
+        planet.replaceEvents(List.of());
+        assertEquals(List.of(), planet.getFactions(lateDate));
+    }
+
+    @Test
+    public void testConcurrentOutOfOrderQueries() throws Exception {
+        Planet planet = new Planet("Test System");
+        for (int year = 3000; year < 3100; year++) {
+            planet.putEvent(createFactionEvent(LocalDate.of(year, 1, 1), "F" + year));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                final int seed = thread;
+                results.add(executor.submit(() -> {
+                    Random random = new Random(seed);
+                    for (int query = 0; query < 10000; query++) {
+                        int year = 3000 + random.nextInt(100);
+                        if (!List.of("F" + year).equals(planet.getFactions(LocalDate.of(year, 6, 1)))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
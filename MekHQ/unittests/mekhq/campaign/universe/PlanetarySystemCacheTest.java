@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PlanetarySystemCacheTest {
+    private static final String CANON_SYSTEM = """
+          id: Cache Test
+          xcood: 1.25
+          ycood: -2.5
+          spectralType:
+            source: Source Book, pg. 1
+            value: G2V
+          primarySlot: 1
+          event:
+            - date: '3000-01-01'
+              zenithCharge: yes
+          planet:
+            - name: Cache Test Prime
+              type: TERRESTRIAL
+              orbitalDist: 1.0
+              sysPos: 1
+              event:
+                - date: '3000-01-01'
+                  faction:
+                    - FS
+                  population: 1000000
+          """;
+
+    private static final String CONNECTOR_SYSTEM = """
+          id: HWY-Test-001
+          xcood: 10.0
+          ycood: 10.0
+          spectralType: M5V
+          primarySlot: 1
+          planet:
+            - name: HWY-Test-001 I
+              type: ASTEROID_BELT
+              orbitalDist: 1.0
+              sysPos: 1
+          """;
+
+    @TempDir
+    private Path temporaryDirectory;
+    private Path systemsDirectory;
+    private Path cacheFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        systemsDirectory = temporaryDirectory.resolve("planetary_systems");
+        Files.createDirectories(systemsDirectory.resolve("connector_systems"));
+        Files.writeString(systemsDirectory.resolve("Cache Test.yml"), CANON_SYSTEM, StandardCharsets.UTF_8);
+        Files.writeString(systemsDirectory.resolve("connector_systems").resolve("HWY-Test-001.yml"),
+              CONNECTOR_SYSTEM, StandardCharsets.UTF_8);
+        cacheFile = temporaryDirectory.resolve("planetary_systems.cache");
+    }
+
+    private Systems loadCanonicalSystems(boolean isExpectedFromCache) {
+        Systems systems = new TestSystems();
+        assertEquals(isExpectedFromCache, systems.loadCanonicalSystems(systemsDirectory.toString(), cacheFile));
+        return systems;
+    }
+
+    @Test
+    void cachedSystemsMatchTheYamlSystems() {
+        Systems fromYaml = loadCanonicalSystems(false);
+        assertTrue(Files.isRegularFile(cacheFile));
+
+        Systems fromCache = loadCanonicalSystems(true);
+
+        assertEquals(fromYaml.getSystems().keySet(), fromCache.getSystems().keySet());
+        PlanetarySystem expected = fromYaml.getSystemById("Cache Test");
+        PlanetarySystem actual = fromCache.getSystemById("Cache Test");
+        assertNotNull(actual);
+        assertEquals(expected.getX(), actual.getX());
+        assertEquals(expected.getY(), actual.getY());
+        assertEquals(expected.getPlanets().size(), actual.getPlanets().size());
+        LocalDate date = LocalDate.of(3025, 1, 1);
+        assertEquals(expected.getPopulation(date), actual.getPopulation(date));
+        assertEquals(expected.isZenithCharge(date), actual.isZenithCharge(date));
+        assertEquals(expected.getPrimaryPlanet().getFactions(date), actual.getPrimaryPlanet().getFactions(date));
+
+        assertFalse(actual.isConnector());
+        assertTrue(fromCache.getSystemById("HWY-Test-001").isConnector());
+    }
+
+    @Test
+    void changedSourceFilesInvalidateTheCache() throws IOException {
+        String originalHash = PlanetarySystemCache.hashSourceFiles(systemsDirectory);
+        loadCanonicalSystems(false);
+
+        Files.writeString(systemsDirectory.resolve("Cache Test.yml"), CANON_SYSTEM.replace("xcood: 1.25", "xcood: 2.5"),
+              StandardCharsets.UTF_8);
+
+        assertNotEquals(originalHash, PlanetarySystemCache.hashSourceFiles(systemsDirectory));
+        Systems reloaded = loadCanonicalSystems(false);
+        assertEquals(2.5, reloaded.getSystemById("Cache Test").getX());
+        loadCanonicalSystems(true);
+    }
+
+    @Test
+    void damagedCacheIsIgnored() throws IOException {
+        loadCanonicalSystems(false);
+        Files.write(cacheFile, new byte[] { 1, 2, 3 });
+
+        assertNull(PlanetarySystemCache.read(cacheFile, PlanetarySystemCache.hashSourceFiles(systemsDirectory)));
+        loadCanonicalSystems(false);
+        loadCanonicalSystems(true);
+    }
+}
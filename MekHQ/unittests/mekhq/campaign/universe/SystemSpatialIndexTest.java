@@ -0,0 +1,192 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.campaign.universe;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import mekhq.campaign.universe.SystemSpatialIndex.SystemPair;
+import org.junit.jupiter.api.Test;
+
+class SystemSpatialIndexTest {
+    private static PlanetarySystem createSystem(double x, double y) {
+        PlanetarySystem system = mock(PlanetarySystem.class);
+        when(system.getX()).thenReturn(x);
+        when(system.getY()).thenReturn(y);
+        return system;
+    }
+
+    private static List<PlanetarySystem> randomSystems(Random random, int count) {
+        List<PlanetarySystem> systems = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // Rounded coordinates, so there are duplicates and points exactly on the query radius
+            systems.add(createSystem(Math.round(random.nextDouble() * 200 - 100),
+                  Math.round(random.nextDouble() * 200 - 100)));
+        }
+        return systems;
+    }
+
+    private static double distance(PlanetarySystem system, double x, double y) {
+        double dx = system.getX() - x;
+        double dy = system.getY() - y;
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    @Test
+    void testWithinRadiusMatchesLinearScan() {
+        Random random = new Random(42);
+        List<PlanetarySystem> systems = randomSystems(random, 500);
+        SystemSpatialIndex index = SystemSpatialIndex.of(systems);
+
+        for (int query = 0; query < 100; query++) {
+            double x = Math.round(random.nextDouble() * 200 - 100);
+            double y = Math.round(random.nextDouble() * 200 - 100);
+            double radius = Math.round(random.nextDouble() * 40);
+
+            List<PlanetarySystem> expected = systems.stream()
+                                                   .filter(system -> distance(system, x, y) <= radius)
+                                                   .toList();
+            assertEquals(expected, index.withinRadius(x, y, radius));
+
+            Set<PlanetarySystem> visited = new HashSet<>();
+            index.visitWithinRadius(x, y, radius, visited::add);
+            assertEquals(new HashSet<>(expected), visited);
+        }
+    }
+
+    @Test
+    void testWithinBoundsMatchesLinearScan() {
+        Random random = new Random(11);
+        List<PlanetarySystem> systems = randomSystems(random, 500);
+        SystemSpatialIndex index = SystemSpatialIndex.of(systems);
+
+        for (int query = 0; query < 100; query++) {
+            double minX = Math.round(random.nextDouble() * 200 - 100);
+            double minY = Math.round(random.nextDouble() * 200 - 100);
+            double maxX = minX + Math.round(random.nextDouble() * 60);
+            double maxY = minY + Math.round(random.nextDouble() * 60);
+
+            List<PlanetarySystem> expected = systems.stream()
+                                                   .filter(system -> (system.getX() >= minX)
+                                                                           && (system.getX() <= maxX)
+                                                                           && (system.getY() >= minY)
+                                                                           && (system.getY() <= maxY))
+                                                   .toList();
+            assertEquals(expected, index.withinBounds(minX, minY, maxX, maxY));
+        }
+
+        assertTrue(index.withinBounds(10, 0, 0, 10).isEmpty());
+    }
+
+    @Test
+    void testNearestMatchesLinearScan() {
+        Random random = new Random(7);
+        List<PlanetarySystem> systems = randomSystems(random, 300);
+        SystemSpatialIndex index = SystemSpatialIndex.of(systems);
+
+        for (int query = 0; query < 100; query++) {
+            double x = random.nextDouble() * 200 - 100;
+            double y = random.nextDouble() * 200 - 100;
+
+            // A stable sort keeps systems at the same distance in their original order, as the index does
+            List<PlanetarySystem> expected = systems.stream()
+                                                   .sorted(Comparator.comparingDouble(system -> distance(system,
+                                                         x,
+                                                         y)))
+                                                   .limit(5)
+                                                   .toList();
+            assertEquals(expected, index.nearest(x, y, 5));
+            assertSame(expected.get(0), index.nearest(x, y));
+        }
+    }
+
+    @Test
+    void testClosestPairMatchesNestedLoop() {
+        Random random = new Random(11);
+        List<PlanetarySystem> indexed = randomSystems(random, 200);
+        List<PlanetarySystem> queried = randomSystems(random, 50);
+
+        PlanetarySystem expectedFrom = null;
+        double expectedDistance = Double.MAX_VALUE;
+        for (PlanetarySystem from : queried) {
+            for (PlanetarySystem to : indexed) {
+                double distance = distance(to, from.getX(), from.getY());
+                if (distance < expectedDistance) {
+                    expectedDistance = distance;
+                    expectedFrom = from;
+                }
+            }
+        }
+
+        SystemPair pair = SystemSpatialIndex.of(indexed).closestPair(queried);
+        assertSame(expectedFrom, pair.from());
+        assertEquals(expectedDistance, pair.distance());
+        assertEquals(expectedDistance, distance(pair.to(), pair.from().getX(), pair.from().getY()));
+    }
+
+    @Test
+    void testEmptyAndNegativeRadius() {
+        SystemSpatialIndex empty = SystemSpatialIndex.of(List.of());
+        assertEquals(0, empty.size());
+        assertNull(empty.nearest(0, 0));
+        assertNull(empty.closestPair(List.of(createSystem(0, 0))));
+
+        SystemSpatialIndex index = SystemSpatialIndex.of(List.of(createSystem(0, 0)));
+        assertTrue(index.withinRadius(0, 0, -1).isEmpty());
+        assertEquals(1, index.withinRadius(0, 0, 0).size());
+    }
+
+    @Test
+    void testSystemsWithoutCoordinatesAreSkipped() {
+        PlanetarySystem unplaced = mock(PlanetarySystem.class);
+        when(unplaced.getX()).thenReturn(null);
+        when(unplaced.getY()).thenReturn(null);
+        PlanetarySystem placed = createSystem(1, 1);
+
+        SystemSpatialIndex index = SystemSpatialIndex.of(List.of(unplaced, placed));
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(placed), index.getSystems());
+    }
+}
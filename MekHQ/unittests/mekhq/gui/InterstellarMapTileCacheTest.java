@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.gui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class InterstellarMapTileCacheTest {
+    private static final long TILE_BYTES = (long) InterstellarMapTileCache.TILE_SIZE
+                                                 * InterstellarMapTileCache.TILE_SIZE
+                                                 * Integer.BYTES;
+
+    @Test
+    void testTileIsRenderedOnceUntilCleared() {
+        InterstellarMapTileCache cache = new InterstellarMapTileCache(10 * TILE_BYTES);
+        AtomicInteger renders = new AtomicInteger();
+
+        BufferedImage first = cache.getTile("layer", 1.0, 1.0, 2, -3, (g2, column, row) -> {
+            assertEquals(2, column);
+            assertEquals(-3, row);
+            renders.incrementAndGet();
+        });
+        assertSame(first, cache.getTile("layer", 1.0, 1.0, 2, -3, (g2, column, row) -> renders.incrementAndGet()));
+        assertEquals(1, renders.get());
+
+        // Another zoom level or layer is a different tile
+        cache.getTile("layer", 2.0, 1.0, 2, -3, (g2, column, row) -> renders.incrementAndGet());
+        cache.getTile("other", 1.0, 1.0, 2, -3, (g2, column, row) -> renders.incrementAndGet());
+        assertEquals(3, renders.get());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNotSame(first, cache.getTile("layer", 1.0, 1.0, 2, -3, (g2, column, row) -> renders.incrementAndGet()));
+        assertEquals(4, renders.get());
+    }
+
+    @Test
+    void testLeastRecentlyUsedTilesAreEvicted() {
+        InterstellarMapTileCache cache = new InterstellarMapTileCache(3 * TILE_BYTES);
+        AtomicInteger renders = new AtomicInteger();
+
+        for (int column = 0; column < 3; column++) {
+            cache.getTile("layer", 1.0, 1.0, column, 0, (g2, c, r) -> renders.incrementAndGet());
+        }
+        // Use the first tile again, so the second is now the least recently used
+        cache.getTile("layer", 1.0, 1.0, 0, 0, (g2, c, r) -> renders.incrementAndGet());
+        cache.getTile("layer", 1.0, 1.0, 3, 0, (g2, c, r) -> renders.incrementAndGet());
+        assertEquals(3, cache.size());
+        assertEquals(4, renders.get());
+
+        cache.getTile("layer", 1.0, 1.0, 0, 0, (g2, c, r) -> renders.incrementAndGet());
+        assertEquals(4, renders.get());
+        cache.getTile("layer", 1.0, 1.0, 1, 0, (g2, c, r) -> renders.incrementAndGet());
+        assertEquals(5, renders.get());
+    }
+
+    @Test
+    void testTileHasDevicePixels() {
+        InterstellarMapTileCache cache = new InterstellarMapTileCache(10 * TILE_BYTES);
+
+        BufferedImage tile = cache.getTile("layer", 1.0, 1.5, 0, 0, (g2, column, row) -> {
+            assertEquals(1.5, g2.getTransform().getScaleX());
+        });
+        assertEquals((int) Math.ceil(InterstellarMapTileCache.TILE_SIZE * 1.5), tile.getWidth());
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.gui.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TableRowChangesTest {
+    /**
+     * A list backed model which records the row operations applied to it.
+     */
+    private static class ListRowModel implements TableRowChanges.RowModel<String> {
+        private final List<String> rows;
+        private final List<String> updated = new ArrayList<>();
+
+        ListRowModel(String... rows) {
+            this.rows = new ArrayList<>(List.of(rows));
+        }
+
+        @Override
+        public int indexOf(String row) {
+            return rows.indexOf(row);
+        }
+
+        @Override
+        public void addRow(String row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void updateRow(int index) {
+            updated.add(rows.get(index));
+        }
+
+        @Override
+        public void removeRow(int index) {
+            rows.remove(index);
+        }
+    }
+
+    @Test
+    void testChangedRowsAreUpdatedInPlace() {
+        ListRowModel model = new ListRowModel("a", "b", "c");
+        TableRowChanges<String> changes = new TableRowChanges<>();
+        changes.changed("b");
+        changes.changed("b");
+
+        assertFalse(changes.applyTo(model, row -> true));
+        assertEquals(List.of("a", "b", "c"), model.rows);
+        assertEquals(List.of("b"), model.updated);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    void testAddedAndRemovedRows() {
+        ListRowModel model = new ListRowModel("a", "b");
+        TableRowChanges<String> changes = new TableRowChanges<>();
+        changes.added("c");
+        changes.removed("a");
+
+        assertTrue(changes.applyTo(model, row -> true));
+        assertEquals(List.of("b", "c"), model.rows);
+        assertTrue(model.updated.isEmpty());
+    }
+
+    @Test
+    void testRemovalIsNotUndoneByLaterChange() {
+        ListRowModel model = new ListRowModel("a", "b");
+        TableRowChanges<String> changes = new TableRowChanges<>();
+        changes.removed("a");
+        changes.changed("a");
+
+        assertTrue(changes.applyTo(model, row -> true));
+        assertEquals(List.of("b"), model.rows);
+    }
+
+    @Test
+    void testReAddedRowIsKept() {
+        ListRowModel model = new ListRowModel("a", "b");
+        TableRowChanges<String> changes = new TableRowChanges<>();
+        changes.removed("a");
+        changes.added("a");
+
+        assertFalse(changes.applyTo(model, row -> true));
+        assertEquals(List.of("a", "b"), model.rows);
+        assertEquals(List.of("a"), model.updated);
+    }
+
+    @Test
+    void testIncludeMovesRowsInAndOut() {
+        ListRowModel model = new ListRowModel("a", "b");
+        TableRowChanges<String> changes = new TableRowChanges<>();
+        // "a" has left the selected location, while "c" has arrived at it
+        changes.changed("a");
+        changes.changed("c");
+        changes.changed("d");
+
+        assertTrue(changes.applyTo(model, Set.of("b", "c")::contains));
+        assertEquals(List.of("b", "c"), model.rows);
+        assertTrue(model.updated.isEmpty());
+    }
+
+    @Test
+    void testClearDiscardsChanges() {
+        ListRowModel model = new ListRowModel("a");
+        TableRowChanges<String> changes = new TableRowChanges<>();
+        changes.removed("a");
+        changes.clear();
+
+        assertFalse(changes.applyTo(model, row -> true));
+        assertEquals(List.of("a"), model.rows);
+    }
+}
@@ -33,9 +33,11 @@
  package mekhq.gui.model;
 
  import static org.junit.jupiter.api.Assertions.assertEquals;
+ import static org.junit.jupiter.api.Assertions.assertSame;
  import static org.mockito.Mockito.mock;
  import static org.mockito.Mockito.when;
 
+ import java.util.ArrayList;
  import java.util.Collections;
  import java.util.HashSet;
  import java.util.List;
@@ -44,6 +46,7 @@
  import megamek.common.units.Entity;
  import megamek.common.units.Jumpship;
  import megamek.common.units.SpaceStation;
+ import mekhq.campaign.Campaign;
  import mekhq.campaign.personnel.Person;
  import mekhq.campaign.unit.Unit;
  import org.junit.jupiter.api.Test;
@@ -170,4 +173,38 @@
                mock(Jumpship.class),
                "<html><b>Drivers (Unknown): </b>0/1<br><b>Gunners (Unknown): </b>0/1<br><b>Other (see Glossary): </b>0/1<br><b>Navigator: </b>0/1</html>");
      }
+ 
+     @Test
+     public void cachedCellValuesAreRecomputedWhenTheRowIsUpdated() {
+         UnitTableModel model = new UnitTableModel(mock(Campaign.class));
+         model.setCacheCellValues(true);
+         when(unit.getEntity()).thenReturn(mock(Entity.class));
+         when(unit.getName()).thenReturn("Atlas", "Atlas II");
+         model.setData(List.of(unit));
+
+         assertEquals("Atlas", model.getValueAt(0, UnitTableModel.COL_NAME));
+         assertEquals("Atlas", model.getValueAt(0, UnitTableModel.COL_NAME));
+
+         model.updateRow(model.indexOf(unit));
+         assertEquals("Atlas II", model.getValueAt(0, UnitTableModel.COL_NAME));
+     }
+
+     @Test
+     public void rowOperationsLeaveTheSuppliedListUntouched() {
+         UnitTableModel model = new UnitTableModel(mock(Campaign.class));
+         Unit other = mock(Unit.class);
+         List<Unit> units = new ArrayList<>(List.of(unit));
+         model.setData(units);
+
+         model.addRow(other);
+         assertEquals(2, model.getRowCount());
+         assertEquals(1, model.indexOf(other));
+
+         model.removeRow(model.indexOf(unit));
+         assertEquals(1, model.getRowCount());
+         assertEquals(-1, model.indexOf(unit));
+         assertSame(other, model.getUnit(0));
+
+         assertEquals(List.of(unit), units);
+     }
  }
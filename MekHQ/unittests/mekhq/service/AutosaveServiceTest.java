@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import mekhq.service.AutosaveService.AutosaveSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AutosaveServiceTest {
+    private static AutosaveSnapshot createSnapshot(Path directory, String date, String xml) {
+        return new AutosaveSnapshot(directory, "Force", date, xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> listFileNames(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString()).sorted().toList();
+        }
+    }
+
+    @Test
+    void autosaveIsWrittenCompressed(@TempDir Path directory) throws IOException {
+        Path autosave = AutosaveService.writeAutosave(createSnapshot(directory, "3025-01-01", "<campaign/>"), 5);
+
+        assertEquals("Autosave-1-Force-3025-01-01.cpnx.gz", autosave.getFileName().toString());
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(autosave))) {
+            assertArrayEquals("<campaign/>".getBytes(StandardCharsets.UTF_8), is.readAllBytes());
+        }
+        assertEquals(List.of("Autosave-1-Force-3025-01-01.cpnx.gz"), listFileNames(directory));
+    }
+
+    @Test
+    void autosavesOfTheSameDayGetUniqueNames(@TempDir Path directory) throws IOException {
+        AutosaveService.writeAutosave(createSnapshot(directory, "3025-01-01", "<campaign/>"), 5);
+        AutosaveService.writeAutosave(createSnapshot(directory, "3025-01-01", "<campaign/>"), 5);
+
+        assertEquals(List.of("Autosave-1-Force-3025-01-01.cpnx.gz", "Autosave-2-Force-3025-01-01.cpnx.gz"),
+              listFileNames(directory));
+    }
+
+    @Test
+    void oldestAutosavesAreDeleted(@TempDir Path directory) throws IOException {
+        Path existing = Files.createFile(directory.resolve("Autosave-1-Force-3024-12-30.cpnx.gz"));
+        Files.setLastModifiedTime(existing, FileTime.fromMillis(0));
+        Path unrelated = Files.createFile(directory.resolve("Campaign.cpnx.gz"));
+
+        AutosaveService.writeAutosave(createSnapshot(directory, "3025-01-01", "<campaign/>"), 2);
+        AutosaveService.writeAutosave(createSnapshot(directory, "3025-01-02", "<campaign/>"), 2);
+
+        assertFalse(Files.exists(existing));
+        assertTrue(Files.exists(unrelated));
+        assertEquals(List.of("Autosave-1-Force-3025-01-01.cpnx.gz",
+              "Autosave-1-Force-3025-01-02.cpnx.gz",
+              "Campaign.cpnx.gz"), listFileNames(directory));
+
+        AutosaveService.writeAutosave(createSnapshot(directory, "3025-01-03", "<campaign/>"), 2);
+
+        assertEquals(List.of("Autosave-1-Force-3025-01-02.cpnx.gz",
+              "Autosave-1-Force-3025-01-03.cpnx.gz",
+              "Campaign.cpnx.gz"), listFileNames(directory));
+    }
+
+    @Test
+    void interruptedTemporaryFilesAreDeleted(@TempDir Path directory) throws IOException {
+        Files.createFile(directory.resolve(AutosaveService.TEMPORARY_FILE_PREFIX + "123"
+                                                 + AutosaveService.TEMPORARY_FILE_SUFFIX));
+
+        AutosaveService.writeAutosave(createSnapshot(directory, "3025-01-01", "<campaign/>"), 5);
+
+        assertEquals(List.of("Autosave-1-Force-3025-01-01.cpnx.gz"), listFileNames(directory));
+    }
+}
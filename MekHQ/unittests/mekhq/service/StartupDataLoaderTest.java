@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class StartupDataLoaderTest {
+    @Test
+    void stagesRunAfterTheirDependencies() throws Exception {
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        new StartupDataLoader(4)
+              .addStage("Currencies", 0, () -> order.add("Currencies"))
+              .addStage("Factions", 1, () -> order.add("Factions"), "Currencies")
+              .addStage("Systems", 3, () -> order.add("Systems"), "Factions")
+              .load(progress -> {
+              });
+
+        assertEquals(List.of("Currencies", "Factions", "Systems"), order);
+    }
+
+    @Test
+    void independentStagesRunConcurrently() throws Exception {
+        // Each stage waits for the other to start, which only succeeds if they run at the same time
+        CountDownLatch started = new CountDownLatch(2);
+        StartupDataLoader.StageAction action = () -> {
+            started.countDown();
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+        };
+
+        StartupDataLoader loader = new StartupDataLoader(2)
+                                         .addStage("Names", 2, action)
+                                         .addStage("Bloodnames", 2, action);
+        loader.load(progress -> {
+        });
+
+        assertEquals(List.of("Names", "Bloodnames"), List.copyOf(loader.getStageTimes().keySet()));
+    }
+
+    @Test
+    void progressReportsTheEarliestUnfinishedTier() throws Exception {
+        List<Integer> progress = Collections.synchronizedList(new ArrayList<>());
+        new StartupDataLoader(1)
+              .addStage("Basics", 0, () -> {
+              })
+              .addStage("Factions", 1, () -> {
+              }, "Basics")
+              .addStage("Systems", 3, () -> {
+              }, "Factions")
+              .load(progress::add);
+
+        assertEquals(List.of(0, 1, 3), progress);
+    }
+
+    @Test
+    void failuresSkipDependentStagesAndAreRethrown() {
+        IOException failure = new IOException("missing file");
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        StartupDataLoader loader = new StartupDataLoader(2)
+                                         .addStage("Factions", 1, () -> {
+                                             throw failure;
+                                         })
+                                         .addStage("Systems", 3, () -> ran.add("Systems"), "Factions")
+                                         .addStage("Names", 2, () -> ran.add("Names"));
+
+        IOException thrown = assertThrows(IOException.class, () -> loader.load(progress -> {
+        }));
+
+        assertSame(failure, thrown);
+        assertEquals(List.of("Names"), ran);
+        assertFalse(loader.getStageTimes().containsKey("Systems"));
+    }
+
+    @Test
+    void dependenciesMustBeAddedFirst() {
+        StartupDataLoader loader = new StartupDataLoader();
+        assertThrows(IllegalArgumentException.class, () -> loader.addStage("Systems", 3, () -> {
+        }, "Factions"));
+    }
+}
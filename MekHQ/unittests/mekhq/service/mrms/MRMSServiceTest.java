@@ -228,6 +228,27 @@ public class MRMSServiceTest {
         verify(mockCampaign, times(11)).fixPart(any(Part.class), any(Person.class));
     }
 
+    @Test
+    public void testPlanUnitsKeepsUnitOrderAndRecordsTechEligibility() {
+        Unit firstUnit = new Unit(getUrbanMek(), mockCampaign);
+        Unit secondUnit = new Unit(getUrbanMek(), mockCampaign);
+
+        Person mockTech = mock(Person.class);
+        when(mockCampaign.getPlayerForce()
+                   .getHumanResources()
+                   .getTechs(any(), any(), anyBoolean(), any())).thenReturn(List.of(mockTech));
+        when(mockTech.canTech(firstUnit.getEntity())).thenReturn(true);
+        when(mockTech.canTech(secondUnit.getEntity())).thenReturn(false);
+
+        List<MRMSService.UnitPlan> unitPlans = MRMSService.planUnits(mockCampaign, List.of(firstUnit, secondUnit));
+
+        assertEquals(2, unitPlans.size());
+        assertEquals(firstUnit, unitPlans.get(0).unit());
+        assertEquals(secondUnit, unitPlans.get(1).unit());
+        assertTrue(unitPlans.get(0).canTech(mockTech));
+        assertFalse(unitPlans.get(1).canTech(mockTech));
+    }
+
     @Test
     public void testIsValidMRMSUnitRejectsSelfCrewedUnit() {
         Unit unit = mock(Unit.class);
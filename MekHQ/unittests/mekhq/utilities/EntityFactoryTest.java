@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import megamek.common.equipment.EquipmentType;
+import megamek.common.loaders.MekFileParser;
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.Entity;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import testUtilities.MHQTestUtilities;
+
+class EntityFactoryTest {
+    private final AtomicInteger parseCount = new AtomicInteger();
+
+    @BeforeAll
+    static void beforeAll() {
+        EquipmentType.initializeTypes();
+    }
+
+    private EntityFactory createFactory(int maxEntries) {
+        return new EntityFactory(maxEntries, summary -> {
+            parseCount.incrementAndGet();
+            return new MekFileParser(summary.getSourceFile(), summary.getEntryName()).getEntity();
+        });
+    }
+
+    private static MekSummary createSummary(String fileName) {
+        MekSummary summary = mock(MekSummary.class);
+        when(summary.getSourceFile()).thenReturn(new File(MHQTestUtilities.TEST_UNIT_DATA_DIR + fileName));
+        when(summary.getEntryName()).thenReturn(null);
+        return summary;
+    }
+
+    @Test
+    void repeatedRequestsParseOnceAndReturnIndependentCopies() throws Exception {
+        EntityFactory factory = createFactory(EntityFactory.DEFAULT_MAX_ENTRIES);
+        MekSummary griffin = createSummary("Griffin GRF-1E Sparky.mtf");
+
+        Entity first = factory.getEntity(griffin);
+        Entity second = factory.getEntity(griffin);
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertNotSame(first, second);
+        assertEquals(first.getShortNameRaw(), second.getShortNameRaw());
+        assertEquals(first.getWeight(), second.getWeight());
+        assertEquals(1, parseCount.get());
+        assertEquals(1, factory.getMissCount());
+        assertEquals(1, factory.getHitCount());
+
+        // Changing one copy must not leak into later copies
+        second.setChassis("Changed");
+        assertEquals(first.getChassis(), factory.getEntity(griffin).getChassis());
+    }
+
+    @Test
+    void leastRecentlyUsedDefinitionIsEvicted() throws Exception {
+        EntityFactory factory = createFactory(1);
+        MekSummary griffin = createSummary("Griffin GRF-1E Sparky.mtf");
+        MekSummary crusader = createSummary("Crusader CRD-7M.mtf");
+
+        factory.getEntity(griffin);
+        factory.getEntity(crusader);
+        factory.getEntity(griffin);
+
+        assertEquals(1, factory.size());
+        assertEquals(3, parseCount.get());
+        assertEquals(0, factory.getHitCount());
+        assertEquals(3, factory.getMissCount());
+    }
+
+    @Test
+    void nullEntitiesAreNotCached() throws Exception {
+        EntityFactory factory = new EntityFactory(EntityFactory.DEFAULT_MAX_ENTRIES, summary -> {
+            parseCount.incrementAndGet();
+            return null;
+        });
+        MekSummary griffin = createSummary("Griffin GRF-1E Sparky.mtf");
+
+        assertNull(factory.getEntity(griffin));
+        assertNull(factory.getEntity(griffin));
+        assertEquals(0, factory.size());
+        assertEquals(2, parseCount.get());
+    }
+
+    @Test
+    void uncachedEntitiesLeaveTheCacheUntouched() throws Exception {
+        EntityFactory factory = createFactory(EntityFactory.DEFAULT_MAX_ENTRIES);
+        MekSummary griffin = createSummary("Griffin GRF-1E Sparky.mtf");
+
+        assertNotNull(factory.getEntityUncached(griffin));
+        assertNotNull(factory.getEntityUncached(griffin));
+        assertEquals(0, factory.size());
+        assertEquals(2, parseCount.get());
+        assertEquals(0, factory.getMissCount());
+    }
+}
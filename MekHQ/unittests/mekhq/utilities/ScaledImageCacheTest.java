@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ScaledImageCacheTest {
+    private static ScaledImageCache createCache(long maximumBytes) {
+        return new ScaledImageCache(maximumBytes, Runnable::run, Runnable::run);
+    }
+
+    private static BufferedImage createImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setColor(Color.RED);
+            g2.fillRect(0, 0, width, height);
+        } finally {
+            g2.dispose();
+        }
+        return image;
+    }
+
+    @Test
+    void testScaleImageProducesRequestedSize() {
+        BufferedImage source = createImage(400, 300);
+
+        BufferedImage downscaled = ScaledImageCache.scaleImage(source, 37, 23);
+        assertEquals(37, downscaled.getWidth());
+        assertEquals(23, downscaled.getHeight());
+        // Bilinear halving of a solid image stays solid
+        assertEquals(Color.RED.getRGB(), downscaled.getRGB(18, 11));
+
+        BufferedImage upscaled = ScaledImageCache.scaleImage(source, 800, 30);
+        assertEquals(800, upscaled.getWidth());
+        assertEquals(30, upscaled.getHeight());
+
+        assertSame(source, ScaledImageCache.scaleImage(source, 400, 300));
+    }
+
+    @Test
+    void testSourceIsDecodedOnce() {
+        ScaledImageCache cache = createCache(Long.MAX_VALUE);
+        AtomicInteger decodes = new AtomicInteger();
+
+        BufferedImage first = cache.source("logo", () -> {
+            decodes.incrementAndGet();
+            return createImage(10, 10);
+        });
+        BufferedImage second = cache.source("logo", () -> {
+            decodes.incrementAndGet();
+            return createImage(10, 10);
+        });
+
+        assertSame(first, second);
+        assertEquals(1, decodes.get());
+
+        // A source that fails to load is not cached, so it can be retried
+        assertNull(cache.source("missing", () -> null));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testScaledImageIsCachedPerSourceAndSize() {
+        ScaledImageCache cache = createCache(Long.MAX_VALUE);
+        BufferedImage source = createImage(200, 100);
+
+        BufferedImage scaled = cache.scale(source, 20, 10);
+        assertNotNull(scaled);
+        assertSame(scaled, cache.scale(source, 20, 10));
+
+        // Another size, or another source with the same content, is scaled separately
+        BufferedImage otherSize = cache.scale(source, 40, 20);
+        BufferedImage otherSource = cache.scale(createImage(200, 100), 20, 10);
+        assertTrue((otherSize != scaled) && (otherSource != scaled));
+        assertEquals(3, cache.size());
+
+        assertNull(cache.scale(null, 20, 10));
+
+        cache.clearEntries();
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.getCachedBytes());
+    }
+
+    @Test
+    void testLeastRecentlyUsedImagesAreEvicted() {
+        long imageBytes = 10L * 10 * Integer.BYTES;
+        ScaledImageCache cache = createCache(3 * imageBytes);
+        List<BufferedImage> sources = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            sources.add(createImage(50, 50));
+            cache.scale(sources.get(i), 10, 10);
+        }
+        assertEquals(3, cache.size());
+
+        // Touch the first image so the second is now the least recently used
+        BufferedImage first = cache.scale(sources.get(0), 10, 10);
+        cache.scale(createImage(50, 50), 10, 10);
+
+        assertEquals(3, cache.size());
+        assertEquals(3 * imageBytes, cache.getCachedBytes());
+        assertSame(first, cache.scale(sources.get(0), 10, 10));
+        assertEquals(3, cache.size());
+    }
+
+    @Test
+    void testScaleLaterReportsWhenImageIsReady() {
+        List<Runnable> queued = new ArrayList<>();
+        ScaledImageCache cache = new ScaledImageCache(Long.MAX_VALUE, queued::add, Runnable::run);
+        BufferedImage source = createImage(64, 64);
+        AtomicInteger notifications = new AtomicInteger();
+
+        assertNull(cache.scaleLater(source, 16, 16, notifications::incrementAndGet));
+        // A second request for the same image while the first is queued doesn't scale it again
+        assertNull(cache.scaleLater(source, 16, 16, notifications::incrementAndGet));
+        assertEquals(1, queued.size());
+
+        queued.get(0).run();
+        assertEquals(2, notifications.get());
+
+        BufferedImage scaled = cache.scaleLater(source, 16, 16, notifications::incrementAndGet);
+        assertNotNull(scaled);
+        assertEquals(16, scaled.getWidth());
+        assertEquals(2, notifications.get());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MekHQ.
+ *
+ * MekHQ is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MekHQ is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MekHQ was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package mekhq.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import megamek.common.battleArmor.BattleArmor;
+import megamek.common.loaders.MekSummary;
+import megamek.common.units.Entity;
+import megamek.common.units.UnitType;
+import org.junit.jupiter.api.Test;
+
+class VariantIndexTest {
+    private static final String MEK = UnitType.getTypeName(UnitType.MEK);
+    private static final String BATTLE_ARMOR = UnitType.getTypeName(UnitType.BATTLE_ARMOR);
+
+    private static MekSummary createSummary(String chassis, String model, String unitType, double tons,
+          double twWeight) {
+        MekSummary summary = mock(MekSummary.class);
+        when(summary.getChassis()).thenReturn(chassis);
+        when(summary.getModel()).thenReturn(model);
+        when(summary.getUnitType()).thenReturn(unitType);
+        when(summary.getTons()).thenReturn(tons);
+        when(summary.getTWWeight()).thenReturn(twWeight);
+        return summary;
+    }
+
+    private static Entity createEntity(String chassis, int unitType, double weight) {
+        Entity entity = mock(Entity.class);
+        when(entity.getChassis()).thenReturn(chassis);
+        when(entity.getUnitType()).thenReturn(unitType);
+        when(entity.getWeight()).thenReturn(weight);
+        return entity;
+    }
+
+    @Test
+    void variantsMatchChassisTypeAndWeight() {
+        MekSummary griffin1N = createSummary("Griffin", "GRF-1N", MEK, 55, 55);
+        MekSummary griffin1S = createSummary("GRIFFIN", "GRF-1S", MEK, 55, 55);
+        MekSummary heavyGriffin = createSummary("Griffin", "GRF-6S", MEK, 60, 60);
+        MekSummary wolverine = createSummary("Wolverine", "WVR-6R", MEK, 55, 55);
+        MekSummary[] summaries = { griffin1N, griffin1S, heavyGriffin, wolverine };
+
+        List<MekSummary> variants = VariantIndex.getInstance()
+                                          .getVariants(summaries, createEntity("griffin", UnitType.MEK, 55));
+
+        assertEquals(2, variants.size());
+        assertTrue(variants.containsAll(List.of(griffin1N, griffin1S)));
+    }
+
+    @Test
+    void battleArmorMatchesOnSquadSize() {
+        MekSummary squadOfFour = createSummary("Elemental", "[Laser]", BATTLE_ARMOR, 4, 4);
+        MekSummary squadOfFive = createSummary("Elemental", "[Flamer]", BATTLE_ARMOR, 5, 5);
+        MekSummary[] summaries = { squadOfFour, squadOfFive };
+
+        BattleArmor elementals = mock(BattleArmor.class);
+        when(elementals.getChassis()).thenReturn("Elemental");
+        when(elementals.getUnitType()).thenReturn(UnitType.BATTLE_ARMOR);
+        when(elementals.getSquadSize()).thenReturn(5);
+
+        assertEquals(List.of(squadOfFive), VariantIndex.getInstance().getVariants(summaries, elementals));
+    }
+
+    @Test
+    void indexIsRebuiltWhenTheUnitDataChanges() {
+        Entity griffin = createEntity("Griffin", UnitType.MEK, 55);
+        MekSummary griffin1N = createSummary("Griffin", "GRF-1N", MEK, 55, 55);
+        MekSummary griffin1S = createSummary("Griffin", "GRF-1S", MEK, 55, 55);
+
+        assertEquals(List.of(griffin1N),
+              VariantIndex.getInstance().getVariants(new MekSummary[] { griffin1N }, griffin));
+        assertEquals(List.of(griffin1N, griffin1S),
+              VariantIndex.getInstance().getVariants(new MekSummary[] { griffin1N, griffin1S }, griffin));
+    }
+}